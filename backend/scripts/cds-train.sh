@@ -0,0 +1,42 @@
+#!/bin/bash
+# =============================================
+# KKOOKK CDS(Class Data Sharing) 아카이브 생성
+#
+# 사용법:
+#   bash scripts/cds-train.sh <jar> <출력 디렉터리> [학습 실행 JVM 옵션...]
+#
+# jar를 <출력 디렉터리>/<jar 이름> + lib/ 로 풀고, 컨텍스트 refresh 직후 종료하는 학습 실행으로
+# <출력 디렉터리>/app.jsa 를 만든다. 실행:
+#   java -XX:SharedArchiveFile=<출력>/app.jsa -jar <출력>/<jar 이름>
+#
+# - 학습 실행은 빈을 실제로 만들므로 현재 환경변수(프로필, DB 접속 정보)로 DB에 접속한다.
+#   웹 서버와 스케줄러는 시작하지 않으므로 기존 프로세스가 떠 있어도 된다.
+# - 아카이브는 학습과 같은 JDK, 같은 경로의 jar에서만 쓰인다 (다르면 JVM이 경고 후 무시).
+# - AOT 모드로 실행할 거라면 학습 실행에도 -Dspring.aot.enabled=true 를 넘긴다.
+# =============================================
+
+set -e
+
+if [ $# -lt 2 ]; then
+    echo "사용법: bash scripts/cds-train.sh <jar> <출력 디렉터리> [JVM 옵션...]"
+    exit 1
+fi
+
+JAR_FILE="$1"
+OUT_DIR="$2"
+shift 2
+
+rm -rf "$OUT_DIR"
+java -Djarmode=tools -jar "$JAR_FILE" extract --destination "$OUT_DIR"
+
+APP_JAR="$OUT_DIR/$(basename "$JAR_FILE")"
+java -XX:ArchiveClassesAtExit="$OUT_DIR/app.jsa" \
+    -Dspring.context.exit=onRefresh \
+    "$@" \
+    -jar "$APP_JAR" > "$OUT_DIR/training.log" 2>&1 || true
+
+if [ ! -f "$OUT_DIR/app.jsa" ]; then
+    echo "[ERROR] CDS 아카이브 생성 실패. 로그: $OUT_DIR/training.log"
+    exit 1
+fi
+echo "  CDS archive: $OUT_DIR/app.jsa ($(du -h "$OUT_DIR/app.jsa" | cut -f1))"
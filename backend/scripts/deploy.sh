@@ -6,6 +6,11 @@
 #   1. .env 파일 생성:  cp scripts/.env.example scripts/.env
 #   2. .env 파일에 실제 값 입력
 #   3. 실행:  bash scripts/deploy.sh
+#
+# 기동 모드 (.env):
+#   STARTUP_MODE=cds   기존 프로세스를 내리기 전에 CDS 아카이브를 학습시키고 아카이브로 기동
+#   AOT_ENABLED=true   Spring AOT로 빌드하고 -Dspring.aot.enabled=true 로 기동
+#                      (조건부 빈이 빌드 시점 프로필로 고정되므로 프로필을 바꾸면 다시 빌드)
 # =============================================
 
 set -e
@@ -30,6 +35,7 @@ echo " KKOOKK Backend Deploy"
 echo "=========================================="
 echo " Profile:  $SPRING_PROFILES_ACTIVE"
 echo " DB URL:   $DB_URL"
+echo " Startup:  ${STARTUP_MODE:-default} (AOT: ${AOT_ENABLED:-false})"
 echo " Metrics:  http://localhost:7070/actuator/prometheus"
 echo " Loki:     ${LOKI_URL:-http://localhost:3100}"
 echo "=========================================="
@@ -37,7 +43,30 @@ echo "=========================================="
 # --- 빌드 ---
 echo "[1/3] Building..."
 cd "$PROJECT_DIR"
-./gradlew clean build -x test --no-daemon -q
+BUILD_ARGS=()
+JAVA_OPTS=()
+if [ "$AOT_ENABLED" = "true" ]; then
+    BUILD_ARGS+=(-Paot -PaotProfiles="$SPRING_PROFILES_ACTIVE")
+    JAVA_OPTS+=(-Dspring.aot.enabled=true)
+fi
+./gradlew clean build -x test --no-daemon -q "${BUILD_ARGS[@]}"
+
+JAR_FILE=$(ls -t "$PROJECT_DIR/build/libs/"*.jar 2>/dev/null | grep -v plain | head -1)
+
+if [ -z "$JAR_FILE" ]; then
+    echo "[ERROR] JAR 파일을 찾을 수 없습니다."
+    exit 1
+fi
+
+# --- CDS 학습 (웹 서버를 띄우지 않으므로 기존 프로세스와 함께 돌아도 된다) ---
+if [ "$STARTUP_MODE" = "cds" ]; then
+    echo "  Training CDS archive..."
+    CDS_DIR="$PROJECT_DIR/build/cds"
+    bash "$SCRIPT_DIR/cds-train.sh" "$JAR_FILE" "$CDS_DIR" \
+        "${JAVA_OPTS[@]}" -Dspring.profiles.active="$SPRING_PROFILES_ACTIVE"
+    JAVA_OPTS+=(-XX:SharedArchiveFile="$CDS_DIR/app.jsa")
+    JAR_FILE="$CDS_DIR/$(basename "$JAR_FILE")"
+fi
 
 # --- 기존 프로세스 종료 ---
 echo "[2/3] Stopping existing process..."
@@ -52,14 +81,7 @@ fi
 
 # --- 실행 ---
 echo "[3/3] Starting application..."
-JAR_FILE=$(ls -t "$PROJECT_DIR/build/libs/"*.jar 2>/dev/null | grep -v plain | head -1)
-
-if [ -z "$JAR_FILE" ]; then
-    echo "[ERROR] JAR 파일을 찾을 수 없습니다."
-    exit 1
-fi
-
-nohup java -jar "$JAR_FILE" \
+nohup java "${JAVA_OPTS[@]}" -jar "$JAR_FILE" \
     --spring.profiles.active="$SPRING_PROFILES_ACTIVE" \
     > "$PROJECT_DIR/logs/app.log" 2>&1 &
 
@@ -0,0 +1,53 @@
+#!/bin/bash
+# =============================================
+# KKOOKK JMH 결과 회귀 비교
+#
+# 사용법:
+#   bash scripts/jmh-compare.sh <기준 results.json> <현재 results.json> [허용 %]
+#
+# ./gradlew jmh 가 남긴 JSON 두 개를 벤치마크+파라미터 단위로 맞춰
+# 평균 시간(score, 모든 벤치마크가 AverageTime이라 낮을수록 좋다)과
+# 호출당 할당량(gc.alloc.rate.norm)을 비교한다.
+# 어느 하나라도 허용 %(기본 10)보다 나빠지면 종료 코드 1.
+# jq 필요.
+# =============================================
+
+set -e
+
+if [ $# -lt 2 ]; then
+    echo "사용법: bash scripts/jmh-compare.sh <기준.json> <현재.json> [허용 %]"
+    exit 1
+fi
+
+BASELINE="$1"
+CURRENT="$2"
+THRESHOLD="${3:-10}"
+
+# "벤치마크[파라미터]<TAB>score<TAB>alloc" 행으로 펼친다
+flatten() {
+    jq -r '.[] | [
+        (.benchmark + "[" + ((.params // {}) | to_entries | map(.key + "=" + .value) | join(",")) + "]"),
+        .primaryMetric.score,
+        (.secondaryMetrics["gc.alloc.rate.norm"].score // 0)
+    ] | @tsv' "$1" | sort
+}
+
+printf "%-90s %12s %12s %8s %12s %12s %8s\n" \
+    "benchmark" "base" "current" "time%" "base B/op" "cur B/op" "alloc%"
+
+join -t $'\t' <(flatten "$BASELINE") <(flatten "$CURRENT") | awk -F'\t' -v limit="$THRESHOLD" '
+    function pct(base, cur) { return base > 0 ? (cur - base) * 100 / base : 0 }
+    {
+        time = pct($2, $4)
+        alloc = pct($3, $5)
+        flag = (time > limit || alloc > limit) ? "  <-- REGRESSION" : ""
+        if (flag != "") regressions++
+        printf "%-90s %12.3f %12.3f %+7.1f%% %12.0f %12.0f %+7.1f%%%s\n", \
+            $1, $2, $4, time, $3, $5, alloc, flag
+    }
+    END {
+        if (regressions > 0) {
+            printf "\n%d benchmark(s) regressed more than %s%%\n", regressions, limit
+            exit 1
+        }
+    }'
@@ -0,0 +1,161 @@
+#!/bin/bash
+# =============================================
+# KKOOKK 기동 시간 / 첫 요청 지연 / 메모리 / 처리량 측정
+#
+# 사용법:
+#   bash scripts/startup-benchmark.sh [jar] [반복 횟수]
+#
+# 모드(BENCH_MODES, 기본 "default cds aot-cds")별로 앱을 반복 기동하며 측정한다.
+#   default : java -jar
+#   cds     : scripts/cds-train.sh 로 만든 CDS 아카이브 사용
+#   aot-cds : CDS + -Dspring.aot.enabled=true (./gradlew bootJar -Paot 로 만든 jar 필요)
+#   native  : GraalVM 네이티브 이미지 (./gradlew nativeCompile -Pnative, BENCH_NATIVE_BINARY)
+# 측정값:
+#   started_s  : Boot 로그의 "Started KkookkApplication in N seconds"
+#   ready_ms   : 프로세스 시작부터 /actuator/health 가 200을 돌려줄 때까지
+#   first_ms   : 준비 직후 첫 API 요청 지연 (BENCH_PATH, 기본 GET /api/public/stores/1)
+#   second_ms  : 같은 요청의 두 번째 지연 (워밍업 비교용)
+#   rps        : 워밍업(BENCH_WARMUP) 후 BENCH_REQUESTS건을 동시 32개로 보낸 처리량
+#   rss_mb     : 처리량 측정 직후 프로세스 RSS
+# 결과: build/reports/startup/startup.csv, summary.md (모드별 중앙값)
+# DB 접속 정보와 프로필은 현재 환경변수를 그대로 쓴다.
+# =============================================
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+PROJECT_DIR="$(dirname "$SCRIPT_DIR")"
+JAR_FILE="${1:-$(ls -t "$PROJECT_DIR/build/libs/"*.jar 2>/dev/null | grep -v plain | head -1)}"
+RUNS="${2:-5}"
+MODES="${BENCH_MODES:-default cds aot-cds}"
+PORT="${BENCH_PORT:-18080}"
+MGMT_PORT="${BENCH_MGMT_PORT:-17070}"
+REQUEST_PATH="${BENCH_PATH:-/api/public/stores/1}"
+WARMUP="${BENCH_WARMUP:-2000}"
+REQUESTS="${BENCH_REQUESTS:-5000}"
+NATIVE_BINARY="${BENCH_NATIVE_BINARY:-$PROJECT_DIR/build/native/nativeCompile/kkookk}"
+TIMEOUT_SEC="${BENCH_TIMEOUT_SEC:-180}"
+REPORT_DIR="$PROJECT_DIR/build/reports/startup"
+CDS_DIR="$PROJECT_DIR/build/cds"
+
+if [ "$MODES" != "native" ] && { [ -z "$JAR_FILE" ] || [ ! -f "$JAR_FILE" ]; }; then
+    echo "[ERROR] JAR 파일을 찾을 수 없습니다."
+    exit 1
+fi
+
+mkdir -p "$REPORT_DIR"
+CSV="$REPORT_DIR/startup.csv"
+echo "mode,run,started_s,ready_ms,first_ms,second_ms,rps,rss_mb" > "$CSV"
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+request_ms() {
+    curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT$REQUEST_PATH" \
+        | awk '{ printf "%d", $1 * 1000 }'
+}
+
+# 한 curl 프로세스에서 커넥션을 재사용하며 동시 32개로 보낸다
+load() {
+    curl -s --parallel --parallel-max 32 "http://localhost:$PORT$REQUEST_PATH?n=[1-$1]" > /dev/null
+}
+
+run_once() {
+    local mode="$1" run="$2"
+    shift 2
+    local log="$REPORT_DIR/$mode-$run.log"
+
+    local started_at
+    started_at=$(now_ms)
+    "$@" --server.port="$PORT" --management.server.port="$MGMT_PORT" > "$log" 2>&1 &
+    local pid=$!
+
+    until curl -sf -o /dev/null "http://localhost:$MGMT_PORT/actuator/health"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "[ERROR] $mode 기동 실패. 로그: $log"
+            exit 1
+        fi
+        if [ $(( $(now_ms) - started_at )) -gt $(( TIMEOUT_SEC * 1000 )) ]; then
+            kill "$pid"
+            echo "[ERROR] $mode 기동 시간 초과. 로그: $log"
+            exit 1
+        fi
+        sleep 0.1
+    done
+    local ready_ms=$(( $(now_ms) - started_at ))
+    local first_ms second_ms started_s
+    first_ms=$(request_ms)
+    second_ms=$(request_ms)
+    started_s=$(grep -o 'Started KkookkApplication in [0-9.]* seconds' "$log" | awk '{ print $4 }')
+
+    load "$WARMUP"
+    local load_started_at rps rss_mb
+    load_started_at=$(now_ms)
+    load "$REQUESTS"
+    rps=$(( REQUESTS * 1000 / ( $(now_ms) - load_started_at + 1 ) ))
+    rss_mb=$(awk '/VmRSS/ { printf "%d", $2 / 1024 }' "/proc/$pid/status")
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+
+    echo "$mode,$run,${started_s:-},$ready_ms,$first_ms,$second_ms,$rps,$rss_mb" >> "$CSV"
+    echo "  $mode #$run: started=${started_s}s ready=${ready_ms}ms first=${first_ms}ms" \
+        "second=${second_ms}ms rps=$rps rss=${rss_mb}MB"
+}
+
+echo "=========================================="
+echo " Startup Benchmark"
+echo "=========================================="
+echo " JAR:   $JAR_FILE"
+echo " Modes: $MODES"
+echo " Runs:  $RUNS"
+echo "=========================================="
+
+for mode in $MODES; do
+    case "$mode" in
+        default)
+            args=(java -jar "$JAR_FILE")
+            ;;
+        cds)
+            bash "$SCRIPT_DIR/cds-train.sh" "$JAR_FILE" "$CDS_DIR/cds"
+            args=(java -XX:SharedArchiveFile="$CDS_DIR/cds/app.jsa" -jar "$CDS_DIR/cds/$(basename "$JAR_FILE")")
+            ;;
+        aot-cds)
+            bash "$SCRIPT_DIR/cds-train.sh" "$JAR_FILE" "$CDS_DIR/aot-cds" -Dspring.aot.enabled=true
+            args=(java -XX:SharedArchiveFile="$CDS_DIR/aot-cds/app.jsa" -Dspring.aot.enabled=true
+                -jar "$CDS_DIR/aot-cds/$(basename "$JAR_FILE")")
+            ;;
+        native)
+            args=("$NATIVE_BINARY")
+            ;;
+        *)
+            echo "[ERROR] 알 수 없는 모드: $mode"
+            exit 1
+            ;;
+    esac
+    for run in $(seq 1 "$RUNS"); do
+        run_once "$mode" "$run" "${args[@]}"
+    done
+done
+
+# 모드별 중앙값
+{
+    echo "## Startup Benchmark"
+    echo ""
+    echo "JAR: \`$(basename "$JAR_FILE")\`, runs per mode: $RUNS, java: \`$(java -version 2>&1 | head -1)\`"
+    echo ""
+    echo "| mode | started (s) | ready (ms) | first request (ms) | second request (ms) | rps | RSS (MB) |"
+    echo "|------|-------------|------------|--------------------|---------------------|-----|----------|"
+    for mode in $MODES; do
+        row="| $mode"
+        for col in 3 4 5 6 7 8; do
+            median=$(awk -F, -v m="$mode" -v c="$col" 'NR > 1 && $1 == m { print $c }' "$CSV" \
+                | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+            row="$row | $median"
+        done
+        echo "$row |"
+    done
+} > "$REPORT_DIR/summary.md"
+
+cat "$REPORT_DIR/summary.md"
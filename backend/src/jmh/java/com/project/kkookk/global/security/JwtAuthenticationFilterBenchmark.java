@@ -0,0 +1,65 @@
+package com.project.kkookk.global.security;
+
+import com.project.kkookk.global.config.JwtProperties;
+import com.project.kkookk.global.util.JwtUtil;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Bearer 토큰에서 인증 객체를 만드는 필터 경로. 토큰 종류마다 클레임을 몇 번 다시 파싱하는지가 그대로 드러난다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"OWNER", "CUSTOMER"})
+    public TokenType tokenType;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil =
+                new JwtUtil(
+                        new JwtProperties(
+                                "benchmark-secret-key-for-jwt-token-generation-minimum-256-bits",
+                                3_600_000,
+                                604_800_000,
+                                600_000));
+        filter = new JwtAuthenticationFilter(jwtUtil);
+        String token =
+                switch (tokenType) {
+                    case OWNER -> jwtUtil.generateOwnerToken(1L, "owner@kkookk.com", false);
+                    case CUSTOMER -> jwtUtil.generateCustomerToken(1L);
+                };
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/customer/wallet");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+            MDC.clear();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.project.kkookk.global.util;
+
+import com.project.kkookk.global.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 요청마다 지나는 토큰 파싱(서명 검증 포함)과 리프레시 토큰 해시. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String ownerToken;
+    private String customerToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil =
+                new JwtUtil(
+                        new JwtProperties(
+                                "benchmark-secret-key-for-jwt-token-generation-minimum-256-bits",
+                                3_600_000,
+                                604_800_000,
+                                600_000));
+        ownerToken = jwtUtil.generateOwnerToken(1L, "owner@kkookk.com", false);
+        customerToken = jwtUtil.generateCustomerToken(1L);
+        refreshToken = jwtUtil.generateRefreshToken();
+    }
+
+    @Benchmark
+    public Claims parseOwnerToken() {
+        return jwtUtil.parseToken(ownerToken);
+    }
+
+    @Benchmark
+    public Claims parseCustomerToken() {
+        return jwtUtil.parseToken(customerToken);
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return jwtUtil.hashToken(refreshToken);
+    }
+}
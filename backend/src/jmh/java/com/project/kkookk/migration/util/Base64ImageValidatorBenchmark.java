@@ -0,0 +1,37 @@
+package com.project.kkookk.migration.util;
+
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 마이그레이션 요청의 Data URL 이미지 검증. 크기는 디코딩 전 바이트 수(KB). */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class Base64ImageValidatorBenchmark {
+
+    @Param({"100", "1024", "4096"})
+    public int sizeKb;
+
+    private String dataUrl;
+
+    @Setup
+    public void setUp() {
+        byte[] image = new byte[sizeKb * 1024];
+        new Random(42).nextBytes(image);
+        dataUrl = "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(image);
+    }
+
+    @Benchmark
+    public void validate() {
+        Base64ImageValidator.validate(dataUrl);
+    }
+}
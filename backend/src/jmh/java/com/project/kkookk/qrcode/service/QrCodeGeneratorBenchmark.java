@@ -0,0 +1,27 @@
+package com.project.kkookk.qrcode.service;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/** 매장 QR 코드 PNG 생성 (인코딩 + ImageIO PNG 쓰기). */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class QrCodeGeneratorBenchmark {
+
+    @Param({"300", "600"})
+    public int size;
+
+    private final QrCodeGenerator generator = new QrCodeGenerator();
+
+    @Benchmark
+    public byte[] generateQrCode() {
+        return generator.generateQrCode("https://kkookk.com/stores/12345/customer", size, size);
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.kkookk.stamp.service;
+
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
+import com.project.kkookk.stamp.service.StampRewardService.StampAccumulationResult;
+import com.project.kkookk.stampcard.domain.StampCard;
+import com.project.kkookk.wallet.domain.WalletReward;
+import com.project.kkookk.wallet.domain.WalletStampCard;
+import com.project.kkookk.wallet.repository.WalletRewardBatchRepository;
+import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import com.project.kkookk.wallet.repository.WalletSummaryRepository;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 적립 후 리워드 계산과 카드 교체. 저장소는 아무 일도 하지 않는 구현으로 바꿔 메모리 안의 계산만 잰다.
+ *
+ * <p>현재 5개, 목표 10개인 카드에 delta만큼 적립한다: 1은 리워드 없음, 10은 1개, 30은 3개 발급.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class StampRewardServiceBenchmark {
+
+    @Param({"1", "10", "30"})
+    public int delta;
+
+    private StampRewardService service;
+    private StampCard stampCard;
+
+    @Setup
+    public void setUp() {
+        WalletStampCardRepository walletStampCardRepository =
+                (WalletStampCardRepository)
+                        Proxy.newProxyInstance(
+                                WalletStampCardRepository.class.getClassLoader(),
+                                new Class<?>[] {WalletStampCardRepository.class},
+                                (proxy, method, args) -> args[0]);
+        service =
+                new StampRewardService(
+                        new WalletRewardBatchRepository(null) {
+                            @Override
+                            public void batchInsert(List<WalletReward> rewards) {}
+                        },
+                        walletStampCardRepository,
+                        new WalletSummaryRepository(null) {
+                            @Override
+                            public void invalidate(Long walletId) {}
+                        },
+                        new ChangeCounterRepository(null) {
+                            @Override
+                            public void increment(ChangeScope scope, Long entityId) {}
+                        });
+        stampCard =
+                StampCard.builder()
+                        .storeId(1L)
+                        .title("아메리카노 10잔 쿠폰")
+                        .goalStampCount(10)
+                        .rewardName("아메리카노")
+                        .rewardQuantity(1)
+                        .expireDays(30)
+                        .build();
+    }
+
+    @Benchmark
+    public StampAccumulationResult processStampAccumulation() {
+        WalletStampCard walletStampCard =
+                WalletStampCard.builder()
+                        .customerWalletId(1L)
+                        .storeId(1L)
+                        .stampCardId(1L)
+                        .stampCount(5)
+                        .build();
+        return service.processStampAccumulation(walletStampCard, stampCard, stampCard, delta);
+    }
+}
@@ -0,0 +1,92 @@
+package com.project.kkookk.stampcard.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.kkookk.stampcard.controller.dto.CreateStampCardRequest;
+import com.project.kkookk.stampcard.controller.dto.StampCardResponse;
+import com.project.kkookk.stampcard.domain.StampCardDesignType;
+import com.project.kkookk.stampcard.repository.StampCardRepository;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * CUSTOM 디자인 카드 생성. 저장소는 받은 엔티티를 그대로 돌려주는 구현으로 바꿔 디자인 JSON(v2) 검증과 엔티티/응답 조립만 잰다. 도장
+ * 칸 수만큼 문서가 커진다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StampCardServiceBenchmark {
+
+    @Param({"10", "30"})
+    public int slots;
+
+    private StampCardService service;
+    private CreateStampCardRequest request;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        StampCardRepository stampCardRepository =
+                (StampCardRepository)
+                        Proxy.newProxyInstance(
+                                StampCardRepository.class.getClassLoader(),
+                                new Class<?>[] {StampCardRepository.class},
+                                (proxy, method, args) -> args[0]);
+        service = new StampCardService(stampCardRepository, null, null, null, objectMapper, null);
+        request =
+                new CreateStampCardRequest(
+                        "아메리카노 10잔 쿠폰",
+                        slots,
+                        slots,
+                        "아메리카노",
+                        1,
+                        30,
+                        StampCardDesignType.CUSTOM,
+                        designJson(slots));
+    }
+
+    @Benchmark
+    public StampCardResponse createCustomDesign() {
+        return service.create(1L, request);
+    }
+
+    /** 디자이너가 저장하는 형태의 v2 디자인 JSON. */
+    public static String designJson(int slots) {
+        StringBuilder json =
+                new StringBuilder(
+                        "{\"version\":2,\"front\":{\"background\":{\"type\":\"color\","
+                                + "\"value\":\"#FFF4E0\"},\"elements\":["
+                                + "{\"type\":\"text\",\"x\":10,\"y\":12,\"content\":\"꾹꾹 카페\","
+                                + "\"style\":{\"fontSize\":\"18\",\"color\":\"#3B2A1A\"}},"
+                                + "{\"type\":\"text\",\"x\":10,\"y\":80,"
+                                + "\"content\":\"아메리카노 10잔 쿠폰\"}]},"
+                                + "\"back\":{\"background\":{\"type\":\"color\","
+                                + "\"value\":\"#FFFFFF\"},\"stampSlots\":[");
+        for (int i = 1; i <= slots; i++) {
+            if (i > 1) {
+                json.append(',');
+            }
+            json.append("{\"order\":")
+                    .append(i)
+                    .append(",\"x\":")
+                    .append(10 + (i - 1) % 5 * 18)
+                    .append(",\"y\":")
+                    .append(20 + (i - 1) / 5 * 15)
+                    .append(",\"size\":12}");
+        }
+        return json.append(
+                        "],\"stampStyle\":{\"shape\":\"circle\",\"filledColor\":\"#E85D3F\","
+                                + "\"emptyColor\":\"#EEEEEE\",\"emptyStyle\":\"dashed\","
+                                + "\"icon\":null,\"customSvgPath\":null,\"customIcon\":null}}}")
+                .toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.kkookk.wallet.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.kkookk.stampcard.domain.StampCardDesignType;
+import com.project.kkookk.stampcard.domain.StampCardStatus;
+import com.project.kkookk.stampcard.service.StampCardServiceBenchmark;
+import com.project.kkookk.wallet.domain.WalletRewardStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 지갑 응답 DTO의 JSON 직렬화 (Boot 기본 설정과 같은 ObjectMapper). 디자인 JSON을 포함하면 문자열 이스케이프 비용이 커지는
+ * 것을 함께 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class WalletResponseSerializationBenchmark {
+
+    @Param({"5", "20"})
+    public int items;
+
+    @Param({"true", "false"})
+    public boolean includeDesign;
+
+    private ObjectMapper objectMapper;
+    private WalletStampCardListResponse stampCards;
+    private WalletRewardListResponse rewards;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        String designJson = includeDesign ? StampCardServiceBenchmark.designJson(10) : null;
+        LocalDateTime now = LocalDateTime.of(2026, 1, 25, 14, 30);
+
+        List<WalletStampCardSummary> cards = new ArrayList<>(items);
+        List<WalletRewardItem> rewardItems = new ArrayList<>(items);
+        for (long i = 1; i <= items; i++) {
+            StoreInfo store = new StoreInfo(i, "꾹꾹 카페 " + i + "호점");
+            cards.add(
+                    new WalletStampCardSummary(
+                            i,
+                            i,
+                            "아메리카노 10잔 쿠폰",
+                            7,
+                            10,
+                            70,
+                            "아메리카노 1잔",
+                            1,
+                            3,
+                            now.plusDays(30),
+                            StampCardStatus.ACTIVE,
+                            designJson,
+                            "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
+                            store,
+                            now));
+            rewardItems.add(
+                    new WalletRewardItem(
+                            i,
+                            store,
+                            "아메리카노 1잔",
+                            "아메리카노 10잔 쿠폰",
+                            WalletRewardStatus.AVAILABLE,
+                            now,
+                            now.plusDays(30),
+                            null,
+                            StampCardDesignType.CUSTOM,
+                            designJson,
+                            "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08"));
+        }
+        stampCards = new WalletStampCardListResponse(1L, "홍길동", cards);
+        rewards = new WalletRewardListResponse(rewardItems, new PageInfo(0, items, items, 1, true));
+    }
+
+    @Benchmark
+    public byte[] serializeStampCards() throws Exception {
+        return objectMapper.writeValueAsBytes(stampCards);
+    }
+
+    @Benchmark
+    public byte[] serializeRewards() throws Exception {
+        return objectMapper.writeValueAsBytes(rewards);
+    }
+}
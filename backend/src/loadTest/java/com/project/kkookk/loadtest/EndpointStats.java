@@ -0,0 +1,85 @@
+package com.project.kkookk.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** 엔드포인트별 지연 분포와 응답 결과(상태 코드, 오류 코드) 집계. */
+class EndpointStats {
+
+    private final String name;
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private long[] latencies = new long[1024];
+    private int size;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 호출 한 건을 기록한다.
+     *
+     * @param outcome "200", "409 LOCK_CONFLICT", "IOException"처럼 결과를 구분하는 이름
+     * @param latencyNanos 요청 전송부터 응답 본문 수신까지
+     */
+    void record(String outcome, long latencyNanos) {
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        synchronized (this) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+    }
+
+    Snapshot snapshot(double elapsedSeconds) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latencies, size);
+        }
+        Arrays.sort(sorted);
+        Map<String, Long> counts = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> counts.put(outcome, count.sum()));
+        long errors =
+                counts.entrySet().stream()
+                        .filter(entry -> isError(entry.getKey()))
+                        .mapToLong(Map.Entry::getValue)
+                        .sum();
+        return new Snapshot(
+                name,
+                sorted.length,
+                sorted.length / elapsedSeconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0,
+                errors,
+                counts);
+    }
+
+    /** 4xx는 흐름상 예상되는 거절(대기 중 요청, 락 충돌)이라 오류로 보지 않는다. */
+    private static boolean isError(String outcome) {
+        return !Character.isDigit(outcome.charAt(0)) || outcome.startsWith("5");
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    record Snapshot(
+            String endpoint,
+            long requests,
+            double requestsPerSecond,
+            double p50Millis,
+            double p95Millis,
+            double p99Millis,
+            double maxMillis,
+            long errors,
+            Map<String, Long> outcomes) {}
+}
@@ -0,0 +1,55 @@
+package com.project.kkookk.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정. {@code -Dkkookk.loadtest.<이름>=값}으로 바꾼다.
+ *
+ * @param stores 매장 수 (매장마다 점주 1명이 승인 화면을 폴링)
+ * @param customersPerStore 매장별 동시 고객 수
+ * @param duration 측정 시간 (램프업 포함)
+ * @param rampUp 고객을 모두 투입하기까지의 시간
+ * @param goalStampCount 스탬프 카드 목표 개수 (작을수록 리워드 발급/사용이 잦다)
+ * @param customerThink 고객 한 명이 적립 흐름을 마친 뒤 다시 요청하기까지의 간격
+ * @param customerPoll 고객 앱의 적립 요청 상태 폴링 간격
+ * @param ownerPoll 점주 앱의 대기 목록 폴링 간격
+ * @param maxErrorRate 이 비율을 넘는 5xx/전송 오류가 나면 실패로 끝낸다
+ * @param reportDir 결과 파일 위치
+ */
+record LoadTestConfig(
+        int stores,
+        int customersPerStore,
+        Duration duration,
+        Duration rampUp,
+        int goalStampCount,
+        Duration customerThink,
+        Duration customerPoll,
+        Duration ownerPoll,
+        double maxErrorRate,
+        Path reportDir) {
+
+    private static final String PREFIX = "kkookk.loadtest.";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intValue("stores", 10),
+                intValue("customers-per-store", 20),
+                Duration.ofSeconds(intValue("duration-seconds", 60)),
+                Duration.ofSeconds(intValue("ramp-up-seconds", 10)),
+                intValue("goal-stamp-count", 5),
+                Duration.ofMillis(intValue("customer-think-millis", 2000)),
+                Duration.ofMillis(intValue("customer-poll-millis", 500)),
+                Duration.ofMillis(intValue("owner-poll-millis", 300)),
+                Double.parseDouble(System.getProperty(PREFIX + "max-error-rate", "0.01")),
+                Path.of(System.getProperty(PREFIX + "report-dir", "build/reports/loadtest")));
+    }
+
+    int customers() {
+        return stores * customersPerStore;
+    }
+
+    private static int intValue(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,198 @@
+package com.project.kkookk.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * 부하 테스트 결과. 콘솔에 표로 찍고 {@code summary.md}(사람용)와 {@code results.json}(실행 간 비교용)으로 남긴다.
+ *
+ * @param endpoints 엔드포인트별 집계. {@code [flow]}로 시작하는 항목은 여러 호출을 묶은 흐름이라 오류율 계산에서 뺀다
+ * @param locks {@code kkookk.lock.wait}/{@code kkookk.lock.conflicts} 태그 조합별 값
+ * @param maxPendingConnections 측정 중 관찰한 {@code hikaricp.connections.pending} 최댓값
+ * @param innodbRowLocks 측정 전후 {@code Innodb_row_lock%} 차이 (MySQL이 아니면 비어 있음)
+ */
+record LoadTestReport(
+        LoadTestConfig config,
+        double elapsedSeconds,
+        List<EndpointStats.Snapshot> endpoints,
+        List<LockMetric> locks,
+        long maxPendingConnections,
+        Map<String, Long> innodbRowLocks) {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestReport.class);
+
+    long requests() {
+        return httpEndpoints().mapToLong(EndpointStats.Snapshot::requests).sum();
+    }
+
+    long errors() {
+        return httpEndpoints().mapToLong(EndpointStats.Snapshot::errors).sum();
+    }
+
+    double errorRate() {
+        return requests() == 0 ? 1.0 : (double) errors() / requests();
+    }
+
+    boolean passed() {
+        return requests() > 0 && errorRate() <= config.maxErrorRate();
+    }
+
+    void write(ObjectMapper objectMapper) throws IOException {
+        String summary = summary();
+        log.info("[LoadTest] Result\n{}", summary);
+
+        Files.createDirectories(config.reportDir());
+        Files.writeString(config.reportDir().resolve("summary.md"), summary);
+        objectMapper
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(config.reportDir().resolve("results.json").toFile(), this);
+        log.info("[LoadTest] Report written to {}", config.reportDir().toAbsolutePath());
+    }
+
+    private String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# 점심 피크 부하 테스트\n\n");
+        sb.append(
+                String.format(
+                        "매장 %d, 고객 %d명, 목표 스탬프 %d, %.1f초 측정%n%n",
+                        config.stores(),
+                        config.customers(),
+                        config.goalStampCount(),
+                        elapsedSeconds));
+
+        sb.append("| endpoint | requests | req/s | p50 ms | p95 ms | p99 ms | max ms | errors |\n");
+        sb.append("|---|---:|---:|---:|---:|---:|---:|---:|\n");
+        for (EndpointStats.Snapshot s : endpoints) {
+            sb.append(
+                    String.format(
+                            "| %s | %d | %.1f | %.1f | %.1f | %.1f | %.1f | %d |%n",
+                            s.endpoint(),
+                            s.requests(),
+                            s.requestsPerSecond(),
+                            s.p50Millis(),
+                            s.p95Millis(),
+                            s.p99Millis(),
+                            s.maxMillis(),
+                            s.errors()));
+        }
+
+        sb.append("\n## 응답 결과\n\n");
+        for (EndpointStats.Snapshot s : endpoints) {
+            sb.append("- ").append(s.endpoint()).append(": ").append(s.outcomes()).append('\n');
+        }
+
+        sb.append("\n## 락 / 커넥션 경합\n\n");
+        if (locks.isEmpty()) {
+            sb.append("- 락 메트릭 없음\n");
+        }
+        for (LockMetric lock : locks) {
+            sb.append(
+                    String.format(
+                            "- %s flow=%s resource=%s outcome=%s: count=%d, mean=%.1fms,"
+                                    + " max=%.1fms%n",
+                            lock.name(),
+                            lock.flow(),
+                            lock.resource(),
+                            lock.outcome(),
+                            lock.count(),
+                            lock.meanMillis(),
+                            lock.maxMillis()));
+        }
+        sb.append("- hikaricp.connections.pending 최대: ").append(maxPendingConnections);
+        sb.append('\n');
+        if (innodbRowLocks.isEmpty()) {
+            sb.append("- InnoDB 행 락: 측정 안 함\n");
+        }
+        innodbRowLocks.forEach(
+                (name, value) ->
+                        sb.append("- ").append(name).append(": ").append(value).append('\n'));
+
+        sb.append(
+                String.format(
+                        "%n오류율 %.4f (허용 %.4f) → %s%n",
+                        errorRate(), config.maxErrorRate(), passed() ? "PASS" : "FAIL"));
+        return sb.toString();
+    }
+
+    private Stream<EndpointStats.Snapshot> httpEndpoints() {
+        return endpoints.stream()
+                .filter(s -> !s.endpoint().startsWith(LunchRushLoadTest.FLOW_PREFIX));
+    }
+
+    static List<LockMetric> lockMetrics(MeterRegistry meterRegistry) {
+        List<LockMetric> metrics = new ArrayList<>();
+        for (Timer timer : meterRegistry.find("kkookk.lock.wait").timers()) {
+            metrics.add(
+                    new LockMetric(
+                            "wait",
+                            timer.getId().getTag("flow"),
+                            timer.getId().getTag("resource"),
+                            timer.getId().getTag("outcome"),
+                            timer.count(),
+                            timer.mean(TimeUnit.MILLISECONDS),
+                            timer.max(TimeUnit.MILLISECONDS)));
+        }
+        for (Counter counter : meterRegistry.find("kkookk.lock.conflicts").counters()) {
+            metrics.add(
+                    new LockMetric(
+                            "conflicts",
+                            counter.getId().getTag("flow"),
+                            counter.getId().getTag("resource"),
+                            null,
+                            (long) counter.count(),
+                            0,
+                            0));
+        }
+        return metrics;
+    }
+
+    /** MySQL이 아니거나 권한이 없으면 빈 결과를 돌려준다. */
+    static Map<String, Long> innodbRowLocks(JdbcClient jdbcClient) {
+        Map<String, Long> values = new TreeMap<>();
+        try {
+            jdbcClient
+                    .sql("SHOW GLOBAL STATUS LIKE 'Innodb_row_lock%'")
+                    .query(
+                            rs -> {
+                                values.put(rs.getString(1), Long.parseLong(rs.getString(2)));
+                            });
+        } catch (RuntimeException e) {
+            log.warn("[LoadTest] InnoDB row lock status unavailable: {}", e.getMessage());
+        }
+        return values;
+    }
+
+    /** 누적값은 차이로, 순간값({@code current_waits}, {@code time_max})은 측정 후 값 그대로 둔다. */
+    static Map<String, Long> delta(Map<String, Long> before, Map<String, Long> after) {
+        Map<String, Long> delta = new TreeMap<>();
+        after.forEach(
+                (name, value) -> {
+                    boolean cumulative =
+                            !name.endsWith("current_waits") && !name.endsWith("time_max");
+                    delta.put(name, cumulative ? value - before.getOrDefault(name, 0L) : value);
+                });
+        return delta;
+    }
+
+    record LockMetric(
+            String name,
+            String flow,
+            String resource,
+            String outcome,
+            long count,
+            double meanMillis,
+            double maxMillis) {}
+}
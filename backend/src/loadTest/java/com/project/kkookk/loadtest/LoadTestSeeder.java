@@ -0,0 +1,101 @@
+package com.project.kkookk.loadtest;
+
+import com.project.kkookk.global.util.JwtUtil;
+import com.project.kkookk.owner.domain.OwnerAccount;
+import com.project.kkookk.owner.repository.OwnerAccountRepository;
+import com.project.kkookk.stampcard.domain.StampCard;
+import com.project.kkookk.stampcard.domain.StampCardStatus;
+import com.project.kkookk.stampcard.repository.StampCardRepository;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.domain.StoreStatus;
+import com.project.kkookk.store.repository.StoreRepository;
+import com.project.kkookk.wallet.domain.CustomerWallet;
+import com.project.kkookk.wallet.domain.WalletStampCard;
+import com.project.kkookk.wallet.repository.CustomerWalletRepository;
+import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.ApplicationContext;
+
+/**
+ * 실행마다 새 점주/매장/스탬프 카드/고객 지갑을 만든다. 이전 실행 데이터와 겹치지 않도록 이메일, 전화번호, 닉네임에 실행 ID를
+ * 붙이고, 토큰은 앱과 같은 {@link JwtUtil}로 직접 발급해 OAuth 로그인을 건너뛴다.
+ */
+class LoadTestSeeder {
+
+    private final OwnerAccountRepository ownerAccountRepository;
+    private final StoreRepository storeRepository;
+    private final StampCardRepository stampCardRepository;
+    private final CustomerWalletRepository customerWalletRepository;
+    private final WalletStampCardRepository walletStampCardRepository;
+    private final JwtUtil jwtUtil;
+
+    LoadTestSeeder(ApplicationContext context) {
+        this.ownerAccountRepository = context.getBean(OwnerAccountRepository.class);
+        this.storeRepository = context.getBean(StoreRepository.class);
+        this.stampCardRepository = context.getBean(StampCardRepository.class);
+        this.customerWalletRepository = context.getBean(CustomerWalletRepository.class);
+        this.walletStampCardRepository = context.getBean(WalletStampCardRepository.class);
+        this.jwtUtil = context.getBean(JwtUtil.class);
+    }
+
+    List<SeededStore> seed(LoadTestConfig config) {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<SeededStore> stores = new ArrayList<>(config.stores());
+        for (int s = 0; s < config.stores(); s++) {
+            OwnerAccount owner =
+                    ownerAccountRepository.save(
+                            OwnerAccount.builder()
+                                    .email("loadtest-" + runId + "-" + s + "@kkookk.local")
+                                    .name("부하 점주 " + s)
+                                    .build());
+
+            Store store = new Store("부하 매장 " + s, "서울시", null, null, null, null, owner.getId());
+            store.transitionTo(StoreStatus.LIVE);
+            store = storeRepository.save(store);
+
+            StampCard stampCard =
+                    StampCard.builder()
+                            .storeId(store.getId())
+                            .title("부하 테스트 카드")
+                            .goalStampCount(config.goalStampCount())
+                            .rewardName("아메리카노")
+                            .rewardQuantity(1)
+                            .expireDays(30)
+                            .build();
+            stampCard.updateStatus(StampCardStatus.ACTIVE);
+            stampCard = stampCardRepository.save(stampCard);
+
+            List<Customer> customers = new ArrayList<>(config.customersPerStore());
+            for (int c = 0; c < config.customersPerStore(); c++) {
+                String suffix = runId + "-" + s + "-" + c;
+                CustomerWallet wallet =
+                        customerWalletRepository.save(
+                                CustomerWallet.builder()
+                                        .phone("lt-" + suffix)
+                                        .name("부하 고객")
+                                        .nickname("lt-" + suffix)
+                                        .build());
+                walletStampCardRepository.save(
+                        WalletStampCard.builder()
+                                .customerWalletId(wallet.getId())
+                                .storeId(store.getId())
+                                .stampCardId(stampCard.getId())
+                                .stampCount(0)
+                                .build());
+                String token = jwtUtil.generateCustomerToken(wallet.getId());
+                customers.add(new Customer(wallet.getId(), token));
+            }
+            stores.add(
+                    new SeededStore(
+                            store.getId(),
+                            jwtUtil.generateOwnerToken(owner.getId(), owner.getEmail(), false),
+                            customers));
+        }
+        return stores;
+    }
+
+    record SeededStore(Long storeId, String ownerToken, List<Customer> customers) {}
+
+    record Customer(Long walletId, String token) {}
+}
@@ -0,0 +1,339 @@
+package com.project.kkookk.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.kkookk.KkookkApplication;
+import com.project.kkookk.loadtest.LoadTestSeeder.Customer;
+import com.project.kkookk.loadtest.LoadTestSeeder.SeededStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * 점심 피크 시나리오 부하 테스트. {@code ./gradlew loadTest}로 실행한다.
+ *
+ * <p>앱을 {@code loadtest} 프로필(MySQL)로 같은 JVM에 띄우고, 매장마다 점주 1명과 고객 여러 명을 HTTP로 흉내 낸다.
+ *
+ * <ul>
+ *   <li>고객: 내 스탬프 카드 조회 → 적립 요청 → 승인될 때까지 폴링 → 리워드가 나오면 조회 후 사용 → 잠시 쉼
+ *   <li>점주: 대기 목록 폴링 → 보이는 요청을 모두 승인
+ * </ul>
+ *
+ * <p>엔드포인트별 지연(p50/p95/p99)과 처리량, 응답 코드/오류 코드 분포, 락 대기/충돌 메트릭, 커넥션 풀 대기, InnoDB
+ * 행 락 대기를 {@code build/reports/loadtest}에 남긴다. 5xx/전송 오류 비율이 {@code max-error-rate}를 넘으면 종료 코드
+ * 1로 끝난다.
+ */
+public final class LunchRushLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LunchRushLoadTest.class);
+
+    static final String FLOW_PREFIX = "[flow] ";
+
+    private final LoadTestConfig config;
+    private final ConfigurableApplicationContext context;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final Map<String, EndpointStats> stats = new ConcurrentSkipListMap<>();
+    private final AtomicLong maxPendingConnections = new AtomicLong();
+    private volatile long deadline;
+
+    private LunchRushLoadTest(LoadTestConfig config, ConfigurableApplicationContext context) {
+        this.config = config;
+        this.context = context;
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        this.meterRegistry = context.getBean(MeterRegistry.class);
+        this.baseUrl =
+                "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        this.httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        SpringApplication application = new SpringApplication(KkookkApplication.class);
+        application.setAdditionalProfiles("loadtest");
+
+        int exitCode;
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            exitCode = new LunchRushLoadTest(config, context).run();
+        }
+        System.exit(exitCode);
+    }
+
+    private int run() throws Exception {
+        List<SeededStore> stores = new LoadTestSeeder(context).seed(config);
+        log.info(
+                "[LoadTest] Seeded stores={}, customers={}, duration={}s",
+                config.stores(),
+                config.customers(),
+                config.duration().toSeconds());
+
+        JdbcClient jdbcClient = context.getBean(JdbcClient.class);
+        Map<String, Long> rowLocksBefore = LoadTestReport.innodbRowLocks(jdbcClient);
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(this::samplePendingConnections, 0, 100, TimeUnit.MILLISECONDS);
+
+        ExecutorService workers = workerExecutor();
+        long startedAt = System.nanoTime();
+        deadline = startedAt + config.duration().toNanos();
+        long rampStepNanos = config.rampUp().toNanos() / Math.max(config.customers(), 1);
+        int started = 0;
+        for (SeededStore store : stores) {
+            workers.submit(() -> ownerLoop(store));
+            for (Customer customer : store.customers()) {
+                long startAt = startedAt + rampStepNanos * started++;
+                workers.submit(() -> customerLoop(store.storeId(), customer, startAt));
+            }
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(config.duration().toSeconds() + 60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        sampler.shutdownNow();
+
+        LoadTestReport report =
+                new LoadTestReport(
+                        config,
+                        elapsedSeconds,
+                        stats.values().stream().map(s -> s.snapshot(elapsedSeconds)).toList(),
+                        LoadTestReport.lockMetrics(meterRegistry),
+                        maxPendingConnections.get(),
+                        LoadTestReport.delta(
+                                rowLocksBefore, LoadTestReport.innodbRowLocks(jdbcClient)));
+        report.write(objectMapper);
+        return report.passed() ? 0 : 1;
+    }
+
+    private void customerLoop(Long storeId, Customer customer, long startAt) {
+        sleepNanos(startAt - System.nanoTime());
+        while (running()) {
+            stampRoundTrip(storeId, customer);
+            sleep(config.customerThink());
+        }
+    }
+
+    /** 적립 요청부터 승인 결과 확인(리워드가 나오면 사용까지)을 한 번 돈다. */
+    private void stampRoundTrip(Long storeId, Customer customer) {
+        // 리워드가 발급되면 카드가 완료되고 새 카드가 생기므로 매번 다시 조회한다
+        Response cards =
+                call(
+                        "GET /api/customer/wallet/my-stamp-cards",
+                        customer.token(),
+                        "GET",
+                        "/api/customer/wallet/my-stamp-cards?includeDesign=false",
+                        null);
+        Long walletStampCardId = cards.ok() ? findWalletStampCardId(cards.body(), storeId) : null;
+        if (walletStampCardId == null) {
+            return;
+        }
+
+        long flowStartedAt = System.nanoTime();
+        Response created =
+                call(
+                        "POST /api/customer/issuance-requests",
+                        customer.token(),
+                        "POST",
+                        "/api/customer/issuance-requests",
+                        Map.of(
+                                "storeId", storeId,
+                                "walletStampCardId", walletStampCardId,
+                                "idempotencyKey", UUID.randomUUID().toString()));
+        if (!created.ok()) {
+            return;
+        }
+
+        JsonNode request = created.body();
+        long requestId = request.path("id").asLong();
+        while ("PENDING".equals(request.path("status").asText()) && running()) {
+            sleep(config.customerPoll());
+            Response polled =
+                    call(
+                            "GET /api/customer/issuance-requests/{id}",
+                            customer.token(),
+                            "GET",
+                            "/api/customer/issuance-requests/" + requestId,
+                            null);
+            if (polled.ok()) {
+                request = polled.body();
+            }
+        }
+        String status = request.path("status").asText();
+        if ("PENDING".equals(status)) {
+            return;
+        }
+        stats(FLOW_PREFIX + "stamp round trip").record(status, System.nanoTime() - flowStartedAt);
+
+        if ("APPROVED".equals(status) && request.path("rewardsIssued").asInt() > 0) {
+            redeemAvailableRewards(customer);
+        }
+    }
+
+    private void redeemAvailableRewards(Customer customer) {
+        Response rewards =
+                call(
+                        "GET /api/customer/wallet/rewards",
+                        customer.token(),
+                        "GET",
+                        "/api/customer/wallet/rewards?status=AVAILABLE&includeDesign=false",
+                        null);
+        if (!rewards.ok()) {
+            return;
+        }
+        for (JsonNode reward : rewards.body().path("rewards")) {
+            call(
+                    "POST /api/customer/redeems",
+                    customer.token(),
+                    "POST",
+                    "/api/customer/redeems",
+                    Map.of("walletRewardId", reward.path("id").asLong()));
+        }
+    }
+
+    private void ownerLoop(SeededStore store) {
+        String path = "/api/owner/stores/" + store.storeId() + "/issuance-requests";
+        while (running()) {
+            Response pending =
+                    call(
+                            "GET /api/owner/stores/{storeId}/issuance-requests",
+                            store.ownerToken(),
+                            "GET",
+                            path,
+                            null);
+            if (pending.ok()) {
+                for (JsonNode item : pending.body().path("items")) {
+                    call(
+                            "POST /api/owner/stores/{storeId}/issuance-requests/{id}/approve",
+                            store.ownerToken(),
+                            "POST",
+                            path + "/" + item.path("id").asLong() + "/approve",
+                            null);
+                }
+            }
+            sleep(config.ownerPoll());
+        }
+    }
+
+    private static Long findWalletStampCardId(JsonNode body, Long storeId) {
+        for (JsonNode card : body.path("stampCards")) {
+            if (card.path("store").path("storeId").asLong() == storeId) {
+                return card.path("walletStampCardId").asLong();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요청 한 건을 보내고 {@code endpoint} 이름으로 기록한다. 4xx/5xx는 응답 본문의 {@code code}를 함께 남겨 락 충돌과
+     * 중복 요청을 구분한다.
+     */
+    private Response call(String endpoint, String token, String method, String path, Object body) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpRequest.Builder builder =
+                    HttpRequest.newBuilder(URI.create(baseUrl + path))
+                            .timeout(Duration.ofSeconds(10))
+                            .header("Authorization", "Bearer " + token)
+                            .header("Content-Type", "application/json");
+            if ("POST".equals(method)) {
+                builder.POST(
+                        body == null
+                                ? HttpRequest.BodyPublishers.noBody()
+                                : HttpRequest.BodyPublishers.ofByteArray(
+                                        objectMapper.writeValueAsBytes(body)));
+            } else {
+                builder.GET();
+            }
+            HttpResponse<byte[]> response =
+                    httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - startedAt;
+
+            int status = response.statusCode();
+            JsonNode json =
+                    response.body().length == 0
+                            ? objectMapper.missingNode()
+                            : objectMapper.readTree(response.body());
+            String code = json.path("code").asText("");
+            String outcome = status >= 400 && !code.isEmpty() ? status + " " + code : "" + status;
+            stats(endpoint).record(outcome, latency);
+            return new Response(status, json);
+        } catch (IOException e) {
+            stats(endpoint).record(e.getClass().getSimpleName(), System.nanoTime() - startedAt);
+            return new Response(0, objectMapper.missingNode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, objectMapper.missingNode());
+        }
+    }
+
+    private EndpointStats stats(String endpoint) {
+        return stats.computeIfAbsent(endpoint, EndpointStats::new);
+    }
+
+    private void samplePendingConnections() {
+        for (Gauge gauge : meterRegistry.find("hikaricp.connections.pending").gauges()) {
+            maxPendingConnections.accumulateAndGet((long) gauge.value(), Math::max);
+        }
+    }
+
+    private boolean running() {
+        return System.nanoTime() < deadline && !Thread.currentThread().isInterrupted();
+    }
+
+    private static void sleep(Duration duration) {
+        sleepNanos(duration.toNanos());
+    }
+
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 고객마다 스레드 하나가 대부분 대기하므로 가상 스레드를 쓴다. 이 소스 셋은 Java 17로 컴파일되므로 Java 21 API는
+     * 리플렉션으로 찾고, 없으면 캐시 스레드 풀로 대신한다.
+     */
+    private static ExecutorService workerExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private record Response(int status, JsonNode body) {
+
+        boolean ok() {
+            return status == 200 || status == 201;
+        }
+    }
+}
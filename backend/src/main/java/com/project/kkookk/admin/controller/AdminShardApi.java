@@ -0,0 +1,53 @@
+package com.project.kkookk.admin.controller;
+
+import com.project.kkookk.admin.controller.dto.ShardMoveRequest;
+import com.project.kkookk.admin.controller.dto.ShardMoveResponse;
+import com.project.kkookk.global.exception.ErrorResponse;
+import com.project.kkookk.global.security.OwnerPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "Admin Shard", description = "관리자 매장 샤드 관리 API")
+@SecurityRequirement(name = "bearerAuth")
+public interface AdminShardApi {
+
+    @Operation(
+            summary = "매장 샤드 이동",
+            description =
+                    "매장의 적립/리워드/원장 데이터를 다른 샤드로 옮깁니다. 복사가 끝날 무렵 잠시 해당 매장의 쓰기가 거절됩니다.")
+    @ApiResponses(
+            value = {
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "이동 성공",
+                        content =
+                                @Content(
+                                        schema =
+                                                @Schema(
+                                                        implementation =
+                                                                ShardMoveResponse.class))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "존재하지 않는 샤드",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                @ApiResponse(
+                        responseCode = "404",
+                        description = "매장을 찾을 수 없음",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            })
+    ResponseEntity<ShardMoveResponse> moveStore(
+            @Parameter(description = "매장 ID", required = true) @PathVariable Long storeId,
+            @Valid @RequestBody ShardMoveRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal OwnerPrincipal principal);
+}
@@ -0,0 +1,40 @@
+package com.project.kkookk.admin.controller;
+
+import com.project.kkookk.admin.controller.dto.ShardMoveRequest;
+import com.project.kkookk.admin.controller.dto.ShardMoveResponse;
+import com.project.kkookk.admin.service.AdminShardService;
+import com.project.kkookk.global.security.OwnerPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/shards")
+@ConditionalOnProperty(
+        prefix = "app.shard",
+        name = {"enabled", "move-enabled"},
+        havingValue = "true")
+public class AdminShardController implements AdminShardApi {
+
+    private final AdminShardService adminShardService;
+
+    @Override
+    @PostMapping("/stores/{storeId}/move")
+    public ResponseEntity<ShardMoveResponse> moveStore(
+            @PathVariable Long storeId,
+            @Valid @RequestBody ShardMoveRequest request,
+            @AuthenticationPrincipal OwnerPrincipal principal) {
+        ShardMoveResponse response =
+                adminShardService.moveStore(
+                        storeId, request.targetShard(), principal.getOwnerId());
+        return ResponseEntity.ok(response);
+    }
+}
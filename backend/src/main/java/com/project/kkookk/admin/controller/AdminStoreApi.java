@@ -3,6 +3,7 @@ package com.project.kkookk.admin.controller;
 import com.project.kkookk.admin.controller.dto.AdminStoreResponse;
 import com.project.kkookk.admin.controller.dto.AdminStoreStatusChangeRequest;
 import com.project.kkookk.admin.controller.dto.StoreAuditLogResponse;
+import com.project.kkookk.global.dto.PageResponse;
 import com.project.kkookk.global.exception.ErrorResponse;
 import com.project.kkookk.global.security.OwnerPrincipal;
 import com.project.kkookk.store.domain.StoreStatus;
@@ -16,7 +17,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -27,7 +31,9 @@ import org.springframework.web.bind.annotation.RequestParam;
 @SecurityRequirement(name = "bearerAuth")
 public interface AdminStoreApi {
 
-    @Operation(summary = "전체 매장 목록 조회", description = "관리자가 전체 매장 목록을 조회합니다.")
+    @Operation(
+            summary = "전체 매장 목록 조회",
+            description = "관리자가 전체 매장 목록을 상태/점주/생성일 조건으로 페이징 조회합니다.")
     @ApiResponses(
             value = {
                 @ApiResponse(
@@ -35,6 +41,20 @@ public interface AdminStoreApi {
                         description = "조회 성공",
                         content =
                                 @Content(
+                                        schema =
+                                                @Schema(
+                                                        description = "페이지 응답",
+                                                        example =
+                                                                """
+                        {
+                            "content": [],
+                            "pageNumber": 0,
+                            "pageSize": 20,
+                            "totalElements": 0,
+                            "totalPages": 0,
+                            "isLast": true
+                        }
+                        """),
                                         array =
                                                 @ArraySchema(
                                                         schema =
@@ -42,13 +62,39 @@ public interface AdminStoreApi {
                                                                         implementation =
                                                                                 AdminStoreResponse
                                                                                         .class)))),
+                @ApiResponse(
+                        responseCode = "400",
+                        description = "지원하지 않는 정렬 기준",
+                        content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                 @ApiResponse(
                         responseCode = "403",
                         description = "관리자 권한 없음",
                         content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             })
-    ResponseEntity<List<AdminStoreResponse>> getStores(
+    ResponseEntity<PageResponse<AdminStoreResponse>> getStores(
             @Parameter(description = "상태 필터") @RequestParam(required = false) StoreStatus status,
+            @Parameter(description = "점주 ID 필터") @RequestParam(required = false)
+                    Long ownerAccountId,
+            @Parameter(description = "생성일 시작 (포함, yyyy-MM-dd)")
+                    @RequestParam(required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate createdFrom,
+            @Parameter(description = "생성일 끝 (포함, yyyy-MM-dd)")
+                    @RequestParam(required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate createdTo,
+            @Parameter(description = "페이지 번호 (0-based)", example = "0")
+                    @RequestParam(defaultValue = "0")
+                    int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+                    @RequestParam(defaultValue = "20")
+                    int size,
+            @Parameter(description = "정렬 기준 (createdAt, name, status, id)")
+                    @RequestParam(defaultValue = "createdAt")
+                    String sortBy,
+            @Parameter(description = "정렬 방향", example = "DESC")
+                    @RequestParam(defaultValue = "DESC")
+                    Sort.Direction direction,
             @Parameter(hidden = true) @AuthenticationPrincipal OwnerPrincipal principal);
 
     @Operation(summary = "매장 상세 조회", description = "관리자가 특정 매장의 상세 정보를 조회합니다.")
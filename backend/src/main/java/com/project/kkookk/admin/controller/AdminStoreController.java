@@ -1,14 +1,20 @@
 package com.project.kkookk.admin.controller;
 
 import com.project.kkookk.admin.controller.dto.AdminStoreResponse;
+import com.project.kkookk.admin.controller.dto.AdminStoreSearchCondition;
 import com.project.kkookk.admin.controller.dto.AdminStoreStatusChangeRequest;
 import com.project.kkookk.admin.controller.dto.StoreAuditLogResponse;
 import com.project.kkookk.admin.service.AdminStoreService;
+import com.project.kkookk.global.dto.PageResponse;
 import com.project.kkookk.global.security.OwnerPrincipal;
 import com.project.kkookk.store.domain.StoreStatus;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,11 +34,23 @@ public class AdminStoreController implements AdminStoreApi {
 
     @Override
     @GetMapping
-    public ResponseEntity<List<AdminStoreResponse>> getStores(
+    public ResponseEntity<PageResponse<AdminStoreResponse>> getStores(
             @RequestParam(required = false) StoreStatus status,
+            @RequestParam(required = false) Long ownerAccountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate createdTo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") Sort.Direction direction,
             @AuthenticationPrincipal OwnerPrincipal principal) {
-        List<AdminStoreResponse> response = adminStoreService.getAllStores(status);
-        return ResponseEntity.ok(response);
+        AdminStoreSearchCondition condition =
+                new AdminStoreSearchCondition(status, ownerAccountId, createdFrom, createdTo);
+        Page<AdminStoreResponse> stores =
+                adminStoreService.getStores(condition, page, size, sortBy, direction);
+        return ResponseEntity.ok(PageResponse.from(stores));
     }
 
     @Override
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.project.kkookk.owner.domain.OwnerAccount;
 import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.domain.StoreStatus;
+import com.project.kkookk.store.repository.AdminStoreProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 
@@ -45,4 +46,23 @@ public record AdminStoreResponse(
                 store.getCreatedAt(),
                 store.getUpdatedAt());
     }
+
+    public static AdminStoreResponse from(AdminStoreProjection row) {
+        return new AdminStoreResponse(
+                row.getId(),
+                row.getName(),
+                row.getAddress(),
+                row.getPhone(),
+                row.getPlaceRef(),
+                row.getIconImageBase64(),
+                row.getDescription(),
+                row.getStatus(),
+                Boolean.TRUE.equals(row.getHasActiveStampCard()),
+                row.getOwnerAccountId(),
+                row.getOwnerName(),
+                row.getOwnerEmail(),
+                row.getOwnerPhone(),
+                row.getCreatedAt(),
+                row.getUpdatedAt());
+    }
 }
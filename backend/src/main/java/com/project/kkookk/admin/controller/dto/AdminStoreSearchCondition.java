@@ -0,0 +1,13 @@
+package com.project.kkookk.admin.controller.dto;
+
+import com.project.kkookk.store.domain.StoreStatus;
+import java.time.LocalDate;
+
+/**
+ * Admin 매장 목록 검색 조건. null인 항목은 조건에서 제외한다.
+ *
+ * @param createdFrom 생성일 시작 (포함)
+ * @param createdTo 생성일 끝 (포함)
+ */
+public record AdminStoreSearchCondition(
+        StoreStatus status, Long ownerAccountId, LocalDate createdFrom, LocalDate createdTo) {}
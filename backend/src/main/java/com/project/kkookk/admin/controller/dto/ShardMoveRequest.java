@@ -0,0 +1,10 @@
+package com.project.kkookk.admin.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "Admin 매장 샤드 이동 요청")
+public record ShardMoveRequest(
+        @Schema(description = "옮겨 갈 샤드 ID", example = "shard-1")
+                @NotBlank(message = "대상 샤드는 필수입니다")
+                String targetShard) {}
@@ -0,0 +1,11 @@
+package com.project.kkookk.admin.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+
+@Schema(description = "Admin 매장 샤드 이동 결과")
+public record ShardMoveResponse(
+        @Schema(description = "매장 ID", example = "1") Long storeId,
+        @Schema(description = "이동 전 샤드 ID", example = "main") String sourceShard,
+        @Schema(description = "이동 후 샤드 ID", example = "shard-1") String targetShard,
+        @Schema(description = "테이블별 이동 행 수") Map<String, Long> movedRows) {}
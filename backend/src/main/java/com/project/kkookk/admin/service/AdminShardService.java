@@ -0,0 +1,43 @@
+package com.project.kkookk.admin.service;
+
+import com.project.kkookk.admin.controller.dto.ShardMoveResponse;
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.shard.ShardDirectory;
+import com.project.kkookk.global.shard.ShardMover;
+import com.project.kkookk.store.repository.StoreRepository;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+        prefix = "app.shard",
+        name = {"enabled", "move-enabled"},
+        havingValue = "true")
+public class AdminShardService {
+
+    private final StoreRepository storeRepository;
+    private final ShardDirectory shardDirectory;
+    private final ShardMover shardMover;
+
+    /** 트랜잭션 없이 실행한다. 이동 도구가 단계별로 샤드마다 커밋한다. */
+    public ShardMoveResponse moveStore(Long storeId, String targetShard, Long adminId) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new BusinessException(ErrorCode.STORE_NOT_FOUND);
+        }
+        String sourceShard = shardDirectory.placementOf(storeId).shardId();
+        log.info(
+                "[AdminShard] Move requested storeId={} {}→{} adminId={}",
+                storeId,
+                sourceShard,
+                targetShard,
+                adminId);
+        Map<String, Long> moved = shardMover.move(storeId, targetShard);
+        return new ShardMoveResponse(storeId, sourceShard, targetShard, moved);
+    }
+}
@@ -1,8 +1,11 @@
 package com.project.kkookk.admin.service;
 
 import com.project.kkookk.admin.controller.dto.AdminStoreResponse;
+import com.project.kkookk.admin.controller.dto.AdminStoreSearchCondition;
 import com.project.kkookk.admin.controller.dto.AdminStoreStatusChangeRequest;
 import com.project.kkookk.admin.controller.dto.StoreAuditLogResponse;
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
 import com.project.kkookk.owner.domain.OwnerAccount;
@@ -14,11 +17,21 @@ import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.domain.StoreAuditAction;
 import com.project.kkookk.store.domain.StoreAuditLog;
 import com.project.kkookk.store.domain.StoreStatus;
+import com.project.kkookk.store.domain.StoreSummaryChangedEvent;
 import com.project.kkookk.store.repository.StoreAuditLogRepository;
 import com.project.kkookk.store.repository.StoreRepository;
+import com.project.kkookk.store.service.StoreGeoIndex;
+import com.project.kkookk.store.service.StoreSearchIndex;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,32 +41,41 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AdminStoreService {
 
+    private static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "name", "status", "id");
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final StoreRepository storeRepository;
     private final OwnerAccountRepository ownerAccountRepository;
     private final StoreAuditLogRepository storeAuditLogRepository;
     private final StampCardRepository stampCardRepository;
-
-    public List<AdminStoreResponse> getAllStores(StoreStatus statusFilter) {
-        List<Store> stores;
-        if (statusFilter != null) {
-            stores = storeRepository.findByStatus(statusFilter);
-        } else {
-            stores = storeRepository.findAll();
+    private final ChangeCounterRepository changeCounterRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreSearchIndex storeSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public Page<AdminStoreResponse> getStores(
+            AdminStoreSearchCondition condition,
+            int page,
+            int size,
+            String sortBy,
+            Sort.Direction direction) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
-
-        return stores.stream()
-                .map(
-                        store -> {
-                            OwnerAccount owner =
-                                    ownerAccountRepository
-                                            .findById(store.getOwnerAccountId())
-                                            .orElse(null);
-                            boolean hasActiveStampCard =
-                                    stampCardRepository.existsByStoreIdAndStatus(
-                                            store.getId(), StampCardStatus.ACTIVE);
-                            return AdminStoreResponse.of(store, owner, hasActiveStampCard);
-                        })
-                .toList();
+        // 같은 값이 많은 정렬 키(status 등)에서도 페이지 경계가 흔들리지 않도록 id를 보조 키로 둔다
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(Sort.Direction.DESC, "id"));
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), sort);
+
+        LocalDate createdFrom = condition.createdFrom();
+        LocalDate createdTo = condition.createdTo();
+        return storeRepository
+                .searchForAdmin(
+                        condition.status(),
+                        condition.ownerAccountId(),
+                        createdFrom == null ? null : createdFrom.atStartOfDay(),
+                        createdTo == null ? null : createdTo.plusDays(1).atStartOfDay(),
+                        pageable)
+                .map(AdminStoreResponse::from);
     }
 
     public AdminStoreResponse getStore(Long storeId) {
@@ -93,6 +115,10 @@ public class AdminStoreService {
                         .performedByType(PerformerType.ADMIN)
                         .detail(request.reason())
                         .build());
+        changeCounterRepository.increment(ChangeScope.STORE, storeId);
+        storeGeoIndex.refresh(store);
+        storeSearchIndex.refresh(store);
+        eventPublisher.publishEvent(new StoreSummaryChangedEvent(storeId));
 
         log.info(
                 "[Admin] Store status changed id={} {} -> {} by adminId={}",
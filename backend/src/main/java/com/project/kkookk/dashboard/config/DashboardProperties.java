@@ -0,0 +1,22 @@
+package com.project.kkookk.dashboard.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 점주 대시보드 설정
+ *
+ * @param timeout 전체 항목을 기다리는 시간. 넘긴 항목은 비워서 응답한다.
+ * @param threads 항목 조회용 스레드 수 (대시보드가 동시에 쓰는 DB 커넥션의 상한)
+ * @param queueCapacity 스레드가 모두 바쁠 때 기다릴 수 있는 항목 수. 넘으면 해당 항목을 비운다.
+ * @param recentSize 최근 적립/사용 내역 건수
+ * @param statisticsDays 통계 기간 (오늘 포함 최근 N일)
+ */
+@ConfigurationProperties(prefix = "app.dashboard")
+public record DashboardProperties(
+        @DefaultValue("2s") Duration timeout,
+        @DefaultValue("8") int threads,
+        @DefaultValue("200") int queueCapacity,
+        @DefaultValue("10") int recentSize,
+        @DefaultValue("30") int statisticsDays) {}
@@ -0,0 +1,45 @@
+package com.project.kkookk.dashboard.controller;
+
+import com.project.kkookk.dashboard.dto.OwnerDashboardResponse;
+import com.project.kkookk.global.exception.ErrorResponse;
+import com.project.kkookk.global.security.OwnerPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Tag(name = "Owner Dashboard", description = "점주 대시보드 API")
+@SecurityRequirement(name = "bearerAuth")
+public interface OwnerDashboardApi {
+
+    @Operation(
+            summary = "매장 대시보드 조회",
+            description =
+                    "승인 대기 목록, 최근 30일 통계, 최근 적립/사용 내역, 이전 요청 목록을 한 번에 조회합니다. "
+                            + "제한 시간 안에 조회하지 못한 항목은 null로 두고 unavailable에 이름을 담습니다.")
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "조회 성공 (일부 항목이 비어 있을 수 있음)",
+                content =
+                        @Content(schema = @Schema(implementation = OwnerDashboardResponse.class))),
+        @ApiResponse(
+                responseCode = "401",
+                description = "인증 필요",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(
+                responseCode = "404",
+                description = "매장 없음 또는 본인 매장이 아님",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<OwnerDashboardResponse> getDashboard(
+            @Parameter(description = "매장 ID", example = "1") @PathVariable Long storeId,
+            @Parameter(hidden = true) @AuthenticationPrincipal OwnerPrincipal principal);
+}
@@ -0,0 +1,31 @@
+package com.project.kkookk.dashboard.controller;
+
+import com.project.kkookk.dashboard.dto.OwnerDashboardResponse;
+import com.project.kkookk.dashboard.service.OwnerDashboardService;
+import com.project.kkookk.global.security.OwnerPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/owner/stores/{storeId}/dashboard")
+public class OwnerDashboardController implements OwnerDashboardApi {
+
+    private final OwnerDashboardService ownerDashboardService;
+
+    @Override
+    @GetMapping
+    public ResponseEntity<OwnerDashboardResponse> getDashboard(
+            @PathVariable Long storeId, @AuthenticationPrincipal OwnerPrincipal principal) {
+
+        OwnerDashboardResponse response =
+                ownerDashboardService.getDashboard(storeId, principal.getOwnerId());
+
+        return ResponseEntity.ok(response);
+    }
+}
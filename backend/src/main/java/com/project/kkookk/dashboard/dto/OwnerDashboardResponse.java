@@ -0,0 +1,20 @@
+package com.project.kkookk.dashboard.dto;
+
+import com.project.kkookk.issuance.controller.dto.PendingIssuanceRequestListResponse;
+import com.project.kkookk.migration.controller.dto.MigrationListResponse;
+import com.project.kkookk.redeem.controller.owner.dto.RedeemEventResponse;
+import com.project.kkookk.stamp.controller.owner.dto.StampEventResponse;
+import com.project.kkookk.statistics.dto.StoreStatisticsResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "점주 대시보드 응답. 제한 시간 안에 조회하지 못한 항목은 null이고 unavailable에 이름이 담긴다.")
+public record OwnerDashboardResponse(
+        @Schema(description = "매장 ID", example = "1") Long storeId,
+        @Schema(description = "승인 대기 적립 요청") PendingIssuanceRequestListResponse pendingRequests,
+        @Schema(description = "최근 30일 통계") StoreStatisticsResponse statistics,
+        @Schema(description = "최근 적립 내역") List<StampEventResponse> recentStampEvents,
+        @Schema(description = "최근 리워드 사용 내역") List<RedeemEventResponse> recentRedeemEvents,
+        @Schema(description = "처리 대기 스탬프 이전 요청") MigrationListResponse migrations,
+        @Schema(description = "조회하지 못한 항목 이름", example = "[\"statistics\"]")
+                List<String> unavailable) {}
@@ -0,0 +1,210 @@
+package com.project.kkookk.dashboard.service;
+
+import com.project.kkookk.dashboard.config.DashboardProperties;
+import com.project.kkookk.dashboard.dto.OwnerDashboardResponse;
+import com.project.kkookk.global.config.DashboardConfig;
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.issuance.controller.dto.PendingIssuanceRequestListResponse;
+import com.project.kkookk.issuance.service.OwnerApprovalService;
+import com.project.kkookk.migration.controller.dto.MigrationListResponse;
+import com.project.kkookk.migration.service.OwnerMigrationService;
+import com.project.kkookk.redeem.controller.owner.dto.RedeemEventResponse;
+import com.project.kkookk.redeem.service.OwnerRedeemEventService;
+import com.project.kkookk.stamp.controller.owner.dto.StampEventResponse;
+import com.project.kkookk.stamp.service.OwnerStampEventService;
+import com.project.kkookk.statistics.dto.StoreStatisticsResponse;
+import com.project.kkookk.statistics.service.OwnerStatisticsService;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.repository.StoreRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Page;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 점주 화면 첫 진입에 필요한 항목을 한 번에 조회한다.
+ *
+ * <p>소유권은 한 번만 검증하고, 각 항목은 대시보드 전용 풀({@link DashboardConfig#DASHBOARD_TASK_EXECUTOR})에서 동시에
+ * 조회한다. 항목마다 해당 서비스의 readOnly 트랜잭션이 따로 열린다. 이 클래스는 트랜잭션을 열지 않으므로 요청 스레드는 기다리는 동안 커넥션을 쥐지 않는다.
+ * {@code timeout} 안에 끝나지 않거나 실패한 항목은 비워 두고 {@code unavailable}에 이름을 담아 나머지만으로 응답한다.
+ */
+@Slf4j
+@Service
+public class OwnerDashboardService {
+
+    static final String PENDING_REQUESTS = "pendingRequests";
+    static final String STATISTICS = "statistics";
+    static final String RECENT_STAMP_EVENTS = "recentStampEvents";
+    static final String RECENT_REDEEM_EVENTS = "recentRedeemEvents";
+    static final String MIGRATIONS = "migrations";
+
+    private final StoreRepository storeRepository;
+    private final OwnerApprovalService ownerApprovalService;
+    private final OwnerStatisticsService ownerStatisticsService;
+    private final OwnerStampEventService ownerStampEventService;
+    private final OwnerRedeemEventService ownerRedeemEventService;
+    private final OwnerMigrationService ownerMigrationService;
+    private final DashboardProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AsyncTaskExecutor executor;
+
+    public OwnerDashboardService(
+            StoreRepository storeRepository,
+            OwnerApprovalService ownerApprovalService,
+            OwnerStatisticsService ownerStatisticsService,
+            OwnerStampEventService ownerStampEventService,
+            OwnerRedeemEventService ownerRedeemEventService,
+            OwnerMigrationService ownerMigrationService,
+            DashboardProperties properties,
+            MeterRegistry meterRegistry,
+            @Qualifier(DashboardConfig.DASHBOARD_TASK_EXECUTOR) AsyncTaskExecutor executor) {
+        this.storeRepository = storeRepository;
+        this.ownerApprovalService = ownerApprovalService;
+        this.ownerStatisticsService = ownerStatisticsService;
+        this.ownerStampEventService = ownerStampEventService;
+        this.ownerRedeemEventService = ownerRedeemEventService;
+        this.ownerMigrationService = ownerMigrationService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.executor = executor;
+    }
+
+    public OwnerDashboardResponse getDashboard(Long storeId, Long ownerId) {
+        Store store =
+                storeRepository
+                        .findByIdAndOwnerAccountId(storeId, ownerId)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
+
+        long startedAt = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        int recentSize = properties.recentSize();
+        Section<PendingIssuanceRequestListResponse> pendingRequests =
+                submit(PENDING_REQUESTS, () -> ownerApprovalService.loadPendingRequests(store));
+        Section<StoreStatisticsResponse> statistics =
+                submit(
+                        STATISTICS,
+                        () ->
+                                ownerStatisticsService.loadStoreStatistics(
+                                        store,
+                                        today.minusDays(properties.statisticsDays() - 1L),
+                                        today));
+        Section<Page<StampEventResponse>> stampEvents =
+                submit(
+                        RECENT_STAMP_EVENTS,
+                        () -> ownerStampEventService.loadStampEvents(store, 0, recentSize));
+        Section<Page<RedeemEventResponse>> redeemEvents =
+                submit(
+                        RECENT_REDEEM_EVENTS,
+                        () ->
+                                ownerRedeemEventService.loadCompletedRedeemEvents(
+                                        store, 0, recentSize));
+        Section<MigrationListResponse> migrations =
+                submit(MIGRATIONS, () -> ownerMigrationService.loadList(store));
+
+        long deadline = startedAt + properties.timeout().toNanos();
+        List<String> unavailable = new ArrayList<>();
+        PendingIssuanceRequestListResponse pending = pendingRequests.await(deadline, unavailable);
+        StoreStatisticsResponse stats = statistics.await(deadline, unavailable);
+        Page<StampEventResponse> stampPage = stampEvents.await(deadline, unavailable);
+        Page<RedeemEventResponse> redeemPage = redeemEvents.await(deadline, unavailable);
+        MigrationListResponse migrationList = migrations.await(deadline, unavailable);
+        OwnerDashboardResponse response =
+                new OwnerDashboardResponse(
+                        storeId,
+                        pending,
+                        stats,
+                        stampPage != null ? stampPage.getContent() : null,
+                        redeemPage != null ? redeemPage.getContent() : null,
+                        migrationList,
+                        unavailable);
+
+        log.info(
+                "[Dashboard] Queried storeId={} unavailable={} elapsed={}ms",
+                storeId,
+                unavailable,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return response;
+    }
+
+    private <T> Section<T> submit(String name, Callable<T> query) {
+        // MDC(요청 ID)와 인증 정보(복제본 read-your-writes 판단)를 작업 스레드로 넘긴다
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Callable<T> task =
+                () -> {
+                    if (mdc != null) {
+                        MDC.setContextMap(mdc);
+                    }
+                    SecurityContextHolder.setContext(securityContext);
+                    try {
+                        return query.call();
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        MDC.clear();
+                    }
+                };
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return new Section<>(name, future, System.nanoTime());
+    }
+
+    private final class Section<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private final long submittedAt;
+
+        private Section(String name, Future<T> future, long submittedAt) {
+            this.name = name;
+            this.future = future;
+            this.submittedAt = submittedAt;
+        }
+
+        /** 마감까지 기다린다. 끝나지 않았거나 실패하면 null을 돌려주고 이름을 unavailable에 더한다. */
+        T await(long deadline, List<String> unavailable) {
+            String result = "ok";
+            try {
+                long remaining = Math.max(deadline - System.nanoTime(), 0L);
+                return future.get(remaining, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                result = "timeout";
+                future.cancel(true);
+                log.warn("[Dashboard] Section timed out section={}", name);
+            } catch (ExecutionException e) {
+                result = e.getCause() instanceof RejectedExecutionException ? "rejected" : "error";
+                log.warn("[Dashboard] Section failed section={}", name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = "interrupted";
+                future.cancel(true);
+            } finally {
+                meterRegistry
+                        .timer("kkookk.dashboard.section", "section", name, "result", result)
+                        .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+            }
+            unavailable.add(name);
+            return null;
+        }
+    }
+}
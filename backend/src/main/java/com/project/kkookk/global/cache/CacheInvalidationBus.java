@@ -0,0 +1,246 @@
+package com.project.kkookk.global.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 변경 로그 기반 노드 간 캐시 무효화 버스.
+ *
+ * <p>무효화할 키를 쓰기 트랜잭션 안에서 {@code cache_invalidation_log}에 기록하면, 각 노드가 주기적으로 자신이 본 마지막
+ * id(high-water mark) 이후 행을 읽어 로컬 캐시에서 같은 키를 지운다. MySQL만으로 동작하고 메시지 브로커가 필요 없다.
+ *
+ * <p>행은 id 순으로만 페이징한다. AUTO_INCREMENT id는 커밋 순서와 다를 수 있어, 읽은 id 사이의 빈 번호는 아직 커밋되지
+ * 않은 행일 수 있으므로 {@code lookback} 동안 그 id만 골라 다시 확인한다. 자기 노드가 기록한 행은 커밋 직후 직접
+ * 처리했으므로 건너뛴다.
+ *
+ * <p>Spring 캐시가 아닌 인메모리 구조(검색/위치 인덱스, Bloom 필터 등)는 {@link #register}로 이름별 핸들러를 등록하면
+ * 캐시 제거 대신 핸들러가 키를 받아 자기 상태를 갱신한다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String INSERT =
+            "INSERT INTO cache_invalidation_log "
+                    + "(cache_name, cache_key, key_type, origin, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String FIND_MAX_ID =
+            "SELECT COALESCE(MAX(id), 0) FROM cache_invalidation_log";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, cache_name, cache_key, key_type, origin, created_at "
+                    + "FROM cache_invalidation_log ";
+
+    private static final String FIND_AFTER = SELECT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String FIND_BY_IDS = SELECT_COLUMNS + "WHERE id IN (:ids) ORDER BY id";
+
+    private static final String DELETE_BEFORE =
+            "DELETE FROM cache_invalidation_log WHERE created_at < ?";
+
+    private static final RowMapper<Entry> ENTRY_MAPPER =
+            (rs, rowNum) ->
+                    new Entry(
+                            rs.getLong("id"),
+                            rs.getString("cache_name"),
+                            rs.getString("cache_key"),
+                            KeyType.valueOf(rs.getString("key_type")),
+                            rs.getString("origin"),
+                            rs.getTimestamp("created_at").toLocalDateTime());
+
+    private final JdbcClient jdbcClient;
+    private final CacheManager cacheManager;
+    private final CacheInvalidationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Timer lagTimer;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, Consumer<Object>> handlers = new ConcurrentHashMap<>();
+
+    // high-water mark 아래의 빈 id와 처음 발견한 시각 (늦게 커밋될 수 있는 행)
+    private final Map<Long, LocalDateTime> gaps = new ConcurrentHashMap<>();
+    private volatile long highWater = -1;
+
+    public CacheInvalidationBus(
+            JdbcClient jdbcClient,
+            CacheManager cacheManager,
+            CacheInvalidationProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcClient = jdbcClient;
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.lagTimer =
+                Timer.builder("kkookk.cache.invalidation.lag")
+                        .description("변경 로그 기록부터 다른 노드 캐시에서 제거되기까지의 지연")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+        Gauge.builder("kkookk.cache.invalidation.high_water", this, bus -> bus.highWater)
+                .register(meterRegistry);
+        Gauge.builder("kkookk.cache.invalidation.gaps", gaps, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 캐시 대신 인메모리 상태를 갱신할 핸들러 등록. 다른 노드가 같은 이름으로 {@link #publish}한 키를 폴링 스레드에서 받는다.
+     */
+    public void register(String name, Consumer<Object> handler) {
+        handlers.put(name, handler);
+    }
+
+    /** 다른 노드에 키 무효화를 알린다. 변경과 같은 트랜잭션에서 호출해야 커밋된 변경만 전파된다. */
+    public void publish(String cacheName, Object key) {
+        KeyType keyType = KeyType.of(key);
+        jdbcClient
+                .sql(INSERT)
+                .params(cacheName, key.toString(), keyType.name(), nodeId, LocalDateTime.now())
+                .update();
+    }
+
+    /** 기동 이전 로그는 로컬 캐시가 비어 있으므로 적용할 필요가 없다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        highWater = jdbcClient.sql(FIND_MAX_ID).query(Long.class).single();
+        log.info("[CacheInvalidationBus] Started nodeId={}, highWater={}", nodeId, highWater);
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.poll-interval:1s}")
+    public void poll() {
+        if (highWater < 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // 이전에 비어 있던 id 중 그사이 커밋된 행
+        if (!gaps.isEmpty()) {
+            List<Entry> late =
+                    jdbcClient
+                            .sql(FIND_BY_IDS)
+                            .param("ids", List.copyOf(gaps.keySet()))
+                            .query(ENTRY_MAPPER)
+                            .list();
+            for (Entry entry : late) {
+                if (gaps.remove(entry.id()) != null) {
+                    handle(entry, now);
+                }
+            }
+        }
+
+        List<Entry> entries =
+                jdbcClient
+                        .sql(FIND_AFTER)
+                        .params(highWater, properties.batchSize())
+                        .query(ENTRY_MAPPER)
+                        .list();
+        long max = highWater;
+        for (Entry entry : entries) {
+            // 롤백 등으로 영영 채워지지 않는 번호도 있으므로 추적 개수를 제한한다
+            for (long missing = max + 1;
+                    missing < entry.id() && gaps.size() < properties.batchSize();
+                    missing++) {
+                gaps.putIfAbsent(missing, now);
+            }
+            max = entry.id();
+            handle(entry, now);
+        }
+        highWater = max;
+
+        LocalDateTime expireBefore = now.minus(properties.lookback());
+        gaps.values().removeIf(firstSeen -> firstSeen.isBefore(expireBefore));
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.invalidation.purge-interval:10m}")
+    public void purge() {
+        int deleted =
+                jdbcClient
+                        .sql(DELETE_BEFORE)
+                        .param(LocalDateTime.now().minus(properties.retention()))
+                        .update();
+        if (deleted > 0) {
+            log.info("[CacheInvalidationBus] Purged rows={}", deleted);
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    private void handle(Entry entry, LocalDateTime now) {
+        if (!nodeId.equals(entry.origin())) {
+            apply(entry, now);
+        }
+    }
+
+    private void apply(Entry entry, LocalDateTime now) {
+        Object key = entry.keyType().parse(entry.cacheKey());
+        Consumer<Object> handler = handlers.get(entry.cacheName());
+        if (handler != null) {
+            try {
+                handler.accept(key);
+            } catch (RuntimeException e) {
+                log.warn(
+                        "[CacheInvalidationBus] Handler failed name={}, key={}",
+                        entry.cacheName(),
+                        key,
+                        e);
+                return;
+            }
+        } else {
+            Cache cache = cacheManager.getCache(entry.cacheName());
+            if (cache == null) {
+                return;
+            }
+            cache.evict(key);
+        }
+        meterRegistry
+                .counter("kkookk.cache.invalidation.applied", "cache", entry.cacheName())
+                .increment();
+        // 노드 간 시계 차이로 음수가 나오면 0으로 본다
+        Duration lag = Duration.between(entry.createdAt(), now);
+        lagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    private record Entry(
+            long id,
+            String cacheName,
+            String cacheKey,
+            KeyType keyType,
+            String origin,
+            LocalDateTime createdAt) {}
+
+    private enum KeyType {
+        LONG,
+        STRING;
+
+        static KeyType of(Object key) {
+            if (key instanceof Long) {
+                return LONG;
+            }
+            if (key instanceof String) {
+                return STRING;
+            }
+            throw new IllegalArgumentException("Unsupported cache key type: " + key.getClass());
+        }
+
+        Object parse(String value) {
+            return this == LONG ? Long.valueOf(value) : value;
+        }
+    }
+}
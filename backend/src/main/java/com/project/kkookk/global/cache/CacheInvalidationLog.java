@@ -0,0 +1,50 @@
+package com.project.kkookk.global.cache;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 캐시 무효화 로그.
+ *
+ * <p>쓰기 트랜잭션에서 함께 기록하고 각 노드의 {@link CacheInvalidationBus}가 폴링해 자기 캐시에서 해당 키를 지운다.
+ * 기록/조회는 JdbcClient로만 수행한다.
+ */
+@Entity
+@Table(
+        name = "cache_invalidation_log",
+        indexes =
+                @Index(
+                        name = "idx_cache_invalidation_log_created_at",
+                        columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheInvalidationLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_name", nullable = false, length = 50)
+    private String cacheName;
+
+    @Column(name = "cache_key", nullable = false)
+    private String cacheKey;
+
+    @Column(name = "key_type", nullable = false, length = 10)
+    private String keyType;
+
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
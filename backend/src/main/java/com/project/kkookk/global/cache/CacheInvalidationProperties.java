@@ -0,0 +1,20 @@
+package com.project.kkookk.global.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 노드 간 캐시 무효화 전파 설정
+ *
+ * @param pollInterval 변경 로그 폴링 주기 (전파 지연의 상한)
+ * @param lookback 건너뛴 id(늦게 커밋될 수 있는 행)를 다시 확인하는 기간
+ * @param batchSize 한 번에 읽는 최대 행 수 (추적하는 빈 id 개수의 상한도 겸한다)
+ * @param retention 변경 로그 보관 기간
+ */
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public record CacheInvalidationProperties(
+        @DefaultValue("1s") Duration pollInterval,
+        @DefaultValue("10s") Duration lookback,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("1h") Duration retention) {}
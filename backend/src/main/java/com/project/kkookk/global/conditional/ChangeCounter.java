@@ -0,0 +1,47 @@
+package com.project.kkookk.global.conditional;
+
+import com.project.kkookk.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 범위별 단조 증가 변경 카운터.
+ *
+ * <p>쓰기 경로가 같은 트랜잭션에서 올리고, 조건부 GET이 ETag로 사용한다. 갱신은 {@link
+ * ChangeCounterRepository}의 원자적 SQL로만 수행한다.
+ */
+@Entity
+@Table(
+        name = "change_counter",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_change_counter_scope_entity",
+                        columnNames = {"scope", "entity_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChangeCounter extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChangeScope scope;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private Long version;
+}
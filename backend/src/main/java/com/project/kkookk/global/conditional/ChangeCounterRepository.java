@@ -0,0 +1,53 @@
+package com.project.kkookk.global.conditional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ChangeCounterRepository {
+
+    private final JdbcClient jdbcClient;
+
+    private static final String FIND_VERSION =
+            "SELECT version FROM change_counter WHERE scope = ? AND entity_id = ?";
+
+    private static final String INCREMENT =
+            "INSERT INTO change_counter (scope, entity_id, version, created_at, updated_at) "
+                    + "VALUES (?, ?, 1, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE version = version + 1, updated_at = ?";
+
+    private static final String INCREMENT_WALLETS_OF_STORE =
+            "UPDATE change_counter SET version = version + 1, updated_at = ? "
+                    + "WHERE scope = 'WALLET' AND entity_id IN "
+                    + "(SELECT customer_wallet_id FROM wallet_stamp_card WHERE store_id = ?)";
+
+    /** 현재 버전 조회 (한 번도 변경되지 않았으면 empty) */
+    public Optional<Long> findVersion(ChangeScope scope, Long entityId) {
+        return jdbcClient
+                .sql(FIND_VERSION)
+                .params(scope.name(), entityId)
+                .query(Long.class)
+                .optional();
+    }
+
+    /** 변경 트랜잭션 안에서 호출한다. */
+    public void increment(ChangeScope scope, Long entityId) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcClient.sql(INCREMENT).params(scope.name(), entityId, now, now, now).update();
+    }
+
+    /**
+     * 매장 정보가 지갑 화면에 노출되므로 해당 매장 카드를 가진 지갑 카운터를 함께 올린다. 카운터 행이 없는 지갑은 ETag를
+     * 발급받은 적이 없으므로 갱신할 필요가 없다.
+     */
+    public int incrementWalletsOfStore(Long storeId) {
+        return jdbcClient
+                .sql(INCREMENT_WALLETS_OF_STORE)
+                .params(LocalDateTime.now(), storeId)
+                .update();
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.kkookk.global.conditional;
+
+/** 변경 카운터 범위. 같은 범위의 읽기 API는 하나의 카운터로 ETag를 공유한다. */
+public enum ChangeScope {
+    /** 고객 지갑 화면 (스탬프카드, 리워드, 적립/사용 이력) */
+    WALLET("wallet"),
+
+    /** 매장 요약 화면 (매장 정보, 활성 스탬프카드) */
+    STORE("store");
+
+    private final String tag;
+
+    ChangeScope(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
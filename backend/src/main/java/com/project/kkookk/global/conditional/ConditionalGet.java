@@ -0,0 +1,25 @@
+package com.project.kkookk.global.conditional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 변경 카운터 기반 조건부 GET.
+ *
+ * <p>{@code If-None-Match}가 현재 카운터의 ETag와 일치하면 핸들러를 실행하지 않고 304로 응답한다. {@link
+ * ChangeScope#WALLET}은 인증된 고객의 지갑 ID, {@link ChangeScope#STORE}는 {@link #pathVariable()}
+ * 경로 변수를 대상으로 한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConditionalGet {
+
+    ChangeScope value();
+
+    /** STORE 범위에서 매장 ID를 읽을 경로 변수 이름 */
+    String pathVariable() default "storeId";
+}
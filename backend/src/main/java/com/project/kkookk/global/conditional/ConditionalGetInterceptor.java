@@ -0,0 +1,111 @@
+package com.project.kkookk.global.conditional;
+
+import com.project.kkookk.global.security.CustomerPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * {@link ConditionalGet} 핸들러의 조건부 요청 처리.
+ *
+ * <p>핸들러 실행 전에 카운터를 읽으므로, 응답 생성 중 변경이 일어나도 ETag는 항상 응답 내용보다 같거나 오래된 버전을 가리킨다.
+ * 카운터가 아직 없는 대상은 ETag 없이 그대로 처리한다.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String METRIC = "kkookk.conditional.requests";
+    private static final String CACHE_CONTROL = "private, no-cache";
+
+    private final ChangeCounterRepository changeCounterRepository;
+    private final MeterRegistry meterRegistry;
+
+    public ConditionalGetInterceptor(
+            ChangeCounterRepository changeCounterRepository, MeterRegistry meterRegistry) {
+        this.changeCounterRepository = changeCounterRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null) {
+            return true;
+        }
+
+        ChangeScope scope = conditionalGet.value();
+        Long entityId = resolveEntityId(conditionalGet, request);
+        Optional<Long> version =
+                entityId != null
+                        ? changeCounterRepository.findVersion(scope, entityId)
+                        : Optional.empty();
+        if (version.isEmpty()) {
+            count(scope, "untracked");
+            return true;
+        }
+
+        String eTag = "W/\"" + scope.getTag() + "-" + entityId + "-" + version.get() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(eTag)) {
+            count(scope, "not_modified");
+            return false;
+        }
+        count(scope, "modified");
+        return true;
+    }
+
+    private Long resolveEntityId(ConditionalGet conditionalGet, HttpServletRequest request) {
+        return switch (conditionalGet.value()) {
+            case WALLET -> currentWalletId();
+            case STORE -> pathVariable(request, conditionalGet.pathVariable());
+        };
+    }
+
+    private Long currentWalletId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof CustomerPrincipal principal) {
+            return principal.getWalletId();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Long pathVariable(HttpServletRequest request, String name) {
+        Map<String, String> variables =
+                (Map<String, String>)
+                        request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null || variables.get(name) == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(variables.get(name));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void count(ChangeScope scope, String result) {
+        Counter.builder(METRIC)
+                .description("Conditional GET requests by change scope and outcome")
+                .tag("scope", scope.getTag())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -1,6 +1,8 @@
 package com.project.kkookk.global.config;
 
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
 import java.util.concurrent.TimeUnit;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -11,11 +13,24 @@ import org.springframework.context.annotation.Configuration;
 public class CacheConfig {
 
     public static final String STORE_SUMMARY_CACHE = "storeSummary";
+    public static final String STORE_SHARD_CACHE = "storeShard";
 
+    // recordStats: Boot가 캐시별 cache.gets{result=hit|miss}, cache.load 등 메트릭으로 노출
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager(STORE_SUMMARY_CACHE);
+    public CacheManager cacheManager(CacheLoader<Object, Object> storeSummaryLoader) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
         cacheManager.setCaffeine(caffeineCacheBuilder());
+        cacheManager.registerCustomCache(
+                STORE_SUMMARY_CACHE,
+                storeSummaryCacheBuilder(Ticker.systemTicker()).build(storeSummaryLoader));
+        // 매장 → 샤드 배치. 이동 시 변경 로그로 모든 노드에서 무효화하므로 TTL은 유실 대비 상한
+        cacheManager.registerCustomCache(
+                STORE_SHARD_CACHE,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(10, TimeUnit.MINUTES)
+                        .maximumSize(100_000)
+                        .recordStats()
+                        .build());
         return cacheManager;
     }
 
@@ -24,6 +39,18 @@ public class CacheConfig {
         // DB 부하를 줄이고, 사용자에게 빠른 응답성을 제공
         return Caffeine.newBuilder()
                 .expireAfterWrite(10, TimeUnit.MINUTES)
-                .maximumSize(1000); // 최대 1000개의 매장 정보를 캐싱
+                .maximumSize(1000) // 최대 1000개의 매장 정보를 캐싱
+                .recordStats();
+    }
+
+    static Caffeine<Object, Object> storeSummaryCacheBuilder(Ticker ticker) {
+        // 변경은 커밋 후 이벤트로 즉시 무효화하므로 TTL은 이벤트 유실 대비 상한
+        // 1분이 지난 키는 조회 시 기존 값을 바로 돌려주고 백그라운드에서 다시 읽어 만료 시점의 몰림을 막는다
+        return Caffeine.newBuilder()
+                .refreshAfterWrite(1, TimeUnit.MINUTES)
+                .expireAfterWrite(10, TimeUnit.MINUTES)
+                .maximumSize(1000)
+                .ticker(ticker)
+                .recordStats();
     }
 }
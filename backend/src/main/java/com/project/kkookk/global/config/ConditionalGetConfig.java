@@ -0,0 +1,20 @@
+package com.project.kkookk.global.config;
+
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ConditionalGetInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+
+@Configuration
+public class ConditionalGetConfig {
+
+    @Bean
+    public MappedInterceptor conditionalGetInterceptor(
+            ChangeCounterRepository changeCounterRepository, MeterRegistry meterRegistry) {
+        return new MappedInterceptor(
+                new String[] {"/api/**"},
+                new ConditionalGetInterceptor(changeCounterRepository, meterRegistry));
+    }
+}
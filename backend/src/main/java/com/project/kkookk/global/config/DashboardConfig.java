@@ -0,0 +1,29 @@
+package com.project.kkookk.global.config;
+
+import com.project.kkookk.dashboard.config.DashboardProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(DashboardProperties.class)
+public class DashboardConfig {
+
+    public static final String DASHBOARD_TASK_EXECUTOR = "dashboardTaskExecutor";
+
+    /**
+     * 대시보드 항목 전용 풀. 내보내기 같은 긴 MVC 비동기 작업과 {@code applicationTaskExecutor}를 나눠 쓰면 항목이 마감을 넘기므로
+     * 따로 둔다. 가상 스레드 모드에서도 플랫폼 스레드 {@code threads}개로 동시 조회 수를 제한하고, 큐가 차면 해당 항목을 비운다.
+     */
+    @Bean(DASHBOARD_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor dashboardTaskExecutor(DashboardProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.threads());
+        executor.setMaxPoolSize(properties.threads());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setDaemon(true);
+        return executor;
+    }
+}
@@ -0,0 +1,96 @@
+package com.project.kkookk.global.config;
+
+import com.project.kkookk.global.datasource.ReadWriteRoutingDataSource;
+import com.project.kkookk.global.datasource.ReadYourWrites;
+import com.project.kkookk.global.datasource.ReplicaLagMonitor;
+import com.project.kkookk.global.datasource.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+/**
+ * primary/replica 두 Hikari 풀과 이를 감싼 라우팅 DataSource.
+ *
+ * <p>두 풀이 각각 빈으로 등록되므로 Boot가 풀별로 {@code hikaricp.connections.*{pool=primary|replica}} 메트릭을
+ * 노출한다. JPA, JdbcClient 등은 {@code @Primary}인 라우팅 DataSource를 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource =
+                dataSourceProperties
+                        .initializeDataSourceBuilder()
+                        .type(HikariDataSource.class)
+                        .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replicaProperties.url());
+        dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        dataSource.setUsername(
+                StringUtils.hasText(replicaProperties.username())
+                        ? replicaProperties.username()
+                        : dataSourceProperties.determineUsername());
+        dataSource.setPassword(
+                StringUtils.hasText(replicaProperties.password())
+                        ? replicaProperties.password()
+                        : dataSourceProperties.determinePassword());
+        dataSource.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaProperties replicaProperties,
+            MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(
+                primaryDataSource, replicaDataSource, replicaProperties, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReplicaProperties replicaProperties) {
+        return new ReadYourWrites(primaryDataSource, replicaProperties.stickiness());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWrites readYourWrites,
+            MeterRegistry meterRegistry) {
+        return new ReadWriteRoutingDataSource(
+                        primaryDataSource,
+                        replicaDataSource,
+                        replicaLagMonitor,
+                        readYourWrites,
+                        meterRegistry)
+                .lazy();
+    }
+}
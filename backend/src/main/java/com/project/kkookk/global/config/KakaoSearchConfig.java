@@ -0,0 +1,8 @@
+package com.project.kkookk.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(KakaoSearchProperties.class)
+public class KakaoSearchConfig {}
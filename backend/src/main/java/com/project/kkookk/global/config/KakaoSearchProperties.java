@@ -0,0 +1,30 @@
+package com.project.kkookk.global.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 카카오 장소 검색 호출 정책
+ *
+ * @param baseUrl 카카오 로컬 API 주소 (테스트/벤치마크에서는 로컬 스텁 서버)
+ * @param readTimeout 응답 타임아웃
+ * @param freshTtl 이 시간 안의 캐시 결과는 그대로 응답
+ * @param staleTtl 카카오 장애 시 대체 응답으로 쓸 수 있는 캐시 보관 기간
+ * @param maxEntries 캐시 최대 검색어 수
+ * @param maxConcurrent 동시에 카카오로 나가는 최대 요청 수 (bulkhead)
+ * @param acquireTimeout bulkhead 자리 대기 시간
+ * @param failureThreshold 연속 실패 시 서킷을 여는 횟수
+ * @param openDuration 서킷이 열린 뒤 시험 호출까지 대기 시간
+ */
+@ConfigurationProperties(prefix = "kakao.search")
+public record KakaoSearchProperties(
+        @DefaultValue("https://dapi.kakao.com") String baseUrl,
+        @DefaultValue("3s") Duration readTimeout,
+        @DefaultValue("10m") Duration freshTtl,
+        @DefaultValue("24h") Duration staleTtl,
+        @DefaultValue("10000") long maxEntries,
+        @DefaultValue("8") int maxConcurrent,
+        @DefaultValue("200ms") Duration acquireTimeout,
+        @DefaultValue("5") int failureThreshold,
+        @DefaultValue("30s") Duration openDuration) {}
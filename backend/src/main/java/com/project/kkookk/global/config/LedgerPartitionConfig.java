@@ -0,0 +1,9 @@
+package com.project.kkookk.global.config;
+
+import com.project.kkookk.global.ledger.LedgerPartitionProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LedgerPartitionProperties.class)
+public class LedgerPartitionConfig {}
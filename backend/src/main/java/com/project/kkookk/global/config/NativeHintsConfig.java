@@ -0,0 +1,123 @@
+package com.project.kkookk.global.config;
+
+import ch.qos.logback.core.joran.spi.DefaultClass;
+import com.project.kkookk.oauth.controller.dto.OAuthLoginResponse;
+import com.project.kkookk.wallet.dto.response.WalletStampCardSummary;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 네이티브 이미지 빌드({@code -Pnative})용 런타임 힌트.
+ *
+ * <p>빈, 엔티티, 컨트롤러 DTO는 Spring AOT가, Hibernate/Caffeine/MySQL 드라이버는 reachability metadata 저장소가
+ * 채운다. 여기에는 둘 다 모르는 것만 둔다: 구현체를 클래스 이름으로 찾는 jjwt, logback-spring.xml이 클래스 이름으로 만드는
+ * Loki/Logstash 구성 요소, ImageIO의 PNG writer(QR 코드), 컨트롤러 밖에서 직접 JSON으로 바꾸는 DTO.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+@RegisterReflectionForBinding({OAuthLoginResponse.class, WalletStampCardSummary.class})
+public class NativeHintsConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        // Jwts/Keys/Jwks가 jjwt-impl 구현체를 이름으로 생성한다
+        static final List<String> JJWT_TYPES =
+                List.of(
+                        "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                        "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                        "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                        "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                        "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                        "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                        "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                        "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                        "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                        "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                        "io.jsonwebtoken.impl.security.StandardCurves",
+                        "io.jsonwebtoken.impl.security.KeysBridge");
+
+        // logback-spring.xml에 class 속성으로 적힌 구성 요소
+        static final List<String> LOGBACK_COMPONENTS =
+                List.of(
+                        "com.github.loki4j.logback.Loki4jAppender",
+                        "net.logstash.logback.encoder.LogstashEncoder",
+                        "net.logstash.logback.layout.LogstashLayout");
+
+        private static final List<String> LOGBACK_PACKAGES =
+                List.of("com.github.loki4j.", "net.logstash.logback.");
+
+        // ImageIO가 서비스 레지스트리에서 리플렉션으로 만든다
+        static final List<String> IMAGE_IO_TYPES =
+                List.of("com.sun.imageio.plugins.png.PNGImageWriterSpi");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : JJWT_TYPES) {
+                hints.reflection()
+                        .registerType(
+                                TypeReference.of(type),
+                                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                                MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            Set<String> visited = new HashSet<>();
+            for (String component : LOGBACK_COMPONENTS) {
+                registerLogbackComponent(hints, classLoader, component, visited);
+            }
+            for (String type : IMAGE_IO_TYPES) {
+                hints.reflection()
+                        .registerType(
+                                TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+        }
+
+        /**
+         * Joran은 setter 인자 타입이나 {@link DefaultClass}로 하위 구성 요소(Loki의 {@code <http>}, {@code
+         * <format>} 등)를 만들므로, 같은 라이브러리 안의 타입을 따라가며 등록한다.
+         */
+        private void registerLogbackComponent(
+                RuntimeHints hints,
+                ClassLoader classLoader,
+                String className,
+                Set<String> visited) {
+            if (!visited.add(className) || !ClassUtils.isPresent(className, classLoader)) {
+                return;
+            }
+            Class<?> type = ClassUtils.resolveClassName(className, classLoader);
+            hints.reflection()
+                    .registerType(
+                            type,
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                            MemberCategory.INVOKE_PUBLIC_METHODS);
+            for (Method method : type.getMethods()) {
+                if (method.getParameterCount() != 1
+                        || !(method.getName().startsWith("set")
+                                || method.getName().startsWith("add"))) {
+                    continue;
+                }
+                follow(hints, classLoader, method.getParameterTypes()[0], visited);
+                DefaultClass defaultClass = method.getAnnotation(DefaultClass.class);
+                if (defaultClass != null) {
+                    follow(hints, classLoader, defaultClass.value(), visited);
+                }
+            }
+        }
+
+        private void follow(
+                RuntimeHints hints, ClassLoader classLoader, Class<?> type, Set<String> visited) {
+            String name = type.getName();
+            if (LOGBACK_PACKAGES.stream().anyMatch(name::startsWith)) {
+                registerLogbackComponent(hints, classLoader, name, visited);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.kkookk.global.config;
+
+import com.project.kkookk.global.http.OutboundHttp;
+import com.project.kkookk.global.http.OutboundHttpProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+@EnableConfigurationProperties(OutboundHttpProperties.class)
+public class OutboundHttpConfig {
+
+    // Boot가 구성한 빌더를 받아야 http.client.requests 관측(메트릭)이 붙는다
+    @Bean
+    public OutboundHttp outboundHttp(
+            OutboundHttpProperties properties,
+            RestTemplateBuilder restTemplateBuilder,
+            RestClient.Builder restClientBuilder,
+            MeterRegistry meterRegistry) {
+        return new OutboundHttp(
+                properties, restTemplateBuilder, restClientBuilder, meterRegistry);
+    }
+}
@@ -1,20 +1,26 @@
 package com.project.kkookk.global.config;
 
+import com.project.kkookk.global.http.OutboundHttp;
 import com.project.kkookk.global.security.JwtAuthenticationFilter;
 import com.project.kkookk.oauth.config.CustomOAuth2AuthorizationRequestResolver;
 import com.project.kkookk.oauth.config.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.project.kkookk.oauth.config.OAuth2LoginFailureHandler;
 import com.project.kkookk.oauth.config.OAuth2LoginSuccessHandler;
 import com.project.kkookk.oauth.service.CustomOAuth2UserService;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -34,6 +40,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2LoginSuccessHandler oauth2LoginSuccessHandler;
     private final OAuth2LoginFailureHandler oauth2LoginFailureHandler;
+    private final OutboundHttp outboundHttp;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -43,7 +50,10 @@ public class SecurityConfig {
                         session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(
                         auth ->
-                                auth.requestMatchers("/api/auth/refresh")
+                                // 스트리밍 응답 완료 후의 ASYNC 재디스패치는 최초 요청에서 이미 인가되었다
+                                auth.dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                        .permitAll()
+                                        .requestMatchers("/api/auth/refresh")
                                         .permitAll()
                                         .requestMatchers("/api/public/**")
                                         .permitAll()
@@ -75,6 +85,10 @@ public class SecurityConfig {
                                                 redirect ->
                                                         redirect.baseUri(
                                                                 "/api/public/oauth2/callback/*"))
+                                        .tokenEndpoint(
+                                                token ->
+                                                        token.accessTokenResponseClient(
+                                                                accessTokenResponseClient()))
                                         .userInfoEndpoint(
                                                 userInfo ->
                                                         userInfo.userService(
@@ -91,6 +105,25 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 토큰 교환도 공용 커넥션 풀을 쓴다 (컨버터/에러 처리는 기본 구현과 동일)
+    private RestClientAuthorizationCodeTokenResponseClient accessTokenResponseClient() {
+        RestClientAuthorizationCodeTokenResponseClient client =
+                new RestClientAuthorizationCodeTokenResponseClient();
+        client.setRestClient(
+                outboundHttp
+                        .restClientBuilder(null)
+                        .messageConverters(
+                                converters -> {
+                                    converters.clear();
+                                    converters.add(new FormHttpMessageConverter());
+                                    converters.add(
+                                            new OAuth2AccessTokenResponseHttpMessageConverter());
+                                })
+                        .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                        .build());
+        return client;
+    }
+
     // TODO: 프로덕션 배포 전 CORS 제한 설정 필요
     //  - AllowedOrigins: 실제 프론트엔드 도메인만 허용
     //  - AllowedMethods: 필요한 메서드만 허용 (GET, POST, PUT, PATCH, DELETE)
@@ -0,0 +1,150 @@
+package com.project.kkookk.global.config;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.global.datasource.ConnectionLimiter;
+import com.project.kkookk.global.shard.ConsistentHashRing;
+import com.project.kkookk.global.shard.ShardDirectory;
+import com.project.kkookk.global.shard.ShardMover;
+import com.project.kkookk.global.shard.ShardProperties;
+import com.project.kkookk.global.shard.ShardRoutingDataSource;
+import com.project.kkookk.global.shard.ShardTemplate;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+
+/**
+ * 매장 단위 샤딩. 꺼져 있으면 main 단일 샤드로 동작하는 {@link ShardTemplate}만 등록한다.
+ *
+ * <p>켜면 main(spring.datasource)과 {@code app.shard.nodes}의 Hikari 풀을 샤드 라우팅 DataSource로 묶어 애플리케이션
+ * DataSource로 쓴다. 복제본 라우팅({@code app.datasource.replica})과는 아직 함께 쓸 수 없다.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardProperties.class)
+public class ShardConfig {
+
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "app.shard",
+            name = "enabled",
+            havingValue = "false",
+            matchIfMissing = true)
+    public ShardTemplate shardTemplate() {
+        return ShardTemplate.single();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "app.shard", name = "enabled", havingValue = "true")
+    static class Sharded {
+
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource mainShardDataSource(DataSourceProperties dataSourceProperties) {
+            HikariDataSource dataSource =
+                    dataSourceProperties
+                            .initializeDataSourceBuilder()
+                            .type(HikariDataSource.class)
+                            .build();
+            dataSource.setPoolName("shard-" + ShardProperties.MAIN);
+            return dataSource;
+        }
+
+        @Bean
+        public ShardRoutingDataSource shardRoutingDataSource(
+                @Qualifier("mainShardDataSource") DataSource mainShardDataSource,
+                DataSourceProperties dataSourceProperties,
+                ShardProperties shardProperties,
+                ConnectionLimiter connectionLimiter) {
+            Map<String, DataSource> shards = new LinkedHashMap<>();
+            shards.put(ShardProperties.MAIN, mainShardDataSource);
+            for (ShardProperties.Node node : shardProperties.nodes()) {
+                // 노드 풀은 빈이 아니어서 후처리기를 거치지 않으므로 여기서 감싼다
+                shards.put(
+                        node.id(),
+                        connectionLimiter.limit(
+                                nodeDataSource(node, dataSourceProperties),
+                                "shard-" + node.id()));
+            }
+            return new ShardRoutingDataSource(shards);
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+            return shardRoutingDataSource.lazy();
+        }
+
+        @Bean
+        public ShardDirectory shardDirectory(
+                JdbcClient jdbcClient,
+                ShardProperties shardProperties,
+                CacheManager cacheManager,
+                CacheInvalidationBus cacheInvalidationBus) {
+            ConsistentHashRing ring =
+                    new ConsistentHashRing(
+                            shardIds(shardProperties), shardProperties.virtualNodes());
+            return new ShardDirectory(
+                    jdbcClient,
+                    ring,
+                    shardProperties.placeNewStores(),
+                    cacheManager,
+                    cacheInvalidationBus);
+        }
+
+        @Bean
+        public ShardTemplate shardTemplate(
+                ShardDirectory shardDirectory,
+                ShardProperties shardProperties,
+                PlatformTransactionManager transactionManager) {
+            return new ShardTemplate(
+                    shardDirectory, shardIds(shardProperties), transactionManager);
+        }
+
+        @Bean
+        public ShardMover shardMover(
+                ShardDirectory shardDirectory,
+                ShardRoutingDataSource shardRoutingDataSource,
+                ShardProperties shardProperties) {
+            return new ShardMover(shardDirectory, shardRoutingDataSource, shardProperties);
+        }
+
+        private static List<String> shardIds(ShardProperties shardProperties) {
+            List<String> ids = new ArrayList<>();
+            ids.add(ShardProperties.MAIN);
+            shardProperties.nodes().forEach(node -> ids.add(node.id()));
+            return ids;
+        }
+
+        private static HikariDataSource nodeDataSource(
+                ShardProperties.Node node, DataSourceProperties dataSourceProperties) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + node.id());
+            dataSource.setJdbcUrl(node.url());
+            dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            dataSource.setUsername(
+                    StringUtils.hasText(node.username())
+                            ? node.username()
+                            : dataSourceProperties.determineUsername());
+            dataSource.setPassword(
+                    StringUtils.hasText(node.password())
+                            ? node.password()
+                            : dataSourceProperties.determinePassword());
+            dataSource.setMaximumPoolSize(node.maximumPoolSize());
+            return dataSource;
+        }
+    }
+}
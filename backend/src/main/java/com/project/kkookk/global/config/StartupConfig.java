@@ -0,0 +1,76 @@
+package com.project.kkookk.global.config;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 기동 시간 단축용 지연 초기화.
+ *
+ * <p>{@code app.startup.lazy-prefixes}에 해당하는 빈(클래스 이름 또는 {@code @Bean} 메서드를 가진 설정 클래스 이름 기준)은 처음
+ * 쓰일 때 만든다. 전역 {@code spring.main.lazy-initialization}과 달리 보안, JPA, 스케줄러처럼 기동 시 실패를 드러내야 하는 빈은
+ * 그대로 둔다. 컨트롤러도 지연시키면 핸들러 매핑은 타입만 보고 등록하므로, 컨트롤러가 쓰는 서비스까지 첫 요청 때 만들어진다.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor() {
+        return new LazyBeansPostProcessor();
+    }
+
+    @Slf4j
+    static class LazyBeansPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+        private List<String> prefixes = List.of();
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            prefixes =
+                    Binder.get(environment)
+                            .bind("app.startup.lazy-prefixes", Bindable.listOf(String.class))
+                            .orElse(List.of());
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            int count = 0;
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (definition.isLazyInit() || !matches(beanFactory, definition)) {
+                    continue;
+                }
+                definition.setLazyInit(true);
+                count++;
+            }
+            log.info("[Startup] Lazy beans={} prefixes={}", count, prefixes);
+        }
+
+        private boolean matches(ConfigurableListableBeanFactory beanFactory, BeanDefinition bd) {
+            String className = bd.getBeanClassName();
+            String factoryBeanName = bd.getFactoryBeanName();
+            if (className == null
+                    && factoryBeanName != null
+                    && beanFactory.containsBeanDefinition(factoryBeanName)) {
+                className = beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+            }
+            if (className == null) {
+                return false;
+            }
+            for (String prefix : prefixes) {
+                if (className.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
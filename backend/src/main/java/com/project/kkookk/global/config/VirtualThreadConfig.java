@@ -0,0 +1,63 @@
+package com.project.kkookk.global.config;
+
+import com.project.kkookk.global.datasource.ConnectionLimitProperties;
+import com.project.kkookk.global.datasource.ConnectionLimiter;
+import com.project.kkookk.global.thread.PinnedThreadMonitor;
+import com.project.kkookk.global.thread.VirtualThreadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 보조 설정.
+ *
+ * <p>{@code spring.threads.virtual.enabled=true}이고 Java 21 이상에서 실행하면 Boot가 Tomcat 요청 처리,
+ * {@code @Async} 실행기, {@code @Scheduled} 스케줄러를 가상 스레드로 바꾼다. Java 17에서는 설정이 무시되고 플랫폼 스레드로
+ * 동작한다. 여기서는 고정(pinning) 감지와, 풀 크기를 넘는 동시 DB 접근을 줄 세우는 상한을 더한다.
+ */
+@Configuration
+@EnableConfigurationProperties({VirtualThreadProperties.class, ConnectionLimitProperties.class})
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public PinnedThreadMonitor pinnedThreadMonitor(
+            VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        return new PinnedThreadMonitor(properties, meterRegistry);
+    }
+
+    @Bean
+    public ConnectionLimiter connectionLimiter(
+            ConnectionLimitProperties properties, MeterRegistry meterRegistry) {
+        return new ConnectionLimiter(properties, meterRegistry);
+    }
+
+    /**
+     * Hikari 풀 빈(기본 {@code dataSource}, primary/replica, main 샤드)을 풀마다 감싼다. 라우팅/지연 DataSource 아래에서
+     * 감싸므로 물리 커넥션을 꺼낼 때만 자리를 잡는다.
+     */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "app.datasource.connection-limit",
+            name = "enabled",
+            havingValue = "true")
+    public static BeanPostProcessor connectionLimitPostProcessor(
+            ObjectProvider<ConnectionLimiter> connectionLimiter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                return connectionLimiter.getObject().limit(pool, beanName);
+            }
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.kkookk.global.datasource;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * DB 동시 사용 상한 설정. 자리 수는 풀마다 그 풀의 maximum-pool-size를 쓴다.
+ *
+ * @param enabled 켜면 Hikari 풀마다 {@link ConnectionLimitingDataSource}로 감싼다
+ * @param acquireTimeout 자리를 기다리는 최대 시간. 넘으면 커넥션 획득 실패로 처리한다
+ */
+@ConfigurationProperties(prefix = "app.datasource.connection-limit")
+public record ConnectionLimitProperties(
+        @DefaultValue("false") boolean enabled, @DefaultValue("5s") Duration acquireTimeout) {}
@@ -0,0 +1,36 @@
+package com.project.kkookk.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.util.StringUtils;
+
+/**
+ * Hikari 풀을 {@link ConnectionLimitingDataSource}로 감싼다. 꺼져 있으면 풀을 그대로 돌려준다.
+ *
+ * <p>빈으로 등록된 풀은 후처리기가, 샤드 노드처럼 설정 안에서 만드는 풀은 만든 쪽이 직접 감싼다.
+ */
+public class ConnectionLimiter {
+
+    private final ConnectionLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionLimiter(ConnectionLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public DataSource limit(HikariDataSource pool, String fallbackName) {
+        if (!properties.enabled()) {
+            return pool;
+        }
+        String poolName =
+                StringUtils.hasText(pool.getPoolName()) ? pool.getPoolName() : fallbackName;
+        return new ConnectionLimitingDataSource(
+                pool,
+                poolName,
+                pool.getMaximumPoolSize(),
+                properties.acquireTimeout(),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,147 @@
+package com.project.kkookk.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션 풀 하나 앞에서 그 풀의 동시 사용 수를 세마포어로 제한하는 DataSource.
+ *
+ * <p>가상 스레드에서는 요청마다 스레드가 생기므로 풀 크기보다 훨씬 많은 요청이 동시에 커넥션을 기다릴 수 있다. 풀 크기만큼의 공정
+ * 세마포어 앞에서 기다리게 해 대기 순서를 지키고, {@code acquireTimeout}이 지나면 풀의 connection-timeout(30초)보다 먼저
+ * 실패시킨다. 대기 중인 가상 스레드는 캐리어 스레드를 점유하지 않는다.
+ *
+ * <p>라우팅/지연 DataSource가 아니라 Hikari 풀마다 하나씩 감싸므로, 자리는 물리 커넥션을 실제로 꺼낼 때만 잡히고 풀별로 따로
+ * 센다. 자리는 커넥션을 닫을 때 반납한다. 이미 이 풀의 자리를 쥔 스레드가 다시 커넥션을 꺼내면(REQUIRES_NEW 등) 세마포어를
+ * 건너뛰고 풀에서 바로 받는다. 바깥 자리를 쥔 채 안쪽 자리를 기다리다 서로 막히는 일을 막기 위해서다.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutNanos;
+    private final Counter rejected;
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public ConnectionLimitingDataSource(
+            DataSource target,
+            String poolName,
+            int maxPermits,
+            Duration acquireTimeout,
+            MeterRegistry meterRegistry) {
+        super(target);
+        this.maxPermits = maxPermits;
+        this.permits = new Semaphore(maxPermits, true);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        this.rejected =
+                Counter.builder("kkookk.datasource.limit.rejected")
+                        .description("대기 시간 안에 DB 사용 자리를 얻지 못한 요청 수")
+                        .tag("pool", poolName)
+                        .register(meterRegistry);
+        Gauge.builder("kkookk.datasource.limit.active", this, ds -> ds.active())
+                .description("커넥션을 쥐고 있는 요청 수")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        Gauge.builder("kkookk.datasource.limit.waiting", permits, Semaphore::getQueueLength)
+                .description("DB 사용 자리를 기다리는 요청 수")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return limited(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return limited(() -> super.getConnection(username, password));
+    }
+
+    /** 감싼 풀이 닫을 수 있는 풀이면 함께 닫는다 (빈 소멸 시 Hikari 풀 종료). */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    int active() {
+        return maxPermits - permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for DB permit", e);
+        }
+        if (!acquired) {
+            rejected.increment();
+            throw new SQLTransientConnectionException(
+                    "DB concurrency limit reached (permits=" + maxPermits + ")");
+        }
+    }
+
+    private Connection limited(ConnectionSupplier supplier) throws SQLException {
+        AtomicInteger holds = held.get();
+        // 이 스레드가 이미 자리를 쥐고 있으면 중첩 획득이므로 세마포어를 다시 잡지 않는다
+        boolean permitted = holds.get() == 0;
+        if (permitted) {
+            acquire();
+        }
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            if (permitted) {
+                permits.release();
+            }
+            throw e;
+        }
+        holds.incrementAndGet();
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection)
+                Proxy.newProxyInstance(
+                        Connection.class.getClassLoader(),
+                        new Class<?>[] {Connection.class},
+                        (proxy, method, args) -> {
+                            if ("close".equals(method.getName())
+                                    && released.compareAndSet(false, true)) {
+                                try {
+                                    connection.close();
+                                } finally {
+                                    holds.decrementAndGet();
+                                    if (permitted) {
+                                        permits.release();
+                                    }
+                                }
+                                return null;
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
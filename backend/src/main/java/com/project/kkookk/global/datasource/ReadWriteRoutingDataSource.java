@@ -0,0 +1,95 @@
+package com.project.kkookk.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제본으로, 나머지는 primary로 보내는 DataSource.
+ *
+ * <p>트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 {@link #lazy}로 감싸 첫 SQL 실행 때 커넥션을 고른다.
+ * 복제본이 지연되었거나 같은 사용자가 방금 쓴 경우에는 readOnly여도 primary를 쓴다. 트랜잭션 밖 호출은 primary로 간다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWrites readYourWrites;
+    private final Counter toReplica;
+    private final Counter toPrimaryWrite;
+    private final Counter toPrimaryLag;
+    private final Counter toPrimarySticky;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWrites readYourWrites,
+            MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.toReplica = routeCounter(meterRegistry, Target.REPLICA, "read");
+        this.toPrimaryWrite = routeCounter(meterRegistry, Target.PRIMARY, "write");
+        this.toPrimaryLag = routeCounter(meterRegistry, Target.PRIMARY, "lag");
+        this.toPrimarySticky = routeCounter(meterRegistry, Target.PRIMARY, "sticky");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /** 애플리케이션에 노출할 DataSource (커넥션 획득을 첫 사용 시점으로 미룬다) */
+    public DataSource lazy() {
+        return new LazyConnectionDataSourceProxy(this);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Target.PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            toPrimaryWrite.increment();
+            markWriterAfterCommit();
+            return Target.PRIMARY;
+        }
+        if (readYourWrites.isSticky()) {
+            toPrimarySticky.increment();
+            return Target.PRIMARY;
+        }
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            toPrimaryLag.increment();
+            return Target.PRIMARY;
+        }
+        toReplica.increment();
+        return Target.REPLICA;
+    }
+
+    private void markWriterAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        readYourWrites.markWrite();
+                    }
+                });
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("kkookk.datasource.route")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
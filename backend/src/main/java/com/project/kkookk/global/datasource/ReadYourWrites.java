@@ -0,0 +1,96 @@
+package com.project.kkookk.global.datasource;
+
+import com.project.kkookk.global.security.CustomerPrincipal;
+import com.project.kkookk.global.security.OwnerPrincipal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 사용자별 최근 쓰기 기록.
+ *
+ * <p>쓰기 트랜잭션이 커밋되면 현재 인증 주체(지갑/점주)를 {@code stickiness} 동안 기록하고, 그 사이 같은 주체의 읽기는
+ * primary로 보내 방금 쓴 내용이 복제 지연 때문에 안 보이는 일을 막는다. 고정 세션 없이 다음 요청이 다른 노드로 가도 보이도록
+ * 기록은 primary의 {@code recent_writer} 테이블에 둔다. 라우팅 DataSource를 거치면 조회가 다시 라우팅되므로 primary 풀을
+ * 직접 쓴다.
+ */
+@Slf4j
+public class ReadYourWrites {
+
+    private static final String UPSERT_WRITER =
+            "INSERT INTO recent_writer (writer_key, sticky_until) VALUES (?, ?) "
+                    + "ON DUPLICATE KEY UPDATE sticky_until = ?";
+
+    private static final String COUNT_STICKY =
+            "SELECT COUNT(*) FROM recent_writer WHERE writer_key = ? AND sticky_until > ?";
+
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM recent_writer WHERE sticky_until <= ?";
+
+    private final JdbcClient primary;
+    private final Duration stickiness;
+
+    public ReadYourWrites(DataSource primaryDataSource, Duration stickiness) {
+        this.primary = JdbcClient.create(primaryDataSource);
+        this.stickiness = stickiness;
+    }
+
+    public void markWrite() {
+        String key = currentKey();
+        if (key == null) {
+            return;
+        }
+        LocalDateTime stickyUntil = LocalDateTime.now().plus(stickiness);
+        try {
+            primary.sql(UPSERT_WRITER).params(key, stickyUntil, stickyUntil).update();
+        } catch (RuntimeException e) {
+            log.warn("[Replica] Recent writer mark failed key={}: {}", key, e.getMessage());
+        }
+    }
+
+    public boolean isSticky() {
+        String key = currentKey();
+        if (key == null) {
+            return false;
+        }
+        try {
+            return primary.sql(COUNT_STICKY)
+                            .params(key, LocalDateTime.now())
+                            .query(Long.class)
+                            .single()
+                    > 0;
+        } catch (RuntimeException e) {
+            // 기록을 확인하지 못하면 방금 쓴 내용을 놓치지 않도록 primary로 보낸다
+            log.warn("[Replica] Recent writer check failed key={}: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.recent-writer-purge-interval:5m}")
+    public void purgeExpired() {
+        int deleted = primary.sql(DELETE_EXPIRED).param(LocalDateTime.now()).update();
+        if (deleted > 0) {
+            log.debug("[Replica] Purged recent writers={}", deleted);
+        }
+    }
+
+    private static String currentKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof CustomerPrincipal customer) {
+            return "wallet:" + customer.getWalletId();
+        }
+        if (principal instanceof OwnerPrincipal owner) {
+            return "owner:" + owner.getOwnerId();
+        }
+        return null;
+    }
+}
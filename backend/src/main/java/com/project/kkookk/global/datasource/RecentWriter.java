@@ -0,0 +1,31 @@
+package com.project.kkookk.global.datasource;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * read-your-writes용 최근 쓰기 기록. 인증 주체마다 한 행을 primary에 두고, {@code sticky_until}까지 그 주체의 읽기를 primary로
+ * 보낸다. 기록/조회는 {@link ReadYourWrites}의 SQL로만 수행한다.
+ */
+@Entity
+@Table(
+        name = "recent_writer",
+        indexes = @Index(name = "idx_recent_writer_sticky_until", columnList = "sticky_until"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecentWriter {
+
+    @Id
+    @Column(name = "writer_key", length = 64)
+    private String writerKey;
+
+    @Column(name = "sticky_until", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime stickyUntil;
+}
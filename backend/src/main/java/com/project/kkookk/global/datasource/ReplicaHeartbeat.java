@@ -0,0 +1,28 @@
+package com.project.kkookk.global.datasource;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 복제 지연 측정용 heartbeat. 노드마다 한 행을 primary에 쓰고 복제본에서 읽어 자기 시계 기준으로 지연을 계산한다. 기록/조회는
+ * {@link ReplicaLagMonitor}의 SQL로만 수행한다.
+ */
+@Entity
+@Table(name = "replica_heartbeat")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReplicaHeartbeat {
+
+    @Id
+    @Column(name = "node_id", length = 64)
+    private String nodeId;
+
+    @Column(name = "beat_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime beatAt;
+}
@@ -0,0 +1,142 @@
+package com.project.kkookk.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+/**
+ * 복제 지연 측정.
+ *
+ * <p>노드별 heartbeat 행을 primary에 쓰고 복제본에서 같은 행을 읽어 {@code 지금 - beat_at}을 지연으로 본다. 쓰는 쪽과 읽는
+ * 쪽이 같은 노드 시계를 쓰므로 노드 간 시계 차이의 영향을 받지 않는다. 측정에 실패하거나 오래 측정하지 못했으면 복제본을 쓰지 않는다.
+ *
+ * <p>노드 id는 재시작해도 같은 행을 쓰도록 설정 값 또는 호스트 이름을 쓴다. 배포로 호스트가 바뀌어 남는 행은 오래 갱신되지 않으면
+ * 지운다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String UPSERT_HEARTBEAT =
+            "INSERT INTO replica_heartbeat (node_id, beat_at) VALUES (?, ?) "
+                    + "ON DUPLICATE KEY UPDATE beat_at = ?";
+
+    private static final String FIND_HEARTBEAT =
+            "SELECT beat_at FROM replica_heartbeat WHERE node_id = ?";
+
+    private static final String DELETE_STALE_HEARTBEATS =
+            "DELETE FROM replica_heartbeat WHERE beat_at < ?";
+
+    private static final Duration STALE_HEARTBEAT = Duration.ofHours(1);
+
+    private static final int NODE_ID_LENGTH = 64;
+
+    private final JdbcClient primary;
+    private final JdbcClient replica;
+    private final ReplicaProperties properties;
+    private final String nodeId;
+
+    private volatile Duration lag;
+    private volatile long checkedAtNanos;
+
+    public ReplicaLagMonitor(
+            DataSource primaryDataSource,
+            DataSource replicaDataSource,
+            ReplicaProperties properties,
+            MeterRegistry meterRegistry) {
+        this.primary = JdbcClient.create(primaryDataSource);
+        this.replica = JdbcClient.create(replicaDataSource);
+        this.properties = properties;
+        this.nodeId = resolveNodeId(properties.nodeId());
+        Gauge.builder("kkookk.datasource.replica.lag", this, ReplicaLagMonitor::lagSeconds)
+                .description("복제본 지연 (측정 실패 시 NaN)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.heartbeat-interval:1s}")
+    public void heartbeat() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            primary.sql(UPSERT_HEARTBEAT).params(nodeId, now, now).update();
+        } catch (RuntimeException e) {
+            log.warn("[Replica] Heartbeat write failed: {}", e.getMessage());
+        }
+        check();
+    }
+
+    /** 다른 노드가 남기고 사라진 heartbeat 행을 지운다. */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.stale-heartbeat-purge-interval:10m}")
+    public void purgeStaleHeartbeats() {
+        try {
+            int deleted =
+                    primary.sql(DELETE_STALE_HEARTBEATS)
+                            .param(LocalDateTime.now().minus(STALE_HEARTBEAT))
+                            .update();
+            if (deleted > 0) {
+                log.info("[Replica] Purged stale heartbeats={}", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[Replica] Stale heartbeat purge failed: {}", e.getMessage());
+        }
+    }
+
+    /** 복제본에서 heartbeat를 읽어 지연을 갱신한다. */
+    void check() {
+        try {
+            Optional<LocalDateTime> beatAt =
+                    replica.sql(FIND_HEARTBEAT)
+                            .param(nodeId)
+                            .query((rs, rowNum) -> rs.getTimestamp(1).toLocalDateTime())
+                            .optional();
+            // 첫 heartbeat가 아직 복제되지 않았으면 측정 불가
+            lag = beatAt.map(at -> Duration.between(at, LocalDateTime.now())).orElse(null);
+            checkedAtNanos = System.nanoTime();
+        } catch (RuntimeException e) {
+            lag = null;
+            log.warn("[Replica] Lag check failed: {}", e.getMessage());
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        Duration current = lag;
+        if (current == null || current.compareTo(properties.maxLag()) > 0) {
+            return false;
+        }
+        long staleAfter = properties.heartbeatInterval().multipliedBy(3).toNanos();
+        return System.nanoTime() - checkedAtNanos <= staleAfter;
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    static String resolveNodeId(String configured) {
+        String nodeId = StringUtils.hasText(configured) ? configured : hostName();
+        return nodeId.length() > NODE_ID_LENGTH ? nodeId.substring(0, NODE_ID_LENGTH) : nodeId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            // 호스트 이름을 알 수 없으면 재시작마다 새 행이 생기고, 오래된 행은 정리 작업이 지운다
+            log.warn("[Replica] Host name unavailable, using random node id: {}", e.getMessage());
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private double lagSeconds() {
+        Duration current = lag;
+        return current == null ? Double.NaN : current.toMillis() / 1000.0;
+    }
+}
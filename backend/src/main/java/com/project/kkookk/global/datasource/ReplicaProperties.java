@@ -0,0 +1,30 @@
+package com.project.kkookk.global.datasource;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 복제본(replica) 라우팅 설정
+ *
+ * @param enabled 켜면 readOnly 트랜잭션을 복제본 풀로 보낸다
+ * @param url 복제본 JDBC URL (드라이버와 계정 기본값은 spring.datasource를 따른다)
+ * @param username 복제본 계정. 비우면 spring.datasource.username
+ * @param password 복제본 비밀번호. 비우면 spring.datasource.password
+ * @param maximumPoolSize 복제본 풀 크기
+ * @param maxLag 이보다 지연된 복제본은 쓰지 않고 primary로 보낸다
+ * @param heartbeatInterval 지연 측정 주기. 세 주기 동안 측정에 실패하면 복제본을 쓰지 않는다.
+ * @param stickiness 자기 쓰기 직후 이 기간 동안은 같은 사용자의 읽기를 primary로 보낸다 (read-your-writes)
+ * @param nodeId heartbeat 행의 노드 id. 비우면 호스트 이름
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("2s") Duration maxLag,
+        @DefaultValue("1s") Duration heartbeatInterval,
+        @DefaultValue("5s") Duration stickiness,
+        String nodeId) {}
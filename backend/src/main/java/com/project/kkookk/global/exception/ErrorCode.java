@@ -14,6 +14,11 @@ public enum ErrorCode {
             HttpStatus.INTERNAL_SERVER_ERROR, "FILE_STORAGE_ERROR", "파일 저장 중 오류가 발생했습니다"),
     QR_GENERATION_FAILED(
             HttpStatus.INTERNAL_SERVER_ERROR, "QR_GENERATION_FAILED", "QR 코드 생성 중 오류가 발생했습니다"),
+    LOCK_CONFLICT(HttpStatus.CONFLICT, "LOCK_CONFLICT", "다른 요청을 처리 중입니다. 잠시 후 다시 시도해주세요"),
+    STORE_SHARD_MOVING(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "STORE_SHARD_MOVING",
+            "매장 데이터를 옮기는 중입니다. 잠시 후 다시 시도해주세요"),
 
     // Auth
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "인증이 필요합니다"),
@@ -23,6 +28,8 @@ public enum ErrorCode {
 
     // StampCard
     STAMP_CARD_NOT_FOUND(HttpStatus.NOT_FOUND, "STAMP_CARD_NOT_FOUND", "스탬프 카드를 찾을 수 없습니다"),
+    STAMP_CARD_DESIGN_NOT_FOUND(
+            HttpStatus.NOT_FOUND, "STAMP_CARD_DESIGN_NOT_FOUND", "스탬프 카드 디자인을 찾을 수 없습니다"),
     STAMP_CARD_ALREADY_ACTIVE(
             HttpStatus.CONFLICT, "STAMP_CARD_ALREADY_ACTIVE", "이미 활성화된 스탬프 카드가 존재합니다"),
     STAMP_CARD_STATUS_INVALID(
@@ -46,6 +53,7 @@ public enum ErrorCode {
     STORE_NOT_OPERATIONAL(HttpStatus.BAD_REQUEST, "STORE_NOT_OPERATIONAL", "운영 중인 매장이 아닙니다"),
     STORE_UPDATE_NOT_ALLOWED(
             HttpStatus.BAD_REQUEST, "STORE_UPDATE_NOT_ALLOWED", "운영 중인 매장은 일부 필드만 수정할 수 있습니다"),
+    STORE_LOCATION_INVALID(HttpStatus.BAD_REQUEST, "STORE_LOCATION_INVALID", "매장 좌표가 올바르지 않습니다"),
 
     // Admin
     ADMIN_ACCESS_DENIED(HttpStatus.FORBIDDEN, "ADMIN_ACCESS_DENIED", "관리자 권한이 필요합니다"),
@@ -0,0 +1,17 @@
+package com.project.kkookk.global.export;
+
+/** 내보내기 파일 형식. 응답은 항상 gzip으로 압축한다. */
+public enum ExportFormat {
+    CSV("csv"),
+    NDJSON("ndjson");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String fileName(String baseName) {
+        return baseName + "." + extension + ".gz";
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.kkookk.global.export;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 원장 내보내기 설정
+ *
+ * @param fetchSize JDBC fetch size. MySQL Connector/J는 {@code Integer.MIN_VALUE}일 때 결과를 한 행씩
+ *     스트리밍하고, 그 외 값은 URL에 {@code useCursorFetch=true}가 있어야 서버 커서로 나눠 가져온다.
+ * @param lookupCacheSize 아카이브 행에 붙일 고객/리워드 정보를 내보내기 한 건 동안 기억하는 최대 항목 수. 넘치면 오래 쓰지
+ *     않은 항목부터 버리고 다시 조회하므로 아카이브 건수와 무관하게 힙 사용량이 일정하다.
+ */
+@ConfigurationProperties(prefix = "app.export")
+public record ExportProperties(
+        @DefaultValue("1000") int fetchSize, @DefaultValue("10000") int lookupCacheSize) {
+
+    /** 내보내기 한 건 동안만 쓰는 크기 제한 조회 캐시. 제거는 호출 스레드에서 바로 처리한다. */
+    public <K, V> Cache<K, V> newLookupCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(lookupCacheSize)
+                .executor(Runnable::run)
+                .build();
+    }
+}
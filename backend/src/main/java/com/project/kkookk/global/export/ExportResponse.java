@@ -0,0 +1,26 @@
+package com.project.kkookk.global.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/** gzip 내보내기 파일 다운로드 응답 */
+public final class ExportResponse {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private ExportResponse() {}
+
+    public static ResponseEntity<StreamingResponseBody> attachment(
+            String baseName, ExportFormat format, StreamingResponseBody body) {
+        ContentDisposition disposition =
+                ContentDisposition.attachment().filename(format.fileName(baseName)).build();
+        return ResponseEntity.ok()
+                .contentType(GZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(body);
+    }
+}
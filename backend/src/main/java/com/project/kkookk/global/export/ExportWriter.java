@@ -0,0 +1,162 @@
+package com.project.kkookk.global.export;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 행 단위로 CSV/NDJSON을 gzip 스트림에 쓰는 인코더.
+ *
+ * <p>행을 모아 두지 않고 받는 즉시 압축 스트림으로 흘려보내므로, 전체 건수와 무관하게 버퍼 크기만큼의 메모리만 쓴다. {@link
+ * #close()}가 gzip trailer를 쓰므로 반드시 닫아야 한다. 감싼 출력 스트림도 함께 닫힌다.
+ */
+public abstract class ExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    protected final List<String> columns;
+    private long rowCount;
+
+    private ExportWriter(List<String> columns) {
+        this.columns = columns;
+    }
+
+    public static ExportWriter open(OutputStream out, ExportFormat format, List<String> columns)
+            throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE);
+        return switch (format) {
+            case CSV -> new Csv(gzip, columns);
+            case NDJSON -> new Ndjson(gzip, columns);
+        };
+    }
+
+    /** 컬럼 순서대로 값을 넘긴다. null은 빈 값으로 쓴다. */
+    public void writeRow(Object... values) throws IOException {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException(
+                    "Expected " + columns.size() + " values but got " + values.length);
+        }
+        encode(values);
+        rowCount++;
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    protected abstract void encode(Object[] values) throws IOException;
+
+    private static final class Csv extends ExportWriter {
+
+        // 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙인다
+        private static final char BOM = '\uFEFF';
+        private static final DateTimeFormatter DATE_TIME =
+                DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+        private final Writer writer;
+
+        private Csv(OutputStream out, List<String> columns) throws IOException {
+            super(columns);
+            this.writer =
+                    new BufferedWriter(
+                            new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(BOM);
+            encode(columns.toArray());
+        }
+
+        @Override
+        protected void encode(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCell(values[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeCell(Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Number) {
+                writer.write(value.toString());
+                return;
+            }
+            String text =
+                    value instanceof LocalDateTime dateTime
+                            ? DATE_TIME.format(dateTime)
+                            : value.toString();
+            // 스프레드시트 수식으로 해석되지 않도록 문자열 앞에 작은따옴표를 붙인다
+            if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+                text = "'" + text;
+            }
+            if (text.indexOf(',') < 0
+                    && text.indexOf('"') < 0
+                    && text.indexOf('\n') < 0
+                    && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static final class Ndjson extends ExportWriter {
+
+        private final JsonGenerator generator;
+
+        private Ndjson(OutputStream out, List<String> columns) throws IOException {
+            super(columns);
+            this.generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        }
+
+        @Override
+        protected void encode(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(columns.get(i));
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long || value instanceof Integer) {
+                    generator.writeNumber(((Number) value).longValue());
+                } else if (value instanceof LocalDateTime dateTime) {
+                    generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (rowCount() > 0) {
+                generator.writeRaw('\n');
+            }
+            generator.close();
+        }
+    }
+}
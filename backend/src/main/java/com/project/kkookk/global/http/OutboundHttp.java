@@ -0,0 +1,67 @@
+package com.project.kkookk.global.http;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * 외부 API 호출용 공용 HTTP 클라이언트.
+ *
+ * <p>JDK {@link HttpClient} 하나를 공유해 호스트별 keep-alive 커넥션을 재사용하고, HTTPS에서는 ALPN으로 HTTP/2를
+ * 협상한다. 응답 타임아웃은 호출처마다 다를 수 있어 요청 팩토리 단위로 지정한다. 모든 요청은 호스트별 동시성 제한을 거치고,
+ * Boot가 구성한 빌더를 쓰므로 http.client.requests 메트릭이 함께 기록된다.
+ */
+public class OutboundHttp {
+
+    private final OutboundHttpProperties properties;
+    private final HttpClient httpClient;
+    private final PerHostConcurrencyInterceptor concurrencyInterceptor;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final RestClient.Builder restClientBuilder;
+
+    public OutboundHttp(
+            OutboundHttpProperties properties,
+            RestTemplateBuilder restTemplateBuilder,
+            RestClient.Builder restClientBuilder,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.httpClient =
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_2)
+                        .connectTimeout(properties.connectTimeout())
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .build();
+        this.concurrencyInterceptor =
+                new PerHostConcurrencyInterceptor(
+                        properties.maxConcurrentPerHost(),
+                        properties.acquireTimeout(),
+                        meterRegistry);
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.restClientBuilder = restClientBuilder;
+    }
+
+    public ClientHttpRequestFactory requestFactory(Duration readTimeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout != null ? readTimeout : properties.readTimeout());
+        return requestFactory;
+    }
+
+    /** 공용 커넥션 풀을 쓰는 RestTemplate 빌더. 타임아웃은 빌더가 아니라 readTimeout 인자로 지정한다. */
+    public RestTemplateBuilder restTemplateBuilder(Duration readTimeout) {
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory(readTimeout))
+                .additionalInterceptors(concurrencyInterceptor);
+    }
+
+    /** 공용 커넥션 풀을 쓰는 RestClient 빌더 */
+    public RestClient.Builder restClientBuilder(Duration readTimeout) {
+        return restClientBuilder
+                .clone()
+                .requestFactory(requestFactory(readTimeout))
+                .requestInterceptor(concurrencyInterceptor);
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.kkookk.global.http;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 외부 API(카카오 로컬, OAuth 제공자) 호출에 공용으로 쓰는 HTTP 클라이언트 설정
+ *
+ * @param connectTimeout 연결 타임아웃 (공용 커넥션 풀 단위)
+ * @param readTimeout 기본 응답 타임아웃 (호출처에서 따로 지정하지 않을 때)
+ * @param maxConcurrentPerHost 호스트별 동시 요청 상한
+ * @param acquireTimeout 호스트별 자리 대기 시간. 넘기면 요청하지 않고 실패한다
+ */
+@ConfigurationProperties(prefix = "app.http.outbound")
+public record OutboundHttpProperties(
+        @DefaultValue("1s") Duration connectTimeout,
+        @DefaultValue("5s") Duration readTimeout,
+        @DefaultValue("32") int maxConcurrentPerHost,
+        @DefaultValue("500ms") Duration acquireTimeout) {}
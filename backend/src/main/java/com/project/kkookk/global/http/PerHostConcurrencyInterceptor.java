@@ -0,0 +1,122 @@
+package com.project.kkookk.global.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * 호스트별 동시 요청 수를 제한하는 인터셉터.
+ *
+ * <p>한 제공자가 느려져도 그 호스트로 가는 요청만 자리를 기다리다 실패하고, 다른 호스트 호출과 요청 스레드 전체가 묶이지
+ * 않게 한다. 자리는 응답 본문을 다 읽고 닫을 때 반납한다.
+ */
+public class PerHostConcurrencyInterceptor implements ClientHttpRequestInterceptor {
+
+    private final int maxConcurrentPerHost;
+    private final Duration acquireTimeout;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public PerHostConcurrencyInterceptor(
+            int maxConcurrentPerHost, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.maxConcurrentPerHost = Math.max(1, maxConcurrentPerHost);
+        this.acquireTimeout = acquireTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(
+            HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        Semaphore semaphore = permits.computeIfAbsent(host, this::newSemaphore);
+        if (!tryAcquire(semaphore)) {
+            meterRegistry.counter("kkookk.http.client.rejected", "host", host).increment();
+            throw new ResourceAccessException("Too many concurrent requests to " + host);
+        }
+
+        try {
+            return new ReleasingResponse(execution.execute(request, body), semaphore);
+        } catch (IOException | RuntimeException e) {
+            semaphore.release();
+            throw e;
+        }
+    }
+
+    private Semaphore newSemaphore(String host) {
+        Semaphore semaphore = new Semaphore(maxConcurrentPerHost);
+        Gauge.builder(
+                        "kkookk.http.client.inflight",
+                        semaphore,
+                        s -> maxConcurrentPerHost - s.availablePermits())
+                .tag("host", host)
+                .register(meterRegistry);
+        return semaphore;
+    }
+
+    private boolean tryAcquire(Semaphore semaphore) {
+        try {
+            return semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static final class ReleasingResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingResponse(ClientHttpResponse delegate, Semaphore semaphore) {
+            this.delegate = delegate;
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+            }
+        }
+    }
+}
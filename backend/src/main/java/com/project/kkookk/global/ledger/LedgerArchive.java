@@ -0,0 +1,73 @@
+package com.project.kkookk.global.ledger;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원장 파티션 아카이브 목록.
+ *
+ * <p>파티션을 떼어내기 전에 DETACHING으로 기록하고, 파일 저장이 끝나면 ARCHIVED로 바꾼다. 중간에 중단되면 다음 실행에서
+ * DETACHING 행부터 이어서 처리한다. 기록/조회는 {@link LedgerArchiveRepository}의 SQL로만 수행한다.
+ */
+@Entity
+@Table(
+        name = "ledger_archive",
+        uniqueConstraints =
+                @UniqueConstraint(
+                        name = "uk_ledger_archive_partition",
+                        columnNames = {"table_name", "partition_name"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "table_name", nullable = false, length = 50)
+    private String tableName;
+
+    @Column(name = "partition_name", nullable = false, length = 20)
+    private String partitionName;
+
+    /** 포함. 가장 오래된 파티션은 하한이 없다. */
+    @Column(name = "range_start")
+    private LocalDateTime rangeStart;
+
+    /** 미포함 */
+    @Column(name = "range_end", nullable = false)
+    private LocalDateTime rangeEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    /** {@code app.storage.local-path/ledger-archive} 기준 상대 경로 */
+    @Column(name = "file_path")
+    private String filePath;
+
+    @Column(name = "row_count")
+    private Long rowCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
+    public enum Status {
+        DETACHING,
+        ARCHIVED
+    }
+}
@@ -0,0 +1,79 @@
+package com.project.kkookk.global.ledger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아카이브된 원장 행을 읽는다.
+ *
+ * <p>파일은 파티션 단위 NDJSON(gzip)이고 컬럼명은 DB 컬럼명 그대로다. 한 줄씩 읽어 매장과 기간으로 거르므로 파일 크기와
+ * 무관하게 메모리 사용량이 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerArchiveReader {
+
+    private static final ObjectReader ROW_READER = new ObjectMapper().readerFor(JsonNode.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final LedgerArchiveRepository ledgerArchiveRepository;
+    private final LedgerArchiveStorage ledgerArchiveStorage;
+
+    /** [from, to) 구간의 매장 행을 발생 순으로 넘긴다. 아카이브가 없으면 아무 것도 하지 않는다. */
+    public long forEach(
+            LedgerTable table,
+            Long storeId,
+            LocalDateTime from,
+            LocalDateTime to,
+            RowHandler handler)
+            throws IOException {
+        long matched = 0;
+        for (LedgerArchiveRepository.Entry archive :
+                ledgerArchiveRepository.findArchivedOverlapping(table, from, to)) {
+            try (InputStream in =
+                            new GZIPInputStream(
+                                    Files.newInputStream(
+                                            ledgerArchiveStorage.resolve(archive.filePath())),
+                                    BUFFER_SIZE);
+                    MappingIterator<JsonNode> rows = ROW_READER.readValues(in)) {
+                while (rows.hasNextValue()) {
+                    JsonNode row = rows.nextValue();
+                    if (row.path("store_id").asLong() != storeId) {
+                        continue;
+                    }
+                    LocalDateTime occurredAt = occurredAt(row);
+                    if (occurredAt.isBefore(from) || !occurredAt.isBefore(to)) {
+                        continue;
+                    }
+                    handler.accept(row);
+                    matched++;
+                }
+            }
+        }
+        return matched;
+    }
+
+    public static LocalDateTime occurredAt(JsonNode row) {
+        return LocalDateTime.parse(row.path("occurred_at").asText());
+    }
+
+    /** 값이 없거나 null이면 null */
+    public static String text(JsonNode row, String column) {
+        JsonNode value = row.get(column);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    @FunctionalInterface
+    public interface RowHandler {
+        void accept(JsonNode row) throws IOException;
+    }
+}
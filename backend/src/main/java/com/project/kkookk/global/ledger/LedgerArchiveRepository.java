@@ -0,0 +1,99 @@
+package com.project.kkookk.global.ledger;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class LedgerArchiveRepository {
+
+    private static final String INSERT_DETACHING =
+            "INSERT INTO ledger_archive "
+                    + "(table_name, partition_name, range_start, range_end, status, created_at) "
+                    + "VALUES (?, ?, ?, ?, 'DETACHING', ?)";
+
+    private static final String MARK_ARCHIVED =
+            "UPDATE ledger_archive "
+                    + "SET status = 'ARCHIVED', file_path = ?, row_count = ?, archived_at = ? "
+                    + "WHERE table_name = ? AND partition_name = ?";
+
+    private static final String FIND_BY_STATUS =
+            "SELECT partition_name, range_start, range_end, file_path, row_count "
+                    + "FROM ledger_archive WHERE table_name = ? AND status = ? "
+                    + "ORDER BY range_end";
+
+    private static final String FIND_ARCHIVED_OVERLAPPING =
+            "SELECT partition_name, range_start, range_end, file_path, row_count "
+                    + "FROM ledger_archive "
+                    + "WHERE table_name = ? AND status = 'ARCHIVED' "
+                    + "AND range_end > ? AND (range_start IS NULL OR range_start < ?) "
+                    + "ORDER BY range_end";
+
+    private final JdbcClient jdbcClient;
+
+    public void insertDetaching(
+            LedgerTable table,
+            String partitionName,
+            LocalDateTime rangeStart,
+            LocalDateTime rangeEnd) {
+        jdbcClient
+                .sql(INSERT_DETACHING)
+                .params(
+                        table.tableName(),
+                        partitionName,
+                        rangeStart,
+                        rangeEnd,
+                        LocalDateTime.now())
+                .update();
+    }
+
+    public void markArchived(
+            LedgerTable table, String partitionName, String filePath, long rowCount) {
+        jdbcClient
+                .sql(MARK_ARCHIVED)
+                .params(filePath, rowCount, LocalDateTime.now(), table.tableName(), partitionName)
+                .update();
+    }
+
+    /** 중단된 아카이브 작업 (파티션은 떼어냈지만 파일 저장이 끝나지 않은 것) */
+    public List<Entry> findDetaching(LedgerTable table) {
+        return jdbcClient
+                .sql(FIND_BY_STATUS)
+                .params(table.tableName(), LedgerArchive.Status.DETACHING.name())
+                .query(this::mapEntry)
+                .list();
+    }
+
+    /** [from, to)와 겹치는 아카이브를 오래된 순으로 조회한다. */
+    public List<Entry> findArchivedOverlapping(
+            LedgerTable table, LocalDateTime from, LocalDateTime to) {
+        return jdbcClient
+                .sql(FIND_ARCHIVED_OVERLAPPING)
+                .params(table.tableName(), from, to)
+                .query(this::mapEntry)
+                .list();
+    }
+
+    private Entry mapEntry(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp rangeStart = rs.getTimestamp("range_start");
+        return new Entry(
+                rs.getString("partition_name"),
+                rangeStart == null ? null : rangeStart.toLocalDateTime(),
+                rs.getTimestamp("range_end").toLocalDateTime(),
+                rs.getString("file_path"),
+                rs.getObject("row_count", Long.class));
+    }
+
+    public record Entry(
+            String partitionName,
+            LocalDateTime rangeStart,
+            LocalDateTime rangeEnd,
+            String filePath,
+            Long rowCount) {}
+}
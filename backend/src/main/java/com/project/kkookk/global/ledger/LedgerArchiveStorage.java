@@ -0,0 +1,25 @@
+package com.project.kkookk.global.ledger;
+
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/** 원장 아카이브 파일 위치 ({@code app.storage.local-path/ledger-archive/<table>/<partition>.ndjson.gz}) */
+@Component
+public class LedgerArchiveStorage {
+
+    private final Path baseDir;
+
+    public LedgerArchiveStorage(
+            @Value("${app.storage.local-path:${java.io.tmpdir}/kkookk-storage}") String localPath) {
+        this.baseDir = Path.of(localPath, "ledger-archive");
+    }
+
+    public String relativePath(LedgerTable table, String partitionName) {
+        return table.tableName() + "/" + partitionName + ".ndjson.gz";
+    }
+
+    public Path resolve(String relativePath) {
+        return baseDir.resolve(relativePath);
+    }
+}
@@ -0,0 +1,378 @@
+package com.project.kkookk.global.ledger;
+
+import com.project.kkookk.global.export.ExportFormat;
+import com.project.kkookk.global.export.ExportProperties;
+import com.project.kkookk.global.export.ExportWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장 테이블 월 파티션 유지보수 (MySQL 전용).
+ *
+ * <ol>
+ *   <li>{@code p_future}(MAXVALUE)를 나눠 앞으로 {@code futureMonths}개월치 파티션을 미리 만든다.
+ *   <li>{@code hotMonths}보다 오래된 월 파티션은 {@code EXCHANGE PARTITION}으로 빈 임시 테이블과 맞바꿔 떼어낸 뒤
+ *       DROP하고, 임시 테이블 내용을 NDJSON(gzip) 파일로 저장한 다음 임시 테이블을 지운다.
+ * </ol>
+ *
+ * <p>단계마다 현재 상태를 확인하고 진행하므로 중간에 실패해도 다음 실행에서 이어서 처리한다. 여러 노드가 동시에 DDL을 실행하지
+ * 않도록 전체 작업을 하나의 커넥션에서 {@code GET_LOCK}으로 감싼다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.ledger.partition", name = "enabled", havingValue = "true")
+public class LedgerPartitionMaintainer {
+
+    private static final String LOCK_NAME = "kkookk.ledger_partition";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String MAXVALUE = "MAXVALUE";
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final String FIND_PARTITIONS =
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? "
+                    + "AND PARTITION_NAME IS NOT NULL "
+                    + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private static final String COUNT_TABLES =
+            "SELECT COUNT(*) FROM information_schema.TABLES "
+                    + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerArchiveRepository ledgerArchiveRepository;
+    private final LedgerArchiveStorage ledgerArchiveStorage;
+    private final LedgerPartitionProperties properties;
+    private final ExportProperties exportProperties;
+
+    public LedgerPartitionMaintainer(
+            DataSource dataSource,
+            LedgerArchiveRepository ledgerArchiveRepository,
+            LedgerArchiveStorage ledgerArchiveStorage,
+            LedgerPartitionProperties properties,
+            ExportProperties exportProperties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.ledgerArchiveRepository = ledgerArchiveRepository;
+        this.ledgerArchiveStorage = ledgerArchiveStorage;
+        this.properties = properties;
+        this.exportProperties = exportProperties;
+    }
+
+    @Scheduled(cron = "${app.ledger.partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        jdbcTemplate.execute(
+                (ConnectionCallback<Void>)
+                        connection -> {
+                            maintain(connection, LocalDate.now());
+                            return null;
+                        });
+    }
+
+    private void maintain(Connection connection, LocalDate today) {
+        JdbcClient client = JdbcClient.create(new SingleConnectionDataSource(connection, true));
+        Boolean locked =
+                client.sql("SELECT GET_LOCK(?, 0)").param(LOCK_NAME).query(Boolean.class).single();
+        if (!Boolean.TRUE.equals(locked)) {
+            log.info("[LedgerPartition] Skipped, another node holds the lock");
+            return;
+        }
+        try {
+            for (LedgerTable table : LedgerTable.values()) {
+                try {
+                    resumeDetaching(client, connection, table);
+                    createFuturePartitions(client, table, today);
+                    archiveExpired(client, connection, table, today);
+                } catch (RuntimeException e) {
+                    log.error("[LedgerPartition] Failed table={}", table.tableName(), e);
+                }
+            }
+        } finally {
+            client.sql("SELECT RELEASE_LOCK(?)").param(LOCK_NAME).query(Boolean.class).optional();
+        }
+    }
+
+    private void resumeDetaching(JdbcClient client, Connection connection, LedgerTable table) {
+        for (LedgerArchiveRepository.Entry entry : ledgerArchiveRepository.findDetaching(table)) {
+            log.info(
+                    "[LedgerPartition] Resuming table={} partition={}",
+                    table.tableName(),
+                    entry.partitionName());
+            archive(client, connection, table, entry.partitionName());
+        }
+    }
+
+    private void createFuturePartitions(JdbcClient client, LedgerTable table, LocalDate today) {
+        List<Partition> partitions = findPartitions(client, table.tableName());
+        if (partitions.isEmpty()) {
+            log.warn("[LedgerPartition] Table is not partitioned table={}", table.tableName());
+            return;
+        }
+        LocalDateTime lastBound =
+                partitions.stream()
+                        .map(Partition::upperBound)
+                        .filter(bound -> bound != null)
+                        .max(LocalDateTime::compareTo)
+                        .orElse(YearMonth.from(today).atDay(1).atStartOfDay());
+        YearMonth targetMonth = YearMonth.from(today).plusMonths(properties.futureMonths() + 1L);
+        LocalDateTime target = targetMonth.atDay(1).atStartOfDay();
+        while (lastBound.isBefore(target)) {
+            LocalDateTime next = lastBound.plusMonths(1);
+            String name = partitionName(lastBound);
+            client.sql(
+                            "ALTER TABLE "
+                                    + table.tableName()
+                                    + " REORGANIZE PARTITION "
+                                    + FUTURE_PARTITION
+                                    + " INTO (PARTITION "
+                                    + name
+                                    + " VALUES LESS THAN ('"
+                                    + BOUND.format(next)
+                                    + "'), PARTITION "
+                                    + FUTURE_PARTITION
+                                    + " VALUES LESS THAN (MAXVALUE))")
+                    .update();
+            log.info("[LedgerPartition] Created table={} partition={}", table.tableName(), name);
+            lastBound = next;
+        }
+    }
+
+    private void archiveExpired(
+            JdbcClient client, Connection connection, LedgerTable table, LocalDate today) {
+        LocalDateTime cutoff =
+                YearMonth.from(today).minusMonths(properties.hotMonths()).atDay(1).atStartOfDay();
+        LocalDateTime lowerBound = null;
+        for (Partition partition : findPartitions(client, table.tableName())) {
+            LocalDateTime upperBound = partition.upperBound();
+            if (upperBound == null || upperBound.isAfter(cutoff)) {
+                break;
+            }
+            try {
+                LocalDateTime rangeStart = rangeStart(partition.name(), lowerBound);
+                ledgerArchiveRepository.insertDetaching(
+                        table, partition.name(), rangeStart, upperBound);
+            } catch (DuplicateKeyException e) {
+                // 이전 실행에서 기록만 하고 중단된 경우. 아래에서 이어서 처리한다.
+            }
+            archive(client, connection, table, partition.name());
+            lowerBound = upperBound;
+        }
+    }
+
+    /** 파티션 하나를 떼어내 파일로 옮긴다. 각 단계는 이미 끝났으면 건너뛴다({@link #detachSteps}). */
+    private void archive(JdbcClient client, Connection connection, LedgerTable table, String name) {
+        String tableName = table.tableName();
+        String staging = tableName + "_detached_" + name;
+
+        boolean stagingExists = tableExists(client, staging);
+        DetachState state =
+                new DetachState(
+                        stagingExists,
+                        stagingExists && !findPartitions(client, staging).isEmpty(),
+                        findPartitions(client, tableName).stream()
+                                .anyMatch(p -> p.name().equals(name)),
+                        !stagingExists || isEmpty(client, staging));
+        for (Step step : detachSteps(state)) {
+            switch (step) {
+                case CREATE_STAGING ->
+                        client.sql("CREATE TABLE " + staging + " LIKE " + tableName).update();
+                case REMOVE_PARTITIONING ->
+                        client.sql("ALTER TABLE " + staging + " REMOVE PARTITIONING").update();
+                case EXCHANGE_PARTITION ->
+                        client.sql(
+                                        "ALTER TABLE "
+                                                + tableName
+                                                + " EXCHANGE PARTITION "
+                                                + name
+                                                + " WITH TABLE "
+                                                + staging)
+                                .update();
+                case DROP_PARTITION ->
+                        client.sql("ALTER TABLE " + tableName + " DROP PARTITION " + name)
+                                .update();
+            }
+        }
+
+        String relativePath = ledgerArchiveStorage.relativePath(table, name);
+        long rows = writeArchive(connection, staging, ledgerArchiveStorage.resolve(relativePath));
+        ledgerArchiveRepository.markArchived(table, name, relativePath, rows);
+        client.sql("DROP TABLE " + staging).update();
+        log.info(
+                "[LedgerPartition] Archived table={} partition={} rows={} file={}",
+                tableName,
+                name,
+                rows,
+                relativePath);
+    }
+
+    private long writeArchive(Connection connection, String staging, Path target) {
+        JdbcTemplate streaming = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        streaming.setFetchSize(exportProperties.fetchSize());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(target.getParent());
+            Long rows =
+                    streaming.query(
+                            "SELECT * FROM " + staging + " ORDER BY occurred_at, id",
+                            rs -> {
+                                ResultSetMetaData metaData = rs.getMetaData();
+                                List<String> columns = new ArrayList<>();
+                                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                                    columns.add(metaData.getColumnLabel(i).toLowerCase());
+                                }
+                                Object[] values = new Object[columns.size()];
+                                try (OutputStream out = Files.newOutputStream(temp);
+                                        ExportWriter writer =
+                                                ExportWriter.open(
+                                                        out, ExportFormat.NDJSON, columns)) {
+                                    while (rs.next()) {
+                                        for (int i = 0; i < values.length; i++) {
+                                            Object value = rs.getObject(i + 1);
+                                            values[i] =
+                                                    value instanceof Timestamp timestamp
+                                                            ? timestamp.toLocalDateTime()
+                                                            : value;
+                                        }
+                                        writer.writeRow(values);
+                                    }
+                                    return writer.rowCount();
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            });
+            // 임시 테이블을 지우기 전에 파일이 디스크에 기록되었음을 보장한다
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(
+                    temp,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+            return rows == null ? 0 : rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Partition> findPartitions(JdbcClient client, String tableName) {
+        return client.sql(FIND_PARTITIONS)
+                .param(tableName)
+                .query(
+                        (rs, rowNum) ->
+                                new Partition(
+                                        rs.getString("PARTITION_NAME"),
+                                        parseBound(rs.getString("PARTITION_DESCRIPTION"))))
+                .list();
+    }
+
+    private boolean tableExists(JdbcClient client, String tableName) {
+        return client.sql(COUNT_TABLES).param(tableName).query(Long.class).single() > 0;
+    }
+
+    private boolean isEmpty(JdbcClient client, String tableName) {
+        return client.sql("SELECT 1 FROM " + tableName + " LIMIT 1")
+                .query(Integer.class)
+                .optional()
+                .isEmpty();
+    }
+
+    /**
+     * 떼어내기 중 어디까지 진행됐는지 보고 남은 DDL 단계를 정한다. 파일 기록은 항상 이어서 한다.
+     *
+     * <ul>
+     *   <li>임시 테이블은 {@code CREATE ... LIKE}로 분할된 채 만들어진 뒤 분할을 없애므로, 그 사이에 중단됐으면 분할부터 없앤다.
+     *   <li>EXCHANGE는 맞바꾸기이므로, 이미 교환된 뒤(임시 테이블에 행이 있음)에는 다시 하지 않는다.
+     *   <li>임시 테이블도 파티션도 없으면 떼어낸 행이 어디에도 없으므로 빈 파일로 덮어쓰지 않고 실패시킨다.
+     * </ul>
+     */
+    static List<Step> detachSteps(DetachState state) {
+        if (!state.stagingExists() && !state.partitionExists()) {
+            throw new IllegalStateException(
+                    "Detached partition has neither staging table nor partition");
+        }
+        List<Step> steps = new ArrayList<>();
+        if (!state.stagingExists()) {
+            steps.add(Step.CREATE_STAGING);
+        }
+        if (!state.stagingExists() || state.stagingPartitioned()) {
+            steps.add(Step.REMOVE_PARTITIONING);
+        }
+        if (state.partitionExists()) {
+            if (state.stagingEmpty()) {
+                steps.add(Step.EXCHANGE_PARTITION);
+            }
+            steps.add(Step.DROP_PARTITION);
+        }
+        return steps;
+    }
+
+    /** 월 시작 시각의 파티션 이름 ({@code p202602}) */
+    static String partitionName(LocalDateTime monthStart) {
+        return "p" + MONTH.format(monthStart);
+    }
+
+    /** pYYYYMM은 이름에서, 그 외(p_old 등)는 바로 앞 파티션의 상한에서 하한을 구한다. */
+    static LocalDateTime rangeStart(String partitionName, LocalDateTime previousUpper) {
+        if (partitionName.matches("p\\d{6}")) {
+            return YearMonth.parse(partitionName.substring(1), MONTH).atDay(1).atStartOfDay();
+        }
+        return previousUpper;
+    }
+
+    /** {@code '2026-02-01 00:00:00'} 또는 {@code MAXVALUE}(null) */
+    static LocalDateTime parseBound(String description) {
+        if (description == null || MAXVALUE.equalsIgnoreCase(description)) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        return value.length() == 10
+                ? LocalDate.parse(value).atStartOfDay()
+                : LocalDateTime.parse(value.replace(' ', 'T'));
+    }
+
+    enum Step {
+        CREATE_STAGING,
+        REMOVE_PARTITIONING,
+        EXCHANGE_PARTITION,
+        DROP_PARTITION
+    }
+
+    /**
+     * @param stagingExists 임시 테이블이 있다
+     * @param stagingPartitioned 임시 테이블이 아직 분할되어 있다
+     * @param partitionExists 원장 테이블에 해당 파티션이 남아 있다
+     * @param stagingEmpty 임시 테이블이 비어 있다 (없으면 비어 있는 것으로 본다)
+     */
+    record DetachState(
+            boolean stagingExists,
+            boolean stagingPartitioned,
+            boolean partitionExists,
+            boolean stagingEmpty) {}
+
+    private record Partition(String name, LocalDateTime upperBound) {}
+}
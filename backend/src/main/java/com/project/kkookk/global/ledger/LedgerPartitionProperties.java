@@ -0,0 +1,17 @@
+package com.project.kkookk.global.ledger;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 원장 파티션 유지보수 설정
+ *
+ * @param enabled 파티셔닝된 MySQL에서만 켠다 (V15 마이그레이션 적용 후)
+ * @param futureMonths 이번 달 이후 미리 만들어 둘 월 파티션 수
+ * @param hotMonths DB에 남겨 둘 개월 수. 이보다 오래된 월 파티션은 떼어내 아카이브 파일로 옮긴다.
+ */
+@ConfigurationProperties(prefix = "app.ledger.partition")
+public record LedgerPartitionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("3") int futureMonths,
+        @DefaultValue("24") int hotMonths) {}
@@ -0,0 +1,17 @@
+package com.project.kkookk.global.ledger;
+
+/** 월 단위로 파티셔닝하고 오래된 구간을 아카이브로 옮기는 원장 테이블 */
+public enum LedgerTable {
+    STAMP_EVENT("stamp_event"),
+    REDEEM_EVENT("redeem_event");
+
+    private final String tableName;
+
+    LedgerTable(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.kkookk.global.lock;
+
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+
+/** 락 충돌. {@link LockTemplate#execute} 밖으로 나가면 그대로 LOCK_CONFLICT(409)로 응답된다. */
+public class LockConflictException extends BusinessException {
+
+    public LockConflictException(Throwable cause) {
+        super(ErrorCode.LOCK_CONFLICT);
+        initCause(cause);
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.kkookk.global.lock;
+
+/** 비관적 락을 획득하는 업무 흐름. 흐름별 재시도 정책과 메트릭 태그의 기준이 된다. */
+public enum LockFlow {
+    ISSUANCE_APPROVAL("issuance_approval"),
+    ISSUANCE_REJECTION("issuance_rejection"),
+    ISSUANCE_CANCEL("issuance_cancel"),
+    MIGRATION_APPROVAL("migration_approval"),
+    MIGRATION_REJECTION("migration_rejection");
+
+    private final String tag;
+
+    LockFlow(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.kkookk.global.lock;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.lock")
+public class LockProperties {
+
+    private final RetryPolicy defaults;
+    private final Map<LockFlow, RetryPolicy> flows;
+
+    public LockProperties(RetryPolicy defaults, Map<LockFlow, RetryPolicy> flows) {
+        this.defaults = defaults != null ? defaults : RetryPolicy.DEFAULT;
+        this.flows = flows != null ? Map.copyOf(flows) : Map.of();
+    }
+
+    public RetryPolicy policyFor(LockFlow flow) {
+        return flows.getOrDefault(flow, defaults);
+    }
+
+    /**
+     * 흐름별 락 획득 정책
+     *
+     * @param noWait true면 NOWAIT으로 즉시 실패 후 재시도, false면 innodb_lock_wait_timeout까지 대기
+     * @param maxAttempts 최대 시도 횟수 (1이면 재시도 없음)
+     * @param initialBackoff 첫 재시도 전 대기 시간 (이후 2배씩 증가)
+     * @param maxBackoff 재시도 대기 시간 상한
+     */
+    public record RetryPolicy(
+            @DefaultValue("true") boolean noWait,
+            @DefaultValue("3") int maxAttempts,
+            @DefaultValue("50ms") Duration initialBackoff,
+            @DefaultValue("400ms") Duration maxBackoff) {
+
+        static final RetryPolicy DEFAULT =
+                new RetryPolicy(true, 3, Duration.ofMillis(50), Duration.ofMillis(400));
+
+        Duration backoff(int attempt) {
+            long base = initialBackoff.toMillis() << Math.min(attempt - 1, 10);
+            return Duration.ofMillis(Math.min(base, maxBackoff.toMillis()));
+        }
+    }
+}
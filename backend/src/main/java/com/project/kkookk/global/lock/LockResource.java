@@ -0,0 +1,29 @@
+package com.project.kkookk.global.lock;
+
+/**
+ * 락 대상 테이블과 획득 순서.
+ *
+ * <p>한 트랜잭션 안에서는 rank가 낮은 자원부터 잠가야 한다. 요청 행(적립 요청/마이그레이션 요청)을 먼저, 고객
+ * 스탬프카드를 나중에 잠그도록 고정해 승인 흐름 간 교착 상태를 막는다.
+ */
+public enum LockResource {
+    ISSUANCE_REQUEST("issuance_request", 1),
+    STAMP_MIGRATION_REQUEST("stamp_migration_request", 1),
+    WALLET_STAMP_CARD("wallet_stamp_card", 2);
+
+    private final String tag;
+    private final int rank;
+
+    LockResource(String tag, int rank) {
+        this.tag = tag;
+        this.rank = rank;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,164 @@
+package com.project.kkookk.global.lock;
+
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 비관적 락 획득 계층.
+ *
+ * <p>흐름별 정책에 따라 NOWAIT 락을 시도한다. 충돌한 트랜잭션은 이미 rollback-only로 표시되므로 같은 트랜잭션 안에서 다시
+ * 시도하지 않고, {@link #execute}가 작업 단위 전체를 새 트랜잭션에서 지수 백오프로 재시도한다. 트랜잭션 안에서 {@link
+ * LockResource} 순서를 어기면 즉시 실패시켜 교착 가능성이 있는 코드가 배포되지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class LockTemplate {
+
+    private static final String WAIT_TIMER = "kkookk.lock.wait";
+    private static final String CONFLICT_COUNTER = "kkookk.lock.conflicts";
+    private static final String HELD_LOCKS_KEY = LockTemplate.class.getName() + ".heldRank";
+
+    private final MeterRegistry meterRegistry;
+    private final LockProperties lockProperties;
+    private final TransactionOperations transactionOperations;
+
+    public LockTemplate(
+            MeterRegistry meterRegistry,
+            LockProperties lockProperties,
+            TransactionOperations transactionOperations) {
+        this.meterRegistry = meterRegistry;
+        this.lockProperties = lockProperties;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * 락을 잡는 작업 단위를 시도마다 새 트랜잭션에서 실행한다. 락 충돌로 실패하면 롤백한 뒤 흐름별 정책에 따라 다시 실행한다.
+     *
+     * <p>이미 트랜잭션 안에서 호출되면 바깥 트랜잭션을 새로 시작할 수 없으므로 재시도 없이 한 번만 실행한다. 호출하는 서비스
+     * 메서드는 트랜잭션 밖({@code Propagation.NOT_SUPPORTED})이어야 재시도가 동작한다.
+     *
+     * @param flow 락을 획득하는 업무 흐름
+     * @param work 트랜잭션 안에서 실행할 작업 ({@link #acquire}로 락 획득)
+     * @return 작업 결과
+     */
+    public <T> T execute(LockFlow flow, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        LockProperties.RetryPolicy policy = lockProperties.policyFor(flow);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> work.get());
+            } catch (LockConflictException e) {
+                if (attempt >= policy.maxAttempts()) {
+                    log.warn("[Lock] Acquisition failed flow={} attempts={}", flow, attempt);
+                    throw new BusinessException(ErrorCode.LOCK_CONFLICT);
+                }
+                backoff(policy.backoff(attempt));
+            }
+        }
+    }
+
+    /**
+     * 락 조회 실행. 충돌하면 재시도하지 않고 {@link LockConflictException}을 던진다.
+     *
+     * @param flow 락을 획득하는 업무 흐름
+     * @param resource 락 대상 자원
+     * @param waitQuery 락 대기 조회 (SELECT ... FOR UPDATE)
+     * @param noWaitQuery 즉시 실패 조회 (SELECT ... FOR UPDATE NOWAIT)
+     * @return 조회 결과
+     */
+    public <T> Optional<T> acquire(
+            LockFlow flow,
+            LockResource resource,
+            Supplier<Optional<T>> waitQuery,
+            Supplier<Optional<T>> noWaitQuery) {
+        verifyLockOrder(flow, resource);
+
+        Supplier<Optional<T>> query =
+                lockProperties.policyFor(flow).noWait() ? noWaitQuery : waitQuery;
+        long startedAt = System.nanoTime();
+        try {
+            Optional<T> result = query.get();
+            recordWait(flow, resource, "acquired", startedAt);
+            return result;
+        } catch (PessimisticLockingFailureException e) {
+            recordWait(flow, resource, "conflict", startedAt);
+            conflictCounter(flow, resource).increment();
+            throw new LockConflictException(e);
+        }
+    }
+
+    private void verifyLockOrder(LockFlow flow, LockResource resource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        int[] heldRank = (int[]) TransactionSynchronizationManager.getResource(HELD_LOCKS_KEY);
+        if (heldRank == null) {
+            int[] newHeldRank = {resource.getRank()};
+            TransactionSynchronizationManager.bindResource(HELD_LOCKS_KEY, newHeldRank);
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(int status) {
+                            TransactionSynchronizationManager.unbindResourceIfPossible(
+                                    HELD_LOCKS_KEY);
+                        }
+                    });
+            return;
+        }
+
+        if (heldRank[0] > resource.getRank()) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Lock order violation flow=%s resource=%s heldRank=%d",
+                            flow, resource, heldRank[0]));
+        }
+        heldRank[0] = resource.getRank();
+    }
+
+    private void backoff(Duration delay) {
+        long millis = delay.toMillis();
+        long jittered = millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1);
+        try {
+            Thread.sleep(jittered);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.LOCK_CONFLICT);
+        }
+    }
+
+    private void recordWait(LockFlow flow, LockResource resource, String outcome, long startedAt) {
+        Timer.builder(WAIT_TIMER)
+                .description("Time spent acquiring pessimistic row locks")
+                .tag("flow", flow.getTag())
+                .tag("resource", resource.getTag())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private Counter conflictCounter(LockFlow flow, LockResource resource) {
+        return Counter.builder(CONFLICT_COUNTER)
+                .description("Lock acquisition attempts rejected by a concurrent holder")
+                .tag("flow", flow.getTag())
+                .tag("resource", resource.getTag())
+                .register(meterRegistry);
+    }
+}
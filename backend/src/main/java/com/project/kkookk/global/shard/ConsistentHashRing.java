@@ -0,0 +1,47 @@
+package com.project.kkookk.global.shard;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 매장 id를 샤드에 배치하는 해시 링. 샤드를 추가해도 약 1/N의 키만 새 샤드로 옮겨 가도록 샤드마다 가상 노드를 둔다.
+ *
+ * <p>해시는 JVM과 무관하게 같은 값이 나오도록 SHA-256 앞 8바이트를 쓴다.
+ */
+public class ConsistentHashRing {
+
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public ConsistentHashRing(Collection<String> shardIds, int virtualNodes) {
+        if (shardIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        for (String shardId : shardIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(shardId + "#" + i), shardId);
+            }
+        }
+    }
+
+    public String locate(Long storeId) {
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(String.valueOf(storeId)));
+        return (entry != null ? entry : ring.firstEntry()).getValue();
+    }
+
+    private static long hash(String value) {
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(value.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest, 0, Long.BYTES).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
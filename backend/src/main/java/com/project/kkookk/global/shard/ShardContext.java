@@ -0,0 +1,28 @@
+package com.project.kkookk.global.shard;
+
+/** 현재 스레드가 사용할 샤드. 지정하지 않으면 main으로 간다. {@link ShardTemplate}만 설정한다. */
+final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {}
+
+    static String current() {
+        return CURRENT.get();
+    }
+
+    /** 지정하고 이전 값을 돌려준다. 호출자는 끝난 뒤 {@link #restore}로 되돌린다. */
+    static String set(String shardId) {
+        String previous = CURRENT.get();
+        CURRENT.set(shardId);
+        return previous;
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.project.kkookk.global.shard;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.global.config.CacheConfig;
+import com.project.kkookk.store.domain.StoreCreatedEvent;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * 매장 → 샤드 배치.
+ *
+ * <p>{@code placeNewStores}가 켜져 있으면 신규 매장은 생성 시 해시 링으로 샤드를 정해 기록하고, 이후에는 기록이 기준이다(이동
+ * 도구가 바꾼다). 기록이 없는 매장(샤딩 이전 매장, 배치를 끈 동안 만든 매장)은 main에 있다. 조회 결과는 로컬 캐시에 두고, 변경
+ * 시 변경 로그로 모든 노드의 캐시를 무효화한다.
+ */
+@Slf4j
+public class ShardDirectory {
+
+    private static final String FIND =
+            "SELECT shard_id, status FROM store_shard WHERE store_id = ?";
+
+    private static final String UPSERT =
+            "INSERT INTO store_shard (store_id, shard_id, status, updated_at) VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE shard_id = ?, status = ?, updated_at = ?";
+
+    private final JdbcClient jdbcClient;
+    private final ConsistentHashRing ring;
+    private final boolean placeNewStores;
+    private final Cache cache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public ShardDirectory(
+            JdbcClient jdbcClient,
+            ConsistentHashRing ring,
+            boolean placeNewStores,
+            CacheManager cacheManager,
+            CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcClient = jdbcClient;
+        this.ring = ring;
+        this.placeNewStores = placeNewStores;
+        this.cache =
+                Objects.requireNonNull(cacheManager.getCache(CacheConfig.STORE_SHARD_CACHE));
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    /**
+     * 캐시에 없으면 읽어서 넣는다. 읽기와 넣기를 키 단위로 원자적으로 처리해, 읽는 도중 들어온 무효화(FROZEN 전환 등)가 끝난 뒤에
+     * 옛 배치를 넣어 TTL 동안 남기는 일이 없게 한다. 가상 스레드에서는 미스 때만 Caffeine 잠금 안에서 DB를 읽느라 캐리어가
+     * 고정된다(storeSummary 캐시와 같다).
+     */
+    public Placement placementOf(Long storeId) {
+        try {
+            return cache.get(storeId, () -> load(storeId));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 매장 생성 트랜잭션 안에서 배치를 기록해 매장과 함께 커밋되게 한다. 배치를 끈 동안은 기록하지 않는다. 매장 단위 저장소가 아직 main에
+     * 쓰므로 다른 샤드를 기록하면 첫 쓰기부터 배치와 데이터가 어긋난다.
+     */
+    @EventListener
+    public void onStoreCreated(StoreCreatedEvent event) {
+        if (!placeNewStores) {
+            return;
+        }
+        String shardId = ring.locate(event.storeId());
+        update(event.storeId(), shardId, StoreShard.Status.ACTIVE);
+        log.info("[Shard] Placed storeId={} shard={}", event.storeId(), shardId);
+    }
+
+    void update(Long storeId, String shardId, StoreShard.Status status) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcClient
+                .sql(UPSERT)
+                .params(storeId, shardId, status.name(), now, shardId, status.name(), now)
+                .update();
+        cache.evict(storeId);
+        cacheInvalidationBus.publish(CacheConfig.STORE_SHARD_CACHE, storeId);
+    }
+
+    private Placement load(Long storeId) {
+        return jdbcClient
+                .sql(FIND)
+                .param(storeId)
+                .query(
+                        (rs, rowNum) ->
+                                new Placement(
+                                        rs.getString("shard_id"),
+                                        StoreShard.Status.valueOf(rs.getString("status"))))
+                .optional()
+                .orElse(new Placement(ShardProperties.MAIN, StoreShard.Status.ACTIVE));
+    }
+
+    public record Placement(String shardId, StoreShard.Status status) {
+
+        public boolean writable() {
+            return status == StoreShard.Status.ACTIVE;
+        }
+    }
+}
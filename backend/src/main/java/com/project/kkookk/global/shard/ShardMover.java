@@ -0,0 +1,209 @@
+package com.project.kkookk.global.shard;
+
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * 매장 하나의 데이터를 다른 샤드로 옮기는 온라인 이동 도구.
+ *
+ * <ol>
+ *   <li>쓰기를 받는 상태로 매장 행을 id 순으로 대상 샤드에 복사한다.
+ *   <li>배치를 FROZEN으로 바꿔 쓰기를 막고 {@code freezeGrace}만큼 진행 중인 쓰기를 기다린다.
+ *   <li>1단계 이후 추가된 행(id 증가)과 변경된 행(updated_at)을 다시 복사한다.
+ *   <li>배치를 대상 샤드로 바꿔 쓰기를 재개한다.
+ * </ol>
+ *
+ * <p>원래 샤드의 행은 지우지 않는다. {@link ShardTemplate#inStore}를 거치지 않는 접근은 여전히 원래 샤드를 보므로, 지우면 그 경로에서
+ * 데이터가 사라진다. 남은 행은 같은 매장을 다시 옮겨 올 때 시작 단계의 대상 샤드 정리로 지워진다.
+ *
+ * <p>쓰기가 막히는 시간은 2~3단계뿐이다. 1단계 도중 삭제된 행은 따라가지 않는다(이 테이블들은 행을 지우지 않는다. 종료된 적립
+ * 요청 보관 이동은 이동 중인 매장에 대해 다음 실행으로 미뤄진다).
+ */
+@Slf4j
+public class ShardMover {
+
+    /** storeId로 나뉘는 테이블. 모두 id(AUTO_INCREMENT)와 store_id, updated_at을 가진다. */
+    static final List<String> TABLES =
+            List.of(
+                    "wallet_stamp_card",
+                    "wallet_reward",
+                    "issuance_request",
+                    "stamp_event",
+                    "redeem_event");
+
+    private final ShardDirectory shardDirectory;
+    private final ShardRoutingDataSource shardRoutingDataSource;
+    private final ShardProperties properties;
+
+    public ShardMover(
+            ShardDirectory shardDirectory,
+            ShardRoutingDataSource shardRoutingDataSource,
+            ShardProperties properties) {
+        this.shardDirectory = shardDirectory;
+        this.shardRoutingDataSource = shardRoutingDataSource;
+        this.properties = properties;
+    }
+
+    /** 테이블별로 옮긴 행 수를 돌려준다. 이미 대상 샤드에 있으면 아무 것도 하지 않는다. */
+    public Map<String, Long> move(Long storeId, String targetShardId) {
+        if (!shardRoutingDataSource.contains(targetShardId)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        ShardDirectory.Placement placement = shardDirectory.placementOf(storeId);
+        String sourceShardId = placement.shardId();
+        Map<String, Long> moved = new LinkedHashMap<>();
+        if (sourceShardId.equals(targetShardId)) {
+            return moved;
+        }
+        JdbcClient source = client(sourceShardId);
+        JdbcClient target = client(targetShardId);
+        long startedAt = System.nanoTime();
+        LocalDateTime copyStartedAt = LocalDateTime.now();
+
+        // 이전에 실패한 시도가 남긴 복사본 정리 (대상 샤드는 아직 이 매장을 서비스하지 않는다)
+        deleteStoreRows(target, storeId);
+        long frozenAt = 0;
+        try {
+            // 1. 온라인 복사
+            Map<String, Long> lastIds = new LinkedHashMap<>();
+            for (String table : TABLES) {
+                CopyResult result = copyAfter(source, target, table, storeId, 0L);
+                lastIds.put(table, result.lastId());
+                moved.put(table, result.rows());
+            }
+
+            // 2. 쓰기 중지
+            shardDirectory.update(storeId, sourceShardId, StoreShard.Status.FROZEN);
+            frozenAt = System.nanoTime();
+            sleep(properties.freezeGrace().toMillis());
+
+            // 3. 복사 이후 추가/변경분
+            for (String table : TABLES) {
+                CopyResult added = copyAfter(source, target, table, storeId, lastIds.get(table));
+                long changed =
+                        recopyChanged(
+                                source, target, table, storeId, lastIds.get(table), copyStartedAt);
+                moved.merge(table, added.rows(), Long::sum);
+                log.info(
+                        "[ShardMove] Delta storeId={} table={} added={} changed={}",
+                        storeId,
+                        table,
+                        added.rows(),
+                        changed);
+            }
+        } catch (RuntimeException e) {
+            // 배치는 그대로 원래 샤드. 대상 샤드에 남은 복사본은 다음 시도 전에 정리한다
+            shardDirectory.update(storeId, sourceShardId, StoreShard.Status.ACTIVE);
+            deleteStoreRows(target, storeId);
+            throw e;
+        }
+
+        // 4. 전환 (원래 샤드의 행은 남긴다)
+        shardDirectory.update(storeId, targetShardId, StoreShard.Status.ACTIVE);
+        long frozenMillis = (System.nanoTime() - frozenAt) / 1_000_000;
+
+        log.info(
+                "[ShardMove] Moved storeId={} {}→{} rows={} frozen={}ms elapsed={}ms",
+                storeId,
+                sourceShardId,
+                targetShardId,
+                moved,
+                frozenMillis,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return moved;
+    }
+
+    private CopyResult copyAfter(
+            JdbcClient source, JdbcClient target, String table, Long storeId, long afterId) {
+        long lastId = afterId;
+        long rows = 0;
+        while (true) {
+            List<Map<String, Object>> batch =
+                    source.sql(
+                                    "SELECT * FROM "
+                                            + table
+                                            + " WHERE store_id = ? AND id > ? ORDER BY id LIMIT ?")
+                            .params(storeId, lastId, properties.copyBatchSize())
+                            .query()
+                            .listOfRows();
+            for (Map<String, Object> row : batch) {
+                insert(target, table, row);
+                lastId = ((Number) row.get("id")).longValue();
+            }
+            rows += batch.size();
+            if (batch.size() < properties.copyBatchSize()) {
+                return new CopyResult(lastId, rows);
+            }
+        }
+    }
+
+    private long recopyChanged(
+            JdbcClient source,
+            JdbcClient target,
+            String table,
+            Long storeId,
+            long upToId,
+            LocalDateTime since) {
+        List<Map<String, Object>> changed =
+                source.sql(
+                                "SELECT * FROM "
+                                        + table
+                                        + " WHERE store_id = ? AND id <= ? AND updated_at >= ?")
+                        .params(storeId, upToId, since)
+                        .query()
+                        .listOfRows();
+        for (Map<String, Object> row : changed) {
+            target.sql("DELETE FROM " + table + " WHERE id = ?").param(row.get("id")).update();
+            insert(target, table, row);
+        }
+        return changed.size();
+    }
+
+    private void deleteStoreRows(JdbcClient client, Long storeId) {
+        for (String table : TABLES) {
+            int deleted;
+            do {
+                deleted =
+                        client.sql("DELETE FROM " + table + " WHERE store_id = ? LIMIT ?")
+                                .params(storeId, properties.copyBatchSize())
+                                .update();
+            } while (deleted == properties.copyBatchSize());
+        }
+    }
+
+    private static void insert(JdbcClient target, String table, Map<String, Object> row) {
+        StringJoiner columns = new StringJoiner(", ");
+        StringJoiner placeholders = new StringJoiner(", ");
+        for (String column : row.keySet()) {
+            columns.add(column);
+            placeholders.add("?");
+        }
+        target.sql("INSERT INTO " + table + " (" + columns + ") VALUES (" + placeholders + ")")
+                .params(List.copyOf(row.values()))
+                .update();
+    }
+
+    private JdbcClient client(String shardId) {
+        DataSource dataSource = shardRoutingDataSource.shard(shardId);
+        return JdbcClient.create(dataSource);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight writes", e);
+        }
+    }
+
+    private record CopyResult(long lastId, long rows) {}
+}
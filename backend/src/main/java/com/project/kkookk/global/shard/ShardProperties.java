@@ -0,0 +1,50 @@
+package com.project.kkookk.global.shard;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 매장(storeId) 단위 샤딩 설정
+ *
+ * <p>기본 샤드({@code main})는 spring.datasource이며 매장/점주/지갑 등 공용 테이블과, 배치 기록이 없는 기존 매장의 데이터를 가진다.
+ * 샤드 간 id가 겹치지 않도록 각 샤드 DB에 {@code auto_increment_increment}/{@code auto_increment_offset}을 다르게
+ * 설정해야 한다.
+ *
+ * @param enabled 켜면 배치 기록에 따라 매장 단위 조회를 해당 샤드로 보낸다
+ * @param virtualNodes 샤드당 해시 링 가상 노드 수 (클수록 분포가 고르다)
+ * @param freezeGrace 이동 마지막 단계에서 쓰기를 막은 뒤 진행 중인 쓰기와 다른 노드 캐시 무효화를 기다리는 시간
+ * @param copyBatchSize 이동 시 테이블별로 한 번에 복사/삭제하는 행 수
+ * @param moveEnabled 매장 이동 API. 매장 단위 테이블 접근이 모두 {@link ShardTemplate#inStore}를 거치기 전에는 켜지 않는다
+ *     (거치지 않는 읽기/쓰기는 배치와 FROZEN을 보지 않고 main으로 간다)
+ * @param placeNewStores 신규 매장을 해시 링으로 배치한다. 끄면 신규 매장도 배치 기록 없이 main에 둔다. {@code moveEnabled}와
+ *     같은 이유로 모든 접근이 샤드를 거치기 전에는 켜지 않는다
+ * @param nodes main 외 샤드 목록
+ */
+@ConfigurationProperties(prefix = "app.shard")
+public record ShardProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64") int virtualNodes,
+        @DefaultValue("3s") Duration freezeGrace,
+        @DefaultValue("1000") int copyBatchSize,
+        @DefaultValue("false") boolean moveEnabled,
+        @DefaultValue("false") boolean placeNewStores,
+        @DefaultValue List<Node> nodes) {
+
+    public static final String MAIN = "main";
+
+    /**
+     * @param id 샤드 id (배치 기록에 저장되므로 바꾸지 않는다)
+     * @param url JDBC URL
+     * @param username 비우면 spring.datasource.username
+     * @param password 비우면 spring.datasource.password
+     * @param maximumPoolSize 풀 크기
+     */
+    public record Node(
+            String id,
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize) {}
+}
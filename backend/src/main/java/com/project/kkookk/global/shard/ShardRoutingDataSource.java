@@ -0,0 +1,48 @@
+package com.project.kkookk.global.shard;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * {@link ShardContext}의 샤드로 커넥션을 보내는 DataSource.
+ *
+ * <p>트랜잭션 시작 후 샤드를 지정하는 경우가 있어 {@link #lazy}로 감싸 첫 SQL 실행 때 커넥션을 고른다.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<String, DataSource> shards;
+
+    public ShardRoutingDataSource(Map<String, DataSource> shards) {
+        this.shards = Map.copyOf(shards);
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(ShardProperties.MAIN));
+        // 알 수 없는 샤드 id를 main으로 보내면 다른 매장 데이터와 섞이므로 실패시킨다
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public DataSource lazy() {
+        return new LazyConnectionDataSourceProxy(this);
+    }
+
+    public boolean contains(String shardId) {
+        return shards.containsKey(shardId);
+    }
+
+    /** 트랜잭션/라우팅을 거치지 않는 샤드별 풀 (이동 도구용) */
+    public DataSource shard(String shardId) {
+        DataSource dataSource = shards.get(shardId);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Unknown shard: " + shardId);
+        }
+        return dataSource;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+}
@@ -0,0 +1,163 @@
+package com.project.kkookk.global.shard;
+
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매장 단위 데이터 접근을 해당 샤드에서 실행한다.
+ *
+ * <p>콜백은 지정한 샤드의 새 트랜잭션에서 실행되므로 바깥 트랜잭션(main 샤드의 공용 테이블 조회 등)과 섞이지 않는다. 샤딩이 꺼져
+ * 있으면 샤드가 main 하나뿐이므로 콜백을 그대로 호출한다.
+ */
+public class ShardTemplate implements AutoCloseable {
+
+    private final ShardDirectory shardDirectory;
+    private final List<String> shardIds;
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate readOnly;
+    private final ExecutorService executor;
+
+    /** 샤딩 비활성 (main 단일 샤드) */
+    public static ShardTemplate single() {
+        return new ShardTemplate(null, List.of(ShardProperties.MAIN), null);
+    }
+
+    public ShardTemplate(
+            ShardDirectory shardDirectory,
+            List<String> shardIds,
+            PlatformTransactionManager transactionManager) {
+        this.shardDirectory = shardDirectory;
+        this.shardIds = List.copyOf(shardIds);
+        if (shardDirectory == null) {
+            this.readWrite = null;
+            this.readOnly = null;
+            this.executor = null;
+            return;
+        }
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.readWrite.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnly.setReadOnly(true);
+        this.executor =
+                Executors.newFixedThreadPool(
+                        this.shardIds.size(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "shard-gather");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+    }
+
+    public boolean sharded() {
+        return shardDirectory != null;
+    }
+
+    public List<String> shardIds() {
+        return shardIds;
+    }
+
+    /** 매장이 있는 샤드에서 콜백을 실행한다. 이동 중(FROZEN)인 매장의 쓰기는 거절한다. */
+    public <T> T inStore(Long storeId, boolean readOnlyTx, Supplier<T> callback) {
+        if (!sharded()) {
+            return callback.get();
+        }
+        ShardDirectory.Placement placement = shardDirectory.placementOf(storeId);
+        if (!readOnlyTx && !placement.writable()) {
+            throw new BusinessException(ErrorCode.STORE_SHARD_MOVING);
+        }
+        return onShard(placement.shardId(), readOnlyTx, callback);
+    }
+
+    /** 모든 샤드에서 콜백을 병렬로 실행해 샤드 순서대로 결과를 모은다. */
+    public <T> List<T> scatterGather(Function<String, T> callback) {
+        if (!sharded()) {
+            return List.of(callback.apply(ShardProperties.MAIN));
+        }
+        List<Future<T>> futures = new ArrayList<>();
+        for (String shardId : shardIds) {
+            futures.add(
+                    executor.submit(() -> onShard(shardId, true, () -> callback.apply(shardId))));
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    /**
+     * 여러 샤드에 흩어진 정렬된 목록의 페이지를 만든다.
+     *
+     * <p>샤드마다 앞에서부터 {@code offset + size}건을 가져와 합친 뒤 잘라낸다. 깊은 페이지일수록 비용이 커지므로 지갑 단위처럼 건수가
+     * 작은 조회에만 쓴다.
+     */
+    public <T> Page<T> scatterGatherPage(
+            Pageable pageable, Comparator<T> order, Function<Pageable, Page<T>> query) {
+        if (!sharded()) {
+            return query.apply(pageable);
+        }
+        int offset = (int) pageable.getOffset();
+        Pageable head = PageRequest.of(0, offset + pageable.getPageSize(), pageable.getSort());
+        List<Page<T>> pages = scatterGather(shardId -> query.apply(head));
+        List<T> merged = new ArrayList<>();
+        long total = 0;
+        for (Page<T> page : pages) {
+            merged.addAll(page.getContent());
+            total += page.getTotalElements();
+        }
+        merged.sort(order);
+        List<T> content =
+                offset >= merged.size()
+                        ? List.of()
+                        : merged.subList(
+                                offset, Math.min(merged.size(), offset + pageable.getPageSize()));
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private <T> T onShard(String shardId, boolean readOnlyTx, Supplier<T> callback) {
+        String previous = ShardContext.set(shardId);
+        try {
+            return (readOnlyTx ? readOnly : readWrite).execute(status -> callback.get());
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while gathering shard results", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
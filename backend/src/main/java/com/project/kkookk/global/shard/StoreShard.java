@@ -0,0 +1,43 @@
+package com.project.kkookk.global.shard;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장 → 샤드 배치 기록 (main 샤드에만 있다). 기록이 없는 매장은 main에 있다. 기록/조회는 {@link ShardDirectory}의 SQL로만
+ * 수행한다.
+ */
+@Entity
+@Table(name = "store_shard")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreShard {
+
+    public enum Status {
+        ACTIVE,
+        /** 이동 마지막 단계. 읽기는 기존 샤드에서 계속되고 쓰기는 거절된다. */
+        FROZEN
+    }
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "shard_id", nullable = false, length = 30)
+    private String shardId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,75 @@
+package com.project.kkookk.global.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 구간을 JFR 이벤트로 감지한다.
+ *
+ * <p>{@code synchronized} 블록이나 네이티브 호출 안에서 블로킹하면 가상 스레드가 캐리어를 놓지 못해, 캐리어 수(코어 수)만큼만
+ * 동시에 진행된다. 고정이 일어난 애플리케이션 코드 위치별로 {@code kkookk.threads.virtual.pinned{site}}를 세고 스택을 남긴다.
+ */
+@Slf4j
+public class PinnedThreadMonitor implements AutoCloseable {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.project.kkookk.";
+
+    private final VirtualThreadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private RecordingStream stream;
+
+    public PinnedThreadMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(properties.pinnedThreshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info(
+                "[Threads] Virtual threads enabled, pinning threshold={}",
+                properties.pinnedThreshold());
+    }
+
+    @Override
+    public void close() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        String site = site(event.getStackTrace());
+        meterRegistry.counter("kkookk.threads.virtual.pinned", "site", site).increment();
+        log.warn(
+                "[Threads] Virtual thread pinned site={} duration={}ms stack={}",
+                site,
+                event.getDuration().toMillis(),
+                event.getStackTrace());
+    }
+
+    /** 가장 안쪽의 애플리케이션 프레임 (라이브러리 안에서 고정돼도 원인 호출 위치로 묶는다) */
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                String simpleName = type.substring(type.lastIndexOf('.') + 1);
+                return simpleName + "." + frame.getMethod().getName();
+            }
+        }
+        return "library";
+    }
+}
@@ -0,0 +1,13 @@
+package com.project.kkookk.global.thread;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 가상 스레드 실행 모드 관측 설정 (모드 자체는 {@code spring.threads.virtual.enabled})
+ *
+ * @param pinnedThreshold 이보다 오래 캐리어 스레드에 고정(pinning)된 경우만 기록한다
+ */
+@ConfigurationProperties(prefix = "app.threads.virtual")
+public record VirtualThreadProperties(@DefaultValue("20ms") Duration pinnedThreshold) {}
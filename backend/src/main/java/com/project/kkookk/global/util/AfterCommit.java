@@ -0,0 +1,25 @@
+package com.project.kkookk.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** 트랜잭션 커밋 이후에만 반영해야 하는 인메모리 상태 갱신용 헬퍼 */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /** 트랜잭션 동기화가 활성화되어 있으면 커밋 후 실행하고(롤백 시 생략), 아니면 즉시 실행한다. */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.kkookk.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom 필터.
+ *
+ * <p>{@link #mightContain}이 false이면 한 번도 추가되지 않은 키임이 확실하다. true는 "있을 수도 있음"이므로 호출 측에서
+ * 원본 저장소로 확인해야 한다. 비트 배열은 CAS로 갱신하므로 동시 추가/조회에 안전하다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+    }
+
+    /** 예상 원소 수와 목표 오탐률로 비트 수와 해시 함수 수를 정한다. */
+    public static BloomFilter create(long expectedInsertions, double targetFpp) {
+        if (expectedInsertions <= 0 || targetFpp <= 0 || targetFpp >= 1) {
+            throw new IllegalArgumentException(
+                    "expectedInsertions=" + expectedInsertions + ", targetFpp=" + targetFpp);
+        }
+        long bits =
+                (long)
+                        Math.ceil(
+                                -expectedInsertions
+                                        * Math.log(targetFpp)
+                                        / (Math.log(2) * Math.log(2)));
+        bits = Math.max(64, bits);
+        int hashes =
+                Math.max(1, (int) Math.round((double) bits / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    public void put(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            if (!getBit(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 현재 채워진 비트 비율로 계산한 오탐률 추정치 */
+    public double expectedFpp() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / bitSize, hashCount);
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bitIndex) {
+        int wordIndex = (int) (bitIndex >>> 6);
+        long mask = 1L << bitIndex;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    private boolean getBit(long bitIndex) {
+        return (words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    // FNV-1a 누적 후 MurmurHash3 fmix64로 비트를 섞은 64비트 해시
+    private static long hash64(String key) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93F53E1FE87L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.kkookk.global.util;
+
+/** 한글 음절 분해 유틸. 검색 색인에서 자모 단위 n-gram과 초성 검색에 쓴다. */
+public final class Hangul {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JONG_COUNT = 28;
+    private static final int SYLLABLES_PER_CHO = 21 * JONG_COUNT;
+
+    // 호환용 자모 (사용자가 키보드로 입력하는 자모와 같은 코드)
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private Hangul() {}
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    /** 한글 음절을 초성/중성/종성 호환 자모로 풀어 쓴다. 한글이 아닌 문자는 그대로 둔다. */
+    public static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!isSyllable(c)) {
+                sb.append(c);
+                continue;
+            }
+            int index = c - SYLLABLE_BEGIN;
+            sb.append(CHO.charAt(index / SYLLABLES_PER_CHO));
+            sb.append(JUNG.charAt(index % SYLLABLES_PER_CHO / JONG_COUNT));
+            int jong = index % JONG_COUNT;
+            if (jong != 0) {
+                sb.append(JONG.charAt(jong));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 각 한글 음절을 초성으로 바꾼다 (예: "꾹꾹카페" → "ㄲㄲㅋㅍ"). 한글이 아닌 문자는 그대로 둔다. */
+    public static String initials(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            sb.append(isSyllable(c) ? CHO.charAt((c - SYLLABLE_BEGIN) / SYLLABLES_PER_CHO) : c);
+        }
+        return sb.toString();
+    }
+
+    /** 초성 자모로만 이루어진 문자열인지 (초성 검색 여부 판단) */
+    public static boolean isInitialsOnly(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (CHO.indexOf(text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.kkookk.issuance.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 종료 상태 적립 요청 보관 이동 설정
+ *
+ * @param retention 마지막 변경 후 이 기간이 지난 요청을 이력 테이블로 옮긴다. 멱등성 키 재사용 판단도 이 기간 안에서만 유효하다.
+ * @param batchSize 한 트랜잭션에서 옮기는 최대 행 수 (행 잠금 시간과 undo 크기의 상한)
+ * @param pause 배치 사이 대기 시간 (복제 지연과 버퍼 풀 부담 완화)
+ * @param maxBatches 한 번 실행에서 처리할 최대 배치 수. 남은 행은 다음 실행에서 이어서 옮긴다.
+ */
+@ConfigurationProperties(prefix = "app.issuance.archive")
+public record IssuanceArchiveProperties(
+        @DefaultValue("30d") Duration retention,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("100ms") Duration pause,
+        @DefaultValue("500") int maxBatches) {}
@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
@@ -19,6 +20,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(
         name = "issuance_request",
+        indexes = {
+            @Index(name = "idx_issuance_status_updated", columnList = "status, updatedAt")
+        },
         uniqueConstraints = {
             @UniqueConstraint(
                     name = "uk_issuance_wallet_idempotency",
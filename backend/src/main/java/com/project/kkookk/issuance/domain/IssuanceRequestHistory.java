@@ -0,0 +1,67 @@
+package com.project.kkookk.issuance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지난 종료 상태 적립 요청.
+ *
+ * <p>{@code issuance_request}와 같은 컬럼에 보관 시각만 더한 구조이며 id를 그대로 유지한다. 이동은 {@code
+ * IssuanceRequestArchiveRepository}의 INSERT-SELECT로만 수행한다.
+ */
+@Entity
+@Table(
+        name = "issuance_request_history",
+        indexes = {
+            @Index(name = "idx_issuance_hist_store_created", columnList = "store_id, created_at"),
+            @Index(name = "idx_issuance_hist_wallet", columnList = "wallet_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IssuanceRequestHistory {
+
+    @Id private Long id;
+
+    @Column(name = "store_id", nullable = false)
+    private Long storeId;
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Column(name = "wallet_stamp_card_id", nullable = false)
+    private Long walletStampCardId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IssuanceRequestStatus status;
+
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "expires_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "approved_at", columnDefinition = "DATETIME(6)")
+    private LocalDateTime approvedAt;
+
+    @Column(name = "rewards_issued")
+    private Integer rewardsIssued;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private LocalDateTime archivedAt;
+}
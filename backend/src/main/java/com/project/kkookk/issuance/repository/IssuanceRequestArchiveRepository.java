@@ -0,0 +1,62 @@
+package com.project.kkookk.issuance.repository;
+
+import com.project.kkookk.issuance.domain.IssuanceRequestStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class IssuanceRequestArchiveRepository {
+
+    private final JdbcClient jdbcClient;
+
+    // (status, updated_at) 인덱스 범위만 훑는다. expires_at 조건은 오래 방치된 PENDING을 위한 안전장치
+    private static final String FIND_ARCHIVABLE_FOR_UPDATE =
+            "SELECT id FROM issuance_request "
+                    + "WHERE status = :status AND updated_at < :cutoff AND expires_at < :cutoff "
+                    + "ORDER BY updated_at LIMIT :limit FOR UPDATE";
+
+    // 만료 처리되지 않고 남은 PENDING은 이력에서는 EXPIRED로 남긴다
+    private static final String COPY_TO_HISTORY =
+            "INSERT INTO issuance_request_history "
+                    + "(id, store_id, wallet_id, wallet_stamp_card_id, status, idempotency_key, "
+                    + "expires_at, approved_at, rewards_issued, "
+                    + "created_at, updated_at, archived_at) "
+                    + "SELECT id, store_id, wallet_id, wallet_stamp_card_id, "
+                    + "CASE WHEN status = 'PENDING' THEN 'EXPIRED' ELSE status END, "
+                    + "idempotency_key, expires_at, approved_at, rewards_issued, "
+                    + "created_at, updated_at, :archivedAt "
+                    + "FROM issuance_request WHERE id IN (:ids)";
+
+    private static final String DELETE = "DELETE FROM issuance_request WHERE id IN (:ids)";
+
+    /**
+     * 지정 상태에서 {@code cutoff} 이전에 마지막으로 변경된 요청을 최대 {@code limit}건 이력 테이블로 옮기고 옮긴 수를 반환한다.
+     *
+     * <p>대상 행을 먼저 잠그므로 같은 행을 다른 노드가 동시에 옮기거나, 그 사이 PENDING 요청이 승인되는 일이 없다.
+     */
+    @Transactional
+    public int archiveBatch(IssuanceRequestStatus status, LocalDateTime cutoff, int limit) {
+        List<Long> ids =
+                jdbcClient
+                        .sql(FIND_ARCHIVABLE_FOR_UPDATE)
+                        .param("status", status.name())
+                        .param("cutoff", cutoff)
+                        .param("limit", limit)
+                        .query(Long.class)
+                        .list();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        jdbcClient
+                .sql(COPY_TO_HISTORY)
+                .param("archivedAt", LocalDateTime.now())
+                .param("ids", ids)
+                .update();
+        return jdbcClient.sql(DELETE).param("ids", ids).update();
+    }
+}
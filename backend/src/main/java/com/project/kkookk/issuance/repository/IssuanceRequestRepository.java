@@ -3,11 +3,13 @@ package com.project.kkookk.issuance.repository;
 import com.project.kkookk.issuance.domain.IssuanceRequest;
 import com.project.kkookk.issuance.domain.IssuanceRequestStatus;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface IssuanceRequestRepository extends JpaRepository<IssuanceRequest, Long> {
@@ -35,4 +37,10 @@ public interface IssuanceRequestRepository extends JpaRepository<IssuanceRequest
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT r FROM IssuanceRequest r WHERE r.id = :id")
     Optional<IssuanceRequest> findByIdWithLock(@Param("id") Long id);
+
+    /** 비관적 락 (NOWAIT): 다른 트랜잭션이 점유 중이면 대기하지 않고 즉시 실패 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT r FROM IssuanceRequest r WHERE r.id = :id")
+    Optional<IssuanceRequest> findByIdWithLockNoWait(@Param("id") Long id);
 }
@@ -2,6 +2,9 @@ package com.project.kkookk.issuance.service;
 
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.lock.LockFlow;
+import com.project.kkookk.global.lock.LockResource;
+import com.project.kkookk.global.lock.LockTemplate;
 import com.project.kkookk.global.logging.FlowMdc;
 import com.project.kkookk.issuance.controller.dto.CreateIssuanceRequest;
 import com.project.kkookk.issuance.controller.dto.IssuanceRequestResponse;
@@ -23,6 +26,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -36,6 +40,7 @@ public class CustomerIssuanceService {
     private final IssuanceRequestRepository issuanceRequestRepository;
     private final WalletStampCardRepository walletStampCardRepository;
     private final StoreRepository storeRepository;
+    private final LockTemplate lockTemplate;
 
     /**
      * 적립 요청 생성
@@ -169,11 +174,19 @@ public class CustomerIssuanceService {
      * @param walletId 고객 지갑 ID
      * @return 취소된 적립 요청 응답
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public IssuanceRequestResponse cancelIssuanceRequest(Long id, Long walletId) {
+        return lockTemplate.execute(LockFlow.ISSUANCE_CANCEL, () -> cancel(id, walletId));
+    }
+
+    private IssuanceRequestResponse cancel(Long id, Long walletId) {
         IssuanceRequest request =
-                issuanceRequestRepository
-                        .findByIdWithLock(id)
+                lockTemplate
+                        .acquire(
+                                LockFlow.ISSUANCE_CANCEL,
+                                LockResource.ISSUANCE_REQUEST,
+                                () -> issuanceRequestRepository.findByIdWithLock(id),
+                                () -> issuanceRequestRepository.findByIdWithLockNoWait(id))
                         .orElseThrow(IssuanceRequestNotFoundException::new);
 
         // 본인 요청 검증
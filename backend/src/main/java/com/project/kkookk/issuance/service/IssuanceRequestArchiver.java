@@ -0,0 +1,83 @@
+package com.project.kkookk.issuance.service;
+
+import com.project.kkookk.issuance.config.IssuanceArchiveProperties;
+import com.project.kkookk.issuance.domain.IssuanceRequestStatus;
+import com.project.kkookk.issuance.repository.IssuanceRequestArchiveRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료 상태 적립 요청 보관 이동 작업.
+ *
+ * <p>승인/거절/만료/취소된 요청은 다시 바뀌지 않지만 {@code issuance_request}에 계속 쌓여, PENDING 조회와 잠금이 쓰는 최근 행의
+ * 버퍼 풀 적중률을 떨어뜨린다. 보관 기간이 지난 요청을 배치 단위 짧은 트랜잭션으로 {@code issuance_request_history}에 옮긴다.
+ * 만료 처리되지 않은 채 남은 오래된 PENDING도 함께 옮긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IssuanceRequestArchiver {
+
+    private final IssuanceRequestArchiveRepository issuanceRequestArchiveRepository;
+    private final IssuanceArchiveProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "${app.issuance.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.retention());
+        long startedAt = System.nanoTime();
+        int batches = 0;
+        long archived = 0;
+        for (IssuanceRequestStatus status : IssuanceRequestStatus.values()) {
+            while (batches < properties.maxBatches()) {
+                int moved = archiveBatch(status, cutoff);
+                batches++;
+                if (moved == 0) {
+                    break;
+                }
+                archived += moved;
+                meterRegistry
+                        .counter("kkookk.issuance.archived", "status", status.name())
+                        .increment(moved);
+                if (moved < properties.batchSize()) {
+                    break;
+                }
+                pause();
+            }
+        }
+        if (batches >= properties.maxBatches()) {
+            log.info("[IssuanceArchive] Batch limit reached, remaining rows move on next run");
+        }
+        log.info(
+                "[IssuanceArchive] Archived rows={}, batches={}, cutoff={}, elapsed={}ms",
+                archived,
+                batches,
+                cutoff,
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private int archiveBatch(IssuanceRequestStatus status, LocalDateTime cutoff) {
+        try {
+            return issuanceRequestArchiveRepository.archiveBatch(
+                    status, cutoff, properties.batchSize());
+        } catch (RuntimeException e) {
+            log.error("[IssuanceArchive] Batch failed status={}", status, e);
+            return 0;
+        }
+    }
+
+    private void pause() {
+        if (properties.pause().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.pause().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
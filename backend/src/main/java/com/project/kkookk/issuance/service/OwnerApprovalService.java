@@ -2,6 +2,9 @@ package com.project.kkookk.issuance.service;
 
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.lock.LockFlow;
+import com.project.kkookk.global.lock.LockResource;
+import com.project.kkookk.global.lock.LockTemplate;
 import com.project.kkookk.global.logging.FlowMdc;
 import com.project.kkookk.issuance.controller.dto.IssuanceApprovalResponse;
 import com.project.kkookk.issuance.controller.dto.IssuanceRejectionResponse;
@@ -20,6 +23,7 @@ import com.project.kkookk.stamp.service.StampRewardService;
 import com.project.kkookk.stampcard.domain.StampCard;
 import com.project.kkookk.stampcard.domain.StampCardStatus;
 import com.project.kkookk.stampcard.repository.StampCardRepository;
+import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.repository.StoreRepository;
 import com.project.kkookk.store.service.exception.StoreNotFoundException;
 import com.project.kkookk.wallet.domain.CustomerWallet;
@@ -32,11 +36,13 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -54,11 +60,16 @@ public class OwnerApprovalService {
     private final StampEventRepository stampEventRepository;
     private final StampCardRepository stampCardRepository;
     private final StampRewardService stampRewardService;
+    private final LockTemplate lockTemplate;
 
     /** 승인 대기 목록 조회 (Owner Polling용) */
     public PendingIssuanceRequestListResponse getPendingRequests(Long storeId, Long ownerId) {
-        validateStoreOwnership(storeId, ownerId);
+        return loadPendingRequests(validateStoreOwnership(storeId, ownerId));
+    }
 
+    /** 소유권 검증으로 얻은 매장의 승인 대기 목록 조회. 점주 대시보드가 검증을 한 번만 하고 호출한다. */
+    public PendingIssuanceRequestListResponse loadPendingRequests(Store store) {
+        Long storeId = store.getId();
         List<IssuanceRequest> pendingRequests =
                 issuanceRequestRepository.findByStoreIdAndStatus(
                         storeId, IssuanceRequestStatus.PENDING);
@@ -89,13 +100,18 @@ public class OwnerApprovalService {
     }
 
     /** 적립 요청 승인 */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public IssuanceApprovalResponse approveRequest(Long storeId, Long requestId, Long ownerId) {
+        return lockTemplate.execute(
+                LockFlow.ISSUANCE_APPROVAL, () -> approve(storeId, requestId, ownerId));
+    }
+
+    private IssuanceApprovalResponse approve(Long storeId, Long requestId, Long ownerId) {
         validateStoreOwnership(storeId, ownerId);
 
+        // 락 순서: IssuanceRequest → WalletStampCard (LockResource rank 순)
         IssuanceRequest request =
-                issuanceRequestRepository
-                        .findByIdWithLock(requestId)
+                lockIssuanceRequest(LockFlow.ISSUANCE_APPROVAL, requestId)
                         .orElseThrow(IssuanceRequestNotFoundException::new);
 
         FlowMdc.setIssuanceFlow(requestId);
@@ -105,9 +121,7 @@ public class OwnerApprovalService {
 
         // 고객의 ACTIVE WalletStampCard 조회 (비관적 락으로 동시성 제어)
         WalletStampCard walletStampCard =
-                walletStampCardRepository
-                        .findByCustomerWalletIdAndStoreIdAndStatusWithLock(
-                                request.getWalletId(), storeId, WalletStampCardStatus.ACTIVE)
+                lockActiveWalletStampCard(request.getWalletId(), storeId)
                         .orElseThrow(WalletStampCardNotFoundException::new);
 
         // 고객이 적립 중인 원본 스탬프카드 조회 (리워드 기준)
@@ -164,13 +178,17 @@ public class OwnerApprovalService {
     }
 
     /** 적립 요청 거절 */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public IssuanceRejectionResponse rejectRequest(Long storeId, Long requestId, Long ownerId) {
+        return lockTemplate.execute(
+                LockFlow.ISSUANCE_REJECTION, () -> reject(storeId, requestId, ownerId));
+    }
+
+    private IssuanceRejectionResponse reject(Long storeId, Long requestId, Long ownerId) {
         validateStoreOwnership(storeId, ownerId);
 
         IssuanceRequest request =
-                issuanceRequestRepository
-                        .findByIdWithLock(requestId)
+                lockIssuanceRequest(LockFlow.ISSUANCE_REJECTION, requestId)
                         .orElseThrow(IssuanceRequestNotFoundException::new);
 
         FlowMdc.setIssuanceFlow(requestId);
@@ -191,8 +209,29 @@ public class OwnerApprovalService {
                 request.getId(), request.getStatus(), LocalDateTime.now());
     }
 
-    private void validateStoreOwnership(Long storeId, Long ownerId) {
-        storeRepository
+    private Optional<IssuanceRequest> lockIssuanceRequest(LockFlow flow, Long requestId) {
+        return lockTemplate.acquire(
+                flow,
+                LockResource.ISSUANCE_REQUEST,
+                () -> issuanceRequestRepository.findByIdWithLock(requestId),
+                () -> issuanceRequestRepository.findByIdWithLockNoWait(requestId));
+    }
+
+    private Optional<WalletStampCard> lockActiveWalletStampCard(Long walletId, Long storeId) {
+        return lockTemplate.acquire(
+                LockFlow.ISSUANCE_APPROVAL,
+                LockResource.WALLET_STAMP_CARD,
+                () ->
+                        walletStampCardRepository.findByCustomerWalletIdAndStoreIdAndStatusWithLock(
+                                walletId, storeId, WalletStampCardStatus.ACTIVE),
+                () ->
+                        walletStampCardRepository
+                                .findByCustomerWalletIdAndStoreIdAndStatusWithLockNoWait(
+                                        walletId, storeId, WalletStampCardStatus.ACTIVE));
+    }
+
+    private Store validateStoreOwnership(Long storeId, Long ownerId) {
+        return storeRepository
                 .findByIdAndOwnerAccountId(storeId, ownerId)
                 .orElseThrow(
                         () -> {
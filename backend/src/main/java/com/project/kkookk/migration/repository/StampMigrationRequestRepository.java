@@ -2,9 +2,15 @@ package com.project.kkookk.migration.repository;
 
 import com.project.kkookk.migration.domain.StampMigrationRequest;
 import com.project.kkookk.migration.domain.StampMigrationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface StampMigrationRequestRepository
         extends JpaRepository<StampMigrationRequest, Long> {
@@ -20,4 +26,17 @@ public interface StampMigrationRequestRepository
             Long storeId, StampMigrationStatus status);
 
     Optional<StampMigrationRequest> findByIdAndStoreId(Long id, Long storeId);
+
+    /** 승인/반려용: 비관적 락을 걸어서 동시 처리 방지 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM StampMigrationRequest m WHERE m.id = :id AND m.storeId = :storeId")
+    Optional<StampMigrationRequest> findByIdAndStoreIdWithLock(
+            @Param("id") Long id, @Param("storeId") Long storeId);
+
+    /** 승인/반려용: 비관적 락 (NOWAIT) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query("SELECT m FROM StampMigrationRequest m WHERE m.id = :id AND m.storeId = :storeId")
+    Optional<StampMigrationRequest> findByIdAndStoreIdWithLockNoWait(
+            @Param("id") Long id, @Param("storeId") Long storeId);
 }
@@ -2,6 +2,9 @@ package com.project.kkookk.migration.service;
 
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.lock.LockFlow;
+import com.project.kkookk.global.lock.LockResource;
+import com.project.kkookk.global.lock.LockTemplate;
 import com.project.kkookk.global.logging.FlowMdc;
 import com.project.kkookk.migration.controller.dto.MigrationApproveRequest;
 import com.project.kkookk.migration.controller.dto.MigrationApproveResponse;
@@ -20,6 +23,7 @@ import com.project.kkookk.stamp.service.StampRewardService;
 import com.project.kkookk.stampcard.domain.StampCard;
 import com.project.kkookk.stampcard.domain.StampCardStatus;
 import com.project.kkookk.stampcard.repository.StampCardRepository;
+import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.repository.StoreRepository;
 import com.project.kkookk.wallet.domain.CustomerWallet;
 import com.project.kkookk.wallet.domain.WalletStampCard;
@@ -29,10 +33,12 @@ import com.project.kkookk.wallet.repository.WalletStampCardRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -47,6 +53,7 @@ public class OwnerMigrationService {
     private final StampEventRepository stampEventRepository;
     private final StoreRepository storeRepository;
     private final StampRewardService stampRewardService;
+    private final LockTemplate lockTemplate;
 
     public OwnerMigrationService(
             StampMigrationRequestRepository migrationRepository,
@@ -55,7 +62,8 @@ public class OwnerMigrationService {
             StampCardRepository stampCardRepository,
             StampEventRepository stampEventRepository,
             StoreRepository storeRepository,
-            StampRewardService stampRewardService) {
+            StampRewardService stampRewardService,
+            LockTemplate lockTemplate) {
         this.migrationRepository = migrationRepository;
         this.customerWalletRepository = customerWalletRepository;
         this.walletStampCardRepository = walletStampCardRepository;
@@ -63,11 +71,16 @@ public class OwnerMigrationService {
         this.stampEventRepository = stampEventRepository;
         this.storeRepository = storeRepository;
         this.stampRewardService = stampRewardService;
+        this.lockTemplate = lockTemplate;
     }
 
     public MigrationListResponse getList(Long storeId, Long ownerId) {
-        validateStoreOwnership(storeId, ownerId);
+        return loadList(validateStoreOwnership(storeId, ownerId));
+    }
 
+    /** 소유권 검증으로 얻은 매장의 이전 요청 목록 조회. 점주 대시보드가 검증을 한 번만 하고 호출한다. */
+    public MigrationListResponse loadList(Store store) {
+        Long storeId = store.getId();
         List<StampMigrationRequest> migrations =
                 migrationRepository.findByStoreIdAndStatusOrderByRequestedAtDesc(
                         storeId, StampMigrationStatus.SUBMITTED);
@@ -120,11 +133,21 @@ public class OwnerMigrationService {
                 migration.getProcessedAt());
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MigrationApproveResponse approve(
             Long storeId, Long migrationId, MigrationApproveRequest request, Long ownerId) {
+        return lockTemplate.execute(
+                LockFlow.MIGRATION_APPROVAL,
+                () -> doApprove(storeId, migrationId, request, ownerId));
+    }
+
+    private MigrationApproveResponse doApprove(
+            Long storeId, Long migrationId, MigrationApproveRequest request, Long ownerId) {
         validateStoreOwnership(storeId, ownerId);
-        StampMigrationRequest migration = findMigrationByIdAndStoreId(migrationId, storeId);
+
+        // 락 순서: StampMigrationRequest → WalletStampCard (적립 승인과 동일한 순서)
+        StampMigrationRequest migration =
+                lockMigration(LockFlow.MIGRATION_APPROVAL, migrationId, storeId);
 
         FlowMdc.setMigrationFlow(migrationId);
 
@@ -136,11 +159,7 @@ public class OwnerMigrationService {
 
         // 고객의 ACTIVE WalletStampCard 조회 (비관적 락으로 동시성 제어)
         WalletStampCard walletStampCard =
-                walletStampCardRepository
-                        .findByCustomerWalletIdAndStoreIdAndStatusWithLock(
-                                migration.getCustomerWalletId(),
-                                storeId,
-                                WalletStampCardStatus.ACTIVE)
+                lockActiveWalletStampCard(migration.getCustomerWalletId(), storeId)
                         .orElseThrow(
                                 () -> new BusinessException(ErrorCode.WALLET_STAMP_CARD_NOT_FOUND));
 
@@ -195,11 +214,19 @@ public class OwnerMigrationService {
                 migration.getProcessedAt());
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public MigrationRejectResponse reject(
             Long storeId, Long migrationId, MigrationRejectRequest request, Long ownerId) {
+        return lockTemplate.execute(
+                LockFlow.MIGRATION_REJECTION,
+                () -> doReject(storeId, migrationId, request, ownerId));
+    }
+
+    private MigrationRejectResponse doReject(
+            Long storeId, Long migrationId, MigrationRejectRequest request, Long ownerId) {
         validateStoreOwnership(storeId, ownerId);
-        StampMigrationRequest migration = findMigrationByIdAndStoreId(migrationId, storeId);
+        StampMigrationRequest migration =
+                lockMigration(LockFlow.MIGRATION_REJECTION, migrationId, storeId);
 
         if (!migration.isSubmitted()) {
             throw new BusinessException(ErrorCode.MIGRATION_ALREADY_PROCESSED);
@@ -223,8 +250,33 @@ public class OwnerMigrationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MIGRATION_NOT_FOUND));
     }
 
-    private void validateStoreOwnership(Long storeId, Long ownerId) {
-        storeRepository
+    private StampMigrationRequest lockMigration(LockFlow flow, Long migrationId, Long storeId) {
+        return lockTemplate
+                .acquire(
+                        flow,
+                        LockResource.STAMP_MIGRATION_REQUEST,
+                        () -> migrationRepository.findByIdAndStoreIdWithLock(migrationId, storeId),
+                        () ->
+                                migrationRepository.findByIdAndStoreIdWithLockNoWait(
+                                        migrationId, storeId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.MIGRATION_NOT_FOUND));
+    }
+
+    private Optional<WalletStampCard> lockActiveWalletStampCard(Long walletId, Long storeId) {
+        return lockTemplate.acquire(
+                LockFlow.MIGRATION_APPROVAL,
+                LockResource.WALLET_STAMP_CARD,
+                () ->
+                        walletStampCardRepository.findByCustomerWalletIdAndStoreIdAndStatusWithLock(
+                                walletId, storeId, WalletStampCardStatus.ACTIVE),
+                () ->
+                        walletStampCardRepository
+                                .findByCustomerWalletIdAndStoreIdAndStatusWithLockNoWait(
+                                        walletId, storeId, WalletStampCardStatus.ACTIVE));
+    }
+
+    private Store validateStoreOwnership(Long storeId, Long ownerId) {
+        return storeRepository
                 .findByIdAndOwnerAccountId(storeId, ownerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ACCESS_DENIED));
     }
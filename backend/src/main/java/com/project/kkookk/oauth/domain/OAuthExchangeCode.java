@@ -0,0 +1,38 @@
+package com.project.kkookk.oauth.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * OAuth 일회용 교환 코드 (공유 저장소 구현용).
+ *
+ * <p>코드 원문 대신 SHA-256 해시를 키로 저장한다. 기록/소모는 {@code JdbcOAuthExchangeCodeStore}의 SQL로만 수행한다.
+ */
+@Entity
+@Table(
+        name = "oauth_exchange_code",
+        indexes = @Index(name = "idx_oauth_exchange_code_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OAuthExchangeCode {
+
+    @Id
+    @Column(name = "code_hash", length = 64)
+    private String codeHash;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,7 +1,9 @@
 package com.project.kkookk.oauth.service;
 
+import com.project.kkookk.global.http.OutboundHttp;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -12,6 +14,15 @@ import org.springframework.stereotype.Component;
 @Component
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
+    // 사용자 정보 조회도 공용 커넥션 풀을 쓴다 (에러 처리는 기본 구현과 동일)
+    public CustomOAuth2UserService(OutboundHttp outboundHttp) {
+        setRestOperations(
+                outboundHttp
+                        .restTemplateBuilder(null)
+                        .errorHandler(new OAuth2ErrorResponseErrorHandler())
+                        .build());
+    }
+
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         OAuth2User oauth2User = super.loadUser(userRequest);
@@ -0,0 +1,35 @@
+package com.project.kkookk.oauth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.kkookk.oauth.controller.dto.OAuthLoginResponse;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/** 단일 인스턴스용 교환 코드 저장소 (JVM 메모리) */
+@Component
+@ConditionalOnProperty(
+        prefix = "app.oauth.exchange-code",
+        name = "store",
+        havingValue = "memory",
+        matchIfMissing = true)
+public class InMemoryOAuthExchangeCodeStore implements OAuthExchangeCodeStore {
+
+    private final Cache<String, OAuthLoginResponse> cache =
+            Caffeine.newBuilder().expireAfterWrite(TTL).maximumSize(1000).build();
+
+    @Override
+    public String store(OAuthLoginResponse response) {
+        String code = UUID.randomUUID().toString();
+        cache.put(code, response);
+        return code;
+    }
+
+    @Override
+    public Optional<OAuthLoginResponse> exchange(String code) {
+        // 조회와 삭제를 한 번에 해야 동시 요청 중 하나만 성공한다
+        return Optional.ofNullable(cache.asMap().remove(code));
+    }
+}
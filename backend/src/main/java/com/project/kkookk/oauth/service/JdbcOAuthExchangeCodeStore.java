@@ -0,0 +1,113 @@
+package com.project.kkookk.oauth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.kkookk.oauth.controller.dto.OAuthLoginResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 공유 교환 코드 저장소 (다중 인스턴스용).
+ *
+ * <p>코드는 SHA-256 해시로만 저장한다. 교환 시 payload를 읽은 뒤 {@code DELETE ... WHERE expires_at > now}의 영향 행 수가
+ * 1인 요청만 성공으로 처리해, 여러 노드에서 같은 코드를 동시에 교환해도 한 번만 성공한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.oauth.exchange-code", name = "store", havingValue = "jdbc")
+public class JdbcOAuthExchangeCodeStore implements OAuthExchangeCodeStore {
+
+    private static final String INSERT =
+            "INSERT INTO oauth_exchange_code (code_hash, payload, expires_at, created_at) "
+                    + "VALUES (?, ?, ?, ?)";
+
+    private static final String FIND_PAYLOAD =
+            "SELECT payload FROM oauth_exchange_code WHERE code_hash = ? AND expires_at > ?";
+
+    private static final String CONSUME =
+            "DELETE FROM oauth_exchange_code WHERE code_hash = ? AND expires_at > ?";
+
+    private static final String DELETE_EXPIRED =
+            "DELETE FROM oauth_exchange_code WHERE expires_at <= ?";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JdbcClient jdbcClient;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String store(OAuthLoginResponse response) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String code = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcClient
+                .sql(INSERT)
+                .params(hash(code), toJson(response), now.plus(TTL), now)
+                .update();
+        return code;
+    }
+
+    @Override
+    public Optional<OAuthLoginResponse> exchange(String code) {
+        String codeHash = hash(code);
+        LocalDateTime now = LocalDateTime.now();
+        Optional<String> payload =
+                jdbcClient.sql(FIND_PAYLOAD).params(codeHash, now).query(String.class).optional();
+        if (payload.isEmpty()) {
+            return Optional.empty();
+        }
+        // 삭제에 성공한 요청만 코드를 소모한 것으로 본다 (동시 교환 시 나머지는 0행)
+        int consumed = jdbcClient.sql(CONSUME).params(codeHash, now).update();
+        if (consumed != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(fromJson(payload.get()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.oauth.exchange-code.purge-interval:5m}")
+    public void purgeExpired() {
+        int deleted = jdbcClient.sql(DELETE_EXPIRED).param(LocalDateTime.now()).update();
+        if (deleted > 0) {
+            log.info("[OAuthExchangeCode] Purged expired codes={}", deleted);
+        }
+    }
+
+    private String toJson(OAuthLoginResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OAuth 로그인 결과 직렬화 실패", e);
+        }
+    }
+
+    private OAuthLoginResponse fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, OAuthLoginResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OAuth 로그인 결과 역직렬화 실패", e);
+        }
+    }
+
+    private static String hash(String code) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(code.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,34 +1,23 @@
 package com.project.kkookk.oauth.service;
 
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.project.kkookk.oauth.controller.dto.OAuthLoginResponse;
 import java.time.Duration;
 import java.util.Optional;
-import java.util.UUID;
-import org.springframework.stereotype.Component;
 
-@Component
-public class OAuthExchangeCodeStore {
+/**
+ * OAuth 로그인 결과를 일회용 교환 코드로 보관하는 저장소.
+ *
+ * <p>로그인 성공 핸들러가 코드를 발급하고 프론트엔드가 {@code POST /api/public/oauth/token}으로 한 번만 교환한다. 두
+ * 요청이 다른 노드로 갈 수 있으므로 여러 인스턴스를 띄울 때는 공유 저장소 구현({@code
+ * app.oauth.exchange-code.store=jdbc})을 쓴다.
+ */
+public interface OAuthExchangeCodeStore {
 
-    private final Cache<String, OAuthLoginResponse> cache =
-            Caffeine.newBuilder()
-                    .expireAfterWrite(Duration.ofSeconds(60))
-                    .maximumSize(1000)
-                    .build();
+    Duration TTL = Duration.ofSeconds(60);
 
-    public String store(OAuthLoginResponse response) {
-        String code = UUID.randomUUID().toString();
-        cache.put(code, response);
-        return code;
-    }
+    /** 로그인 결과를 저장하고 교환 코드를 발급한다. */
+    String store(OAuthLoginResponse response);
 
-    public Optional<OAuthLoginResponse> exchange(String code) {
-        OAuthLoginResponse response = cache.getIfPresent(code);
-        if (response != null) {
-            cache.invalidate(code);
-            return Optional.of(response);
-        }
-        return Optional.empty();
-    }
+    /** 코드를 소모하고 로그인 결과를 돌려준다. 같은 코드로 동시에 요청해도 한 번만 성공한다. */
+    Optional<OAuthLoginResponse> exchange(String code);
 }
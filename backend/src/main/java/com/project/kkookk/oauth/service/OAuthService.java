@@ -15,10 +15,12 @@ import com.project.kkookk.owner.repository.OwnerAccountRepository;
 import com.project.kkookk.wallet.domain.CustomerWallet;
 import com.project.kkookk.wallet.repository.CustomerWalletRepository;
 import com.project.kkookk.wallet.service.CustomerWalletService;
+import com.project.kkookk.wallet.service.WalletIdentityFilter;
 import io.jsonwebtoken.Claims;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,7 @@ public class OAuthService {
     private final OwnerAccountRepository ownerAccountRepository;
     private final CustomerWalletRepository customerWalletRepository;
     private final CustomerWalletService customerWalletService;
+    private final WalletIdentityFilter walletIdentityFilter;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
 
@@ -65,6 +68,7 @@ public class OAuthService {
         String phone = request.phone().replaceAll("[^0-9]", "");
 
         // Check if wallet already exists with this phone (link existing)
+        // 노드별 Bloom 필터는 다른 노드의 신규 가입을 모를 수 있으므로 가입 경로는 항상 DB로 확인한다
         Optional<CustomerWallet> existingWallet = customerWalletRepository.findByPhone(phone);
         CustomerWallet wallet;
         if (existingWallet.isPresent()) {
@@ -81,7 +85,13 @@ public class OAuthService {
                             .name(request.name())
                             .nickname(request.nickname())
                             .build();
-            wallet = customerWalletRepository.save(wallet);
+            try {
+                wallet = customerWalletRepository.save(wallet);
+            } catch (DataIntegrityViolationException e) {
+                // 확인과 저장 사이 동시 가입으로 unique 제약 위반 → 기존 에러 코드로 응답
+                throw new BusinessException(duplicatedWalletError(e, phone));
+            }
+            walletIdentityFilter.add(wallet);
         }
 
         // Link or create OAuthAccount for wallet
@@ -324,6 +334,15 @@ public class OAuthService {
         return jwtUtil.generateTempToken(claims);
     }
 
+    // 위반 메시지에 중복 값이 포함되므로 전화번호가 보이면 전화번호 중복, 아니면 닉네임 중복으로 본다
+    private static ErrorCode duplicatedWalletError(
+            DataIntegrityViolationException e, String phone) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(phone)
+                ? ErrorCode.WALLET_PHONE_DUPLICATED
+                : ErrorCode.WALLET_NICKNAME_DUPLICATED;
+    }
+
     private Claims validateTempToken(String tempToken) {
         try {
             Claims claims = jwtUtil.parseToken(tempToken);
@@ -2,6 +2,7 @@ package com.project.kkookk.redeem.controller.owner;
 
 import com.project.kkookk.global.dto.PageResponse;
 import com.project.kkookk.global.exception.ErrorResponse;
+import com.project.kkookk.global.export.ExportFormat;
 import com.project.kkookk.global.security.OwnerPrincipal;
 import com.project.kkookk.redeem.controller.owner.dto.RedeemEventResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,10 +14,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "Owner Redeem Event", description = "사장님 리딤 이벤트 조회 API")
 @SecurityRequirement(name = "bearerAuth")
@@ -65,4 +69,32 @@ public interface OwnerRedeemEventApi {
             @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20")
                     int size,
             @Parameter(hidden = true) @AuthenticationPrincipal OwnerPrincipal principal);
+
+    @Operation(
+            summary = "리딤 사용 완료 내역 내보내기",
+            description = "해당 매장의 리딤 사용 완료 내역 전체를 gzip 압축된 CSV 또는 NDJSON 파일로 스트리밍합니다.")
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "내보내기 성공 (application/gzip 첨부 파일)",
+                content = @Content(mediaType = "application/gzip")),
+        @ApiResponse(
+                responseCode = "404",
+                description = "매장을 찾을 수 없음",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<StreamingResponseBody> exportRedeemEvents(
+            @Parameter(description = "매장 ID", required = true) @PathVariable Long storeId,
+            @Parameter(description = "파일 형식 (CSV, NDJSON)", example = "CSV")
+                    @RequestParam(defaultValue = "CSV")
+                    ExportFormat format,
+            @Parameter(description = "시작일 (포함, yyyy-MM-dd)")
+                    @RequestParam(required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @Parameter(description = "종료일 (포함, yyyy-MM-dd, 기본값 오늘)")
+                    @RequestParam(required = false)
+                    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to,
+            @Parameter(hidden = true) @AuthenticationPrincipal OwnerPrincipal principal);
 }
@@ -1,11 +1,15 @@
 package com.project.kkookk.redeem.controller.owner;
 
 import com.project.kkookk.global.dto.PageResponse;
+import com.project.kkookk.global.export.ExportFormat;
+import com.project.kkookk.global.export.ExportResponse;
 import com.project.kkookk.global.security.OwnerPrincipal;
 import com.project.kkookk.redeem.controller.owner.dto.RedeemEventResponse;
 import com.project.kkookk.redeem.service.OwnerRedeemEventService;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -35,4 +40,22 @@ public class OwnerRedeemEventController implements OwnerRedeemEventApi {
 
         return ResponseEntity.ok(PageResponse.from(events));
     }
+
+    @Override
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRedeemEvents(
+            @PathVariable Long storeId,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to,
+            @AuthenticationPrincipal OwnerPrincipal principal) {
+
+        StreamingResponseBody body =
+                ownerRedeemEventService.exportCompletedRedeemEvents(
+                        principal.getOwnerId(), storeId, format, from, to);
+
+        return ExportResponse.attachment("redeem-events-" + storeId, format, body);
+    }
 }
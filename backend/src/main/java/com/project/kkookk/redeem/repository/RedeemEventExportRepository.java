@@ -0,0 +1,149 @@
+package com.project.kkookk.redeem.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.project.kkookk.global.export.ExportProperties;
+import com.project.kkookk.global.export.ExportWriter;
+import com.project.kkookk.global.ledger.LedgerArchiveReader;
+import com.project.kkookk.global.ledger.LedgerTable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 매장 리워드 사용(SUCCESS) 원장 내보내기.
+ *
+ * <p>동작 방식은 {@code StampEventExportRepository}와 같다. 아카이브 행은 리워드와 지갑별로 조회해 크기 제한 캐시에
+ * 두고 카드/고객 정보를 채운다.
+ */
+@Repository
+public class RedeemEventExportRepository {
+
+    public static final List<String> COLUMNS =
+            List.of(
+                    "id",
+                    "occurredAt",
+                    "result",
+                    "walletRewardId",
+                    "rewardName",
+                    "stampCardTitle",
+                    "customerNickname",
+                    "customerPhone");
+
+    private static final String SELECT =
+            "SELECT e.id, e.occurred_at, e.result, e.wallet_reward_id, sc.reward_name, sc.title, "
+                    + "cw.nickname, cw.phone "
+                    + "FROM redeem_event e "
+                    + "JOIN wallet_reward wr ON e.wallet_reward_id = wr.id "
+                    + "JOIN customer_wallet cw ON e.wallet_id = cw.id "
+                    + "JOIN stamp_cards sc ON wr.stamp_card_id = sc.id "
+                    + "WHERE e.store_id = ? AND e.result = 'SUCCESS' "
+                    + "AND e.occurred_at >= ? AND e.occurred_at < ? "
+                    + "ORDER BY e.occurred_at, e.id";
+
+    private static final String FIND_REWARD =
+            "SELECT sc.reward_name, sc.title "
+                    + "FROM wallet_reward wr "
+                    + "JOIN stamp_cards sc ON wr.stamp_card_id = sc.id "
+                    + "WHERE wr.id = ?";
+
+    private static final String FIND_CUSTOMER =
+            "SELECT nickname, phone FROM customer_wallet WHERE id = ?";
+
+    private static final String SUCCESS = "SUCCESS";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate lookupTemplate;
+    private final ExportProperties properties;
+    private final LedgerArchiveReader ledgerArchiveReader;
+
+    public RedeemEventExportRepository(
+            DataSource dataSource,
+            ExportProperties properties,
+            LedgerArchiveReader ledgerArchiveReader) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.fetchSize());
+        this.lookupTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+        this.ledgerArchiveReader = ledgerArchiveReader;
+    }
+
+    /** [from, to) 구간의 리워드 사용 이벤트를 발생 순으로 기록하고 행 수를 돌려준다. */
+    public long export(Long storeId, LocalDateTime from, LocalDateTime to, ExportWriter writer) {
+        exportArchived(storeId, from, to, writer);
+        jdbcTemplate.query(
+                SELECT,
+                rs -> {
+                    try {
+                        writer.writeRow(
+                                rs.getLong(1),
+                                rs.getTimestamp(2).toLocalDateTime(),
+                                rs.getString(3),
+                                rs.getLong(4),
+                                rs.getString(5),
+                                rs.getString(6),
+                                rs.getString(7),
+                                rs.getString(8));
+                    } catch (IOException e) {
+                        // 클라이언트가 다운로드를 끊은 경우
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                storeId,
+                from,
+                to);
+        return writer.rowCount();
+    }
+
+    private void exportArchived(
+            Long storeId, LocalDateTime from, LocalDateTime to, ExportWriter writer) {
+        Cache<Long, Optional<Pair>> rewards = properties.newLookupCache();
+        Cache<Long, Optional<Pair>> customers = properties.newLookupCache();
+        try {
+            ledgerArchiveReader.forEach(
+                    LedgerTable.REDEEM_EVENT,
+                    storeId,
+                    from,
+                    to,
+                    row -> {
+                        if (!SUCCESS.equals(LedgerArchiveReader.text(row, "result"))) {
+                            return;
+                        }
+                        Long walletRewardId = row.path("wallet_reward_id").asLong();
+                        Optional<Pair> reward =
+                                rewards.get(walletRewardId, id -> findPair(FIND_REWARD, id));
+                        Optional<Pair> customer =
+                                customers.get(
+                                        row.path("wallet_id").asLong(),
+                                        id -> findPair(FIND_CUSTOMER, id));
+                        if (reward.isEmpty() || customer.isEmpty()) {
+                            return;
+                        }
+                        writer.writeRow(
+                                row.path("id").asLong(),
+                                LedgerArchiveReader.occurredAt(row),
+                                SUCCESS,
+                                walletRewardId,
+                                reward.get().first(),
+                                reward.get().second(),
+                                customer.get().first(),
+                                customer.get().second());
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<Pair> findPair(String sql, Long id) {
+        return lookupTemplate
+                .query(sql, (rs, rowNum) -> new Pair(rs.getString(1), rs.getString(2)), id)
+                .stream()
+                .findFirst();
+    }
+
+    private record Pair(String first, String second) {}
+}
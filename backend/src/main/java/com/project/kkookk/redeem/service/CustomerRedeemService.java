@@ -1,5 +1,7 @@
 package com.project.kkookk.redeem.service;
 
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
 import com.project.kkookk.redeem.controller.dto.RedeemRewardRequest;
@@ -26,6 +28,7 @@ public class CustomerRedeemService {
     private final WalletRewardRepository walletRewardRepository;
     private final StoreRepository storeRepository;
     private final StampCardRepository stampCardRepository;
+    private final ChangeCounterRepository changeCounterRepository;
 
     @Transactional
     public RedeemRewardResponse redeemReward(Long walletId, RedeemRewardRequest request) {
@@ -67,6 +70,7 @@ public class CustomerRedeemService {
                         .result(RedeemEventResult.SUCCESS)
                         .build();
         redeemEventRepository.save(event);
+        changeCounterRepository.increment(ChangeScope.WALLET, walletId);
 
         // 7. 리워드 이름 조회
         String rewardName =
@@ -2,10 +2,16 @@ package com.project.kkookk.redeem.service;
 
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.export.ExportFormat;
+import com.project.kkookk.global.export.ExportWriter;
 import com.project.kkookk.redeem.controller.owner.dto.RedeemEventResponse;
+import com.project.kkookk.redeem.repository.RedeemEventExportRepository;
 import com.project.kkookk.redeem.repository.RedeemEventProjection;
 import com.project.kkookk.redeem.repository.RedeemEventRepository;
+import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.repository.StoreRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -13,6 +19,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @Service
@@ -21,12 +28,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class OwnerRedeemEventService {
 
     private final RedeemEventRepository redeemEventRepository;
+    private final RedeemEventExportRepository redeemEventExportRepository;
     private final StoreRepository storeRepository;
 
     public Page<RedeemEventResponse> getCompletedRedeemEvents(
             Long ownerId, Long storeId, int page, int size) {
-        validateStoreOwnership(ownerId, storeId);
+        return loadCompletedRedeemEvents(validateStoreOwnership(ownerId, storeId), page, size);
+    }
 
+    /** 소유권 검증으로 얻은 매장의 사용 완료 내역 조회. 점주 대시보드가 검증을 한 번만 하고 호출한다. */
+    public Page<RedeemEventResponse> loadCompletedRedeemEvents(Store store, int page, int size) {
+        Long storeId = store.getId();
         Pageable pageable = PageRequest.of(page, size);
         Page<RedeemEventProjection> events =
                 redeemEventRepository.findCompletedByStoreId(storeId, pageable);
@@ -40,8 +52,35 @@ public class OwnerRedeemEventService {
         return events.map(RedeemEventResponse::from);
     }
 
-    private void validateStoreOwnership(Long ownerId, Long storeId) {
-        storeRepository
+    /**
+     * 리워드 사용 원장을 gzip CSV/NDJSON으로 내보낸다.
+     *
+     * <p>소유권 검증은 호출 시점에, 조회와 전송은 반환된 본문이 비동기 스레드에서 실행될 때 수행한다.
+     */
+    public StreamingResponseBody exportCompletedRedeemEvents(
+            Long ownerId, Long storeId, ExportFormat format, LocalDate from, LocalDate to) {
+        validateStoreOwnership(ownerId, storeId);
+
+        LocalDateTime fromTime = (from != null ? from : LocalDate.EPOCH).atStartOfDay();
+        LocalDateTime toTime = (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay();
+        return out -> {
+            long startedAt = System.nanoTime();
+            long rows;
+            try (ExportWriter writer =
+                    ExportWriter.open(out, format, RedeemEventExportRepository.COLUMNS)) {
+                rows = redeemEventExportRepository.export(storeId, fromTime, toTime, writer);
+            }
+            log.info(
+                    "[Redeem] Exported storeId={} format={} rows={} elapsed={}ms",
+                    storeId,
+                    format,
+                    rows,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        };
+    }
+
+    private Store validateStoreOwnership(Long ownerId, Long storeId) {
+        return storeRepository
                 .findByIdAndOwnerAccountId(storeId, ownerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
     }
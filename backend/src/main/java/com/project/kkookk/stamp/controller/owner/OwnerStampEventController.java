@@ -1,11 +1,15 @@
 package com.project.kkookk.stamp.controller.owner;
 
 import com.project.kkookk.global.dto.PageResponse;
+import com.project.kkookk.global.export.ExportFormat;
+import com.project.kkookk.global.export.ExportResponse;
 import com.project.kkookk.global.security.OwnerPrincipal;
 import com.project.kkookk.stamp.controller.owner.dto.StampEventResponse;
 import com.project.kkookk.stamp.service.OwnerStampEventService;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,4 +39,22 @@ public class OwnerStampEventController implements OwnerStampEventApi {
 
         return ResponseEntity.ok(PageResponse.from(events));
     }
+
+    @Override
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStampEvents(
+            @PathVariable Long storeId,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                    LocalDate to,
+            @AuthenticationPrincipal OwnerPrincipal principal) {
+
+        StreamingResponseBody body =
+                ownerStampEventService.exportStampEvents(
+                        principal.getOwnerId(), storeId, format, from, to);
+
+        return ExportResponse.attachment("stamp-events-" + storeId, format, body);
+    }
 }
@@ -0,0 +1,140 @@
+package com.project.kkookk.stamp.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.project.kkookk.global.export.ExportProperties;
+import com.project.kkookk.global.export.ExportWriter;
+import com.project.kkookk.global.ledger.LedgerArchiveReader;
+import com.project.kkookk.global.ledger.LedgerTable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 매장 스탬프 원장 내보내기.
+ *
+ * <p>forward-only 커서로 읽은 행을 바로 {@link ExportWriter}로 넘긴다. 엔티티나 목록을 만들지 않으므로 이력 건수와 무관하게
+ * 힙 사용량이 일정하다. 트랜잭션 밖에서 호출되며 커넥션은 스트리밍이 끝날 때까지 점유된다.
+ *
+ * <p>보존 기간이 지나 아카이브된 구간은 {@link LedgerArchiveReader}로 먼저 읽어 기록한 뒤 DB 행을 이어 붙인다. 아카이브 행에는
+ * 고객 정보가 없으므로 지갑 카드별로 조회해 크기 제한 캐시에 두고 채우며, 지갑이 없으면 DB 조회의 내부 조인과 같게 제외한다.
+ */
+@Repository
+public class StampEventExportRepository {
+
+    public static final List<String> COLUMNS =
+            List.of(
+                    "id",
+                    "occurredAt",
+                    "type",
+                    "delta",
+                    "reason",
+                    "walletStampCardId",
+                    "customerNickname",
+                    "customerPhone");
+
+    private static final String SELECT =
+            "SELECT e.id, e.occurred_at, e.type, e.delta, e.reason, e.wallet_stamp_card_id, "
+                    + "w.nickname, w.phone "
+                    + "FROM stamp_event e "
+                    + "JOIN wallet_stamp_card wsc ON e.wallet_stamp_card_id = wsc.id "
+                    + "JOIN customer_wallet w ON wsc.customer_wallet_id = w.id "
+                    + "WHERE e.store_id = ? AND e.occurred_at >= ? AND e.occurred_at < ? "
+                    + "ORDER BY e.occurred_at, e.id";
+
+    private static final String FIND_CUSTOMER =
+            "SELECT w.nickname, w.phone "
+                    + "FROM wallet_stamp_card wsc "
+                    + "JOIN customer_wallet w ON wsc.customer_wallet_id = w.id "
+                    + "WHERE wsc.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate lookupTemplate;
+    private final ExportProperties properties;
+    private final LedgerArchiveReader ledgerArchiveReader;
+
+    public StampEventExportRepository(
+            DataSource dataSource,
+            ExportProperties properties,
+            LedgerArchiveReader ledgerArchiveReader) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.fetchSize());
+        this.lookupTemplate = new JdbcTemplate(dataSource);
+        this.properties = properties;
+        this.ledgerArchiveReader = ledgerArchiveReader;
+    }
+
+    /** [from, to) 구간의 스탬프 이벤트를 발생 순으로 기록하고 행 수를 돌려준다. */
+    public long export(Long storeId, LocalDateTime from, LocalDateTime to, ExportWriter writer) {
+        exportArchived(storeId, from, to, writer);
+        jdbcTemplate.query(
+                SELECT,
+                rs -> {
+                    try {
+                        writer.writeRow(
+                                rs.getLong(1),
+                                rs.getTimestamp(2).toLocalDateTime(),
+                                rs.getString(3),
+                                rs.getInt(4),
+                                rs.getString(5),
+                                rs.getObject(6, Long.class),
+                                rs.getString(7),
+                                rs.getString(8));
+                    } catch (IOException e) {
+                        // 클라이언트가 다운로드를 끊은 경우
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                storeId,
+                from,
+                to);
+        return writer.rowCount();
+    }
+
+    private void exportArchived(
+            Long storeId, LocalDateTime from, LocalDateTime to, ExportWriter writer) {
+        Cache<Long, Optional<Customer>> customers = properties.newLookupCache();
+        try {
+            ledgerArchiveReader.forEach(
+                    LedgerTable.STAMP_EVENT,
+                    storeId,
+                    from,
+                    to,
+                    row -> {
+                        Long walletStampCardId = row.path("wallet_stamp_card_id").asLong();
+                        Optional<Customer> customer =
+                                customers.get(walletStampCardId, this::findCustomer);
+                        if (customer.isEmpty()) {
+                            return;
+                        }
+                        writer.writeRow(
+                                row.path("id").asLong(),
+                                LedgerArchiveReader.occurredAt(row),
+                                LedgerArchiveReader.text(row, "type"),
+                                row.path("delta").asInt(),
+                                LedgerArchiveReader.text(row, "reason"),
+                                walletStampCardId,
+                                customer.get().nickname(),
+                                customer.get().phone());
+                    });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Optional<Customer> findCustomer(Long walletStampCardId) {
+        return lookupTemplate
+                .query(
+                        FIND_CUSTOMER,
+                        (rs, rowNum) -> new Customer(rs.getString(1), rs.getString(2)),
+                        walletStampCardId)
+                .stream()
+                .findFirst();
+    }
+
+    private record Customer(String nickname, String phone) {}
+}
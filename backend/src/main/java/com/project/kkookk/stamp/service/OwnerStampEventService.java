@@ -2,9 +2,15 @@ package com.project.kkookk.stamp.service;
 
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.export.ExportFormat;
+import com.project.kkookk.global.export.ExportWriter;
 import com.project.kkookk.stamp.controller.owner.dto.StampEventResponse;
+import com.project.kkookk.stamp.repository.StampEventExportRepository;
 import com.project.kkookk.stamp.repository.StampEventRepository;
+import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.repository.StoreRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -12,6 +18,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @Service
@@ -20,11 +27,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class OwnerStampEventService {
 
     private final StampEventRepository stampEventRepository;
+    private final StampEventExportRepository stampEventExportRepository;
     private final StoreRepository storeRepository;
 
     public Page<StampEventResponse> getStampEvents(Long ownerId, Long storeId, int page, int size) {
-        validateStoreOwnership(ownerId, storeId);
+        return loadStampEvents(validateStoreOwnership(ownerId, storeId), page, size);
+    }
 
+    /** 소유권 검증으로 얻은 매장의 적립 내역 조회. 점주 대시보드가 검증을 한 번만 하고 호출한다. */
+    public Page<StampEventResponse> loadStampEvents(Store store, int page, int size) {
+        Long storeId = store.getId();
         Pageable pageable = PageRequest.of(page, size);
         Page<StampEventResponse> result =
                 stampEventRepository
@@ -34,8 +46,35 @@ public class OwnerStampEventService {
         return result;
     }
 
-    private void validateStoreOwnership(Long ownerId, Long storeId) {
-        storeRepository
+    /**
+     * 스탬프 원장을 gzip CSV/NDJSON으로 내보낸다.
+     *
+     * <p>소유권 검증은 호출 시점에, 조회와 전송은 반환된 본문이 비동기 스레드에서 실행될 때 수행한다.
+     */
+    public StreamingResponseBody exportStampEvents(
+            Long ownerId, Long storeId, ExportFormat format, LocalDate from, LocalDate to) {
+        validateStoreOwnership(ownerId, storeId);
+
+        LocalDateTime fromTime = (from != null ? from : LocalDate.EPOCH).atStartOfDay();
+        LocalDateTime toTime = (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay();
+        return out -> {
+            long startedAt = System.nanoTime();
+            long rows;
+            try (ExportWriter writer =
+                    ExportWriter.open(out, format, StampEventExportRepository.COLUMNS)) {
+                rows = stampEventExportRepository.export(storeId, fromTime, toTime, writer);
+            }
+            log.info(
+                    "[StampEvent] Exported storeId={} format={} rows={} elapsed={}ms",
+                    storeId,
+                    format,
+                    rows,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+        };
+    }
+
+    private Store validateStoreOwnership(Long ownerId, Long storeId) {
+        return storeRepository
                 .findByIdAndOwnerAccountId(storeId, ownerId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
     }
@@ -1,10 +1,13 @@
 package com.project.kkookk.stamp.service;
 
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.stampcard.domain.StampCard;
 import com.project.kkookk.wallet.domain.WalletReward;
 import com.project.kkookk.wallet.domain.WalletStampCard;
 import com.project.kkookk.wallet.repository.WalletRewardBatchRepository;
 import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import com.project.kkookk.wallet.repository.WalletSummaryRepository;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +22,8 @@ public class StampRewardService {
 
     private final WalletRewardBatchRepository walletRewardBatchRepository;
     private final WalletStampCardRepository walletStampCardRepository;
+    private final WalletSummaryRepository walletSummaryRepository;
+    private final ChangeCounterRepository changeCounterRepository;
 
     /**
      * 스탬프 적립 후 리워드 발급 처리
@@ -70,6 +75,7 @@ public class StampRewardService {
             walletStampCard.complete();
 
             // 새 WalletStampCard 생성 (현재 ACTIVE인 StampCard 기준)
+            // 완료 1장 + 생성 1장이라 매장 ACTIVE 카드 카운터는 그대로 둔다
             WalletStampCard newWalletStampCard =
                     WalletStampCard.builder()
                             .customerWalletId(walletStampCard.getCustomerWalletId())
@@ -95,6 +101,11 @@ public class StampRewardService {
             walletStampCard.addStamps(delta);
         }
 
+        // 지갑 홈 화면 읽기 모델 무효화 + 지갑 변경 카운터 증가 (같은 트랜잭션)
+        walletSummaryRepository.invalidate(walletStampCard.getCustomerWalletId());
+        changeCounterRepository.increment(
+                ChangeScope.WALLET, walletStampCard.getCustomerWalletId());
+
         return new StampAccumulationResult(issuedRewards, currentWalletStampCard);
     }
 
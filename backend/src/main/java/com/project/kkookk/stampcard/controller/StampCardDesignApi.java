@@ -0,0 +1,32 @@
+package com.project.kkookk.stampcard.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+@Tag(name = "Public StampCard Design", description = "스탬프카드 디자인 공개 API")
+public interface StampCardDesignApi {
+
+    @Operation(
+            summary = "스탬프카드 디자인 조회",
+            description =
+                    "목록 응답의 designHash로 디자인 JSON을 조회합니다. 내용이 해시로 고정되므로 영구 캐시(immutable)로 응답합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "404", description = "디자인을 찾을 수 없음")
+    })
+    @GetMapping(value = "/api/public/designs/{hash}", produces = "application/json")
+    ResponseEntity<byte[]> getDesign(
+            @Parameter(description = "디자인 콘텐츠 해시 (SHA-256 hex)", required = true) @PathVariable
+                    String hash,
+            @Parameter(hidden = true)
+                    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                    String acceptEncoding);
+}
@@ -0,0 +1,38 @@
+package com.project.kkookk.stampcard.controller;
+
+import com.project.kkookk.stampcard.service.StampCardDesignService;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class StampCardDesignController implements StampCardDesignApi {
+
+    private static final CacheControl IMMUTABLE =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final StampCardDesignService stampCardDesignService;
+
+    @Override
+    public ResponseEntity<byte[]> getDesign(String hash, String acceptEncoding) {
+        byte[] compressed = stampCardDesignService.getCompressedDesign(hash);
+
+        ResponseEntity.BodyBuilder builder =
+                ResponseEntity.ok()
+                        .cacheControl(IMMUTABLE)
+                        .eTag(hash)
+                        .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        // 캐시에 압축된 바이트를 그대로 내려보내고, gzip 미지원 클라이언트만 해제
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(compressed);
+        }
+        return builder.body(
+                StampCardDesignService.decompress(compressed).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.kkookk.stampcard.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 스탬프카드 디자인 JSON의 콘텐츠 해시.
+ *
+ * <p>UTF-8 바이트의 SHA-256 소문자 hex로, MySQL {@code SHA2(design_json, 256)}과 같은 값이다.
+ */
+public final class DesignHash {
+
+    private static final Pattern FORMAT = Pattern.compile("^[0-9a-f]{64}$");
+
+    private DesignHash() {}
+
+    public static String of(String designJson) {
+        if (designJson == null || designJson.isBlank()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(designJson.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not found", e);
+        }
+    }
+
+    public static boolean isValid(String hash) {
+        return hash != null && FORMAT.matcher(hash).matches();
+    }
+}
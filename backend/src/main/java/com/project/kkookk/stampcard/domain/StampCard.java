@@ -8,10 +8,16 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "stamp_cards")
+@Table(
+        name = "stamp_cards",
+        indexes = {
+            @Index(name = "idx_stamp_cards_design_hash", columnList = "design_hash"),
+            @Index(name = "idx_stamp_cards_store_status", columnList = "store_id, status")
+        })
 public class StampCard extends BaseTimeEntity {
 
     @Id
@@ -50,6 +56,9 @@ public class StampCard extends BaseTimeEntity {
     @Column(name = "design_json", columnDefinition = "MEDIUMTEXT")
     private String designJson;
 
+    @Column(name = "design_hash", length = 64)
+    private String designHash;
+
     protected StampCard() {}
 
     private StampCard(Builder builder) {
@@ -64,6 +73,7 @@ public class StampCard extends BaseTimeEntity {
         this.designType =
                 builder.designType != null ? builder.designType : StampCardDesignType.COLOR;
         this.designJson = builder.designJson;
+        this.designHash = DesignHash.of(builder.designJson);
     }
 
     public static Builder builder() {
@@ -114,6 +124,10 @@ public class StampCard extends BaseTimeEntity {
         return designJson;
     }
 
+    public String getDesignHash() {
+        return designHash;
+    }
+
     public boolean isDraft() {
         return this.status == StampCardStatus.DRAFT;
     }
@@ -143,6 +157,7 @@ public class StampCard extends BaseTimeEntity {
         this.expireDays = expireDays;
         this.designType = designType != null ? designType : this.designType;
         this.designJson = designJson;
+        this.designHash = DesignHash.of(designJson);
     }
 
     public static class Builder {
@@ -23,4 +23,6 @@ public interface StampCardRepository extends JpaRepository<StampCard, Long> {
             Long storeId, StampCardStatus status);
 
     int countByStoreIdAndStatus(Long storeId, StampCardStatus status);
+
+    Optional<StampCard> findFirstByDesignHash(String designHash);
 }
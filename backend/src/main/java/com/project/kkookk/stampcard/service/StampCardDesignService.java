@@ -0,0 +1,104 @@
+package com.project.kkookk.stampcard.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.stampcard.domain.DesignHash;
+import com.project.kkookk.stampcard.domain.StampCard;
+import com.project.kkookk.stampcard.repository.StampCardRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 콘텐츠 해시로 주소 지정되는 스탬프카드 디자인 조회.
+ *
+ * <p>같은 해시의 디자인은 절대 바뀌지 않으므로 만료 없이 gzip 압축된 바이트로 캐싱하고, 용량 한도만 둔다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class StampCardDesignService {
+
+    public static final String CACHE_NAME = "stampCardDesign";
+
+    // 압축 후 기준 16MB (디자인 1건 압축 시 수 KB)
+    private static final long MAX_CACHE_BYTES = 16L * 1024 * 1024;
+
+    private final StampCardRepository stampCardRepository;
+    private final Cache<String, byte[]> compressedDesigns;
+
+    public StampCardDesignService(
+            StampCardRepository stampCardRepository, MeterRegistry meterRegistry) {
+        this.stampCardRepository = stampCardRepository;
+        this.compressedDesigns =
+                Caffeine.newBuilder()
+                        .maximumWeight(MAX_CACHE_BYTES)
+                        .weigher((String hash, byte[] bytes) -> bytes.length)
+                        .recordStats()
+                        .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, compressedDesigns, CACHE_NAME);
+    }
+
+    /** gzip 압축된 디자인 JSON 조회 */
+    public byte[] getCompressedDesign(String hash) {
+        if (!DesignHash.isValid(hash)) {
+            throw new BusinessException(ErrorCode.STAMP_CARD_DESIGN_NOT_FOUND);
+        }
+        byte[] compressed = compressedDesigns.get(hash, this::loadCompressed);
+        if (compressed == null) {
+            throw new BusinessException(ErrorCode.STAMP_CARD_DESIGN_NOT_FOUND);
+        }
+        return compressed;
+    }
+
+    /** 디자인 JSON 원문 조회 (해시가 없거나 디자인이 없으면 null) */
+    public String findDesignJson(String hash) {
+        if (!DesignHash.isValid(hash)) {
+            return null;
+        }
+        byte[] compressed = compressedDesigns.get(hash, this::loadCompressed);
+        return compressed != null ? decompress(compressed) : null;
+    }
+
+    private byte[] loadCompressed(String hash) {
+        return stampCardRepository
+                .findFirstByDesignHash(hash)
+                .map(StampCard::getDesignJson)
+                .map(StampCardDesignService::compress)
+                .orElseGet(
+                        () -> {
+                            log.debug("[StampCardDesign] Not found hash={}", hash);
+                            return null;
+                        });
+    }
+
+    public static String decompress(byte[] compressed) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] compress(String designJson) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(designJson.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -2,6 +2,8 @@ package com.project.kkookk.stampcard.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.stampcard.controller.dto.CreateStampCardRequest;
 import com.project.kkookk.stampcard.controller.dto.StampCardListResponse;
 import com.project.kkookk.stampcard.controller.dto.StampCardResponse;
@@ -16,8 +18,11 @@ import com.project.kkookk.stampcard.service.exception.StampCardDeleteNotAllowedE
 import com.project.kkookk.stampcard.service.exception.StampCardNotFoundException;
 import com.project.kkookk.stampcard.service.exception.StampCardStatusInvalidException;
 import com.project.kkookk.stampcard.service.exception.StampCardUpdateNotAllowedException;
+import com.project.kkookk.store.domain.StoreSummaryChangedEvent;
 import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import com.project.kkookk.wallet.repository.WalletSummaryRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,15 +35,24 @@ public class StampCardService {
 
     private final StampCardRepository stampCardRepository;
     private final WalletStampCardRepository walletStampCardRepository;
+    private final WalletSummaryRepository walletSummaryRepository;
+    private final ChangeCounterRepository changeCounterRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StampCardService(
             StampCardRepository stampCardRepository,
             WalletStampCardRepository walletStampCardRepository,
-            ObjectMapper objectMapper) {
+            WalletSummaryRepository walletSummaryRepository,
+            ChangeCounterRepository changeCounterRepository,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher) {
         this.stampCardRepository = stampCardRepository;
         this.walletStampCardRepository = walletStampCardRepository;
+        this.walletSummaryRepository = walletSummaryRepository;
+        this.changeCounterRepository = changeCounterRepository;
         this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -104,6 +118,11 @@ public class StampCardService {
                 request.designJson());
         log.info("Fully updated stamp card: {}", id);
 
+        if (stampCard.getStatus() == StampCardStatus.ACTIVE) {
+            // 아직 발급 전인 활성 카드도 고객 매장 화면에 노출된다
+            eventPublisher.publishEvent(new StoreSummaryChangedEvent(storeId));
+        }
+
         return StampCardResponse.from(stampCard, false);
     }
 
@@ -134,6 +153,12 @@ public class StampCardService {
         log.info("[StampCard] Status transition id={} from={} to={}", id, currentStatus, newStatus);
 
         boolean issued = walletStampCardRepository.existsByStampCardId(stampCard.getId());
+        if (issued) {
+            walletSummaryRepository.invalidateByStoreId(storeId);
+            changeCounterRepository.incrementWalletsOfStore(storeId);
+        }
+        changeCounterRepository.increment(ChangeScope.STORE, storeId);
+        eventPublisher.publishEvent(new StoreSummaryChangedEvent(storeId));
         return StampCardResponse.from(stampCard, issued);
     }
 
@@ -43,6 +43,13 @@ public class OwnerStatisticsService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
+        return loadStoreStatistics(store, startDate, endDate);
+    }
+
+    /** 소유권 검증으로 얻은 매장의 통계 조회. 점주 대시보드가 검증을 한 번만 하고 호출한다. */
+    public StoreStatisticsResponse loadStoreStatistics(
+            Store store, LocalDate startDate, LocalDate endDate) {
+        Long storeId = store.getId();
         log.info("[Statistics] Queried storeId={} period={} to={}", storeId, startDate, endDate);
 
         // 2. 기간 설정
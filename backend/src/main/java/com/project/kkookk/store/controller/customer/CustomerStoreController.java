@@ -1,5 +1,7 @@
 package com.project.kkookk.store.controller.customer;
 
+import com.project.kkookk.global.conditional.ChangeScope;
+import com.project.kkookk.global.conditional.ConditionalGet;
 import com.project.kkookk.store.controller.customer.dto.StoreStampCardSummaryResponse;
 import com.project.kkookk.store.service.CustomerStoreService;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ public class CustomerStoreController {
 
     private final CustomerStoreService customerStoreService;
 
+    @ConditionalGet(ChangeScope.STORE)
     @GetMapping("/{storeId}/summary")
     public ResponseEntity<StoreStampCardSummaryResponse> getStoreSummary(
             @PathVariable Long storeId) {
@@ -1,16 +1,25 @@
 package com.project.kkookk.store.controller.customer;
 
+import com.project.kkookk.store.dto.response.NearbyStoreResponse;
 import com.project.kkookk.store.dto.response.StoreListItemResponse;
 import com.project.kkookk.store.dto.response.StorePublicInfoResponse;
+import com.project.kkookk.store.dto.response.StoreSearchResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Public Store", description = "공개 매장 정보 API")
 public interface StorePublicApi {
@@ -20,6 +29,60 @@ public interface StorePublicApi {
     @GetMapping("/api/public/stores")
     ResponseEntity<List<StoreListItemResponse>> getAllActiveStores();
 
+    @Operation(
+            summary = "주변 매장 조회",
+            description = "좌표 기준 반경 내 활성 매장을 가까운 순으로 조회합니다. 인증이 필요하지 않습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 좌표 또는 검색 범위")
+    })
+    @GetMapping("/api/public/stores/nearby")
+    ResponseEntity<List<NearbyStoreResponse>> getNearbyStores(
+            @Parameter(description = "위도", required = true, example = "37.4979")
+                    @RequestParam
+                    @DecimalMin("-90")
+                    @DecimalMax("90")
+                    double lat,
+            @Parameter(description = "경도", required = true, example = "127.0276")
+                    @RequestParam
+                    @DecimalMin("-180")
+                    @DecimalMax("180")
+                    double lng,
+            @Parameter(description = "반경 (m, 1~5000)")
+                    @RequestParam(defaultValue = "1000")
+                    @Min(1)
+                    @Max(5000)
+                    int radius,
+            @Parameter(description = "최대 개수 (1~50)")
+                    @RequestParam(defaultValue = "20")
+                    @Min(1)
+                    @Max(50)
+                    int limit);
+
+    @Operation(
+            summary = "매장 검색",
+            description =
+                    "매장명/주소/설명으로 활성 매장을 관련도 순으로 검색합니다. 초성 검색과 자모 단위 오타를 허용합니다."
+                            + " 인증이 필요하지 않습니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "검색 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 검색어 또는 페이징 파라미터")
+    })
+    @GetMapping("/api/public/stores/search")
+    ResponseEntity<StoreSearchResponse> searchStores(
+            @Parameter(description = "검색어", required = true, example = "꾹꾹 카페")
+                    @RequestParam
+                    @NotBlank
+                    @Size(max = 50)
+                    String q,
+            @Parameter(description = "페이지 번호 (0-based)") @RequestParam(defaultValue = "0") @Min(0)
+                    int page,
+            @Parameter(description = "페이지 크기 (1~50)")
+                    @RequestParam(defaultValue = "20")
+                    @Min(1)
+                    @Max(50)
+                    int size);
+
     @Operation(
             summary = "매장 공개 정보 조회 (QR 스캔 후)",
             description = "QR 스캔 후 진입 화면에서 표시할 매장 정보를 조회합니다. 인증이 필요하지 않습니다.")
@@ -1,14 +1,18 @@
 package com.project.kkookk.store.controller.customer;
 
+import com.project.kkookk.store.dto.response.NearbyStoreResponse;
 import com.project.kkookk.store.dto.response.StoreListItemResponse;
 import com.project.kkookk.store.dto.response.StorePublicInfoResponse;
+import com.project.kkookk.store.dto.response.StoreSearchResponse;
 import com.project.kkookk.store.service.StorePublicService;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@Validated
 @RequiredArgsConstructor
 public class StorePublicController implements StorePublicApi {
 
@@ -20,6 +24,20 @@ public class StorePublicController implements StorePublicApi {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    public ResponseEntity<List<NearbyStoreResponse>> getNearbyStores(
+            double lat, double lng, int radius, int limit) {
+        List<NearbyStoreResponse> response =
+                storePublicService.getNearbyStores(lat, lng, radius, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @Override
+    public ResponseEntity<StoreSearchResponse> searchStores(String q, int page, int size) {
+        StoreSearchResponse response = storePublicService.searchStores(q, page, size);
+        return ResponseEntity.ok(response);
+    }
+
     @Override
     public ResponseEntity<StorePublicInfoResponse> getStorePublicInfo(Long storeId) {
         StorePublicInfoResponse response = storePublicService.getStorePublicInfo(storeId);
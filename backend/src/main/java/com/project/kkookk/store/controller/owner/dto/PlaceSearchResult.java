@@ -10,4 +10,6 @@ public record PlaceSearchResult(
         @Schema(description = "전화번호", example = "02-1234-5678") String phone,
         @Schema(description = "카카오 장소 URL", example = "https://place.map.kakao.com/12345678")
                 String placeUrl,
-        @Schema(description = "카카오 장소 ID", example = "12345678") String kakaoPlaceId) {}
+        @Schema(description = "카카오 장소 ID", example = "12345678") String kakaoPlaceId,
+        @Schema(description = "위도", example = "37.4979") Double latitude,
+        @Schema(description = "경도", example = "127.0276") Double longitude) {}
@@ -17,7 +17,9 @@ public record StoreResponse(
         @Schema(description = "매장 상태", example = "DRAFT") StoreStatus status,
         @Schema(description = "생성 시각", example = "2025-01-23T10:00:00") LocalDateTime createdAt,
         @Schema(description = "수정 시각", example = "2025-01-23T10:00:00") LocalDateTime updatedAt,
-        @Schema(description = "점주 ID", example = "1") Long ownerAccountId) {
+        @Schema(description = "점주 ID", example = "1") Long ownerAccountId,
+        @Schema(description = "위도", example = "37.4979") Double latitude,
+        @Schema(description = "경도", example = "127.0276") Double longitude) {
 
     public static StoreResponse from(final Store store) {
         return new StoreResponse(
@@ -31,6 +33,8 @@ public record StoreResponse(
                 store.getStatus(),
                 store.getCreatedAt(),
                 store.getUpdatedAt(),
-                store.getOwnerAccountId());
+                store.getOwnerAccountId(),
+                store.getLatitude(),
+                store.getLongitude());
     }
 }
@@ -1,6 +1,8 @@
 package com.project.kkookk.store.controller.owner.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -21,4 +23,12 @@ public record StoreUpdateRequest(
                 String description,
         @Schema(description = "매장 아이콘 이미지 (Base64)") String iconImageBase64,
         @Schema(description = "카카오 장소 참조 ID") @Size(max = 100, message = "장소 참조 ID는 100자 이하여야 합니다")
-                String placeRef) {}
+                String placeRef,
+        @Schema(description = "위도 (카카오 장소 검색 결과)", example = "37.4979")
+                @DecimalMin(value = "-90", message = "위도는 -90 이상이어야 합니다")
+                @DecimalMax(value = "90", message = "위도는 90 이하여야 합니다")
+                Double latitude,
+        @Schema(description = "경도 (카카오 장소 검색 결과)", example = "127.0276")
+                @DecimalMin(value = "-180", message = "경도는 -180 이상이어야 합니다")
+                @DecimalMax(value = "180", message = "경도는 180 이하여야 합니다")
+                Double longitude) {}
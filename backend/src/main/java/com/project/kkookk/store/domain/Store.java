@@ -10,13 +10,19 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import java.util.Map;
 import java.util.Set;
 
 @Entity
-@Table(name = "store")
+@Table(
+        name = "store",
+        indexes = {
+            @Index(name = "idx_store_status_created_at", columnList = "status, createdAt"),
+            @Index(name = "idx_store_owner_created_at", columnList = "owner_account_id, createdAt")
+        })
 public class Store extends BaseTimeEntity {
 
     private static final Map<StoreStatus, Set<StoreStatus>> ALLOWED_TRANSITIONS =
@@ -49,6 +55,10 @@ public class Store extends BaseTimeEntity {
     @Column(length = 500)
     private String description;
 
+    private Double latitude;
+
+    private Double longitude;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private StoreStatus status;
@@ -96,6 +106,23 @@ public class Store extends BaseTimeEntity {
         this.iconImageBase64 = iconImageBase64;
     }
 
+    public void updateLocation(final Double latitude, final Double longitude) {
+        if (latitude == null || longitude == null) {
+            this.latitude = null;
+            this.longitude = null;
+            return;
+        }
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new BusinessException(ErrorCode.STORE_LOCATION_INVALID);
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
     public boolean isDraft() {
         return this.status == StoreStatus.DRAFT;
     }
@@ -140,6 +167,14 @@ public class Store extends BaseTimeEntity {
         return description;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
     public StoreStatus getStatus() {
         return status;
     }
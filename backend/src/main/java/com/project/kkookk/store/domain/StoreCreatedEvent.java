@@ -0,0 +1,4 @@
+package com.project.kkookk.store.domain;
+
+/** 매장 생성. 생성 트랜잭션 안에서 발행되며 샤드 배치 등록에 쓰인다. */
+public record StoreCreatedEvent(Long storeId) {}
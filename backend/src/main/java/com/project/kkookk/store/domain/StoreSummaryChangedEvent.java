@@ -0,0 +1,4 @@
+package com.project.kkookk.store.domain;
+
+/** 고객용 매장 요약(매장명, 활성 스탬프카드)에 영향을 주는 변경. 커밋 후 해당 매장의 캐시만 무효화한다. */
+public record StoreSummaryChangedEvent(Long storeId) {}
@@ -0,0 +1,25 @@
+package com.project.kkookk.store.dto.response;
+
+import com.project.kkookk.store.service.StoreGeoIndex;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주변 매장 응답")
+public record NearbyStoreResponse(
+        @Schema(description = "매장 ID", example = "1") Long storeId,
+        @Schema(description = "매장 이름", example = "꾹꾹 카페 강남점") String storeName,
+        @Schema(description = "매장 주소", example = "서울시 강남구 테헤란로 123") String address,
+        @Schema(description = "위도", example = "37.4979") double latitude,
+        @Schema(description = "경도", example = "127.0276") double longitude,
+        @Schema(description = "요청 좌표로부터의 거리 (m)", example = "350") int distanceMeters) {
+
+    public static NearbyStoreResponse from(StoreGeoIndex.Hit hit) {
+        StoreGeoIndex.Entry entry = hit.entry();
+        return new NearbyStoreResponse(
+                entry.storeId(),
+                entry.name(),
+                entry.address(),
+                entry.latitude(),
+                entry.longitude(),
+                (int) Math.round(hit.distanceMeters()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.kkookk.store.dto.response;
 
 import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.service.StoreSearchIndex;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "매장 목록 아이템 응답")
@@ -12,4 +13,9 @@ public record StoreListItemResponse(
     public static StoreListItemResponse from(Store store) {
         return new StoreListItemResponse(store.getId(), store.getName(), store.getAddress());
     }
+
+    public static StoreListItemResponse from(StoreSearchIndex.Hit hit) {
+        StoreSearchIndex.Document document = hit.document();
+        return new StoreListItemResponse(document.storeId(), document.name(), document.address());
+    }
 }
@@ -0,0 +1,36 @@
+package com.project.kkookk.store.repository;
+
+import com.project.kkookk.store.domain.StoreStatus;
+import java.time.LocalDateTime;
+
+public interface AdminStoreProjection {
+    Long getId();
+
+    String getName();
+
+    String getAddress();
+
+    String getPhone();
+
+    String getPlaceRef();
+
+    String getIconImageBase64();
+
+    String getDescription();
+
+    StoreStatus getStatus();
+
+    Boolean getHasActiveStampCard();
+
+    Long getOwnerAccountId();
+
+    String getOwnerName();
+
+    String getOwnerEmail();
+
+    String getOwnerPhone();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
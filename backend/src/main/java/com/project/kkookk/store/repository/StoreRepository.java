@@ -2,9 +2,14 @@ package com.project.kkookk.store.repository;
 
 import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.domain.StoreStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
@@ -19,4 +24,54 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     boolean existsByPlaceRef(String placeRef);
 
     boolean existsByPlaceRefAndIdNot(String placeRef, Long id);
+
+    /**
+     * Admin 매장 목록 (점주 정보와 활성 스탬프카드 여부를 한 번의 쿼리로 조회).
+     *
+     * <p>null인 조건은 무시한다. 정렬은 select 별칭(createdAt, name, status, id)으로 지정한다.
+     */
+    @Query(
+            value =
+                    """
+                    SELECT s.id as id,
+                           s.name as name,
+                           s.address as address,
+                           s.phone as phone,
+                           s.placeRef as placeRef,
+                           s.iconImageBase64 as iconImageBase64,
+                           s.description as description,
+                           s.status as status,
+                           CASE WHEN EXISTS (
+                               SELECT 1 FROM StampCard c
+                               WHERE c.storeId = s.id
+                               AND c.status =
+                                   com.project.kkookk.stampcard.domain.StampCardStatus.ACTIVE
+                           ) THEN true ELSE false END as hasActiveStampCard,
+                           s.ownerAccountId as ownerAccountId,
+                           o.name as ownerName,
+                           o.email as ownerEmail,
+                           o.phoneNumber as ownerPhone,
+                           s.createdAt as createdAt,
+                           s.updatedAt as updatedAt
+                    FROM Store s
+                    LEFT JOIN OwnerAccount o ON o.id = s.ownerAccountId
+                    WHERE (:status IS NULL OR s.status = :status)
+                    AND (:ownerAccountId IS NULL OR s.ownerAccountId = :ownerAccountId)
+                    AND (:createdFrom IS NULL OR s.createdAt >= :createdFrom)
+                    AND (:createdBefore IS NULL OR s.createdAt < :createdBefore)
+                    """,
+            countQuery =
+                    """
+                    SELECT COUNT(s) FROM Store s
+                    WHERE (:status IS NULL OR s.status = :status)
+                    AND (:ownerAccountId IS NULL OR s.ownerAccountId = :ownerAccountId)
+                    AND (:createdFrom IS NULL OR s.createdAt >= :createdFrom)
+                    AND (:createdBefore IS NULL OR s.createdAt < :createdBefore)
+                    """)
+    Page<AdminStoreProjection> searchForAdmin(
+            @Param("status") StoreStatus status,
+            @Param("ownerAccountId") Long ownerAccountId,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            Pageable pageable);
 }
@@ -26,6 +26,11 @@ public class CustomerStoreService {
 
     @Cacheable(value = CacheConfig.STORE_SUMMARY_CACHE, key = "#storeId")
     public StoreStampCardSummaryResponse getStoreStampCardSummary(Long storeId) {
+        return loadStoreStampCardSummary(storeId);
+    }
+
+    /** 캐시를 거치지 않는 조회. storeSummary 캐시 로더가 호출한다. */
+    public StoreStampCardSummaryResponse loadStoreStampCardSummary(Long storeId) {
         Store store =
                 storeRepository
                         .findById(storeId)
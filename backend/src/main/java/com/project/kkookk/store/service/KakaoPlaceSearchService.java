@@ -1,15 +1,29 @@
 package com.project.kkookk.store.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.kkookk.global.config.KakaoSearchProperties;
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.http.OutboundHttp;
+import com.project.kkookk.global.resilience.CircuitBreaker;
 import com.project.kkookk.store.controller.owner.dto.PlaceSearchResult;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -19,72 +33,232 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * 카카오 장소 검색.
+ *
+ * <p>점주가 입력할 때마다 호출되므로 정규화한 검색어 단위로 결과를 캐싱하고, 같은 검색어의 동시 요청은 한 번만 카카오로
+ * 보낸다. 카카오 호출은 bulkhead(동시 요청 상한)와 서킷 브레이커로 감싸 카카오가 느리거나 장애일 때 Tomcat 스레드가 묶이지
+ * 않게 하며, 이때 만료된 캐시 결과가 있으면 그것으로 응답한다.
+ */
 @Slf4j
 @Service
 public class KakaoPlaceSearchService {
 
-    private static final String KAKAO_SEARCH_URL =
-            "https://dapi.kakao.com/v2/local/search/keyword.json?query={query}";
+    public static final String CACHE_NAME = "kakaoPlaceSearch";
+
+    private static final String SEARCH_PATH = "/v2/local/search/keyword.json?query={query}";
 
     private final RestTemplate restTemplate;
     private final String restApiKey;
+    private final KakaoSearchProperties properties;
+    private final Cache<String, CachedResult> cache;
+    private final Map<String, CompletableFuture<List<PlaceSearchResult>>> inFlight =
+            new ConcurrentHashMap<>();
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
 
     public KakaoPlaceSearchService(
-            RestTemplateBuilder restTemplateBuilder,
-            @Value("${kakao.rest-api-key:}") String restApiKey) {
+            OutboundHttp outboundHttp,
+            @Value("${kakao.rest-api-key:}") String restApiKey,
+            KakaoSearchProperties properties,
+            MeterRegistry meterRegistry) {
         this.restTemplate =
-                restTemplateBuilder
-                        .connectTimeout(Duration.ofSeconds(5))
-                        .readTimeout(Duration.ofSeconds(10))
+                outboundHttp
+                        .restTemplateBuilder(properties.readTimeout())
+                        .rootUri(properties.baseUrl())
                         .build();
         this.restApiKey = restApiKey;
+        this.properties = properties;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumSize(properties.maxEntries())
+                        .expireAfterWrite(properties.staleTtl())
+                        .recordStats()
+                        .build();
+        this.bulkhead = new Semaphore(properties.maxConcurrent());
+        this.circuitBreaker =
+                new CircuitBreaker(properties.failureThreshold(), properties.openDuration());
+        this.meterRegistry = meterRegistry;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder("kkookk.kakao.circuit.state", circuitBreaker, cb -> cb.state().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
     }
 
-    @SuppressWarnings("unchecked")
     public List<PlaceSearchResult> search(String query) {
         if (restApiKey == null || restApiKey.isBlank()) {
             log.warn("[Kakao] REST API key not configured, returning empty results");
             return Collections.emptyList();
         }
 
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        CachedResult cached = cache.getIfPresent(key);
+        if (cached != null && cached.isFreshAt(Instant.now(), properties.freshTtl())) {
+            count("hit");
+            return cached.results();
+        }
+
+        CompletableFuture<List<PlaceSearchResult>> mine = new CompletableFuture<>();
+        CompletableFuture<List<PlaceSearchResult>> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null) {
+            count("coalesced");
+            return awaitLeader(leader, cached);
+        }
+
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + restApiKey);
-
-            HttpEntity<Void> entity = new HttpEntity<>(headers);
-
-            ResponseEntity<Map<String, Object>> response =
-                    restTemplate.exchange(
-                            KAKAO_SEARCH_URL,
-                            HttpMethod.GET,
-                            entity,
-                            new ParameterizedTypeReference<>() {},
-                            query);
-
-            Map<String, Object> body = response.getBody();
-            if (body == null) {
-                return Collections.emptyList();
-            }
+            List<PlaceSearchResult> results = fetchGuarded(key);
+            cache.put(key, new CachedResult(results, Instant.now()));
+            mine.complete(results);
+            count("miss");
+            return results;
+        } catch (BusinessException e) {
+            mine.completeExceptionally(e);
+            return staleOrThrow(cached, e);
+        } catch (RuntimeException e) {
+            // 대기 중인 요청이 영원히 기다리지 않도록 예상 밖의 예외도 전달한다
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
 
-            List<Map<String, Object>> documents = (List<Map<String, Object>>) body.get("documents");
-            if (documents == null) {
-                return Collections.emptyList();
+    private List<PlaceSearchResult> awaitLeader(
+            CompletableFuture<List<PlaceSearchResult>> leader, CachedResult cached) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                return staleOrThrow(cached, businessException);
             }
+            throw e;
+        }
+    }
 
-            return documents.stream()
-                    .map(
-                            doc ->
-                                    new PlaceSearchResult(
-                                            (String) doc.get("place_name"),
-                                            (String) doc.get("address_name"),
-                                            (String) doc.get("road_address_name"),
-                                            (String) doc.get("phone"),
-                                            (String) doc.get("place_url"),
-                                            (String) doc.get("id")))
-                    .toList();
-        } catch (RestClientException e) {
-            log.error("[Kakao] API call failed: {}", e.getMessage());
+    private List<PlaceSearchResult> staleOrThrow(CachedResult cached, BusinessException e) {
+        if (cached != null) {
+            count("stale");
+            return cached.results();
+        }
+        throw e;
+    }
+
+    private List<PlaceSearchResult> fetchGuarded(String query) {
+        boolean acquired;
+        try {
+            acquired =
+                    bulkhead.tryAcquire(
+                            properties.acquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            count("rejected_bulkhead");
             throw new BusinessException(ErrorCode.KAKAO_API_ERROR);
         }
+
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                count("rejected_circuit");
+                throw new BusinessException(ErrorCode.KAKAO_API_ERROR);
+            }
+            boolean succeeded = false;
+            try {
+                List<PlaceSearchResult> results = fetch(query);
+                succeeded = true;
+                return results;
+            } catch (RestClientException | ClassCastException e) {
+                count("error");
+                log.error("[Kakao] API call failed: {}", e.getMessage());
+                throw new BusinessException(ErrorCode.KAKAO_API_ERROR);
+            } finally {
+                // 예상 밖의 예외로 빠져나가도 결과를 기록해야 HALF_OPEN 시험 호출 표시가 남지 않는다
+                if (succeeded) {
+                    circuitBreaker.onSuccess();
+                } else {
+                    circuitBreaker.onFailure();
+                }
+            }
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PlaceSearchResult> fetch(String query) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + restApiKey);
+
+        HttpEntity<Void> entity = new HttpEntity<>(headers);
+
+        ResponseEntity<Map<String, Object>> response =
+                restTemplate.exchange(
+                        SEARCH_PATH,
+                        HttpMethod.GET,
+                        entity,
+                        new ParameterizedTypeReference<>() {},
+                        query);
+
+        Map<String, Object> body = response.getBody();
+        if (body == null) {
+            return Collections.emptyList();
+        }
+
+        List<Map<String, Object>> documents = (List<Map<String, Object>>) body.get("documents");
+        if (documents == null) {
+            return Collections.emptyList();
+        }
+
+        return documents.stream()
+                .map(
+                        doc ->
+                                new PlaceSearchResult(
+                                        (String) doc.get("place_name"),
+                                        (String) doc.get("address_name"),
+                                        (String) doc.get("road_address_name"),
+                                        (String) doc.get("phone"),
+                                        (String) doc.get("place_url"),
+                                        (String) doc.get("id"),
+                                        parseCoordinate(doc.get("y")),
+                                        parseCoordinate(doc.get("x"))))
+                .toList();
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("kkookk.kakao.search", "result", result).increment();
+    }
+
+    // 대소문자/연속 공백 차이는 같은 검색어로 본다
+    static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return query.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // 카카오 응답의 x(경도)/y(위도)는 문자열
+    private static Double parseCoordinate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record CachedResult(List<PlaceSearchResult> results, Instant fetchedAt) {
+
+        boolean isFreshAt(Instant now, Duration freshTtl) {
+            return fetchedAt.plus(freshTtl).isAfter(now);
+        }
     }
 }
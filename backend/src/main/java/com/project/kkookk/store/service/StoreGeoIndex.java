@@ -0,0 +1,201 @@
+package com.project.kkookk.store.service;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.global.util.AfterCommit;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.domain.StoreStatus;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIVE 매장 좌표의 인메모리 격자 인덱스.
+ *
+ * <p>위경도를 고정 크기 셀(약 1km)로 나눈 버킷에 매장을 넣고, 반경 검색 시 경계 상자에 걸치는 셀만 훑는다. 기동 시 DB에서
+ * 다시 만들고, 매장 상태 전이가 커밋된 뒤 갱신한다. 다른 노드에는 {@link CacheInvalidationBus}로 매장 id를 알려 DB에서 해당
+ * 매장만 다시 읽게 한다.
+ */
+@Slf4j
+@Component
+public class StoreGeoIndex {
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+    private static final double METERS_PER_DEGREE_LAT = 111_320;
+
+    public static final String INVALIDATION_NAME = "storeGeoIndex";
+
+    private static final String SELECT_LIVE_LOCATED =
+            "SELECT id, name, address, latitude, longitude FROM store "
+                    + "WHERE status = ? AND latitude IS NOT NULL AND longitude IS NOT NULL";
+
+    private static final String SELECT_LIVE_LOCATED_BY_ID = SELECT_LIVE_LOCATED + " AND id = ?";
+
+    private static final RowMapper<Entry> ENTRY_MAPPER =
+            (rs, rowNum) ->
+                    new Entry(
+                            rs.getLong("id"),
+                            rs.getString("name"),
+                            rs.getString("address"),
+                            rs.getDouble("latitude"),
+                            rs.getDouble("longitude"));
+
+    private final JdbcClient jdbcClient;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Entry>> cells = new ConcurrentHashMap<>();
+
+    public StoreGeoIndex(JdbcClient jdbcClient, CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcClient = jdbcClient;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(INVALIDATION_NAME, key -> reload((Long) key));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Entry> loaded =
+                jdbcClient
+                        .sql(SELECT_LIVE_LOCATED)
+                        .param(StoreStatus.LIVE.name())
+                        .query(ENTRY_MAPPER)
+                        .list();
+
+        synchronized (this) {
+            entries.clear();
+            cells.clear();
+            loaded.forEach(this::put);
+        }
+        log.info("[StoreGeoIndex] Rebuilt stores={}", loaded.size());
+    }
+
+    /**
+     * 매장 변경을 반영 (트랜잭션 중이면 커밋 후). LIVE이고 좌표가 있는 매장만 색인된다. 다른 노드 전파 기록은 호출한
+     * 트랜잭션에 함께 남는다.
+     */
+    public void refresh(Store store) {
+        Long storeId = store.getId();
+        Entry entry =
+                store.getStatus() == StoreStatus.LIVE && store.hasLocation()
+                        ? new Entry(
+                                storeId,
+                                store.getName(),
+                                store.getAddress(),
+                                store.getLatitude(),
+                                store.getLongitude())
+                        : null;
+        cacheInvalidationBus.publish(INVALIDATION_NAME, storeId);
+        AfterCommit.run(
+                () -> {
+                    synchronized (this) {
+                        remove(storeId);
+                        if (entry != null) {
+                            put(entry);
+                        }
+                    }
+                });
+    }
+
+    /** 다른 노드에서 변경된 매장을 DB 기준으로 다시 반영 */
+    void reload(Long storeId) {
+        Optional<Entry> entry =
+                jdbcClient
+                        .sql(SELECT_LIVE_LOCATED_BY_ID)
+                        .params(StoreStatus.LIVE.name(), storeId)
+                        .query(ENTRY_MAPPER)
+                        .optional();
+        synchronized (this) {
+            remove(storeId);
+            entry.ifPresent(this::put);
+        }
+    }
+
+    /** 반경(m) 내 매장을 가까운 순으로 조회 */
+    public List<Hit> findNearby(double latitude, double longitude, int radiusMeters, int limit) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE_LAT;
+        double cosLat = Math.max(0.01, Math.cos(Math.toRadians(latitude)));
+        double lngDelta = radiusMeters / (METERS_PER_DEGREE_LAT * cosLat);
+
+        int minLat = cellOf(latitude - latDelta);
+        int maxLat = cellOf(latitude + latDelta);
+        int minLng = cellOf(longitude - lngDelta);
+        int maxLng = cellOf(longitude + lngDelta);
+
+        List<Hit> hits = new ArrayList<>();
+        for (int latCell = minLat; latCell <= maxLat; latCell++) {
+            for (int lngCell = minLng; lngCell <= maxLng; lngCell++) {
+                Set<Entry> bucket = cells.get(cellKey(latCell, lngCell));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry entry : bucket) {
+                    double distance =
+                            distanceMeters(
+                                    latitude, longitude, entry.latitude(), entry.longitude());
+                    if (distance <= radiusMeters) {
+                        hits.add(new Hit(entry, distance));
+                    }
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceMeters));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.storeId(), entry);
+        cells.computeIfAbsent(cellKey(entry), key -> ConcurrentHashMap.newKeySet()).add(entry);
+    }
+
+    private void remove(Long storeId) {
+        Entry previous = entries.remove(storeId);
+        if (previous != null) {
+            Set<Entry> bucket = cells.get(cellKey(previous));
+            if (bucket != null) {
+                bucket.remove(previous);
+            }
+        }
+    }
+
+    private static int cellOf(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(Entry entry) {
+        return cellKey(cellOf(entry.latitude()), cellOf(entry.longitude()));
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xFFFFFFFFL);
+    }
+
+    private static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a =
+                Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                        + Math.cos(Math.toRadians(lat1))
+                                * Math.cos(Math.toRadians(lat2))
+                                * Math.sin(dLng / 2)
+                                * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.sqrt(a));
+    }
+
+    public record Entry(
+            Long storeId, String name, String address, double latitude, double longitude) {}
+
+    public record Hit(Entry entry, double distanceMeters) {}
+}
@@ -2,15 +2,18 @@ package com.project.kkookk.store.service;
 
 import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.domain.StoreStatus;
+import com.project.kkookk.store.dto.response.NearbyStoreResponse;
 import com.project.kkookk.store.dto.response.StoreListItemResponse;
 import com.project.kkookk.store.dto.response.StorePublicInfoResponse;
+import com.project.kkookk.store.dto.response.StoreSearchResponse;
 import com.project.kkookk.store.repository.StoreRepository;
 import com.project.kkookk.store.service.exception.StoreInactiveException;
 import com.project.kkookk.store.service.exception.StoreNotFoundException;
-import com.project.kkookk.wallet.domain.WalletStampCardStatus;
-import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import com.project.kkookk.wallet.repository.StoreCardCounterRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +23,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class StorePublicService {
 
     private final StoreRepository storeRepository;
-    private final WalletStampCardRepository walletStampCardRepository;
+    private final StoreCardCounterRepository storeCardCounterRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreSearchIndex storeSearchIndex;
 
     public StorePublicInfoResponse getStorePublicInfo(Long storeId) {
         Store store =
@@ -32,11 +37,10 @@ public class StorePublicService {
             throw new StoreInactiveException("해당 매장은 현재 이용할 수 없습니다");
         }
 
-        int walletStampCardCount =
-                walletStampCardRepository.countByStoreIdAndStatus(
-                        storeId, WalletStampCardStatus.ACTIVE);
+        // 카드 생성 시 갱신되는 카운터 (COUNT 대신 PK 조회)
+        long walletStampCardCount = storeCardCounterRepository.findActiveCount(storeId);
 
-        return StorePublicInfoResponse.of(store, walletStampCardCount);
+        return StorePublicInfoResponse.of(store, Math.toIntExact(walletStampCardCount));
     }
 
     public List<StoreListItemResponse> getAllActiveStores() {
@@ -44,4 +48,23 @@ public class StorePublicService {
                 .map(StoreListItemResponse::from)
                 .toList();
     }
+
+    /** 인메모리 공간 인덱스에서 주변 LIVE 매장 조회 (DB 미조회) */
+    public List<NearbyStoreResponse> getNearbyStores(
+            double latitude, double longitude, int radiusMeters, int limit) {
+        return storeGeoIndex.findNearby(latitude, longitude, radiusMeters, limit).stream()
+                .map(NearbyStoreResponse::from)
+                .toList();
+    }
+
+    /** 인메모리 역색인으로 LIVE 매장을 관련도 순 검색 (DB 미조회) */
+    public StoreSearchResponse searchStores(String query, int page, int size) {
+        List<StoreSearchIndex.Hit> hits = storeSearchIndex.search(query);
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        List<StoreListItemResponse> content =
+                hits.subList(from, to).stream().map(StoreListItemResponse::from).toList();
+        return StoreSearchResponse.from(
+                new PageImpl<>(content, PageRequest.of(page, size), hits.size()));
+    }
 }
@@ -0,0 +1,268 @@
+package com.project.kkookk.store.service;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.global.util.AfterCommit;
+import com.project.kkookk.global.util.Hangul;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.domain.StoreStatus;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIVE 매장의 이름/주소/설명 인메모리 역색인.
+ *
+ * <p>한글은 자모로 풀어 쓴 뒤 자모 bigram으로 색인하므로 입력 중인 음절("꾹꾸")이나 자모 하나가 틀린 검색어도 일부 gram이
+ * 겹쳐 매칭된다. 매장명은 초성 bigram도 색인해 "ㄲㄲㅋㅍ" 같은 초성 검색을 지원한다. 기동 시 DB에서 다시 만들고, 매장
+ * 생성/수정/삭제/상태 변경이 커밋된 뒤 해당 매장만 갱신한다. 다른 노드에는 {@link CacheInvalidationBus}로 매장 id를 알려
+ * DB에서 해당 매장만 다시 읽게 한다.
+ */
+@Slf4j
+@Component
+public class StoreSearchIndex {
+
+    // 검색어 gram 중 이 비율 이상이 겹쳐야 후보로 본다 (오타 허용 정도)
+    private static final double MIN_MATCH_RATIO = 0.5;
+    private static final int MAX_QUERY_LENGTH = 50;
+
+    private static final String INITIALS_PREFIX = "\u0001";
+
+    public static final String INVALIDATION_NAME = "storeSearchIndex";
+
+    private static final String SELECT_LIVE =
+            "SELECT id, name, address, description FROM store WHERE status = ?";
+
+    private static final String SELECT_LIVE_BY_ID = SELECT_LIVE + " AND id = ?";
+
+    private static final RowMapper<Document> DOCUMENT_MAPPER =
+            (rs, rowNum) ->
+                    Document.of(
+                            rs.getLong("id"),
+                            rs.getString("name"),
+                            rs.getString("address"),
+                            rs.getString("description"));
+
+    private final JdbcClient jdbcClient;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+
+    public StoreSearchIndex(JdbcClient jdbcClient, CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcClient = jdbcClient;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(INVALIDATION_NAME, key -> reload((Long) key));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Document> loaded =
+                jdbcClient
+                        .sql(SELECT_LIVE)
+                        .param(StoreStatus.LIVE.name())
+                        .query(DOCUMENT_MAPPER)
+                        .list();
+
+        synchronized (this) {
+            documents.clear();
+            postings.clear();
+            loaded.forEach(this::add);
+        }
+        log.info("[StoreSearchIndex] Rebuilt stores={}, grams={}", loaded.size(), postings.size());
+    }
+
+    /**
+     * 매장 변경을 반영 (트랜잭션 중이면 커밋 후). LIVE 매장만 검색 대상이다. 다른 노드 전파 기록은 호출한 트랜잭션에 함께
+     * 남는다.
+     */
+    public void refresh(Store store) {
+        Long storeId = store.getId();
+        Document document =
+                store.getStatus() == StoreStatus.LIVE
+                        ? Document.of(
+                                storeId,
+                                store.getName(),
+                                store.getAddress(),
+                                store.getDescription())
+                        : null;
+        cacheInvalidationBus.publish(INVALIDATION_NAME, storeId);
+        AfterCommit.run(
+                () -> {
+                    synchronized (this) {
+                        remove(storeId);
+                        if (document != null) {
+                            add(document);
+                        }
+                    }
+                });
+    }
+
+    /** 다른 노드에서 변경된 매장을 DB 기준으로 다시 반영 */
+    void reload(Long storeId) {
+        Optional<Document> document =
+                jdbcClient
+                        .sql(SELECT_LIVE_BY_ID)
+                        .params(StoreStatus.LIVE.name(), storeId)
+                        .query(DOCUMENT_MAPPER)
+                        .optional();
+        synchronized (this) {
+            remove(storeId);
+            document.ifPresent(this::add);
+        }
+    }
+
+    /** 점수 내림차순 전체 결과 (페이징은 호출 측에서) */
+    public List<Hit> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            normalized = normalized.substring(0, MAX_QUERY_LENGTH);
+        }
+
+        boolean initialsQuery = Hangul.isInitialsOnly(normalized) && normalized.length() > 1;
+        Set<String> queryGrams =
+                initialsQuery
+                        ? ngrams(INITIALS_PREFIX, normalized)
+                        : textGrams(normalized);
+        // 초성 검색은 오타 허용 없이 모든 gram이 맞아야 한다
+        int required =
+                initialsQuery
+                        ? queryGrams.size()
+                        : Math.max(1, (int) Math.ceil(queryGrams.size() * MIN_MATCH_RATIO));
+
+        Map<Long, float[]> scores = new HashMap<>();
+        for (String gram : queryGrams) {
+            Map<Long, Float> posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            posting.forEach(
+                    (storeId, weight) -> {
+                        float[] score = scores.computeIfAbsent(storeId, id -> new float[2]);
+                        score[0] += weight;
+                        score[1] += 1;
+                    });
+        }
+
+        String finalQuery = normalized;
+        List<Hit> hits = new ArrayList<>();
+        scores.forEach(
+                (storeId, score) -> {
+                    Document document = documents.get(storeId);
+                    if (document == null || score[1] < required) {
+                        return;
+                    }
+                    double total = score[0] / queryGrams.size();
+                    if (document.normalizedName().contains(finalQuery)) {
+                        total += document.normalizedName().startsWith(finalQuery) ? 3 : 2;
+                    }
+                    hits.add(new Hit(document, total));
+                });
+
+        hits.sort(
+                Comparator.comparingDouble(Hit::score)
+                        .reversed()
+                        .thenComparingInt(hit -> hit.document().name().length())
+                        .thenComparing(hit -> hit.document().storeId()));
+        return hits;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private void add(Document document) {
+        documents.put(document.storeId(), document);
+        document.grams()
+                .forEach(
+                        (gram, weight) ->
+                                postings.computeIfAbsent(gram, key -> new ConcurrentHashMap<>())
+                                        .put(document.storeId(), weight));
+    }
+
+    private void remove(Long storeId) {
+        Document previous = documents.remove(storeId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : previous.grams().keySet()) {
+            Map<Long, Float> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(storeId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram, posting);
+                }
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", "");
+    }
+
+    private static Set<String> textGrams(String text) {
+        return ngrams("", Hangul.decompose(normalize(text)));
+    }
+
+    private static Set<String> ngrams(String prefix, String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() < 2) {
+            if (!text.isEmpty()) {
+                grams.add(prefix + text);
+            }
+            return grams;
+        }
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            grams.add(prefix + text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    public record Hit(Document document, double score) {}
+
+    public record Document(
+            Long storeId,
+            String name,
+            String address,
+            String normalizedName,
+            Map<String, Float> grams) {
+
+        // 필드 가중치: 이름 > 주소 > 설명
+        private static final float NAME_WEIGHT = 3f;
+        private static final float ADDRESS_WEIGHT = 1.5f;
+        private static final float DESCRIPTION_WEIGHT = 1f;
+
+        static Document of(Long storeId, String name, String address, String description) {
+            Map<String, Float> grams = new HashMap<>();
+            String normalizedName = normalize(name);
+            putGrams(grams, textGrams(description), DESCRIPTION_WEIGHT);
+            putGrams(grams, textGrams(address), ADDRESS_WEIGHT);
+            putGrams(grams, textGrams(name), NAME_WEIGHT);
+            putGrams(grams, ngrams(INITIALS_PREFIX, Hangul.initials(normalizedName)), NAME_WEIGHT);
+            return new Document(storeId, name, address, normalizedName, Map.copyOf(grams));
+        }
+
+        private static void putGrams(Map<String, Float> target, Set<String> grams, float weight) {
+            for (String gram : grams) {
+                target.merge(gram, weight, Math::max);
+            }
+        }
+    }
+}
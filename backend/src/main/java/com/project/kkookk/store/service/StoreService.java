@@ -1,5 +1,7 @@
 package com.project.kkookk.store.service;
 
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
 import com.project.kkookk.global.util.PhoneValidator;
@@ -10,12 +12,16 @@ import com.project.kkookk.store.domain.PerformerType;
 import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.domain.StoreAuditAction;
 import com.project.kkookk.store.domain.StoreAuditLog;
+import com.project.kkookk.store.domain.StoreCreatedEvent;
 import com.project.kkookk.store.domain.StoreStatus;
+import com.project.kkookk.store.domain.StoreSummaryChangedEvent;
 import com.project.kkookk.store.repository.StoreAuditLogRepository;
 import com.project.kkookk.store.repository.StoreRepository;
+import com.project.kkookk.wallet.repository.WalletSummaryRepository;
 import java.util.List;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,12 +34,27 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final StoreAuditLogRepository storeAuditLogRepository;
+    private final WalletSummaryRepository walletSummaryRepository;
+    private final ChangeCounterRepository changeCounterRepository;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreSearchIndex storeSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public StoreService(
             final StoreRepository storeRepository,
-            final StoreAuditLogRepository storeAuditLogRepository) {
+            final StoreAuditLogRepository storeAuditLogRepository,
+            final WalletSummaryRepository walletSummaryRepository,
+            final ChangeCounterRepository changeCounterRepository,
+            final StoreGeoIndex storeGeoIndex,
+            final StoreSearchIndex storeSearchIndex,
+            final ApplicationEventPublisher eventPublisher) {
         this.storeRepository = storeRepository;
         this.storeAuditLogRepository = storeAuditLogRepository;
+        this.walletSummaryRepository = walletSummaryRepository;
+        this.changeCounterRepository = changeCounterRepository;
+        this.storeGeoIndex = storeGeoIndex;
+        this.storeSearchIndex = storeSearchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -51,6 +72,7 @@ public class StoreService {
                         request.iconImageBase64(),
                         request.description(),
                         ownerId);
+        store.updateLocation(request.latitude(), request.longitude());
 
         final Store savedStore = storeRepository.save(store);
 
@@ -62,6 +84,8 @@ public class StoreService {
                         .performedBy(ownerId)
                         .performedByType(PerformerType.OWNER)
                         .build());
+        storeSearchIndex.refresh(savedStore);
+        eventPublisher.publishEvent(new StoreCreatedEvent(savedStore.getId()));
 
         log.info(
                 "[Store] Created id={} ownerId={} name={}",
@@ -99,6 +123,11 @@ public class StoreService {
         if (store.isLive()) {
             validateLiveStoreRestrictedFields(store, request);
             store.updatePartial(request.description(), request.iconImageBase64());
+            if (!store.hasLocation()) {
+                // 좌표 도입 이전에 LIVE가 된 매장은 한 번만 좌표를 채울 수 있다
+                store.updateLocation(request.latitude(), request.longitude());
+                storeGeoIndex.refresh(store);
+            }
         } else {
             validatePhone(request.phone());
             validatePlaceRefUniqueForUpdate(request.placeRef(), storeId);
@@ -109,6 +138,7 @@ public class StoreService {
                     request.description(),
                     request.iconImageBase64(),
                     request.placeRef());
+            store.updateLocation(request.latitude(), request.longitude());
         }
 
         storeAuditLogRepository.save(
@@ -121,6 +151,15 @@ public class StoreService {
                         .performedByType(PerformerType.OWNER)
                         .build());
 
+        if (!store.isLive()) {
+            // 매장명은 LIVE 이전에만 바뀌므로 이 경우에만 지갑 읽기 모델을 무효화
+            walletSummaryRepository.invalidateByStoreId(storeId);
+            changeCounterRepository.incrementWalletsOfStore(storeId);
+        }
+        changeCounterRepository.increment(ChangeScope.STORE, storeId);
+        storeSearchIndex.refresh(store);
+        eventPublisher.publishEvent(new StoreSummaryChangedEvent(storeId));
+
         log.info("[Store] Updated id={}", storeId);
         return StoreResponse.from(store);
     }
@@ -141,6 +180,11 @@ public class StoreService {
                         .performedByType(PerformerType.OWNER)
                         .build());
 
+        changeCounterRepository.increment(ChangeScope.STORE, storeId);
+        storeGeoIndex.refresh(store);
+        storeSearchIndex.refresh(store);
+        eventPublisher.publishEvent(new StoreSummaryChangedEvent(storeId));
+
         log.info("[Store] Soft-deleted id={}", storeId);
     }
 
@@ -173,12 +217,22 @@ public class StoreService {
                 !Objects.equals(store.getName(), request.name())
                         || !Objects.equals(store.getAddress(), request.address())
                         || !Objects.equals(store.getPhone(), request.phone())
-                        || !Objects.equals(store.getPlaceRef(), request.placeRef());
+                        || !Objects.equals(store.getPlaceRef(), request.placeRef())
+                        || (store.hasLocation() && isLocationChanged(store, request));
         if (restricted) {
             throw new BusinessException(ErrorCode.STORE_UPDATE_NOT_ALLOWED);
         }
     }
 
+    // 좌표를 보내지 않으면 기존 값 유지로 본다
+    private boolean isLocationChanged(Store store, StoreUpdateRequest request) {
+        if (request.latitude() == null || request.longitude() == null) {
+            return false;
+        }
+        return !Objects.equals(store.getLatitude(), request.latitude())
+                || !Objects.equals(store.getLongitude(), request.longitude());
+    }
+
     private void validatePlaceRefUniqueForUpdate(String placeRef, Long storeId) {
         if (placeRef != null
                 && !placeRef.isBlank()
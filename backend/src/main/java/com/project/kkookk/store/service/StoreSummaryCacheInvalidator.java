@@ -0,0 +1,41 @@
+package com.project.kkookk.store.service;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.global.config.CacheConfig;
+import com.project.kkookk.store.domain.StoreSummaryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장 요약 변경 이벤트를 받아 커밋 후 해당 매장 키만 캐시에서 제거한다.
+ *
+ * <p>커밋 전에 지우면 그 사이 조회가 이전 값을 다시 캐싱할 수 있어 커밋 이후에 처리한다. 다른 노드에는 같은 트랜잭션에서
+ * 무효화 로그를 남겨 전파한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreSummaryCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void broadcast(StoreSummaryChangedEvent event) {
+        cacheInvalidationBus.publish(CacheConfig.STORE_SUMMARY_CACHE, event.storeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreSummaryChanged(StoreSummaryChangedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.STORE_SUMMARY_CACHE);
+        if (cache != null) {
+            cache.evict(event.storeId());
+            log.debug("[StoreSummaryCache] Evicted storeId={}", event.storeId());
+        }
+    }
+}
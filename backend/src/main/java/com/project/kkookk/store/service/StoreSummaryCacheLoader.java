@@ -0,0 +1,25 @@
+package com.project.kkookk.store.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * storeSummary 캐시 로더. 만료 전 백그라운드 갱신(refreshAfterWrite)에서도 쓰인다.
+ *
+ * <p>캐시 매니저가 서비스보다 먼저 만들어지므로 서비스는 호출 시점에 가져온다.
+ */
+@Component
+public class StoreSummaryCacheLoader implements CacheLoader<Object, Object> {
+
+    private final ObjectProvider<CustomerStoreService> customerStoreService;
+
+    public StoreSummaryCacheLoader(ObjectProvider<CustomerStoreService> customerStoreService) {
+        this.customerStoreService = customerStoreService;
+    }
+
+    @Override
+    public Object load(Object storeId) {
+        return customerStoreService.getObject().loadStoreStampCardSummary((Long) storeId);
+    }
+}
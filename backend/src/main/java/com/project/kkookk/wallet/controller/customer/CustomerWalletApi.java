@@ -1,5 +1,7 @@
 package com.project.kkookk.wallet.controller.customer;
 
+import com.project.kkookk.global.conditional.ChangeScope;
+import com.project.kkookk.global.conditional.ConditionalGet;
 import com.project.kkookk.global.security.CustomerPrincipal;
 import com.project.kkookk.wallet.domain.StampCardSortType;
 import com.project.kkookk.wallet.domain.WalletRewardStatus;
@@ -24,27 +26,36 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Tag(name = "Customer Wallet", description = "고객 지갑 관련 API")
 public interface CustomerWalletApi {
 
-    @Operation(summary = "내 스탬프카드 목록 조회 (JWT 인증 필요)", description = "로그인된 고객의 보유 스탬프카드 목록을 조회합니다.")
+    @Operation(
+            summary = "내 스탬프카드 목록 조회 (JWT 인증 필요)",
+            description = "로그인된 고객의 보유 스탬프카드 목록을 조회합니다. 지갑 변경이 없으면 304를 반환합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "401", description = "인증 필요 (JWT 토큰 없음/만료)")
     })
     @SecurityRequirement(name = "bearerAuth")
+    @ConditionalGet(ChangeScope.WALLET)
     @GetMapping("/api/customer/wallet/my-stamp-cards")
     ResponseEntity<WalletStampCardListResponse> getMyStampCards(
             @AuthenticationPrincipal CustomerPrincipal principal,
             @Parameter(description = "정렬 기준 (기본값: LAST_STAMPED)")
                     @RequestParam(defaultValue = "LAST_STAMPED")
-                    StampCardSortType sortBy);
+                    StampCardSortType sortBy,
+            @Parameter(description = "디자인 JSON 포함 여부 (기본 false면 designHash로 디자인 API 조회)")
+                    @RequestParam(defaultValue = "false")
+                    boolean includeDesign);
 
     @Operation(summary = "스탬프 적립 히스토리 조회", description = "특정 매장의 스탬프 적립 이력을 페이징하여 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "400", description = "잘못된 페이징 파라미터"),
         @ApiResponse(responseCode = "401", description = "인증 필요 (JWT 토큰 없음/만료)"),
         @ApiResponse(responseCode = "404", description = "해당 매장의 스탬프카드를 찾을 수 없음")
     })
     @SecurityRequirement(name = "bearerAuth")
+    @ConditionalGet(ChangeScope.WALLET)
     @GetMapping("/api/customer/wallet/stores/{storeId}/stamp-history")
     ResponseEntity<StampEventHistoryResponse> getStampHistory(
             @AuthenticationPrincipal CustomerPrincipal principal,
@@ -60,11 +71,13 @@ public interface CustomerWalletApi {
     @Operation(summary = "리워드 사용 히스토리 조회", description = "특정 매장의 리워드 사용 이력을 페이징하여 조회합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "400", description = "잘못된 페이징 파라미터"),
         @ApiResponse(responseCode = "401", description = "인증 필요 (JWT 토큰 없음/만료)"),
         @ApiResponse(responseCode = "404", description = "해당 매장의 스탬프카드를 찾을 수 없음")
     })
     @SecurityRequirement(name = "bearerAuth")
+    @ConditionalGet(ChangeScope.WALLET)
     @GetMapping("/api/customer/wallet/stores/{storeId}/redeem-history")
     ResponseEntity<RedeemEventHistoryResponse> getRedeemHistory(
             @AuthenticationPrincipal CustomerPrincipal principal,
@@ -82,10 +95,12 @@ public interface CustomerWalletApi {
             description = "인증된 고객의 보유 리워드(쿠폰) 목록을 페이징하여 조회합니다. 상태별 필터링이 가능합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "400", description = "잘못된 페이징 파라미터"),
         @ApiResponse(responseCode = "401", description = "인증 필요 (JWT 토큰 없음/만료)"),
     })
     @SecurityRequirement(name = "bearerAuth")
+    @ConditionalGet(ChangeScope.WALLET)
     @GetMapping("/api/customer/wallet/rewards")
     ResponseEntity<WalletRewardListResponse> getRewards(
             @AuthenticationPrincipal CustomerPrincipal principal,
@@ -97,5 +112,8 @@ public interface CustomerWalletApi {
                     @RequestParam(defaultValue = "20")
                     @Min(1)
                     @Max(100)
-                    int size);
+                    int size,
+            @Parameter(description = "디자인 JSON 포함 여부 (기본 false면 designHash로 디자인 API 조회)")
+                    @RequestParam(defaultValue = "false")
+                    boolean includeDesign);
 }
@@ -27,11 +27,11 @@ public class CustomerWalletController implements CustomerWalletApi {
 
     @Override
     public ResponseEntity<WalletStampCardListResponse> getMyStampCards(
-            CustomerPrincipal principal, StampCardSortType sortBy) {
+            CustomerPrincipal principal, StampCardSortType sortBy, boolean includeDesign) {
 
         Long walletId = principal.getWalletId();
         WalletStampCardListResponse response =
-                customerWalletService.getMyStampCards(walletId, sortBy);
+                customerWalletService.getMyStampCards(walletId, sortBy, includeDesign);
 
         return ResponseEntity.ok(response);
     }
@@ -73,13 +73,14 @@ public class CustomerWalletController implements CustomerWalletApi {
             CustomerPrincipal principal,
             WalletRewardStatus status,
             @Min(0) int page,
-            @Min(1) @Max(100) int size) {
+            @Min(1) @Max(100) int size,
+            boolean includeDesign) {
 
         Long walletId = principal.getWalletId();
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("issuedAt").descending());
         WalletRewardListResponse response =
-                customerWalletService.getRewards(walletId, status, pageable);
+                customerWalletService.getRewards(walletId, status, pageable, includeDesign);
 
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,31 @@
+package com.project.kkookk.wallet.domain;
+
+import com.project.kkookk.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매장별 ACTIVE 지갑 스탬프카드 수.
+ *
+ * <p>매장 공개 페이지가 매번 COUNT를 하지 않도록 카드 생성 트랜잭션에서 함께 올리고, 어긋난 값은 {@code
+ * StoreCardCounterReconciler}가 주기적으로 바로잡는다. 갱신은 {@code StoreCardCounterRepository}의 원자적 SQL로만
+ * 수행한다.
+ */
+@Entity
+@Table(name = "store_card_counter")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreCardCounter extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "store_id")
+    private Long storeId;
+
+    @Column(name = "active_count", nullable = false)
+    private Long activeCount;
+}
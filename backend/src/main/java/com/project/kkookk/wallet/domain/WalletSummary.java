@@ -0,0 +1,34 @@
+package com.project.kkookk.wallet.domain;
+
+import com.project.kkookk.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지갑 홈 화면 읽기 모델.
+ *
+ * <p>지갑의 ACTIVE 스탬프카드 목록을 렌더링된 JSON으로 보관한다. 쓰기 경로는 {@code version}을 올리고 {@code
+ * payload}를 비우며, 조회 시 비어 있으면 다시 채운다. 갱신은 {@code WalletSummaryRepository}의 원자적 SQL로만
+ * 수행한다.
+ */
+@Entity
+@Table(name = "wallet_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WalletSummary extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "wallet_id")
+    private Long walletId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String payload;
+}
@@ -16,4 +16,6 @@ public record WalletRewardItem(
         @Schema(description = "만료일시") LocalDateTime expiresAt,
         @Schema(description = "사용일시 (사용한 경우)") LocalDateTime redeemedAt,
         @Schema(description = "스탬프카드 디자인 타입") StampCardDesignType designType,
-        @Schema(description = "스탬프카드 디자인 JSON") String designJson) {}
+        @Schema(description = "스탬프카드 디자인 JSON (includeDesign=true일 때만, 기본 null)") String designJson,
+        @Schema(description = "스탬프카드 디자인 콘텐츠 해시 (GET /api/public/designs/{hash})")
+                String designHash) {}
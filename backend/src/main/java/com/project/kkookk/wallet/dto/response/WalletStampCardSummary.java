@@ -23,7 +23,14 @@ public record WalletStampCardSummary(
                         example = "2026-02-28T23:59:59")
                 LocalDateTime expiresAt,
         @Schema(description = "스탬프카드 상태", example = "ACTIVE") StampCardStatus status,
-        @Schema(description = "디자인 JSON", example = "{\"bgColor\": \"#FFFFFF\"}") String designJson,
+        @Schema(
+                        description = "디자인 JSON (includeDesign=true일 때만, 기본 null)",
+                        example = "{\"bgColor\": \"#FFFFFF\"}")
+                String designJson,
+        @Schema(
+                        description = "디자인 콘텐츠 해시 (GET /api/public/designs/{hash})",
+                        example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+                String designHash,
         @Schema(description = "매장 정보") StoreInfo store,
         @Schema(description = "마지막 적립 일시", example = "2026-01-25T14:30:00")
                 LocalDateTime lastStampedAt) {
@@ -57,7 +64,27 @@ public record WalletStampCardSummary(
                 expiresAt,
                 stampCard.getStatus(),
                 stampCard.getDesignJson(),
+                stampCard.getDesignHash(),
                 StoreInfo.from(store),
                 walletStampCard.getLastStampedAt());
     }
+
+    public WalletStampCardSummary withDesignJson(String designJson) {
+        return new WalletStampCardSummary(
+                walletStampCardId,
+                stampCardId,
+                title,
+                currentStampCount,
+                goalStampCount,
+                progressPercentage,
+                nextRewardName,
+                nextRewardQuantity,
+                stampsToNextReward,
+                expiresAt,
+                status,
+                designJson,
+                designHash,
+                store,
+                lastStampedAt);
+    }
 }
@@ -0,0 +1,79 @@
+package com.project.kkookk.wallet.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreCardCounterRepository {
+
+    private final JdbcClient jdbcClient;
+
+    private static final String FIND_ACTIVE_COUNT =
+            "SELECT active_count FROM store_card_counter WHERE store_id = ?";
+
+    private static final String FIND_ACTIVE_COUNT_FOR_UPDATE = FIND_ACTIVE_COUNT + " FOR UPDATE";
+
+    private static final String ADD =
+            "INSERT INTO store_card_counter (store_id, active_count, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE active_count = active_count + ?, updated_at = ?";
+
+    private static final String SET =
+            "INSERT INTO store_card_counter (store_id, active_count, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE active_count = ?, updated_at = ?";
+
+    private static final String COUNT_ACTIVE_CARDS =
+            "SELECT COUNT(*) FROM wallet_stamp_card WHERE store_id = ? AND status = 'ACTIVE'";
+
+    private static final String FIND_STORE_IDS = "SELECT id FROM store ORDER BY id";
+
+    /** 행이 없으면 카드가 생성된 적 없는 매장이다 (기존 데이터는 마이그레이션에서 채운다). */
+    public long findActiveCount(Long storeId) {
+        return jdbcClient
+                .sql(FIND_ACTIVE_COUNT)
+                .param(storeId)
+                .query(Long.class)
+                .optional()
+                .orElse(0L);
+    }
+
+    /** 카드 생성/완료 트랜잭션 안에서 호출한다. */
+    public void add(Long storeId, long delta) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcClient.sql(ADD).params(storeId, delta, now, now, delta, now).update();
+    }
+
+    public List<Long> findStoreIds() {
+        return jdbcClient.sql(FIND_STORE_IDS).query(Long.class).list();
+    }
+
+    /**
+     * 실제 ACTIVE 카드 수로 카운터를 맞추고 보정량(실제 - 기록)을 반환한다.
+     *
+     * <p>카운터 행을 먼저 잠가 그 사이 카드 생성 트랜잭션의 증가가 COUNT와 겹치지 않게 한다.
+     */
+    @Transactional
+    public long reconcile(Long storeId) {
+        Optional<Long> recorded =
+                jdbcClient
+                        .sql(FIND_ACTIVE_COUNT_FOR_UPDATE)
+                        .param(storeId)
+                        .query(Long.class)
+                        .optional();
+        long actual = jdbcClient.sql(COUNT_ACTIVE_CARDS).param(storeId).query(Long.class).single();
+
+        long drift = actual - recorded.orElse(0L);
+        if (drift != 0) {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcClient.sql(SET).params(storeId, actual, now, now, actual, now).update();
+        }
+        return drift;
+    }
+}
@@ -3,11 +3,13 @@ package com.project.kkookk.wallet.repository;
 import com.project.kkookk.wallet.domain.WalletStampCard;
 import com.project.kkookk.wallet.domain.WalletStampCardStatus;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface WalletStampCardRepository extends JpaRepository<WalletStampCard, Long> {
@@ -68,6 +70,19 @@ public interface WalletStampCardRepository extends JpaRepository<WalletStampCard
             @Param("storeId") Long storeId,
             @Param("status") WalletStampCardStatus status);
 
+    /** 매장별 고객 지갑 ACTIVE 스탬프카드 조회 (비관적 락, NOWAIT) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "0"))
+    @Query(
+            "SELECT w FROM WalletStampCard w "
+                    + "WHERE w.customerWalletId = :customerWalletId "
+                    + "AND w.storeId = :storeId "
+                    + "AND w.status = :status")
+    Optional<WalletStampCard> findByCustomerWalletIdAndStoreIdAndStatusWithLockNoWait(
+            @Param("customerWalletId") Long customerWalletId,
+            @Param("storeId") Long storeId,
+            @Param("status") WalletStampCardStatus status);
+
     /** 매장별 발급된 WalletStampCard 개수 조회 */
     int countByStoreIdAndStatus(Long storeId, WalletStampCardStatus status);
 
@@ -0,0 +1,112 @@
+package com.project.kkookk.wallet.repository;
+
+import com.project.kkookk.wallet.domain.CustomerWalletStatus;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class WalletSummaryRepository {
+
+    private final JdbcClient jdbcClient;
+
+    private static final String FIND_SNAPSHOT =
+            "SELECT w.id, w.name, w.status, s.version, s.payload "
+                    + "FROM customer_wallet w "
+                    + "LEFT JOIN wallet_summary s ON s.wallet_id = w.id "
+                    + "WHERE w.id = ?";
+
+    private static final String INSERT_IF_ABSENT =
+            "INSERT IGNORE INTO wallet_summary "
+                    + "(wallet_id, version, payload, created_at, updated_at) "
+                    + "VALUES (?, 0, ?, ?, ?)";
+
+    private static final String UPDATE_PAYLOAD =
+            "UPDATE wallet_summary SET payload = ?, updated_at = ? "
+                    + "WHERE wallet_id = ? AND version = ?";
+
+    private static final String INVALIDATE =
+            "INSERT INTO wallet_summary "
+                    + "(wallet_id, version, payload, created_at, updated_at) "
+                    + "VALUES (?, 1, NULL, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE version = version + 1, payload = NULL, "
+                    + "updated_at = ?";
+
+    private static final String INVALIDATE_BY_STORE =
+            "UPDATE wallet_summary SET version = version + 1, payload = NULL, updated_at = ? "
+                    + "WHERE wallet_id IN "
+                    + "(SELECT customer_wallet_id FROM wallet_stamp_card WHERE store_id = ?)";
+
+    /** 지갑 정보와 읽기 모델을 한 번의 PK 조회로 가져온다. */
+    public Optional<Snapshot> findSnapshot(Long walletId) {
+        return jdbcClient
+                .sql(FIND_SNAPSHOT)
+                .param(walletId)
+                .query(
+                        (rs, rowNum) ->
+                                new Snapshot(
+                                        rs.getLong("id"),
+                                        rs.getString("name"),
+                                        CustomerWalletStatus.valueOf(rs.getString("status")),
+                                        rs.getObject("version", Long.class),
+                                        rs.getString("payload")))
+                .optional();
+    }
+
+    /**
+     * 조회 시 만든 payload 저장. 그 사이 쓰기 경로가 version을 올렸다면 저장하지 않는다.
+     *
+     * @return 저장 여부
+     */
+    public boolean savePayload(Snapshot snapshot, String payload) {
+        LocalDateTime now = LocalDateTime.now();
+        if (snapshot.version() == null) {
+            return jdbcClient
+                            .sql(INSERT_IF_ABSENT)
+                            .params(snapshot.walletId(), payload, now, now)
+                            .update()
+                    > 0;
+        }
+        return jdbcClient
+                        .sql(UPDATE_PAYLOAD)
+                        .params(payload, now, snapshot.walletId(), snapshot.version())
+                        .update()
+                > 0;
+    }
+
+    /** 지갑의 스탬프카드 목록이 바뀐 트랜잭션 안에서 호출한다. */
+    public void invalidate(Long walletId) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcClient.sql(INVALIDATE).params(walletId, now, now, now).update();
+    }
+
+    /** 매장 또는 매장 스탬프카드 정보가 바뀌면 해당 매장 카드를 가진 모든 지갑을 무효화한다. */
+    public int invalidateByStoreId(Long storeId) {
+        return jdbcClient.sql(INVALIDATE_BY_STORE).params(LocalDateTime.now(), storeId).update();
+    }
+
+    /**
+     * 지갑 + 읽기 모델 스냅샷
+     *
+     * @param version 읽기 모델 버전 (행이 없으면 null)
+     * @param payload 렌더링된 스탬프카드 목록 JSON (무효화된 경우 null)
+     */
+    public record Snapshot(
+            Long walletId,
+            String customerName,
+            CustomerWalletStatus status,
+            Long version,
+            String payload) {
+
+        public long currentVersion() {
+            return version != null ? version : 0L;
+        }
+
+        public boolean isBlocked() {
+            return status == CustomerWalletStatus.BLOCKED;
+        }
+    }
+}
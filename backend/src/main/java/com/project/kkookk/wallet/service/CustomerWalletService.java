@@ -1,7 +1,13 @@
 package com.project.kkookk.wallet.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.shard.ShardTemplate;
 import com.project.kkookk.redeem.domain.RedeemEvent;
 import com.project.kkookk.redeem.repository.RedeemEventRepository;
 import com.project.kkookk.stamp.domain.StampEvent;
@@ -9,9 +15,9 @@ import com.project.kkookk.stamp.repository.StampEventRepository;
 import com.project.kkookk.stampcard.domain.StampCard;
 import com.project.kkookk.stampcard.domain.StampCardStatus;
 import com.project.kkookk.stampcard.repository.StampCardRepository;
+import com.project.kkookk.stampcard.service.StampCardDesignService;
 import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.repository.StoreRepository;
-import com.project.kkookk.wallet.domain.CustomerWallet;
 import com.project.kkookk.wallet.domain.StampCardSortType;
 import com.project.kkookk.wallet.domain.WalletReward;
 import com.project.kkookk.wallet.domain.WalletRewardStatus;
@@ -29,13 +35,18 @@ import com.project.kkookk.wallet.dto.response.WalletRewardListResponse;
 import com.project.kkookk.wallet.dto.response.WalletStampCardListResponse;
 import com.project.kkookk.wallet.dto.response.WalletStampCardSummary;
 import com.project.kkookk.wallet.repository.CustomerWalletRepository;
+import com.project.kkookk.wallet.repository.StoreCardCounterRepository;
 import com.project.kkookk.wallet.repository.WalletRewardRepository;
 import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import com.project.kkookk.wallet.repository.WalletSummaryRepository;
 import com.project.kkookk.wallet.service.exception.CustomerWalletBlockedException;
 import com.project.kkookk.wallet.service.exception.CustomerWalletNotFoundException;
 import com.project.kkookk.wallet.service.exception.WalletStampCardNotFoundException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -52,6 +63,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CustomerWalletService {
 
+    private static final TypeReference<List<WalletStampCardSummary>> SUMMARY_LIST_TYPE =
+            new TypeReference<>() {};
+
     private final CustomerWalletRepository customerWalletRepository;
     private final WalletStampCardRepository walletStampCardRepository;
     private final WalletRewardRepository walletRewardRepository;
@@ -59,17 +73,26 @@ public class CustomerWalletService {
     private final StoreRepository storeRepository;
     private final StampEventRepository stampEventRepository;
     private final RedeemEventRepository redeemEventRepository;
+    private final WalletSummaryRepository walletSummaryRepository;
+    private final StoreCardCounterRepository storeCardCounterRepository;
+    private final ChangeCounterRepository changeCounterRepository;
+    private final StampCardDesignService stampCardDesignService;
+    private final WalletIdentityFilter walletIdentityFilter;
+    private final ShardTemplate shardTemplate;
+    private final ObjectMapper objectMapper;
 
     private String normalizePhone(String phone) {
         return phone.replaceAll("[^0-9]", "");
     }
 
     public boolean checkNicknameAvailable(String nickname) {
-        return !customerWalletRepository.existsByNickname(nickname);
+        return !walletIdentityFilter.nicknameExists(
+                nickname, customerWalletRepository::existsByNickname);
     }
 
     public boolean checkPhoneAvailable(String phone) {
-        return !customerWalletRepository.existsByPhone(normalizePhone(phone));
+        return !walletIdentityFilter.phoneExists(
+                normalizePhone(phone), customerWalletRepository::existsByPhone);
     }
 
     @Transactional
@@ -114,6 +137,9 @@ public class CustomerWalletService {
                                             .stampCount(0)
                                             .build();
                             WalletStampCard saved = walletStampCardRepository.save(walletStampCard);
+                            storeCardCounterRepository.add(storeId, 1);
+                            walletSummaryRepository.invalidate(walletId);
+                            changeCounterRepository.increment(ChangeScope.WALLET, walletId);
 
                             log.info(
                                     "[WalletStampCard Created] walletId={}, storeId={}, "
@@ -136,29 +162,73 @@ public class CustomerWalletService {
                         });
     }
 
-    public WalletStampCardListResponse getMyStampCards(Long walletId, StampCardSortType sortType) {
-        // Step 1: CustomerWallet 조회
-        CustomerWallet wallet =
-                customerWalletRepository
-                        .findById(walletId)
+    /**
+     * 내 스탬프카드 목록 조회
+     *
+     * <p>지갑과 읽기 모델(wallet_summary)을 한 번에 조회하고, 읽기 모델이 무효화된 경우에만 원본 테이블에서 다시
+     * 만든다. 재구성 결과를 저장하므로 쓰기 트랜잭션으로 실행한다.
+     */
+    @Transactional
+    public WalletStampCardListResponse getMyStampCards(
+            Long walletId, StampCardSortType sortType, boolean includeDesign) {
+        // Step 1: CustomerWallet + 읽기 모델 조회
+        WalletSummaryRepository.Snapshot snapshot =
+                walletSummaryRepository
+                        .findSnapshot(walletId)
                         .orElseThrow(() -> new CustomerWalletNotFoundException("지갑을 찾을 수 없습니다"));
 
         // Step 2: BLOCKED 상태 체크
-        if (wallet.isBlocked()) {
+        if (snapshot.isBlocked()) {
             throw new CustomerWalletBlockedException("차단된 지갑입니다");
         }
 
-        // Step 3: 스탬프카드 목록 조회 및 Response 생성
-        return buildStampCardListResponse(wallet, sortType);
+        // Step 3: 읽기 모델이 비어 있으면 재구성
+        List<WalletStampCardSummary> summaries =
+                readSummaryPayload(snapshot).orElseGet(() -> materializeSummary(snapshot));
+
+        // Step 4: 정렬 + 디자인 JSON 채우기 후 Response 생성
+        List<WalletStampCardSummary> stampCards =
+                sortStampCards(summaries, sortType).stream()
+                        .map(summary -> applyDesign(summary, includeDesign))
+                        .toList();
+
+        return new WalletStampCardListResponse(
+                snapshot.walletId(), snapshot.customerName(), stampCards);
     }
 
-    private WalletStampCardListResponse buildStampCardListResponse(
-            CustomerWallet wallet, StampCardSortType sortType) {
+    private WalletStampCardSummary applyDesign(
+            WalletStampCardSummary summary, boolean includeDesign) {
+        if (!includeDesign) {
+            return summary.designJson() != null ? summary.withDesignJson(null) : summary;
+        }
+        if (summary.designJson() != null || summary.designHash() == null) {
+            return summary;
+        }
+        return summary.withDesignJson(stampCardDesignService.findDesignJson(summary.designHash()));
+    }
 
-        // WalletStampCard 목록 조회 (정렬 적용)
-        List<WalletStampCard> walletCards = getWalletStampCardsSorted(wallet.getId(), sortType);
+    private Optional<List<WalletStampCardSummary>> readSummaryPayload(
+            WalletSummaryRepository.Snapshot snapshot) {
+        if (snapshot.payload() == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(snapshot.payload(), SUMMARY_LIST_TYPE));
+        } catch (JsonProcessingException e) {
+            log.warn("[WalletSummary] Unreadable payload walletId={}", snapshot.walletId(), e);
+            return Optional.empty();
+        }
+    }
 
-        // Step 4: StampCard, Store Batch 조회 (N+1 방지)
+    private List<WalletStampCardSummary> materializeSummary(
+            WalletSummaryRepository.Snapshot snapshot) {
+
+        // ACTIVE 상태의 WalletStampCard만 생성일 역순으로 조회 (COMPLETED 제외)
+        List<WalletStampCard> walletCards =
+                walletStampCardRepository.findByCustomerWalletIdAndStatusOrderByCreatedAtDesc(
+                        snapshot.walletId(), WalletStampCardStatus.ACTIVE);
+
+        // StampCard, Store Batch 조회 (N+1 방지)
         Set<Long> stampCardIds =
                 walletCards.stream()
                         .map(WalletStampCard::getStampCardId)
@@ -173,23 +243,6 @@ public class CustomerWalletService {
                 storeRepository.findAllById(storeIds).stream()
                         .collect(Collectors.toMap(Store::getId, Function.identity()));
 
-        // Step 5: 진행률 정렬이면 메모리에서 정렬
-        if (sortType == StampCardSortType.PROGRESS) {
-            walletCards.sort(
-                    (a, b) -> {
-                        double progressA =
-                                calculateProgress(
-                                        a.getStampCount(),
-                                        stampCardMap.get(a.getStampCardId()).getGoalStampCount());
-                        double progressB =
-                                calculateProgress(
-                                        b.getStampCount(),
-                                        stampCardMap.get(b.getStampCardId()).getGoalStampCount());
-                        return Double.compare(progressB, progressA);
-                    });
-        }
-
-        // Step 6: Response 조립
         List<WalletStampCardSummary> summaries =
                 walletCards.stream()
                         .map(
@@ -200,7 +253,50 @@ public class CustomerWalletService {
                                                 storeMap.get(walletCard.getStoreId())))
                         .toList();
 
-        return new WalletStampCardListResponse(wallet.getId(), wallet.getName(), summaries);
+        // 디자인 JSON은 해시로만 저장 (디자인 캐시에서 채움)
+        List<WalletStampCardSummary> payload =
+                summaries.stream().map(summary -> summary.withDesignJson(null)).toList();
+        try {
+            boolean saved =
+                    walletSummaryRepository.savePayload(
+                            snapshot, objectMapper.writeValueAsString(payload));
+            log.debug(
+                    "[WalletSummary] Materialized walletId={} cards={} saved={}",
+                    snapshot.walletId(),
+                    summaries.size(),
+                    saved);
+        } catch (JsonProcessingException e) {
+            log.warn("[WalletSummary] Serialize failed walletId={}", snapshot.walletId(), e);
+        }
+        return summaries;
+    }
+
+    private List<WalletStampCardSummary> sortStampCards(
+            List<WalletStampCardSummary> summaries, StampCardSortType sortType) {
+
+        // 읽기 모델은 생성일 역순으로 저장되어 있으므로 나머지 정렬만 메모리에서 수행
+        Comparator<WalletStampCardSummary> comparator =
+                switch (sortType) {
+                    case CREATED -> null;
+                    case LAST_STAMPED ->
+                            Comparator.comparing(
+                                    WalletStampCardSummary::lastStampedAt,
+                                    Comparator.nullsLast(Comparator.reverseOrder()));
+                    case PROGRESS ->
+                            Comparator.comparingDouble(
+                                            (WalletStampCardSummary card) ->
+                                                    calculateProgress(
+                                                            card.currentStampCount(),
+                                                            card.goalStampCount()))
+                                    .reversed();
+                };
+
+        if (comparator == null) {
+            return summaries;
+        }
+        List<WalletStampCardSummary> sorted = new ArrayList<>(summaries);
+        sorted.sort(comparator);
+        return sorted;
     }
 
     public StampEventHistoryResponse getStampHistoryByStore(
@@ -257,18 +353,20 @@ public class CustomerWalletService {
     }
 
     public WalletRewardListResponse getRewards(
-            Long walletId, WalletRewardStatus status, Pageable pageable) {
-
-        // Step 1: WalletReward 페이징 조회 (상태 필터 선택적)
-        Page<WalletReward> rewardPage;
-        if (status != null) {
-            rewardPage =
-                    walletRewardRepository.findByWalletIdAndStatusOrderByIssuedAtDesc(
-                            walletId, status, pageable);
-        } else {
-            rewardPage =
-                    walletRewardRepository.findByWalletIdOrderByIssuedAtDesc(walletId, pageable);
-        }
+            Long walletId, WalletRewardStatus status, Pageable pageable, boolean includeDesign) {
+
+        // Step 1: WalletReward 페이징 조회 (상태 필터 선택적). 지갑의 리워드는 여러 매장 샤드에 흩어져 있다
+        Page<WalletReward> rewardPage =
+                shardTemplate.scatterGatherPage(
+                        pageable,
+                        Comparator.comparing(WalletReward::getIssuedAt).reversed(),
+                        shardPageable ->
+                                status != null
+                                        ? walletRewardRepository
+                                                .findByWalletIdAndStatusOrderByIssuedAtDesc(
+                                                        walletId, status, shardPageable)
+                                        : walletRewardRepository.findByWalletIdOrderByIssuedAtDesc(
+                                                walletId, shardPageable));
 
         // Step 2: Store, StampCard Batch 조회 (N+1 방지)
         Set<Long> storeIds =
@@ -304,31 +402,16 @@ public class CustomerWalletService {
                                             reward.getExpiresAt(),
                                             reward.getRedeemedAt(),
                                             stampCard != null ? stampCard.getDesignType() : null,
-                                            stampCard != null ? stampCard.getDesignJson() : null);
+                                            stampCard != null && includeDesign
+                                                    ? stampCard.getDesignJson()
+                                                    : null,
+                                            stampCard != null ? stampCard.getDesignHash() : null);
                                 })
                         .toList();
 
         return new WalletRewardListResponse(rewards, PageInfo.from(rewardPage));
     }
 
-    private List<WalletStampCard> getWalletStampCardsSorted(
-            Long walletId, StampCardSortType sortType) {
-
-        // ACTIVE 상태의 WalletStampCard만 조회 (COMPLETED 제외)
-        return switch (sortType) {
-            case LAST_STAMPED ->
-                    walletStampCardRepository
-                            .findByCustomerWalletIdAndStatusOrderByLastStampedAtDesc(
-                                    walletId, WalletStampCardStatus.ACTIVE);
-            case CREATED ->
-                    walletStampCardRepository.findByCustomerWalletIdAndStatusOrderByCreatedAtDesc(
-                            walletId, WalletStampCardStatus.ACTIVE);
-            case PROGRESS ->
-                    walletStampCardRepository.findByCustomerWalletIdAndStatus(
-                            walletId, WalletStampCardStatus.ACTIVE);
-        };
-    }
-
     private double calculateProgress(int currentCount, int goalCount) {
         return (currentCount * 100.0) / goalCount;
     }
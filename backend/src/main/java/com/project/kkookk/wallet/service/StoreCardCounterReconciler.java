@@ -0,0 +1,46 @@
+package com.project.kkookk.wallet.service;
+
+import com.project.kkookk.wallet.repository.StoreCardCounterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장별 ACTIVE 카드 카운터 보정 작업.
+ *
+ * <p>카운터는 카드 생성 트랜잭션에서 함께 갱신되지만, 운영 중 수동 데이터 수정 등으로 어긋날 수 있어 매일 실제 COUNT와
+ * 맞춘다. 매장 단위로 짧은 트랜잭션을 나눠 쓰기 경로를 오래 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreCardCounterReconciler {
+
+    private final StoreCardCounterRepository storeCardCounterRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "${app.store-card-counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        List<Long> storeIds = storeCardCounterRepository.findStoreIds();
+        int drifted = 0;
+        for (Long storeId : storeIds) {
+            try {
+                long drift = storeCardCounterRepository.reconcile(storeId);
+                if (drift != 0) {
+                    drifted++;
+                    meterRegistry.counter("kkookk.store.card_counter.drift").increment();
+                    log.warn(
+                            "[StoreCardCounter] Drift corrected storeId={}, drift={}",
+                            storeId,
+                            drift);
+                }
+            } catch (RuntimeException e) {
+                log.error("[StoreCardCounter] Reconcile failed storeId={}", storeId, e);
+            }
+        }
+        log.info("[StoreCardCounter] Reconciled stores={}, drifted={}", storeIds.size(), drifted);
+    }
+}
@@ -0,0 +1,205 @@
+package com.project.kkookk.wallet.service;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.global.util.BloomFilter;
+import com.project.kkookk.wallet.domain.CustomerWallet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * 닉네임/전화번호 사용 가능 여부 조회 앞단의 Bloom 필터.
+ *
+ * <p>필터에 없으면 확실히 미사용이므로 DB 조회 없이 응답하고, 있을 수도 있으면 DB로 확인한다. 노드마다 따로 가진 필터라
+ * 사용 가능 여부 안내 같은 힌트에만 쓰고, 가입 처리는 항상 DB를 조회하며 최종 판정은 customer_wallet의 unique 제약이
+ * 담당한다. 기동 시 테이블을 id 순으로 나눠 읽어 채우고, 이후 신규 지갑은 저장 시 추가하면서 {@link
+ * CacheInvalidationBus}로 다른 노드에도 지갑 id를 알린다.
+ */
+@Slf4j
+@Component
+public class WalletIdentityFilter {
+
+    public static final String INVALIDATION_NAME = "walletIdentityFilter";
+
+    private static final double TARGET_FPP = 0.01;
+    private static final long MIN_CAPACITY = 100_000;
+    private static final int REBUILD_CHUNK_SIZE = 5_000;
+
+    private static final String SELECT_CHUNK =
+            "SELECT id, nickname, phone FROM customer_wallet WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_ONE =
+            "SELECT id, nickname, phone FROM customer_wallet WHERE id = ?";
+
+    private static final String COUNT_WALLETS = "SELECT COUNT(*) FROM customer_wallet";
+
+    private static final RowMapper<WalletKeys> KEYS_MAPPER =
+            (rs, rowNum) ->
+                    new WalletKeys(
+                            rs.getLong("id"), rs.getString("nickname"), rs.getString("phone"));
+
+    private final JdbcClient jdbcClient;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Field nickname;
+    private final Field phone;
+
+    // 재구축 완료 전에는 모든 조회를 DB로 보낸다
+    private volatile boolean ready;
+
+    public WalletIdentityFilter(
+            JdbcClient jdbcClient,
+            MeterRegistry meterRegistry,
+            CacheInvalidationBus cacheInvalidationBus) {
+        this.jdbcClient = jdbcClient;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.nickname = new Field("nickname", meterRegistry);
+        this.phone = new Field("phone", meterRegistry);
+        cacheInvalidationBus.register(INVALIDATION_NAME, key -> reload((Long) key));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long count = jdbcClient.sql(COUNT_WALLETS).query(Long.class).single();
+        long capacity = Math.max(MIN_CAPACITY, count * 2);
+
+        ready = false;
+        // 재구축 도중 저장된 지갑도 새 필터에 들어가도록 먼저 교체한 뒤 채운다
+        nickname.reset(capacity);
+        phone.reset(capacity);
+
+        long lastId = 0;
+        long loaded = 0;
+        while (true) {
+            List<WalletKeys> chunk =
+                    jdbcClient
+                            .sql(SELECT_CHUNK)
+                            .params(lastId, REBUILD_CHUNK_SIZE)
+                            .query(KEYS_MAPPER)
+                            .list();
+            for (WalletKeys keys : chunk) {
+                put(keys.nickname(), keys.phone());
+                lastId = keys.id();
+            }
+            loaded += chunk.size();
+            if (chunk.size() < REBUILD_CHUNK_SIZE) {
+                break;
+            }
+        }
+        ready = true;
+
+        log.info(
+                "[WalletIdentityFilter] Rebuilt wallets={}, bits={}, hashes={}",
+                loaded,
+                nickname.filter.bitSize(),
+                nickname.filter.hashCount());
+    }
+
+    /** 저장한 신규 지갑을 필터에 추가하고, 같은 트랜잭션에 다른 노드 전파 기록을 남긴다. */
+    public void add(CustomerWallet wallet) {
+        put(wallet.getNickname(), wallet.getPhone());
+        cacheInvalidationBus.publish(INVALIDATION_NAME, wallet.getId());
+    }
+
+    /** 다른 노드에서 저장된 지갑을 DB에서 읽어 추가 */
+    void reload(Long walletId) {
+        jdbcClient
+                .sql(SELECT_ONE)
+                .param(walletId)
+                .query(KEYS_MAPPER)
+                .optional()
+                .ifPresent(keys -> put(keys.nickname(), keys.phone()));
+    }
+
+    private void put(String nicknameValue, String phoneValue) {
+        if (nicknameValue != null) {
+            nickname.filter.put(nicknameKey(nicknameValue));
+        }
+        if (phoneValue != null) {
+            phone.filter.put(phoneValue);
+        }
+    }
+
+    /** 닉네임 존재 여부. 필터에서 음성이면 DB를 조회하지 않는다. */
+    public boolean nicknameExists(String nicknameValue, Predicate<String> dbExists) {
+        return nickname.exists(nicknameKey(nicknameValue), nicknameValue, dbExists);
+    }
+
+    /** 정규화된 전화번호 존재 여부. 필터에서 음성이면 DB를 조회하지 않는다. */
+    public boolean phoneExists(String normalizedPhone, Predicate<String> dbExists) {
+        return phone.exists(normalizedPhone, normalizedPhone, dbExists);
+    }
+
+    // MySQL 기본 collation은 대소문자/악센트를 구분하지 않으므로 DB가 같다고 보는 값은 같은 키로 맞춘다
+    private static String nicknameKey(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT).strip();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String field, String result) {
+        return Counter.builder("kkookk.wallet.identity.filter")
+                .tag("field", field)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record WalletKeys(long id, String nickname, String phone) {}
+
+    private final class Field {
+
+        private volatile BloomFilter filter;
+        private final Counter negative;
+        private final Counter positive;
+        private final Counter falsePositive;
+
+        private Field(String name, MeterRegistry meterRegistry) {
+            this.filter = BloomFilter.create(MIN_CAPACITY, TARGET_FPP);
+            this.negative = counter(meterRegistry, name, "negative");
+            this.positive = counter(meterRegistry, name, "positive");
+            this.falsePositive = counter(meterRegistry, name, "false_positive");
+            Gauge.builder(
+                            "kkookk.wallet.identity.filter.expected_fpp",
+                            this,
+                            f -> f.filter.expectedFpp())
+                    .tag("field", name)
+                    .register(meterRegistry);
+            Gauge.builder(
+                            "kkookk.wallet.identity.filter.observed_fpp",
+                            this,
+                            f ->
+                                    f.positive.count() == 0
+                                            ? 0
+                                            : f.falsePositive.count() / f.positive.count())
+                    .tag("field", name)
+                    .register(meterRegistry);
+        }
+
+        private void reset(long capacity) {
+            this.filter = BloomFilter.create(capacity, TARGET_FPP);
+        }
+
+        private boolean exists(String key, String value, Predicate<String> dbExists) {
+            if (ready && !filter.mightContain(key)) {
+                negative.increment();
+                return false;
+            }
+            boolean exists = dbExists.test(value);
+            if (ready) {
+                positive.increment();
+                if (!exists) {
+                    falsePositive.increment();
+                }
+            }
+            return exists;
+        }
+    }
+}
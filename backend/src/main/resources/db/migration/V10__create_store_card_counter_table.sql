@@ -0,0 +1,16 @@
+-- 매장별 ACTIVE 지갑 스탬프카드 수 (매장 공개 정보의 COUNT 대체)
+CREATE TABLE store_card_counter (
+    store_id BIGINT PRIMARY KEY,
+    active_count BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    FOREIGN KEY (store_id) REFERENCES store(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 기존 카드 수로 초기화
+INSERT INTO store_card_counter (store_id, active_count, created_at, updated_at)
+SELECT store_id, COUNT(*), NOW(6), NOW(6)
+FROM wallet_stamp_card
+WHERE status = 'ACTIVE'
+GROUP BY store_id;
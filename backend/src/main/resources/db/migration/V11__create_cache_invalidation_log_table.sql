@@ -0,0 +1,11 @@
+-- 노드 간 캐시 무효화 전파용 변경 로그 (각 노드가 id 기준 high-water mark로 폴링)
+CREATE TABLE cache_invalidation_log (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    cache_name VARCHAR(50) NOT NULL,
+    cache_key VARCHAR(255) NOT NULL,
+    key_type VARCHAR(10) NOT NULL,
+    origin VARCHAR(36) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+
+    INDEX idx_cache_invalidation_log_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
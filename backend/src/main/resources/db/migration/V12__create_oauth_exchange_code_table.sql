@@ -0,0 +1,9 @@
+-- OAuth 일회용 교환 코드 (여러 인스턴스에서 로그인 콜백과 토큰 교환이 다른 노드로 가도 동작하도록)
+CREATE TABLE oauth_exchange_code (
+    code_hash VARCHAR(64) PRIMARY KEY,
+    payload TEXT NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+
+    INDEX idx_oauth_exchange_code_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,4 @@
+-- Admin 매장 목록 (GET /api/admin/stores) 필터/정렬과 활성 스탬프카드 EXISTS 서브쿼리용
+CREATE INDEX idx_store_status_created_at ON store (status, created_at);
+CREATE INDEX idx_store_owner_created_at ON store (owner_account_id, created_at);
+CREATE INDEX idx_stamp_cards_store_status ON stamp_cards (store_id, status);
@@ -0,0 +1,3 @@
+-- 원장 내보내기 (GET /api/owner/stores/{storeId}/{stamp,redeem}-events/export) 기간 조회 + 발생 순 정렬용
+CREATE INDEX idx_stamp_event_store_occurred ON stamp_event (store_id, occurred_at);
+CREATE INDEX idx_redeem_event_store_occurred ON redeem_event (store_id, occurred_at);
@@ -0,0 +1,54 @@
+-- stamp_event / redeem_event 월 단위 RANGE 파티셔닝
+-- 파티션 키(occurred_at)는 모든 유니크 키에 포함되어야 하므로 PK를 (id, occurred_at)로 바꾼다.
+-- 이후 파티션은 LedgerPartitionMaintainer가 p_future를 나눠 미리 만들고, 보관 기간이 지난 파티션은 떼어내 아카이브한다.
+ALTER TABLE stamp_event DROP PRIMARY KEY, ADD PRIMARY KEY (id, occurred_at);
+ALTER TABLE stamp_event PARTITION BY RANGE COLUMNS (occurred_at) (
+    PARTITION p_old VALUES LESS THAN ('2026-01-01'),
+    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+ALTER TABLE redeem_event DROP PRIMARY KEY, ADD PRIMARY KEY (id, occurred_at);
+ALTER TABLE redeem_event PARTITION BY RANGE COLUMNS (occurred_at) (
+    PARTITION p_old VALUES LESS THAN ('2026-01-01'),
+    PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+    PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+    PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+    PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+    PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+    PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+    PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+    PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+    PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 떼어낸 파티션의 아카이브 파일 목록 (DETACHING -> ARCHIVED)
+CREATE TABLE ledger_archive (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    table_name VARCHAR(50) NOT NULL,
+    partition_name VARCHAR(20) NOT NULL,
+    range_start DATETIME(6) NULL,
+    range_end DATETIME(6) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    file_path VARCHAR(255) NULL,
+    row_count BIGINT NULL,
+    created_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NULL,
+
+    UNIQUE KEY uk_ledger_archive_partition (table_name, partition_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,21 @@
+-- 보관 기간이 지난 종료 상태 적립 요청 (issuance_request에서 배치로 이동, id 유지)
+CREATE TABLE issuance_request_history (
+    id BIGINT PRIMARY KEY,
+    store_id BIGINT NOT NULL,
+    wallet_id BIGINT NOT NULL,
+    wallet_stamp_card_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    idempotency_key VARCHAR(100),
+    expires_at DATETIME(6) NOT NULL,
+    approved_at DATETIME(6),
+    rewards_issued INT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+
+    INDEX idx_issuance_hist_store_created (store_id, created_at),
+    INDEX idx_issuance_hist_wallet (wallet_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 보관 대상 탐색용 (상태별 마지막 변경 시각 범위)
+CREATE INDEX idx_issuance_status_updated ON issuance_request (status, updated_at);
@@ -0,0 +1,5 @@
+-- 복제 지연 측정용 heartbeat (노드마다 primary에 한 행을 쓰고 복제본에서 읽는다)
+CREATE TABLE replica_heartbeat (
+    node_id VARCHAR(36) PRIMARY KEY,
+    beat_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
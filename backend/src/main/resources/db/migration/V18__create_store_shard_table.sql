@@ -0,0 +1,7 @@
+-- 매장 → 샤드 배치 기록 (main 샤드에만 둔다. 기록이 없는 매장은 main에 있다)
+CREATE TABLE store_shard (
+    store_id BIGINT PRIMARY KEY,
+    shard_id VARCHAR(30) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,10 @@
+-- read-your-writes 기록 (고정 세션 없이 다음 요청이 다른 노드로 가도 방금 쓴 사용자의 읽기를 primary로 보내도록)
+CREATE TABLE recent_writer (
+    writer_key VARCHAR(64) PRIMARY KEY,
+    sticky_until DATETIME(6) NOT NULL,
+
+    INDEX idx_recent_writer_sticky_until (sticky_until)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- heartbeat 노드 id를 UUID 대신 호스트 이름/설정 값으로 쓴다
+ALTER TABLE replica_heartbeat MODIFY node_id VARCHAR(64) NOT NULL;
@@ -0,0 +1,10 @@
+-- 지갑 홈 화면 읽기 모델 (지갑당 1행, 렌더링된 스탬프카드 목록)
+CREATE TABLE wallet_summary (
+    wallet_id BIGINT PRIMARY KEY,
+    version BIGINT NOT NULL,
+    payload MEDIUMTEXT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    FOREIGN KEY (wallet_id) REFERENCES customer_wallet(id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
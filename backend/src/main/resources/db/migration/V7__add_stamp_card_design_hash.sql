@@ -0,0 +1,8 @@
+-- 스탬프카드 디자인 콘텐츠 해시 (GET /api/public/designs/{hash})
+ALTER TABLE stamp_cards ADD COLUMN design_hash VARCHAR(64) AFTER design_json;
+
+UPDATE stamp_cards
+SET design_hash = SHA2(design_json, 256)
+WHERE design_json IS NOT NULL AND TRIM(design_json) <> '';
+
+CREATE INDEX idx_stamp_cards_design_hash ON stamp_cards (design_hash);
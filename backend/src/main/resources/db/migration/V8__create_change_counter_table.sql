@@ -0,0 +1,11 @@
+-- 조건부 GET(ETag)용 범위별 변경 카운터 (WALLET, STORE)
+CREATE TABLE change_counter (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    scope VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    version BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+
+    UNIQUE KEY uk_change_counter_scope_entity (scope, entity_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
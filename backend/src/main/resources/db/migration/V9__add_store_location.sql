@@ -0,0 +1,3 @@
+-- 매장 좌표 (GET /api/public/stores/nearby 공간 인덱스용, 카카오 장소 검색 결과의 x/y)
+ALTER TABLE store ADD COLUMN latitude DOUBLE NULL AFTER description;
+ALTER TABLE store ADD COLUMN longitude DOUBLE NULL AFTER latitude;
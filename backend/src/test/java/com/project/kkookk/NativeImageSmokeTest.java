@@ -0,0 +1,79 @@
+package com.project.kkookk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.global.config.CacheConfig;
+import com.project.kkookk.global.security.TokenType;
+import com.project.kkookk.global.util.JwtUtil;
+import com.project.kkookk.qrcode.service.QrCodeGenerator;
+import com.project.kkookk.store.controller.customer.dto.StoreStampCardSummaryResponse;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.domain.StoreStatus;
+import com.project.kkookk.store.repository.StoreRepository;
+import com.project.kkookk.store.service.CustomerStoreService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+/**
+ * 네이티브 이미지에서 리플렉션/리소스 힌트가 필요한 경로(JPA, jjwt, ZXing+ImageIO, Caffeine)를 한 번씩 지난다. {@code
+ * ./gradlew nativeTest -Pnative}로 실행하면 같은 테스트가 네이티브 바이너리에서도 돈다.
+ */
+@Tag("native")
+@SpringBootTest
+@DisplayName("네이티브 이미지 스모크 테스트")
+class NativeImageSmokeTest {
+
+    @Autowired private JwtUtil jwtUtil;
+
+    @Autowired private QrCodeGenerator qrCodeGenerator;
+
+    @Autowired private StoreRepository storeRepository;
+
+    @Autowired private CustomerStoreService customerStoreService;
+
+    @Autowired private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("JWT 발급 후 파싱")
+    void jwt_RoundTrip() {
+        // given
+        String token = jwtUtil.generateOwnerToken(7L, "owner@kkookk.com", false);
+
+        // when & then
+        assertThat(jwtUtil.validateToken(token)).isTrue();
+        assertThat(jwtUtil.getTokenType(token)).isEqualTo(TokenType.OWNER);
+        assertThat(jwtUtil.getSubjectId(token)).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("QR 코드 PNG 생성")
+    void qrCode_Png() {
+        // when
+        byte[] png = qrCodeGenerator.generateQrCode("http://localhost:5176/stores/1", 300, 300);
+
+        // then
+        assertThat(png).startsWith(0x89, 'P', 'N', 'G');
+    }
+
+    @Test
+    @DisplayName("JPA 저장/조회 결과가 매장 요약 캐시에 담김")
+    void store_SummaryCached() {
+        // given
+        Store store = new Store("꾹꾹 카페", "서울시 강남구", "02-1234-5678", null, null, null, 1L);
+        store.transitionTo(StoreStatus.LIVE);
+        Long storeId = storeRepository.save(store).getId();
+
+        // when
+        StoreStampCardSummaryResponse response =
+                customerStoreService.getStoreStampCardSummary(storeId);
+
+        // then
+        assertThat(response.storeName()).isEqualTo("꾹꾹 카페");
+        assertThat(cacheManager.getCache(CacheConfig.STORE_SUMMARY_CACHE).get(storeId))
+                .isNotNull();
+    }
+}
@@ -0,0 +1,240 @@
+package com.project.kkookk.dashboard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.project.kkookk.dashboard.config.DashboardProperties;
+import com.project.kkookk.dashboard.dto.OwnerDashboardResponse;
+import com.project.kkookk.global.config.DashboardConfig;
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.issuance.controller.dto.PendingIssuanceRequestListResponse;
+import com.project.kkookk.issuance.service.OwnerApprovalService;
+import com.project.kkookk.migration.controller.dto.MigrationListResponse;
+import com.project.kkookk.migration.service.OwnerMigrationService;
+import com.project.kkookk.redeem.service.OwnerRedeemEventService;
+import com.project.kkookk.stamp.service.OwnerStampEventService;
+import com.project.kkookk.statistics.dto.StoreStatisticsResponse;
+import com.project.kkookk.statistics.service.OwnerStatisticsService;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.repository.StoreRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OwnerDashboardService 테스트")
+class OwnerDashboardServiceTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final Long OWNER_ID = 10L;
+
+    @Mock private StoreRepository storeRepository;
+    @Mock private OwnerApprovalService ownerApprovalService;
+    @Mock private OwnerStatisticsService ownerStatisticsService;
+    @Mock private OwnerStampEventService ownerStampEventService;
+    @Mock private OwnerRedeemEventService ownerRedeemEventService;
+    @Mock private OwnerMigrationService ownerMigrationService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OwnerDashboardService ownerDashboardService;
+    private ThreadPoolTaskExecutor executor;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ownerDashboardService = dashboard(8, 20);
+        store = new Store("꾹꾹 카페", "서울시 강남구", "02-1234-5678", null, null, null, OWNER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("소유권을 한 번 검증하고 모든 항목을 모아 응답")
+    void getDashboard_Success() {
+        // given
+        givenOwnedStore();
+        PendingIssuanceRequestListResponse pending =
+                new PendingIssuanceRequestListResponse(List.of(), 0);
+        given(ownerApprovalService.loadPendingRequests(store)).willReturn(pending);
+        given(ownerStatisticsService.loadStoreStatistics(any(), any(), any()))
+                .willReturn(statistics());
+        given(ownerStampEventService.loadStampEvents(store, 0, 10)).willReturn(Page.empty());
+        given(ownerRedeemEventService.loadCompletedRedeemEvents(store, 0, 10))
+                .willReturn(Page.empty());
+        given(ownerMigrationService.loadList(store))
+                .willReturn(new MigrationListResponse(List.of()));
+
+        // when
+        OwnerDashboardResponse response = ownerDashboardService.getDashboard(STORE_ID, OWNER_ID);
+
+        // then
+        assertThat(response.unavailable()).isEmpty();
+        assertThat(response.pendingRequests()).isSameAs(pending);
+        assertThat(response.statistics()).isNotNull();
+        assertThat(response.recentStampEvents()).isEmpty();
+        assertThat(response.recentRedeemEvents()).isEmpty();
+        assertThat(response.migrations().migrations()).isEmpty();
+        verify(storeRepository).findByIdAndOwnerAccountId(STORE_ID, OWNER_ID);
+        LocalDate today = LocalDate.now();
+        verify(ownerStatisticsService).loadStoreStatistics(store, today.minusDays(29), today);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 항목과 실패한 항목만 비우고 나머지로 응답")
+    void getDashboard_PartialResult() {
+        // given
+        givenOwnedStore();
+        given(ownerApprovalService.loadPendingRequests(store))
+                .willReturn(new PendingIssuanceRequestListResponse(List.of(), 0));
+        given(ownerStatisticsService.loadStoreStatistics(any(), any(), any()))
+                .willAnswer(
+                        invocation -> {
+                            Thread.sleep(2_000);
+                            return statistics();
+                        });
+        given(ownerStampEventService.loadStampEvents(store, 0, 10)).willReturn(Page.empty());
+        given(ownerRedeemEventService.loadCompletedRedeemEvents(store, 0, 10))
+                .willThrow(new IllegalStateException("boom"));
+        given(ownerMigrationService.loadList(store))
+                .willReturn(new MigrationListResponse(List.of()));
+
+        // when
+        long startedAt = System.nanoTime();
+        OwnerDashboardResponse response = ownerDashboardService.getDashboard(STORE_ID, OWNER_ID);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // then
+        assertThat(elapsedMillis).isLessThan(1_500);
+        assertThat(response.unavailable())
+                .containsExactly(
+                        OwnerDashboardService.STATISTICS,
+                        OwnerDashboardService.RECENT_REDEEM_EVENTS);
+        assertThat(response.statistics()).isNull();
+        assertThat(response.recentRedeemEvents()).isNull();
+        assertThat(response.pendingRequests()).isNotNull();
+        assertThat(response.recentStampEvents()).isEmpty();
+        assertThat(response.migrations()).isNotNull();
+        assertThat(sectionCount(OwnerDashboardService.STATISTICS, "timeout")).isEqualTo(1);
+        assertThat(sectionCount(OwnerDashboardService.RECENT_REDEEM_EVENTS, "error"))
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전용 풀과 큐가 차면 남은 항목은 기다리지 않고 비움")
+    void getDashboard_RejectedWhenPoolSaturated() {
+        // given
+        ownerDashboardService = dashboard(1, 1);
+        givenOwnedStore();
+        given(ownerApprovalService.loadPendingRequests(store))
+                .willAnswer(
+                        invocation -> {
+                            Thread.sleep(2_000);
+                            return new PendingIssuanceRequestListResponse(List.of(), 0);
+                        });
+        // 큐에서 기다리던 항목은 앞 항목이 취소된 뒤 시작될 수도 있다
+        lenient()
+                .when(ownerStatisticsService.loadStoreStatistics(any(), any(), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Thread.sleep(2_000);
+                            return statistics();
+                        });
+
+        // when
+        OwnerDashboardResponse response = ownerDashboardService.getDashboard(STORE_ID, OWNER_ID);
+
+        // then
+        assertThat(response.unavailable())
+                .containsExactly(
+                        OwnerDashboardService.PENDING_REQUESTS,
+                        OwnerDashboardService.STATISTICS,
+                        OwnerDashboardService.RECENT_STAMP_EVENTS,
+                        OwnerDashboardService.RECENT_REDEEM_EVENTS,
+                        OwnerDashboardService.MIGRATIONS);
+        assertThat(sectionCount(OwnerDashboardService.PENDING_REQUESTS, "timeout")).isEqualTo(1);
+        assertThat(sectionCount(OwnerDashboardService.RECENT_STAMP_EVENTS, "rejected"))
+                .isEqualTo(1);
+        assertThat(sectionCount(OwnerDashboardService.RECENT_REDEEM_EVENTS, "rejected"))
+                .isEqualTo(1);
+        assertThat(sectionCount(OwnerDashboardService.MIGRATIONS, "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본인 매장이 아니면 항목을 조회하지 않고 실패")
+    void getDashboard_Fail_NotOwner() {
+        // given
+        given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
+                .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> ownerDashboardService.getDashboard(STORE_ID, OWNER_ID))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STORE_NOT_FOUND);
+        verifyNoInteractions(
+                ownerApprovalService,
+                ownerStatisticsService,
+                ownerStampEventService,
+                ownerRedeemEventService,
+                ownerMigrationService);
+    }
+
+    private OwnerDashboardService dashboard(int threads, int queueCapacity) {
+        if (executor != null) {
+            executor.shutdown();
+        }
+        DashboardProperties properties =
+                new DashboardProperties(Duration.ofMillis(300), threads, queueCapacity, 10, 30);
+        executor = new DashboardConfig().dashboardTaskExecutor(properties);
+        executor.initialize();
+        return new OwnerDashboardService(
+                storeRepository,
+                ownerApprovalService,
+                ownerStatisticsService,
+                ownerStampEventService,
+                ownerRedeemEventService,
+                ownerMigrationService,
+                properties,
+                meterRegistry,
+                executor);
+    }
+
+    private void givenOwnedStore() {
+        given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
+                .willReturn(Optional.of(store));
+    }
+
+    private static StoreStatisticsResponse statistics() {
+        LocalDate today = LocalDate.now();
+        return new StoreStatisticsResponse(today.minusDays(29), today, 0, 0, 0, 0, List.of());
+    }
+
+    private long sectionCount(String section, String result) {
+        return meterRegistry
+                .get("kkookk.dashboard.section")
+                .tag("section", section)
+                .tag("result", result)
+                .timer()
+                .count();
+    }
+}
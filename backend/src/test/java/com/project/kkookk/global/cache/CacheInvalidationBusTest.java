@@ -0,0 +1,147 @@
+package com.project.kkookk.global.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+@DataJpaTest
+class CacheInvalidationBusTest {
+
+    private static final String CACHE = "storeSummary";
+
+    @Autowired private JdbcClient jdbcClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CaffeineCacheManager cacheManagerA;
+    private CaffeineCacheManager cacheManagerB;
+    private CacheInvalidationBus nodeA;
+    private CacheInvalidationBus nodeB;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CacheInvalidationProperties properties =
+                new CacheInvalidationProperties(
+                        Duration.ofSeconds(1), Duration.ofSeconds(10), 500, Duration.ofHours(1));
+        cacheManagerA = new CaffeineCacheManager(CACHE);
+        cacheManagerB = new CaffeineCacheManager(CACHE);
+        nodeA = new CacheInvalidationBus(jdbcClient, cacheManagerA, properties, meterRegistry);
+        nodeB = new CacheInvalidationBus(jdbcClient, cacheManagerB, properties, meterRegistry);
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @Test
+    @DisplayName("한 노드가 기록한 무효화는 다른 노드의 캐시에서 같은 키만 제거")
+    void poll_EvictsOnOtherNode() {
+        // given
+        Cache cacheA = cacheManagerA.getCache(CACHE);
+        Cache cacheB = cacheManagerB.getCache(CACHE);
+        cacheA.put(1L, "A-1");
+        cacheB.put(1L, "B-1");
+        cacheB.put(2L, "B-2");
+
+        // when
+        nodeA.publish(CACHE, 1L);
+        nodeA.poll();
+        nodeB.poll();
+
+        // then
+        assertThat(cacheA.get(1L)).isNotNull(); // 자기 노드 기록은 커밋 후 직접 처리하므로 건너뜀
+        assertThat(cacheB.get(1L)).isNull();
+        assertThat(cacheB.get(2L)).isNotNull();
+        assertThat(meterRegistry.get("kkookk.cache.invalidation.lag").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다시 폴링해도 이미 적용한 무효화는 다시 적용하지 않음")
+    void poll_AppliesOnce() {
+        // given
+        Cache cacheB = cacheManagerB.getCache(CACHE);
+        nodeA.publish(CACHE, 1L);
+        nodeB.poll();
+
+        // when
+        cacheB.put(1L, "reloaded");
+        nodeB.poll();
+
+        // then
+        assertThat(cacheB.get(1L)).isNotNull();
+        assertThat(
+                        meterRegistry
+                                .get("kkookk.cache.invalidation.applied")
+                                .tag("cache", CACHE)
+                                .counter()
+                                .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("건너뛴 id는 늦게 커밋되면 다음 폴링에서 그 행만 다시 읽어 적용")
+    void poll_AppliesLateCommittedGap() {
+        // given
+        Cache cacheB = cacheManagerB.getCache(CACHE);
+        cacheB.put(2L, "B-2");
+        nodeA.publish(CACHE, 1L);
+        nodeA.publish(CACHE, 2L);
+        nodeA.publish(CACHE, 3L);
+        List<Long> ids =
+                jdbcClient
+                        .sql("SELECT id FROM cache_invalidation_log ORDER BY id")
+                        .query(Long.class)
+                        .list();
+        Long lateId = ids.get(ids.size() - 2);
+        // 가운데 행이 아직 커밋되지 않은 상황
+        jdbcClient.sql("DELETE FROM cache_invalidation_log WHERE id = ?").param(lateId).update();
+        nodeB.poll();
+        assertThat(cacheB.get(2L)).isNotNull();
+
+        // when
+        jdbcClient
+                .sql(
+                        "INSERT INTO cache_invalidation_log "
+                                + "(id, cache_name, cache_key, key_type, origin, created_at) "
+                                + "VALUES (?, ?, '2', 'LONG', ?, ?)")
+                .params(lateId, CACHE, nodeA.nodeId(), LocalDateTime.now())
+                .update();
+        nodeB.poll();
+
+        // then
+        assertThat(cacheB.get(2L)).isNull();
+        assertThat(
+                        meterRegistry
+                                .get("kkookk.cache.invalidation.applied")
+                                .tag("cache", CACHE)
+                                .counter()
+                                .count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("핸들러가 등록된 이름은 캐시 대신 핸들러로 키를 전달")
+    void poll_DispatchesToRegisteredHandler() {
+        // given
+        List<Object> received = new ArrayList<>();
+        nodeB.register("storeGeoIndex", received::add);
+
+        // when
+        nodeA.publish("storeGeoIndex", 7L);
+        nodeB.poll();
+
+        // then
+        assertThat(received).containsExactly(7L);
+    }
+}
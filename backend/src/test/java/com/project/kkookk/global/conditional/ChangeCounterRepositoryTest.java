@@ -0,0 +1,68 @@
+package com.project.kkookk.global.conditional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.wallet.domain.WalletStampCard;
+import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class ChangeCounterRepositoryTest {
+
+    private static final Long STORE_ID = 7001L;
+
+    @Autowired private ChangeCounterRepository changeCounterRepository;
+
+    @Autowired private WalletStampCardRepository walletStampCardRepository;
+
+    @Test
+    @DisplayName("첫 증가 시 버전 1로 생성되고 이후 1씩 증가")
+    void increment_CreatesThenBumps() {
+        // given
+        assertThat(changeCounterRepository.findVersion(ChangeScope.WALLET, 8001L)).isEmpty();
+
+        // when
+        changeCounterRepository.increment(ChangeScope.WALLET, 8001L);
+        changeCounterRepository.increment(ChangeScope.WALLET, 8001L);
+
+        // then
+        assertThat(changeCounterRepository.findVersion(ChangeScope.WALLET, 8001L)).contains(2L);
+        // 같은 ID라도 범위가 다르면 별도 카운터
+        assertThat(changeCounterRepository.findVersion(ChangeScope.STORE, 8001L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("매장 변경 시 해당 매장 카드를 가진 지갑 중 카운터가 있는 지갑만 증가")
+    void incrementWalletsOfStore_BumpsTrackedWallets() {
+        // given
+        saveCard(8101L, STORE_ID);
+        saveCard(8102L, STORE_ID);
+        saveCard(8103L, 7002L);
+        changeCounterRepository.increment(ChangeScope.WALLET, 8101L);
+        changeCounterRepository.increment(ChangeScope.WALLET, 8103L);
+
+        // when
+        int updated = changeCounterRepository.incrementWalletsOfStore(STORE_ID);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(changeCounterRepository.findVersion(ChangeScope.WALLET, 8101L)).contains(2L);
+        assertThat(changeCounterRepository.findVersion(ChangeScope.WALLET, 8102L)).isEmpty();
+        assertThat(changeCounterRepository.findVersion(ChangeScope.WALLET, 8103L)).contains(1L);
+    }
+
+    private void saveCard(Long walletId, Long storeId) {
+        walletStampCardRepository.saveAndFlush(
+                WalletStampCard.builder()
+                        .customerWalletId(walletId)
+                        .storeId(storeId)
+                        .stampCardId(1L)
+                        .stampCount(0)
+                        .build());
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.kkookk.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+class CacheConfigTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("refreshAfterWrite가 지난 매장 요약은 기존 값을 바로 돌려주고 백그라운드에서 다시 읽음")
+    void storeSummary_ServesStaleValueWhileReloading() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch finishReload = new CountDownLatch(1);
+        Cache cache =
+                storeSummaryCache(
+                        storeId -> {
+                            int version = loads.incrementAndGet();
+                            if (version > 1) {
+                                reloadStarted.countDown();
+                                finishReload.await();
+                            }
+                            return "v" + version;
+                        });
+        assertThat(cache.get(1L).get()).isEqualTo("v1");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        // when
+        Object stale = cache.get(1L).get();
+
+        // then
+        assertThat(stale).isEqualTo("v1");
+        assertThat(reloadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cache.get(1L).get()).isEqualTo("v1"); // 다시 읽는 동안에도 기다리지 않음
+
+        finishReload.countDown();
+        assertThat(awaitValue(cache, 1L, "v2")).isTrue();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 매장 요약을 동시에 놓쳐도 로더는 한 번만 실행")
+    void storeSummary_ConcurrentMissesLoadOnce() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        Cache cache =
+                storeSummaryCache(
+                        storeId -> {
+                            loads.incrementAndGet();
+                            Thread.sleep(100);
+                            return "v1";
+                        });
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            results.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+                                return cache.get(1L).get();
+                            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Object> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v1");
+        }
+        executor.shutdown();
+        assertThat(loads).hasValue(1);
+    }
+
+    /** 운영과 같은 방식(registerCustomCache)으로 등록하되 시계만 테스트가 움직인다. */
+    private Cache storeSummaryCache(CacheLoader<Object, Object> loader) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(
+                CacheConfig.STORE_SUMMARY_CACHE,
+                CacheConfig.storeSummaryCacheBuilder(nanos::get).build(loader));
+        return cacheManager.getCache(CacheConfig.STORE_SUMMARY_CACHE);
+    }
+
+    private static boolean awaitValue(Cache cache, Object key, Object expected)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (expected.equals(cache.get(key).get())) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.kkookk.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.util.ClassUtils;
+
+class NativeHintsConfigTest {
+
+    @Test
+    @DisplayName("jjwt 구현체와 logback-spring.xml 구성 요소, 하위 설정 타입까지 리플렉션 힌트 등록")
+    void registerHints() {
+        // given
+        RuntimeHints hints = new RuntimeHints();
+
+        // when
+        new NativeHintsConfig.Hints().registerHints(hints, getClass().getClassLoader());
+
+        // then
+        assertRegistered(hints, NativeHintsConfig.Hints.JJWT_TYPES);
+        assertRegistered(hints, NativeHintsConfig.Hints.LOGBACK_COMPONENTS);
+        assertRegistered(hints, NativeHintsConfig.Hints.IMAGE_IO_TYPES);
+        // <http>, <format> 같은 Loki 하위 설정 타입은 setter를 따라가며 찾는다
+        long lokiTypes =
+                hints.reflection()
+                        .typeHints()
+                        .filter(hint -> hint.getType().getName().startsWith("com.github.loki4j."))
+                        .count();
+        assertThat(lokiTypes).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("힌트로 등록하는 jjwt/ImageIO 타입 이름이 실제 클래스패스에 있음")
+    void hintedTypesExist() {
+        // given
+        ClassLoader classLoader = getClass().getClassLoader();
+
+        // when & then
+        assertThat(NativeHintsConfig.Hints.JJWT_TYPES)
+                .allSatisfy(type -> assertThat(ClassUtils.isPresent(type, classLoader)).isTrue());
+        assertThat(NativeHintsConfig.Hints.IMAGE_IO_TYPES)
+                .allSatisfy(type -> assertThat(ClassUtils.isPresent(type, classLoader)).isTrue());
+    }
+
+    private static void assertRegistered(RuntimeHints hints, List<String> types) {
+        for (String type : types) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type)))
+                    .accepts(hints);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.project.kkookk.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+class ConnectionLimitingDataSourceTest {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(ConnectionLimitingDataSourceTest.class);
+
+    private HikariDataSource pool;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:limit-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(20);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 자리를 돌려주고, 자리가 없으면 대기 시간 후 실패")
+    void permits_ReleasedOnCloseAndRejectedWhenFull() throws Exception {
+        // given
+        ConnectionLimitingDataSource dataSource = limited(1, Duration.ofMillis(100));
+
+        // when
+        Connection held = dataSource.getConnection();
+
+        // then
+        assertThat(dataSource.active()).isEqualTo(1);
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(rejectedCount()).isEqualTo(1.0);
+
+        held.close();
+        held.close();
+        assertThat(dataSource.active()).isZero();
+        try (Connection next = dataSource.getConnection()) {
+            assertThat(next.isValid(1)).isTrue();
+        }
+        assertThat(dataSource.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("자리를 쥔 스레드가 다시 꺼내면 세마포어를 건너뛰고, 다른 스레드는 기다린 뒤 실패")
+    void permits_NestedAcquisitionOnSameThreadDoesNotWait() throws Exception {
+        // given
+        ConnectionLimitingDataSource dataSource = limited(1, Duration.ofMillis(100));
+        ExecutorService other = Executors.newSingleThreadExecutor();
+
+        try (Connection outer = dataSource.getConnection()) {
+            // when
+            try (Connection inner = dataSource.getConnection()) {
+                // then
+                assertThat(inner.isValid(1)).isTrue();
+                assertThat(dataSource.active()).isEqualTo(1);
+            }
+            assertThat(dataSource.active()).isEqualTo(1);
+            Future<?> fromOtherThread =
+                    other.submit(
+                            () -> {
+                                dataSource.getConnection().close();
+                                return null;
+                            });
+            assertThatThrownBy(fromOtherThread::get)
+                    .hasCauseInstanceOf(SQLTransientConnectionException.class);
+        } finally {
+            other.shutdown();
+        }
+        assertThat(dataSource.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("지연 커넥션 프록시 아래에 두면 SQL을 실행해 물리 커넥션을 꺼낼 때만 자리를 잡음")
+    void permits_TakenOnlyForPhysicalConnections() throws Exception {
+        // given
+        ConnectionLimitingDataSource dataSource = limited(1, Duration.ofMillis(100));
+        DataSource lazy = new LazyConnectionDataSourceProxy(dataSource);
+
+        // when
+        try (Connection first = lazy.getConnection();
+                Connection second = lazy.getConnection()) {
+            // then
+            assertThat(dataSource.active()).isZero();
+            first.createStatement().execute("SELECT 1");
+            assertThat(dataSource.active()).isEqualTo(1);
+        }
+        assertThat(dataSource.active()).isZero();
+        assertThat(rejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("풀마다 maximum-pool-size만큼 자리를 두고, 꺼져 있으면 풀을 그대로 씀")
+    void limiter_UsesPoolSizePerPool() throws Exception {
+        // given
+        pool.setPoolName("primary");
+        pool.setMaximumPoolSize(3);
+
+        // when
+        DataSource limited =
+                new ConnectionLimiter(
+                                new ConnectionLimitProperties(true, Duration.ofMillis(100)),
+                                meterRegistry)
+                        .limit(pool, "dataSource");
+        DataSource untouched =
+                new ConnectionLimiter(
+                                new ConnectionLimitProperties(false, Duration.ofMillis(100)),
+                                meterRegistry)
+                        .limit(pool, "dataSource");
+
+        // then
+        assertThat(untouched).isSameAs(pool);
+        assertThat(limited).isInstanceOf(ConnectionLimitingDataSource.class);
+        List<Connection> held = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            held.add(limited.getConnection());
+        }
+        assertThatThrownBy(limited::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(
+                        meterRegistry
+                                .get("kkookk.datasource.limit.rejected")
+                                .tag("pool", "primary")
+                                .counter()
+                                .count())
+                .isEqualTo(1.0);
+        for (Connection connection : held) {
+            connection.close();
+        }
+    }
+
+    /**
+     * 플랫폼 스레드(Tomcat 기본 200개)와 가상 스레드의 처리량/지연 비교. 요청은 커넥션을 5ms 쥔 뒤 외부 API 100ms를 블로킹으로
+     * 기다린다. 플랫폼 스레드는 스레드 수에, 가상 스레드는 DB 자리(20개 x 5ms)에 묶인다.
+     *
+     * <p>{@code -Dkkookk.benchmark.requests=20000}처럼 요청 수를 지정하고 Java 21 이상에서 실행할 때만 돈다.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "kkookk.benchmark.requests", matches = "\\d+")
+    @DisplayName("[benchmark] 플랫폼 스레드 대 가상 스레드 처리량")
+    void threads_Throughput() throws Exception {
+        // given
+        ExecutorService virtual = virtualThreadExecutor();
+        assumeTrue(virtual != null, "가상 스레드는 Java 21 이상에서만 측정");
+        int requests = Integer.parseInt(System.getProperty("kkookk.benchmark.requests"));
+        ConnectionLimitingDataSource dataSource = limited(20, Duration.ofSeconds(30));
+        run(Executors.newFixedThreadPool(200), dataSource, 1_000);
+
+        // when
+        Result platform = run(Executors.newFixedThreadPool(200), dataSource, requests);
+        Result virtualResult = run(virtual, dataSource, requests);
+
+        // then
+        log.info("[ThreadBenchmark] platform {}", platform);
+        log.info("[ThreadBenchmark] virtual  {}", virtualResult);
+        assertThat(rejectedCount()).isZero();
+        assertThat(virtualResult.requestsPerSec()).isGreaterThan(platform.requestsPerSec());
+    }
+
+    private ConnectionLimitingDataSource limited(int permits, Duration acquireTimeout) {
+        return new ConnectionLimitingDataSource(
+                pool, "test", permits, acquireTimeout, meterRegistry);
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.get("kkookk.datasource.limit.rejected").counter().count();
+    }
+
+    private static Result run(ExecutorService executor, DataSource dataSource, int requests)
+            throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+        long startedAt = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            long submittedAt = System.nanoTime();
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                try (Connection connection = dataSource.getConnection()) {
+                                    connection.createStatement().execute("SELECT 1");
+                                    sleep(5);
+                                }
+                                sleep(100);
+                                latencies.add(System.nanoTime() - submittedAt);
+                                return null;
+                            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        executor.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Result(
+                requests * 1000L / elapsedMillis,
+                sorted.get(sorted.size() / 2) / 1_000_000,
+                sorted.get((int) (sorted.size() * 0.99)) / 1_000_000);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 테스트는 Java 17로 컴파일되므로 Java 21 API는 리플렉션으로 찾는다. */
+    private static ExecutorService virtualThreadExecutor() {
+        try {
+            return (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private record Result(long requestsPerSec, long p50Millis, long p99Millis) {}
+}
@@ -0,0 +1,254 @@
+package com.project.kkookk.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.global.security.CustomerPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** 복제본 대신 두 번째 H2 DB를 두고 라우팅을 확인한다. 두 DB는 복제되지 않으므로 heartbeat는 테스트가 직접 맞춘다. */
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaProperties properties;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcClient jdbcClient;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        meterRegistry = new SimpleMeterRegistry();
+        properties =
+                new ReplicaProperties(
+                        true,
+                        null,
+                        null,
+                        null,
+                        10,
+                        Duration.ofSeconds(2),
+                        Duration.ofSeconds(1),
+                        Duration.ofSeconds(5),
+                        "node-a");
+        lagMonitor = new ReplicaLagMonitor(primary, replica, properties, meterRegistry);
+        DataSource routing = routing(meterRegistry);
+        jdbcClient = JdbcClient.create(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = readOnlyTemplate(routing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본, 쓰기 트랜잭션과 트랜잭션 밖 호출은 primary")
+    void route_ByTransactionReadOnly() {
+        // given
+        replicateHeartbeat(LocalDateTime.now());
+
+        // when & then
+        assertThat(readOnly.execute(status -> whereAmI())).isEqualTo("replica");
+        assertThat(readWrite.execute(status -> whereAmI())).isEqualTo("primary");
+        assertThat(whereAmI()).isEqualTo("primary");
+        assertThat(routeCount("replica", "read")).isEqualTo(1.0);
+        assertThat(routeCount("primary", "write")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 상한을 넘거나 측정되지 않으면 readOnly여도 primary")
+    void route_FallsBackOnLag() {
+        // given
+        replicateHeartbeat(LocalDateTime.now().minusSeconds(10));
+
+        // when
+        String lagged = readOnly.execute(status -> whereAmI());
+        JdbcClient.create(replica).sql("DELETE FROM replica_heartbeat").update();
+        lagMonitor.check();
+        String unknown = readOnly.execute(status -> whereAmI());
+
+        // then
+        assertThat(lagged).isEqualTo("primary");
+        assertThat(unknown).isEqualTo("primary");
+        assertThat(routeCount("primary", "lag")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("같은 지갑이 방금 쓴 뒤의 읽기는 primary, 다른 지갑은 복제본")
+    void route_ReadYourWrites() {
+        // given
+        replicateHeartbeat(LocalDateTime.now());
+        authenticate(1L);
+        readWrite.executeWithoutResult(
+                status -> jdbcClient.sql("UPDATE marker SET name = name").update());
+
+        // when
+        String sameWallet = readOnly.execute(status -> whereAmI());
+        authenticate(2L);
+        String otherWallet = readOnly.execute(status -> whereAmI());
+
+        // then
+        assertThat(sameWallet).isEqualTo("primary");
+        assertThat(otherWallet).isEqualTo("replica");
+        assertThat(routeCount("primary", "sticky")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("방금 쓴 기록은 primary에 남으므로 다른 노드로 간 읽기도 primary")
+    void route_ReadYourWritesAcrossNodes() {
+        // given
+        replicateHeartbeat(LocalDateTime.now());
+        authenticate(1L);
+        readWrite.executeWithoutResult(
+                status -> jdbcClient.sql("UPDATE marker SET name = name").update());
+        DataSource otherNode = routing(new SimpleMeterRegistry());
+
+        // when
+        JdbcClient otherNodeClient = JdbcClient.create(otherNode);
+        String sameWallet =
+                readOnlyTemplate(otherNode).execute(status -> whereAmI(otherNodeClient));
+
+        // then
+        assertThat(sameWallet).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("stickiness가 지난 쓰기 기록은 정리되고 다시 복제본을 씀")
+    void route_ReadYourWritesExpires() {
+        // given
+        replicateHeartbeat(LocalDateTime.now());
+        authenticate(1L);
+        JdbcClient.create(primary)
+                .sql("INSERT INTO recent_writer (writer_key, sticky_until) VALUES (?, ?)")
+                .params("wallet:1", LocalDateTime.now().minusSeconds(1))
+                .update();
+
+        // when
+        new ReadYourWrites(primary, properties.stickiness()).purgeExpired();
+
+        // then
+        assertThat(readOnly.execute(status -> whereAmI())).isEqualTo("replica");
+        assertThat(
+                        JdbcClient.create(primary)
+                                .sql("SELECT COUNT(*) FROM recent_writer")
+                                .query(Long.class)
+                                .single())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("heartbeat 노드 id는 설정 값 또는 호스트 이름으로 재시작해도 같고, 오래된 다른 노드 행은 지움")
+    void heartbeat_StableNodeIdAndStaleRowsPurged() {
+        // given
+        JdbcClient primaryClient = JdbcClient.create(primary);
+        primaryClient
+                .sql("INSERT INTO replica_heartbeat (node_id, beat_at) VALUES (?, ?)")
+                .params("gone-node", LocalDateTime.now().minusHours(2))
+                .update();
+
+        // when
+        lagMonitor.heartbeat();
+        lagMonitor.purgeStaleHeartbeats();
+
+        // then
+        assertThat(lagMonitor.nodeId()).isEqualTo("node-a");
+        assertThat(ReplicaLagMonitor.resolveNodeId(null))
+                .isNotBlank()
+                .isEqualTo(ReplicaLagMonitor.resolveNodeId(""));
+        assertThat(ReplicaLagMonitor.resolveNodeId("x".repeat(80))).hasSize(64);
+        assertThat(
+                        primaryClient
+                                .sql("SELECT node_id FROM replica_heartbeat")
+                                .query(String.class)
+                                .list())
+                .containsExactly("node-a");
+    }
+
+    private DataSource routing(SimpleMeterRegistry registry) {
+        return new ReadWriteRoutingDataSource(
+                        primary,
+                        replica,
+                        lagMonitor,
+                        new ReadYourWrites(primary, properties.stickiness()),
+                        registry)
+                .lazy();
+    }
+
+    private static TransactionTemplate readOnlyTemplate(DataSource routing) {
+        TransactionTemplate template =
+                new TransactionTemplate(new DataSourceTransactionManager(routing));
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private String whereAmI() {
+        return whereAmI(jdbcClient);
+    }
+
+    private static String whereAmI(JdbcClient client) {
+        return client.sql("SELECT name FROM marker").query(String.class).single();
+    }
+
+    /** 복제본에 이 노드의 heartbeat가 {@code beatAt} 시각으로 복제된 상태를 만든다. */
+    private void replicateHeartbeat(LocalDateTime beatAt) {
+        JdbcClient.create(replica)
+                .sql("INSERT INTO replica_heartbeat (node_id, beat_at) VALUES (?, ?)")
+                .params(lagMonitor.nodeId(), beatAt)
+                .update();
+        lagMonitor.check();
+    }
+
+    private double routeCount(String target, String reason) {
+        return meterRegistry
+                .get("kkookk.datasource.route")
+                .tag("target", target)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+
+    private static void authenticate(Long walletId) {
+        CustomerPrincipal principal = CustomerPrincipal.of(walletId);
+        SecurityContextHolder.getContext()
+                .setAuthentication(
+                        new UsernamePasswordAuthenticationToken(
+                                principal, null, principal.getAuthorities()));
+    }
+
+    private static DataSource database(String name) {
+        String url =
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        DataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcClient client = JdbcClient.create(dataSource);
+        client.sql("CREATE TABLE marker (name VARCHAR(20))").update();
+        client.sql("INSERT INTO marker (name) VALUES (?)").param(name).update();
+        client.sql(
+                        "CREATE TABLE replica_heartbeat (node_id VARCHAR(64) PRIMARY KEY,"
+                                + " beat_at DATETIME(6) NOT NULL)")
+                .update();
+        client.sql(
+                        "CREATE TABLE recent_writer (writer_key VARCHAR(64) PRIMARY KEY,"
+                                + " sticky_until DATETIME(6) NOT NULL)")
+                .update();
+        return dataSource;
+    }
+}
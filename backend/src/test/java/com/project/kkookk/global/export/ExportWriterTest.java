@@ -0,0 +1,85 @@
+package com.project.kkookk.global.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExportWriterTest {
+
+    private static final List<String> COLUMNS = List.of("id", "occurredAt", "reason");
+    private static final LocalDateTime OCCURRED_AT = LocalDateTime.of(2026, 2, 4, 14, 30);
+
+    @Test
+    @DisplayName("CSV - BOM과 헤더를 쓰고 구분자/따옴표/수식 시작 문자를 이스케이프")
+    void csv_EscapesCells() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportWriter writer = ExportWriter.open(out, ExportFormat.CSV, COLUMNS)) {
+            writer.writeRow(1L, OCCURRED_AT, "적립, \"이벤트\"");
+            writer.writeRow(2L, OCCURRED_AT, "=HYPERLINK(\"x\")");
+            writer.writeRow(3L, OCCURRED_AT, null);
+        }
+
+        // then
+        String csv = gunzip(out.toByteArray());
+        assertThat(csv)
+                .isEqualTo(
+                        "\uFEFFid,occurredAt,reason\r\n"
+                                + "1,2026-02-04 14:30:00,\"적립, \"\"이벤트\"\"\"\r\n"
+                                + "2,2026-02-04 14:30:00,\"'=HYPERLINK(\"\"x\"\")\"\r\n"
+                                + "3,2026-02-04 14:30:00,\r\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON - 한 줄에 한 객체, 숫자는 숫자로 null은 null로")
+    void ndjson_OneObjectPerLine() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        try (ExportWriter writer = ExportWriter.open(out, ExportFormat.NDJSON, COLUMNS)) {
+            writer.writeRow(1L, OCCURRED_AT, "줄바꿈\n포함");
+            writer.writeRow(2L, OCCURRED_AT, null);
+        }
+
+        // then
+        String[] lines = gunzip(out.toByteArray()).split("\n");
+        assertThat(lines).hasSize(2);
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").isNumber()).isTrue();
+        assertThat(first.get("occurredAt").asText()).isEqualTo("2026-02-04T14:30:00");
+        assertThat(first.get("reason").asText()).isEqualTo("줄바꿈\n포함");
+        assertThat(objectMapper.readTree(lines[1]).get("reason").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("컬럼 수와 값 수가 다르면 예외")
+    void writeRow_ColumnMismatch() throws IOException {
+        // given
+        ExportWriter writer =
+                ExportWriter.open(new ByteArrayOutputStream(), ExportFormat.CSV, COLUMNS);
+
+        // when & then
+        assertThatThrownBy(() -> writer.writeRow(1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.project.kkookk.global.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+class OutboundHttpTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboundHttpTest.class);
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long latencyMillis;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ping", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 상한보다 많아도 호스트별 상한 이내의 커넥션만 열고 다음 묶음에서 재사용")
+    void connectionReuse() throws Exception {
+        // given: 상한의 두 배 스레드가 동시에 요청
+        int maxPerHost = 8;
+        RestTemplate restTemplate = restTemplate(maxPerHost, Duration.ofSeconds(5));
+        int threads = maxPerHost * 2;
+        int requestsPerThread = 25;
+
+        // when
+        long startedAt = System.nanoTime();
+        Set<Integer> firstBatch = runBatch(restTemplate, threads, requestsPerThread);
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        Set<Integer> secondBatch = runBatch(restTemplate, threads, requestsPerThread);
+
+        // then
+        log.info(
+                "[OutboundHttp] requests={}, connections={}, elapsed={}ms",
+                requestCount.get(),
+                firstBatch.size(),
+                elapsedMillis);
+        assertThat(requestCount).hasValue(threads * requestsPerThread * 2);
+        // 자리는 응답 본문을 다 읽은 뒤 반납하므로 동시에 열린 커넥션은 상한을 넘지 않는다
+        assertThat(firstBatch.size()).isLessThanOrEqualTo(maxPerHost);
+        // 이어지는 묶음은 새 커넥션 없이 풀에 남은 keep-alive 커넥션만 쓴다
+        assertThat(firstBatch).containsAll(secondBatch);
+    }
+
+    @Test
+    @DisplayName("호스트별 상한을 넘는 요청은 대기 시간 후 실패하고 거절 메트릭을 남김")
+    void perHostLimit_Rejects() throws Exception {
+        // given
+        latencyMillis = 300;
+        RestTemplate restTemplate = restTemplate(1, Duration.ZERO);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> first =
+                executor.submit(() -> restTemplate.getForObject("/ping", String.class));
+        Thread.sleep(100);
+
+        // when
+        Throwable rejected = null;
+        try {
+            restTemplate.getForObject("/ping", String.class);
+        } catch (ResourceAccessException e) {
+            rejected = e;
+        }
+
+        // then
+        assertThat(first.get()).isEqualTo("pong");
+        executor.shutdown();
+        assertThat(rejected).isNotNull();
+        assertThat(requestCount).hasValue(1);
+        assertThat(
+                        meterRegistry
+                                .get("kkookk.http.client.rejected")
+                                .tag("host", "127.0.0.1")
+                                .counter()
+                                .count())
+                .isEqualTo(1.0);
+    }
+
+    private Set<Integer> runBatch(RestTemplate restTemplate, int threads, int requestsPerThread)
+            throws Exception {
+        clientPorts.clear();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+                                for (int j = 0; j < requestsPerThread; j++) {
+                                    restTemplate.getForObject("/ping", String.class);
+                                }
+                                return null;
+                            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return Set.copyOf(clientPorts);
+    }
+
+    private RestTemplate restTemplate(int maxPerHost, Duration acquireTimeout) {
+        OutboundHttp outboundHttp =
+                new OutboundHttp(
+                        new OutboundHttpProperties(
+                                Duration.ofSeconds(1),
+                                Duration.ofSeconds(5),
+                                maxPerHost,
+                                acquireTimeout),
+                        new RestTemplateBuilder(),
+                        RestClient.builder(),
+                        meterRegistry);
+        return outboundHttp
+                .restTemplateBuilder(null)
+                .rootUri("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.kkookk.global.ledger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.kkookk.global.ledger.LedgerPartitionMaintainer.DetachState;
+import com.project.kkookk.global.ledger.LedgerPartitionMaintainer.Step;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LedgerPartitionMaintainerTest {
+
+    private static final LocalDateTime FEB = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Test
+    @DisplayName("월 시작 시각으로 pYYYYMM 파티션 이름을 만듦")
+    void partitionName() {
+        assertThat(LedgerPartitionMaintainer.partitionName(FEB)).isEqualTo("p202602");
+        assertThat(LedgerPartitionMaintainer.partitionName(LocalDateTime.of(2025, 12, 1, 0, 0)))
+                .isEqualTo("p202512");
+    }
+
+    @Test
+    @DisplayName("파티션 상한은 날짜/날짜시간 문자열을 읽고 MAXVALUE는 null")
+    void parseBound() {
+        assertThat(LedgerPartitionMaintainer.parseBound("'2026-02-01'")).isEqualTo(FEB);
+        assertThat(LedgerPartitionMaintainer.parseBound("'2026-02-01 00:00:00'")).isEqualTo(FEB);
+        assertThat(LedgerPartitionMaintainer.parseBound("MAXVALUE")).isNull();
+        assertThat(LedgerPartitionMaintainer.parseBound(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("월 파티션은 이름에서, 그 외 파티션은 앞 파티션 상한에서 하한을 구함")
+    void rangeStart() {
+        LocalDateTime previous = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+        assertThat(LedgerPartitionMaintainer.rangeStart("p202602", previous)).isEqualTo(FEB);
+        assertThat(LedgerPartitionMaintainer.rangeStart("p_old", previous)).isEqualTo(previous);
+        assertThat(LedgerPartitionMaintainer.rangeStart("p_old", null)).isNull();
+    }
+
+    @Test
+    @DisplayName("처음 떼어낼 때는 임시 테이블 생성부터 파티션 삭제까지 모두 실행")
+    void detachSteps_Fresh() {
+        // given
+        DetachState state = new DetachState(false, false, true, true);
+
+        // when & then
+        assertThat(LedgerPartitionMaintainer.detachSteps(state))
+                .containsExactly(
+                        Step.CREATE_STAGING,
+                        Step.REMOVE_PARTITIONING,
+                        Step.EXCHANGE_PARTITION,
+                        Step.DROP_PARTITION);
+    }
+
+    @Test
+    @DisplayName("임시 테이블 생성 직후 중단됐으면 분할을 없앤 뒤 교환")
+    void detachSteps_ResumeAfterCreate() {
+        // given
+        DetachState state = new DetachState(true, true, true, true);
+
+        // when & then
+        assertThat(LedgerPartitionMaintainer.detachSteps(state))
+                .containsExactly(
+                        Step.REMOVE_PARTITIONING, Step.EXCHANGE_PARTITION, Step.DROP_PARTITION);
+    }
+
+    @Test
+    @DisplayName("교환 뒤 중단됐으면 다시 교환하지 않고 파티션만 삭제")
+    void detachSteps_ResumeAfterExchange() {
+        // given
+        DetachState state = new DetachState(true, false, true, false);
+
+        // when & then
+        assertThat(LedgerPartitionMaintainer.detachSteps(state))
+                .containsExactly(Step.DROP_PARTITION);
+    }
+
+    @Test
+    @DisplayName("파티션 삭제 뒤 중단됐으면 DDL 없이 파일 기록부터 이어서 함")
+    void detachSteps_ResumeAfterDrop() {
+        // given
+        DetachState state = new DetachState(true, false, false, false);
+
+        // when & then
+        assertThat(LedgerPartitionMaintainer.detachSteps(state)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임시 테이블도 파티션도 없으면 빈 파일로 덮어쓰지 않고 실패")
+    void detachSteps_NothingToArchive() {
+        // given
+        DetachState state = new DetachState(false, false, false, true);
+
+        // when & then
+        assertThatThrownBy(() -> LedgerPartitionMaintainer.detachSteps(state))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
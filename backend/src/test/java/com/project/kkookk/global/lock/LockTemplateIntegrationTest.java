@@ -0,0 +1,131 @@
+package com.project.kkookk.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.issuance.domain.IssuanceRequest;
+import com.project.kkookk.issuance.domain.IssuanceRequestStatus;
+import com.project.kkookk.issuance.repository.IssuanceRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class LockTemplateIntegrationTest {
+
+    @Autowired private LockTemplate lockTemplate;
+
+    @Autowired private IssuanceRequestRepository issuanceRequestRepository;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        issuanceRequestRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("락 충돌로 첫 시도가 실패하면 새 트랜잭션에서 다시 실행해 커밋")
+    void execute_RetriesWholeUnitInFreshTransaction() throws Exception {
+        // given
+        Long requestId =
+                issuanceRequestRepository
+                        .save(
+                                IssuanceRequest.builder()
+                                        .storeId(1L)
+                                        .walletId(2L)
+                                        .walletStampCardId(3L)
+                                        .idempotencyKey(UUID.randomUUID().toString())
+                                        .expiresAt(LocalDateTime.now().plusMinutes(2))
+                                        .build())
+                        .getId();
+        double conflictsBefore = conflicts();
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder =
+                new Thread(
+                        () ->
+                                new TransactionTemplate(transactionManager)
+                                        .executeWithoutResult(
+                                                status -> {
+                                                    issuanceRequestRepository.findByIdWithLock(
+                                                            requestId);
+                                                    locked.countDown();
+                                                    await(release);
+                                                }));
+        holder.start();
+        assertThat(locked.await(5, TimeUnit.SECONDS)).isTrue();
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        IssuanceRequestStatus status =
+                lockTemplate.execute(
+                        LockFlow.ISSUANCE_APPROVAL,
+                        () -> {
+                            if (attempts.incrementAndGet() == 2) {
+                                // 첫 시도는 락 보유 중에 실패, 두 번째 시도 전에 보유 트랜잭션을 끝낸다
+                                release.countDown();
+                                join(holder);
+                            }
+                            IssuanceRequest request =
+                                    lockTemplate
+                                            .acquire(
+                                                    LockFlow.ISSUANCE_APPROVAL,
+                                                    LockResource.ISSUANCE_REQUEST,
+                                                    () ->
+                                                            issuanceRequestRepository
+                                                                    .findByIdWithLock(requestId),
+                                                    () ->
+                                                            issuanceRequestRepository
+                                                                    .findByIdWithLockNoWait(
+                                                                            requestId))
+                                            .orElseThrow();
+                            request.approve(0);
+                            return request.getStatus();
+                        });
+
+        // then
+        assertThat(status).isEqualTo(IssuanceRequestStatus.APPROVED);
+        assertThat(attempts).hasValue(2);
+        assertThat(conflicts()).isEqualTo(conflictsBefore + 1);
+        assertThat(issuanceRequestRepository.findById(requestId))
+                .get()
+                .extracting(IssuanceRequest::getStatus)
+                .isEqualTo(IssuanceRequestStatus.APPROVED);
+    }
+
+    private double conflicts() {
+        return meterRegistry.find("kkookk.lock.conflicts").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
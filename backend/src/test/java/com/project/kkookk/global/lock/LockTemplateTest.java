@@ -0,0 +1,144 @@
+package com.project.kkookk.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class LockTemplateTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LockTemplate lockTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        LockProperties.RetryPolicy fastRetry =
+                new LockProperties.RetryPolicy(
+                        true, 3, Duration.ofMillis(1), Duration.ofMillis(2));
+        LockProperties.RetryPolicy waiting =
+                new LockProperties.RetryPolicy(
+                        false, 1, Duration.ofMillis(1), Duration.ofMillis(1));
+        lockTemplate =
+                new LockTemplate(
+                        meterRegistry,
+                        new LockProperties(
+                                fastRetry, Map.of(LockFlow.ISSUANCE_CANCEL, waiting)),
+                        TransactionOperations.withoutTransaction());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("NOWAIT 충돌 시 같은 트랜잭션에서 재시도하지 않고 LockConflictException")
+    void acquire_ConflictIsNotRetriedInPlace() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(
+                        () ->
+                                lockTemplate.acquire(
+                                        LockFlow.ISSUANCE_APPROVAL,
+                                        LockResource.ISSUANCE_REQUEST,
+                                        Optional::empty,
+                                        () -> {
+                                            calls.incrementAndGet();
+                                            throw new CannotAcquireLockException("locked");
+                                        }))
+                .isInstanceOf(LockConflictException.class);
+        assertThat(calls).hasValue(1);
+        assertThat(
+                        meterRegistry
+                                .get("kkookk.lock.wait")
+                                .tag("outcome", "conflict")
+                                .timer()
+                                .count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("작업 단위 재시도 소진 시 LOCK_CONFLICT 예외")
+    void execute_Fail_Exhausted() {
+        // given
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(
+                        () ->
+                                lockTemplate.execute(
+                                        LockFlow.ISSUANCE_APPROVAL,
+                                        () -> {
+                                            attempts.incrementAndGet();
+                                            return lockTemplate.acquire(
+                                                    LockFlow.ISSUANCE_APPROVAL,
+                                                    LockResource.ISSUANCE_REQUEST,
+                                                    Optional::empty,
+                                                    () -> {
+                                                        throw new CannotAcquireLockException(
+                                                                "locked");
+                                                    });
+                                        }))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.LOCK_CONFLICT);
+        assertThat(attempts).hasValue(3);
+        assertThat(meterRegistry.get("kkookk.lock.conflicts").counter().count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("흐름별 정책이 NOWAIT 비활성이면 대기 조회 사용")
+    void acquire_FlowPolicyUsesWaitQuery() {
+        // when
+        Optional<String> result =
+                lockTemplate.acquire(
+                        LockFlow.ISSUANCE_CANCEL,
+                        LockResource.ISSUANCE_REQUEST,
+                        () -> Optional.of("wait"),
+                        () -> Optional.of("nowait"));
+
+        // then
+        assertThat(result).contains("wait");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 내 락 순서 위반 시 즉시 실패")
+    void acquire_Fail_LockOrderViolation() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        lockTemplate.acquire(
+                LockFlow.ISSUANCE_APPROVAL,
+                LockResource.WALLET_STAMP_CARD,
+                Optional::empty,
+                Optional::empty);
+
+        // when & then
+        assertThatThrownBy(
+                        () ->
+                                lockTemplate.acquire(
+                                        LockFlow.ISSUANCE_APPROVAL,
+                                        LockResource.ISSUANCE_REQUEST,
+                                        Optional::empty,
+                                        Optional::empty))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,367 @@
+package com.project.kkookk.global.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.global.cache.CacheInvalidationProperties;
+import com.project.kkookk.global.config.CacheConfig;
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.store.domain.StoreCreatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/** main과 shard-1을 각각 별도 H2 DB로 두고 배치/라우팅/이동을 확인한다. */
+class ShardMoverTest {
+
+    private static final String SHARD_1 = "shard-1";
+    private static final Long STORE_ID = 7L;
+    private static final List<String> SHARD_IDS = List.of(ShardProperties.MAIN, SHARD_1);
+
+    private DataSource main;
+    private DataSource shard1;
+    private ShardDirectory directory;
+    private ShardTemplate shardTemplate;
+    private ShardMover shardMover;
+    private JdbcClient routed;
+    private DataSource lazy;
+    private ConcurrentMapCacheManager cacheManager;
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        main = database("main");
+        shard1 = database(SHARD_1);
+        JdbcClient.create(main)
+                .sql(
+                        "CREATE TABLE store_shard (store_id BIGINT PRIMARY KEY,"
+                                + " shard_id VARCHAR(30) NOT NULL, status VARCHAR(20) NOT NULL,"
+                                + " updated_at DATETIME(6) NOT NULL)")
+                .update();
+        JdbcClient.create(main)
+                .sql(
+                        "CREATE TABLE cache_invalidation_log (id BIGINT AUTO_INCREMENT PRIMARY KEY,"
+                                + " cache_name VARCHAR(50), cache_key VARCHAR(255),"
+                                + " key_type VARCHAR(10), origin VARCHAR(36),"
+                                + " created_at DATETIME(6))")
+                .update();
+
+        ShardRoutingDataSource routing =
+                new ShardRoutingDataSource(Map.of(ShardProperties.MAIN, main, SHARD_1, shard1));
+        lazy = routing.lazy();
+        routed = JdbcClient.create(lazy);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.STORE_SHARD_CACHE);
+        bus =
+                new CacheInvalidationBus(
+                        JdbcClient.create(main),
+                        cacheManager,
+                        new CacheInvalidationProperties(
+                                Duration.ofSeconds(1),
+                                Duration.ofSeconds(10),
+                                500,
+                                Duration.ofHours(1)),
+                        new SimpleMeterRegistry());
+        directory = directory(true);
+        shardTemplate = template(directory);
+        ShardProperties properties =
+                new ShardProperties(true, 64, Duration.ZERO, 2, false, true, List.of());
+        shardMover = new ShardMover(directory, routing, properties);
+    }
+
+    @Test
+    @DisplayName("이동하면 모든 매장 행이 대상 샤드로 복사되고 이후 조회는 대상 샤드로 간다")
+    void move_CopiesAndFlipsKeepingSource() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            insertAll(main, id, STORE_ID);
+        }
+        insertAll(main, 6L, 99L);
+        assertThat(countInStore()).isEqualTo(5);
+
+        // when
+        Map<String, Long> moved = shardMover.move(STORE_ID, SHARD_1);
+
+        // then
+        assertThat(moved).containsOnlyKeys(ShardMover.TABLES);
+        assertThat(moved.values()).containsOnly(5L);
+        assertThat(directory.placementOf(STORE_ID).shardId()).isEqualTo(SHARD_1);
+        assertThat(countInStore()).isEqualTo(5);
+        // 원래 샤드의 행은 지우지 않는다
+        assertThat(count(main, STORE_ID)).isEqualTo(5);
+        assertThat(count(main, 99L)).isEqualTo(1);
+        assertThat(count(shard1, STORE_ID)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("생성한 매장에 쓰고 다른 샤드로 옮긴 뒤 같은 데이터를 읽고 이어서 쓸 수 있음")
+    void move_EndToEnd() {
+        // given
+        Long storeId = 42L;
+        directory.onStoreCreated(new StoreCreatedEvent(storeId));
+        String sourceShardId = directory.placementOf(storeId).shardId();
+        String targetShardId =
+                sourceShardId.equals(ShardProperties.MAIN) ? SHARD_1 : ShardProperties.MAIN;
+        for (long id = 1; id <= 3; id++) {
+            long rowId = id;
+            shardTemplate.inStore(storeId, false, () -> insertRouted(rowId, storeId));
+        }
+        List<String> written = payloads(storeId);
+
+        // when
+        shardMover.move(storeId, targetShardId);
+
+        // then
+        assertThat(directory.placementOf(storeId))
+                .isEqualTo(new ShardDirectory.Placement(targetShardId, StoreShard.Status.ACTIVE));
+        assertThat(payloads(storeId)).hasSize(3).isEqualTo(written);
+        shardTemplate.inStore(storeId, false, () -> insertRouted(4L, storeId));
+        assertThat(payloads(storeId)).hasSize(4).containsAll(written);
+        DataSource target = targetShardId.equals(SHARD_1) ? shard1 : main;
+        assertThat(count(target, storeId)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("신규 매장 배치를 끄면 샤딩 중에도 새 매장은 main에 남고 쓴 지갑 데이터를 그대로 읽음")
+    void onStoreCreated_PlacementOffKeepsStoreOnMain() {
+        // given
+        ShardDirectory unplaced = directory(false);
+        ShardTemplate template = template(unplaced);
+        ConsistentHashRing ring = new ConsistentHashRing(SHARD_IDS, 64);
+        long storeId = 100L;
+        while (!ring.locate(storeId).equals(SHARD_1)) {
+            storeId++;
+        }
+        Long newStoreId = storeId;
+
+        // when
+        unplaced.onStoreCreated(new StoreCreatedEvent(newStoreId));
+        // 아직 샤드를 거치지 않는 저장소처럼 main에 바로 쓴다
+        for (long id = 1; id <= 3; id++) {
+            insertAll(main, id, newStoreId);
+        }
+
+        // then
+        assertThat(
+                        JdbcClient.create(main)
+                                .sql("SELECT COUNT(*) FROM store_shard WHERE store_id = ?")
+                                .param(newStoreId)
+                                .query(Long.class)
+                                .single())
+                .isZero();
+        assertThat(unplaced.placementOf(newStoreId))
+                .isEqualTo(
+                        new ShardDirectory.Placement(
+                                ShardProperties.MAIN, StoreShard.Status.ACTIVE));
+        assertThat(
+                        template.inStore(
+                                newStoreId,
+                                true,
+                                () ->
+                                        routed.sql(
+                                                        "SELECT COUNT(*) FROM wallet_reward"
+                                                                + " WHERE store_id = ?")
+                                                .param(newStoreId)
+                                                .query(Long.class)
+                                                .single()))
+                .isEqualTo(3);
+        Page<Long> rewards =
+                template.scatterGatherPage(
+                        PageRequest.of(0, 10),
+                        Comparator.<Long>naturalOrder(),
+                        pageable -> {
+                            List<Long> ids =
+                                    routed.sql(
+                                                    "SELECT id FROM wallet_reward"
+                                                            + " WHERE store_id = ? ORDER BY id")
+                                            .param(newStoreId)
+                                            .query(Long.class)
+                                            .list();
+                            return new PageImpl<>(ids, pageable, ids.size());
+                        });
+        assertThat(rewards.getContent()).containsExactly(1L, 2L, 3L);
+        template.close();
+    }
+
+    @Test
+    @DisplayName("이동 마지막 단계(FROZEN)인 매장의 쓰기는 거절하고 읽기는 허용")
+    void inStore_FrozenRejectsWrites() {
+        // given
+        directory.update(STORE_ID, ShardProperties.MAIN, StoreShard.Status.FROZEN);
+
+        // when & then
+        assertThat(shardTemplate.inStore(STORE_ID, true, () -> "read")).isEqualTo("read");
+        assertThatThrownBy(() -> shardTemplate.inStore(STORE_ID, false, () -> "write"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.STORE_SHARD_MOVING);
+    }
+
+    @Test
+    @DisplayName("흩어진 지갑 행을 샤드별로 모아 정렬된 한 페이지로 합침")
+    void scatterGatherPage_MergesShards() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (long id = 1; id <= 6; id++) {
+            insertEvent(id % 2 == 0 ? shard1 : main, id, STORE_ID, base.plusMinutes(id));
+        }
+
+        // when
+        Page<Long> page =
+                shardTemplate.scatterGatherPage(
+                        PageRequest.of(1, 2),
+                        Comparator.<Long>naturalOrder().reversed(),
+                        pageable -> {
+                            List<Long> ids =
+                                    routed.sql(
+                                                    "SELECT id FROM stamp_event"
+                                                            + " ORDER BY updated_at DESC LIMIT ?")
+                                            .param(pageable.getPageSize())
+                                            .query(Long.class)
+                                            .list();
+                            long total =
+                                    routed.sql("SELECT COUNT(*) FROM stamp_event")
+                                            .query(Long.class)
+                                            .single();
+                            return new PageImpl<>(ids, pageable, total);
+                        });
+
+        // then
+        assertThat(page.getContent()).containsExactly(4L, 3L);
+        assertThat(page.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("샤드를 추가해도 일부 매장만 배치가 바뀜")
+    void consistentHashRing_MovesFewKeys() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c"), 64);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d"), 64);
+
+        // when
+        List<Long> moved = new ArrayList<>();
+        for (long storeId = 1; storeId <= 10_000; storeId++) {
+            if (!before.locate(storeId).equals(after.locate(storeId))) {
+                moved.add(storeId);
+            }
+        }
+
+        // then
+        assertThat(moved.size()).isBetween(1_500, 3_500);
+        assertThat(moved).allSatisfy(id -> assertThat(after.locate(id)).isEqualTo("d"));
+    }
+
+    private long countInStore() {
+        return shardTemplate.inStore(
+                STORE_ID,
+                true,
+                () ->
+                        routed.sql("SELECT COUNT(*) FROM wallet_reward WHERE store_id = ?")
+                                .param(STORE_ID)
+                                .query(Long.class)
+                                .single());
+    }
+
+    private ShardDirectory directory(boolean placeNewStores) {
+        return new ShardDirectory(
+                JdbcClient.create(main),
+                new ConsistentHashRing(SHARD_IDS, 64),
+                placeNewStores,
+                cacheManager,
+                bus);
+    }
+
+    private ShardTemplate template(ShardDirectory shardDirectory) {
+        return new ShardTemplate(shardDirectory, SHARD_IDS, new DataSourceTransactionManager(lazy));
+    }
+
+    private int insertRouted(Long id, Long storeId) {
+        int rows = 0;
+        for (String table : ShardMover.TABLES) {
+            rows +=
+                    routed.sql(
+                                    "INSERT INTO "
+                                            + table
+                                            + " (id, store_id, payload, updated_at)"
+                                            + " VALUES (?, ?, ?, ?)")
+                            .params(id, storeId, table + "-" + id, LocalDateTime.now())
+                            .update();
+        }
+        return rows;
+    }
+
+    private List<String> payloads(Long storeId) {
+        return shardTemplate.inStore(
+                storeId,
+                true,
+                () ->
+                        routed.sql(
+                                        "SELECT payload FROM issuance_request"
+                                                + " WHERE store_id = ? ORDER BY id")
+                                .param(storeId)
+                                .query(String.class)
+                                .list());
+    }
+
+    private static long count(DataSource dataSource, Long storeId) {
+        return JdbcClient.create(dataSource)
+                .sql("SELECT COUNT(*) FROM issuance_request WHERE store_id = ?")
+                .param(storeId)
+                .query(Long.class)
+                .single();
+    }
+
+    private static void insertAll(DataSource dataSource, Long id, Long storeId) {
+        for (String table : ShardMover.TABLES) {
+            JdbcClient.create(dataSource)
+                    .sql(
+                            "INSERT INTO "
+                                    + table
+                                    + " (id, store_id, payload, updated_at) VALUES (?, ?, ?, ?)")
+                    .params(id, storeId, table + "-" + id, LocalDateTime.now().minusDays(1))
+                    .update();
+        }
+    }
+
+    private static void insertEvent(
+            DataSource dataSource, Long id, Long storeId, LocalDateTime updatedAt) {
+        JdbcClient.create(dataSource)
+                .sql(
+                        "INSERT INTO stamp_event (id, store_id, payload, updated_at)"
+                                + " VALUES (?, ?, ?, ?)")
+                .params(id, storeId, "event-" + id, updatedAt)
+                .update();
+    }
+
+    private static DataSource database(String name) {
+        String url =
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        DataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        for (String table : ShardMover.TABLES) {
+            JdbcClient.create(dataSource)
+                    .sql(
+                            "CREATE TABLE "
+                                    + table
+                                    + " (id BIGINT PRIMARY KEY, store_id BIGINT NOT NULL,"
+                                    + " payload VARCHAR(50), updated_at DATETIME(6) NOT NULL)")
+                    .update();
+        }
+        return dataSource;
+    }
+}
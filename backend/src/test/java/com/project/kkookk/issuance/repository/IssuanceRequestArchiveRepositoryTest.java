@@ -0,0 +1,118 @@
+package com.project.kkookk.issuance.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.issuance.domain.IssuanceRequestStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+@DataJpaTest
+@Import(IssuanceRequestArchiveRepository.class)
+class IssuanceRequestArchiveRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+    private static final LocalDateTime CUTOFF = NOW.minusDays(30);
+
+    @Autowired private JdbcClient jdbcClient;
+
+    @Autowired private IssuanceRequestArchiveRepository issuanceRequestArchiveRepository;
+
+    @Test
+    @DisplayName("기준 시각 이전에 종료된 요청만 이력 테이블로 옮김")
+    void archiveBatch_MovesOnlyExpiredTerminalRows() {
+        // given
+        insert(1L, IssuanceRequestStatus.APPROVED, NOW.minusDays(40));
+        insert(2L, IssuanceRequestStatus.APPROVED, NOW.minusDays(1));
+        insert(3L, IssuanceRequestStatus.REJECTED, NOW.minusDays(40));
+
+        // when
+        int moved =
+                issuanceRequestArchiveRepository.archiveBatch(
+                        IssuanceRequestStatus.APPROVED, CUTOFF, 100);
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        assertThat(ids("issuance_request")).containsExactly(2L, 3L);
+        assertThat(ids("issuance_request_history")).containsExactly(1L);
+        assertThat(historyStatus(1L)).isEqualTo("APPROVED");
+    }
+
+    @Test
+    @DisplayName("만료 처리되지 않고 남은 오래된 PENDING은 EXPIRED로 보관")
+    void archiveBatch_StalePendingArchivedAsExpired() {
+        // given
+        insert(1L, IssuanceRequestStatus.PENDING, NOW.minusDays(40));
+        insert(2L, IssuanceRequestStatus.PENDING, NOW);
+
+        // when
+        int moved =
+                issuanceRequestArchiveRepository.archiveBatch(
+                        IssuanceRequestStatus.PENDING, CUTOFF, 100);
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        assertThat(ids("issuance_request")).containsExactly(2L);
+        assertThat(historyStatus(1L)).isEqualTo("EXPIRED");
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 나눠서 옮기고 남은 행이 없으면 0")
+    void archiveBatch_Chunked() {
+        // given
+        for (long id = 1; id <= 3; id++) {
+            insert(id, IssuanceRequestStatus.CANCELLED, NOW.minusDays(40 + id));
+        }
+
+        // when
+        int first =
+                issuanceRequestArchiveRepository.archiveBatch(
+                        IssuanceRequestStatus.CANCELLED, CUTOFF, 2);
+        int second =
+                issuanceRequestArchiveRepository.archiveBatch(
+                        IssuanceRequestStatus.CANCELLED, CUTOFF, 2);
+        int third =
+                issuanceRequestArchiveRepository.archiveBatch(
+                        IssuanceRequestStatus.CANCELLED, CUTOFF, 2);
+
+        // then
+        assertThat(List.of(first, second, third)).containsExactly(2, 1, 0);
+        assertThat(ids("issuance_request")).isEmpty();
+        assertThat(ids("issuance_request_history")).containsExactly(1L, 2L, 3L);
+    }
+
+    private void insert(Long id, IssuanceRequestStatus status, LocalDateTime updatedAt) {
+        jdbcClient
+                .sql(
+                        "INSERT INTO issuance_request (id, store_id, wallet_id,"
+                                + " wallet_stamp_card_id, status, idempotency_key, expires_at,"
+                                + " created_at, updated_at) VALUES (?, 1, ?, ?, ?, ?, ?, ?, ?)")
+                .params(
+                        id,
+                        id,
+                        id,
+                        status.name(),
+                        "key-" + id,
+                        updatedAt.minusMinutes(1),
+                        updatedAt.minusMinutes(2),
+                        updatedAt)
+                .update();
+    }
+
+    private List<Long> ids(String table) {
+        return jdbcClient.sql("SELECT id FROM " + table + " ORDER BY id").query(Long.class).list();
+    }
+
+    private String historyStatus(Long id) {
+        return jdbcClient
+                .sql("SELECT status FROM issuance_request_history WHERE id = ?")
+                .param(id)
+                .query(String.class)
+                .single();
+    }
+}
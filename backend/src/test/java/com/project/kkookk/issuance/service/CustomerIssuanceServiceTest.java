@@ -9,6 +9,8 @@ import static org.mockito.Mockito.verify;
 
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.lock.LockProperties;
+import com.project.kkookk.global.lock.LockTemplate;
 import com.project.kkookk.issuance.controller.dto.CreateIssuanceRequest;
 import com.project.kkookk.issuance.controller.dto.IssuanceRequestResponse;
 import com.project.kkookk.issuance.controller.dto.IssuanceRequestResult;
@@ -24,6 +26,7 @@ import com.project.kkookk.store.repository.StoreRepository;
 import com.project.kkookk.wallet.domain.WalletStampCard;
 import com.project.kkookk.wallet.repository.WalletStampCardRepository;
 import com.project.kkookk.wallet.service.exception.WalletStampCardNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -32,9 +35,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class CustomerIssuanceServiceTest {
@@ -47,6 +52,13 @@ class CustomerIssuanceServiceTest {
 
     @Mock private StoreRepository storeRepository;
 
+    @Spy
+    private LockTemplate lockTemplate =
+            new LockTemplate(
+                    new SimpleMeterRegistry(),
+                    new LockProperties(null, null),
+                    TransactionOperations.withoutTransaction());
+
     @Nested
     @DisplayName("createIssuanceRequest")
     class CreateIssuanceRequestTest {
@@ -459,7 +471,7 @@ class CustomerIssuanceServiceTest {
             WalletStampCard walletStampCard =
                     createWalletStampCard(walletStampCardId, walletId, 1L, 3);
 
-            given(issuanceRequestRepository.findByIdWithLock(requestId))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(requestId))
                     .willReturn(Optional.of(request));
             given(walletStampCardRepository.findById(walletStampCardId))
                     .willReturn(Optional.of(walletStampCard));
@@ -479,7 +491,7 @@ class CustomerIssuanceServiceTest {
             Long requestId = 999L;
             Long walletId = 1L;
 
-            given(issuanceRequestRepository.findByIdWithLock(requestId))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(requestId))
                     .willReturn(Optional.empty());
 
             // when & then
@@ -500,7 +512,7 @@ class CustomerIssuanceServiceTest {
 
             IssuanceRequest request = createIssuanceRequest(requestId, 1L, otherWalletId, 10L);
 
-            given(issuanceRequestRepository.findByIdWithLock(requestId))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(requestId))
                     .willReturn(Optional.of(request));
 
             // when & then
@@ -525,7 +537,7 @@ class CustomerIssuanceServiceTest {
             IssuanceRequest request = createIssuanceRequest(requestId, 1L, walletId, 10L);
             request.approve(1);
 
-            given(issuanceRequestRepository.findByIdWithLock(requestId))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(requestId))
                     .willReturn(Optional.of(request));
 
             // when & then
@@ -550,7 +562,7 @@ class CustomerIssuanceServiceTest {
             WalletStampCard walletStampCard =
                     createWalletStampCard(walletStampCardId, walletId, 1L, 3);
 
-            given(issuanceRequestRepository.findByIdWithLock(requestId))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(requestId))
                     .willReturn(Optional.of(request));
             given(walletStampCardRepository.findById(walletStampCardId))
                     .willReturn(Optional.of(walletStampCard));
@@ -8,6 +8,8 @@ import static org.mockito.Mockito.verify;
 
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.lock.LockProperties;
+import com.project.kkookk.global.lock.LockTemplate;
 import com.project.kkookk.issuance.controller.dto.IssuanceApprovalResponse;
 import com.project.kkookk.issuance.controller.dto.IssuanceRejectionResponse;
 import com.project.kkookk.issuance.controller.dto.PendingIssuanceRequestListResponse;
@@ -30,6 +32,7 @@ import com.project.kkookk.wallet.domain.WalletStampCard;
 import com.project.kkookk.wallet.domain.WalletStampCardStatus;
 import com.project.kkookk.wallet.repository.CustomerWalletRepository;
 import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -40,8 +43,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class OwnerApprovalServiceTest {
@@ -56,6 +61,13 @@ class OwnerApprovalServiceTest {
     @Mock private StampCardRepository stampCardRepository;
     @Mock private StampRewardService stampRewardService;
 
+    @Spy
+    private LockTemplate lockTemplate =
+            new LockTemplate(
+                    new SimpleMeterRegistry(),
+                    new LockProperties(null, null),
+                    TransactionOperations.withoutTransaction());
+
     private static final Long STORE_ID = 1L;
     private static final Long OWNER_ID = 10L;
     private static final Long REQUEST_ID = 100L;
@@ -187,11 +199,11 @@ class OwnerApprovalServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(issuanceRequestRepository.findByIdWithLock(REQUEST_ID))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(REQUEST_ID))
                     .willReturn(Optional.of(request));
             given(
                             walletStampCardRepository
-                                    .findByCustomerWalletIdAndStoreIdAndStatusWithLock(
+                                    .findByCustomerWalletIdAndStoreIdAndStatusWithLockNoWait(
                                             WALLET_ID, STORE_ID, WalletStampCardStatus.ACTIVE))
                     .willReturn(Optional.of(walletStampCard));
             given(stampCardRepository.findById(400L)).willReturn(Optional.of(linkedStampCard));
@@ -226,7 +238,7 @@ class OwnerApprovalServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(issuanceRequestRepository.findByIdWithLock(REQUEST_ID))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(REQUEST_ID))
                     .willReturn(Optional.of(request));
 
             // when & then
@@ -246,7 +258,7 @@ class OwnerApprovalServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(issuanceRequestRepository.findByIdWithLock(REQUEST_ID))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(REQUEST_ID))
                     .willReturn(Optional.of(request));
 
             // when & then
@@ -265,7 +277,7 @@ class OwnerApprovalServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(issuanceRequestRepository.findByIdWithLock(REQUEST_ID))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(REQUEST_ID))
                     .willReturn(Optional.empty());
 
             // when & then
@@ -290,7 +302,7 @@ class OwnerApprovalServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(issuanceRequestRepository.findByIdWithLock(REQUEST_ID))
+            given(issuanceRequestRepository.findByIdWithLockNoWait(REQUEST_ID))
                     .willReturn(Optional.of(request));
 
             // when
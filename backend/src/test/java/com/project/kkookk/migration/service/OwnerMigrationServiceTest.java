@@ -8,6 +8,8 @@ import static org.mockito.Mockito.verify;
 
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.lock.LockProperties;
+import com.project.kkookk.global.lock.LockTemplate;
 import com.project.kkookk.migration.controller.dto.MigrationApproveRequest;
 import com.project.kkookk.migration.controller.dto.MigrationApproveResponse;
 import com.project.kkookk.migration.controller.dto.MigrationDetailResponse;
@@ -32,6 +34,7 @@ import com.project.kkookk.wallet.domain.WalletStampCard;
 import com.project.kkookk.wallet.domain.WalletStampCardStatus;
 import com.project.kkookk.wallet.repository.CustomerWalletRepository;
 import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -43,7 +46,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class OwnerMigrationServiceTest {
@@ -60,6 +65,13 @@ class OwnerMigrationServiceTest {
     @Mock private StoreRepository storeRepository;
     @Mock private StampRewardService stampRewardService;
 
+    @Spy
+    private LockTemplate lockTemplate =
+            new LockTemplate(
+                    new SimpleMeterRegistry(),
+                    new LockProperties(null, null),
+                    TransactionOperations.withoutTransaction());
+
     @Nested
     @DisplayName("목록 조회")
     class GetList {
@@ -195,11 +207,11 @@ class OwnerMigrationServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(storeId, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(migrationRepository.findByIdAndStoreId(migrationId, storeId))
+            given(migrationRepository.findByIdAndStoreIdWithLockNoWait(migrationId, storeId))
                     .willReturn(Optional.of(migration));
             given(
                             walletStampCardRepository
-                                    .findByCustomerWalletIdAndStoreIdAndStatusWithLock(
+                                    .findByCustomerWalletIdAndStoreIdAndStatusWithLockNoWait(
                                             walletId, storeId, WalletStampCardStatus.ACTIVE))
                     .willReturn(Optional.of(walletStampCard));
             given(stampCardRepository.findById(walletStampCard.getStampCardId()))
@@ -243,11 +255,11 @@ class OwnerMigrationServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(storeId, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(migrationRepository.findByIdAndStoreId(migrationId, storeId))
+            given(migrationRepository.findByIdAndStoreIdWithLockNoWait(migrationId, storeId))
                     .willReturn(Optional.of(migration));
             given(
                             walletStampCardRepository
-                                    .findByCustomerWalletIdAndStoreIdAndStatusWithLock(
+                                    .findByCustomerWalletIdAndStoreIdAndStatusWithLockNoWait(
                                             walletId, storeId, WalletStampCardStatus.ACTIVE))
                     .willReturn(Optional.empty());
 
@@ -279,7 +291,7 @@ class OwnerMigrationServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(storeId, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(migrationRepository.findByIdAndStoreId(migrationId, storeId))
+            given(migrationRepository.findByIdAndStoreIdWithLockNoWait(migrationId, storeId))
                     .willReturn(Optional.of(migration));
 
             MigrationApproveRequest request = new MigrationApproveRequest(3);
@@ -312,11 +324,11 @@ class OwnerMigrationServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(storeId, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(migrationRepository.findByIdAndStoreId(migrationId, storeId))
+            given(migrationRepository.findByIdAndStoreIdWithLockNoWait(migrationId, storeId))
                     .willReturn(Optional.of(migration));
             given(
                             walletStampCardRepository
-                                    .findByCustomerWalletIdAndStoreIdAndStatusWithLock(
+                                    .findByCustomerWalletIdAndStoreIdAndStatusWithLockNoWait(
                                             walletId, storeId, WalletStampCardStatus.ACTIVE))
                     .willReturn(Optional.of(walletStampCard));
             given(stampCardRepository.findById(walletStampCard.getStampCardId()))
@@ -353,7 +365,7 @@ class OwnerMigrationServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(storeId, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(migrationRepository.findByIdAndStoreId(migrationId, storeId))
+            given(migrationRepository.findByIdAndStoreIdWithLockNoWait(migrationId, storeId))
                     .willReturn(Optional.empty());
 
             MigrationApproveRequest request = new MigrationApproveRequest(3);
@@ -389,7 +401,7 @@ class OwnerMigrationServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(storeId, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(migrationRepository.findByIdAndStoreId(migrationId, storeId))
+            given(migrationRepository.findByIdAndStoreIdWithLockNoWait(migrationId, storeId))
                     .willReturn(Optional.of(migration));
 
             MigrationRejectRequest request = new MigrationRejectRequest(rejectReason);
@@ -419,7 +431,7 @@ class OwnerMigrationServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(storeId, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(migrationRepository.findByIdAndStoreId(migrationId, storeId))
+            given(migrationRepository.findByIdAndStoreIdWithLockNoWait(migrationId, storeId))
                     .willReturn(Optional.of(migration));
 
             MigrationRejectRequest request = new MigrationRejectRequest("새 반려 사유");
@@ -446,7 +458,7 @@ class OwnerMigrationServiceTest {
 
             given(storeRepository.findByIdAndOwnerAccountId(storeId, OWNER_ID))
                     .willReturn(Optional.of(store));
-            given(migrationRepository.findByIdAndStoreId(migrationId, storeId))
+            given(migrationRepository.findByIdAndStoreIdWithLockNoWait(migrationId, storeId))
                     .willReturn(Optional.empty());
 
             MigrationRejectRequest request = new MigrationRejectRequest("반려 사유");
@@ -0,0 +1,144 @@
+package com.project.kkookk.oauth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.kkookk.oauth.controller.dto.OAuthLoginResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JdbcOAuthExchangeCodeStoreTest {
+
+    @Autowired private JdbcClient jdbcClient;
+
+    private JdbcOAuthExchangeCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        jdbcClient.sql("DELETE FROM oauth_exchange_code").update();
+        store = new JdbcOAuthExchangeCodeStore(jdbcClient, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("발급한 코드는 한 번만 교환되고 로그인 결과가 그대로 복원됨")
+    void exchange_SingleUse() {
+        // given
+        OAuthLoginResponse response =
+                OAuthLoginResponse.existingCustomer("access", "refresh", 1L, "홍길동", "길동", "010");
+        String code = store.store(response);
+
+        // when
+        Optional<OAuthLoginResponse> first = store.exchange(code);
+        Optional<OAuthLoginResponse> second = store.exchange(code);
+
+        // then
+        assertThat(first).contains(response);
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("신규 사용자 결과도 isNewUser와 임시 토큰이 그대로 복원되고 한 번만 교환됨")
+    void exchange_NewUser() {
+        // given
+        OAuthLoginResponse response = OAuthLoginResponse.newUser("temp", "홍길동", "a@b.c");
+        String code = store.store(response);
+
+        // when
+        Optional<OAuthLoginResponse> first = store.exchange(code);
+        Optional<OAuthLoginResponse> second = store.exchange(code);
+
+        // then
+        assertThat(first).contains(response);
+        assertThat(first.get().isNewUser()).isTrue();
+        assertThat(first.get().tempToken()).isEqualTo("temp");
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 코드를 동시에 교환해도 하나의 요청만 성공")
+    void exchange_Concurrent() throws Exception {
+        // given
+        String code = store.store(OAuthLoginResponse.newUser("temp", "홍길동", "a@b.c"));
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Optional<OAuthLoginResponse>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+                                return store.exchange(code);
+                            }));
+        }
+        start.countDown();
+        int succeeded = 0;
+        for (Future<Optional<OAuthLoginResponse>> future : futures) {
+            if (future.get().isPresent()) {
+                succeeded++;
+            }
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(succeeded).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료된 코드는 교환되지 않고 정리 작업에서 삭제됨")
+    void exchange_Expired() {
+        // given
+        String code = store.store(OAuthLoginResponse.newUser("temp", "홍길동", "a@b.c"));
+        jdbcClient
+                .sql("UPDATE oauth_exchange_code SET expires_at = ?")
+                .param(LocalDateTime.now().minusSeconds(1))
+                .update();
+
+        // when
+        Optional<OAuthLoginResponse> result = store.exchange(code);
+        store.purgeExpired();
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(
+                        jdbcClient
+                                .sql("SELECT COUNT(*) FROM oauth_exchange_code")
+                                .query(Long.class)
+                                .single())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("코드 원문은 저장하지 않음")
+    void store_HashesCode() {
+        // when
+        String code = store.store(OAuthLoginResponse.newUser("temp", "홍길동", "a@b.c"));
+
+        // then
+        assertThat(
+                        jdbcClient
+                                .sql("SELECT COUNT(*) FROM oauth_exchange_code WHERE code_hash = ?")
+                                .param(code)
+                                .query(Long.class)
+                                .single())
+                .isZero();
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.project.kkookk.global.cache.CacheInvalidationBus;
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
 import com.project.kkookk.global.security.RefreshTokenService;
@@ -22,7 +23,9 @@ import com.project.kkookk.owner.repository.OwnerAccountRepository;
 import com.project.kkookk.wallet.domain.CustomerWallet;
 import com.project.kkookk.wallet.repository.CustomerWalletRepository;
 import com.project.kkookk.wallet.service.CustomerWalletService;
+import com.project.kkookk.wallet.service.WalletIdentityFilter;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,7 +34,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +49,12 @@ class OAuthServiceTest {
     @Mock private JwtUtil jwtUtil;
     @Mock private RefreshTokenService refreshTokenService;
 
+    // 재구축 전 필터는 모든 조회를 저장소로 위임
+    @Spy
+    private WalletIdentityFilter walletIdentityFilter =
+            new WalletIdentityFilter(
+                    null, new SimpleMeterRegistry(), Mockito.mock(CacheInvalidationBus.class));
+
     @InjectMocks private OAuthService oauthService;
 
     private CustomerWallet createWallet(Long id, String phone, String name, String nickname) {
@@ -319,6 +330,66 @@ class OAuthServiceTest {
             assertThat(response.accessToken()).isEqualTo("access-token");
             assertThat(response.id()).isEqualTo(1L);
             assertThat(response.phone()).isEqualTo("01012345678");
+            verify(walletIdentityFilter).add(savedWallet);
+        }
+
+        @Test
+        @DisplayName("필터가 재구축된 뒤에도 기존 지갑 여부는 항상 DB로 확인")
+        void completeCustomerSignup_AlwaysQueriesPhone() {
+            CompleteCustomerSignupRequest request =
+                    new CompleteCustomerSignupRequest(
+                            "temp-token", "Test", "tester", "010-1234-5678", null);
+            Claims claims = createTempClaims("GOOGLE", "google-123", "CUSTOMER");
+            // 다른 노드에서 가입한 지갑이라 이 노드 필터에는 없다
+            CustomerWallet otherNodeWallet =
+                    createWallet(7L, "01012345678", "Existing", "existNick");
+            ReflectionTestUtils.setField(walletIdentityFilter, "ready", true);
+
+            given(jwtUtil.parseToken("temp-token")).willReturn(claims);
+            given(customerWalletRepository.findByPhone("01012345678"))
+                    .willReturn(Optional.of(otherNodeWallet));
+            given(
+                            oauthAccountRepository.findByProviderAndProviderId(
+                                    OAuthProvider.GOOGLE, "google-123"))
+                    .willReturn(Optional.empty());
+            given(oauthAccountRepository.save(any(OAuthAccount.class)))
+                    .willAnswer(inv -> inv.getArgument(0));
+            given(jwtUtil.generateCustomerToken(7L)).willReturn("access-token");
+            given(refreshTokenService.issueCustomerRefreshToken(7L)).willReturn("refresh-token");
+
+            OAuthLoginResponse response = oauthService.completeCustomerSignup(request);
+
+            assertThat(response.id()).isEqualTo(7L);
+            verify(customerWalletRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("동시 가입으로 unique 제약 위반 시 기존 에러 코드로 변환")
+        void completeCustomerSignup_ConcurrentDuplicate_MapsErrorCode() {
+            CompleteCustomerSignupRequest request =
+                    new CompleteCustomerSignupRequest(
+                            "temp-token", "Test", "tester", "010-1234-5678", null);
+            Claims claims = createTempClaims("GOOGLE", "google-123", "CUSTOMER");
+
+            given(jwtUtil.parseToken("temp-token")).willReturn(claims);
+            given(customerWalletRepository.findByPhone("01012345678")).willReturn(Optional.empty());
+            given(customerWalletRepository.existsByNickname("tester")).willReturn(false);
+            given(customerWalletRepository.save(any(CustomerWallet.class)))
+                    .willThrow(
+                            new DataIntegrityViolationException(
+                                    "Duplicate entry 'tester' for key 'customer_wallet.nickname'"))
+                    .willThrow(
+                            new DataIntegrityViolationException(
+                                    "Duplicate entry '01012345678' for key"
+                                            + " 'customer_wallet.phone'"));
+
+            assertThatThrownBy(() -> oauthService.completeCustomerSignup(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.WALLET_NICKNAME_DUPLICATED);
+            assertThatThrownBy(() -> oauthService.completeCustomerSignup(request))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.WALLET_PHONE_DUPLICATED);
+            verify(walletIdentityFilter, never()).add(any());
         }
 
         @Test
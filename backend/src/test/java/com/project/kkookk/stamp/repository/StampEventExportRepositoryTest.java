@@ -0,0 +1,261 @@
+package com.project.kkookk.stamp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.global.export.ExportFormat;
+import com.project.kkookk.global.export.ExportProperties;
+import com.project.kkookk.global.export.ExportWriter;
+import com.project.kkookk.global.ledger.LedgerArchiveReader;
+import com.project.kkookk.global.ledger.LedgerArchiveRepository;
+import com.project.kkookk.global.ledger.LedgerArchiveStorage;
+import com.project.kkookk.global.ledger.LedgerTable;
+import com.project.kkookk.stamp.domain.StampEvent;
+import com.project.kkookk.stamp.domain.StampEventType;
+import com.project.kkookk.wallet.domain.CustomerWallet;
+import com.project.kkookk.wallet.domain.WalletStampCard;
+import com.project.kkookk.wallet.repository.CustomerWalletRepository;
+import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+@DataJpaTest
+@EnableJpaAuditing
+class StampEventExportRepositoryTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StampEventExportRepositoryTest.class);
+    private static final Long STORE_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired private DataSource dataSource;
+    @Autowired private JdbcClient jdbcClient;
+    @Autowired private CustomerWalletRepository customerWalletRepository;
+    @Autowired private WalletStampCardRepository walletStampCardRepository;
+    @Autowired private StampEventRepository stampEventRepository;
+
+    @TempDir private Path storageDir;
+
+    private StampEventExportRepository exportRepository;
+    private LedgerArchiveStorage archiveStorage;
+    private Long walletStampCardId;
+
+    @BeforeEach
+    void setUp() {
+        archiveStorage = new LedgerArchiveStorage(storageDir.toString());
+        LedgerArchiveReader archiveReader =
+                new LedgerArchiveReader(new LedgerArchiveRepository(jdbcClient), archiveStorage);
+        // 조회 캐시가 한 항목뿐이어도 아카이브 행의 고객 정보는 같아야 한다
+        exportRepository =
+                new StampEventExportRepository(
+                        dataSource, new ExportProperties(500, 1), archiveReader);
+        CustomerWallet wallet =
+                customerWalletRepository.save(
+                        CustomerWallet.builder()
+                                .phone("010-1234-5678")
+                                .name("홍길동")
+                                .nickname("길동이")
+                                .build());
+        walletStampCardId =
+                walletStampCardRepository
+                        .save(
+                                WalletStampCard.builder()
+                                        .customerWalletId(wallet.getId())
+                                        .storeId(STORE_ID)
+                                        .stampCardId(1L)
+                                        .stampCount(0)
+                                        .build())
+                        .getId();
+    }
+
+    @Test
+    @DisplayName("기간 안의 이벤트를 발생 순으로 고객 정보와 함께 내보냄")
+    void export_OrderedWithinRange() throws IOException {
+        // given
+        saveEvent(BASE.plusDays(2), "둘째");
+        saveEvent(BASE.plusDays(1), "첫째");
+        saveEvent(BASE.plusDays(10), "기간 밖");
+        stampEventRepository.flush();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows;
+        try (ExportWriter writer =
+                ExportWriter.open(out, ExportFormat.CSV, StampEventExportRepository.COLUMNS)) {
+            rows = exportRepository.export(STORE_ID, BASE, BASE.plusDays(5), writer);
+        }
+
+        // then
+        String[] lines = gunzip(out.toByteArray()).split("\r\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[1]).contains("첫째").contains("길동이").contains("010-1234-5678");
+        assertThat(lines[2]).contains("둘째");
+    }
+
+    @Test
+    @DisplayName("아카이브된 구간은 파일에서 읽어 DB 행보다 먼저 내보냄")
+    void export_IncludesArchivedPartitions() throws IOException {
+        // given
+        archive(
+                "p_old",
+                BASE,
+                List.of(
+                        new Object[] {1L, STORE_ID, walletStampCardId, BASE.minusDays(3), "보관됨"},
+                        new Object[] {2L, 99L, walletStampCardId, BASE.minusDays(2), "다른 매장"},
+                        new Object[] {3L, STORE_ID, 999L, BASE.minusDays(1), "지갑 없음"}));
+        saveEvent(BASE.plusDays(1), "최근");
+        stampEventRepository.flush();
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows;
+        try (ExportWriter writer =
+                ExportWriter.open(out, ExportFormat.CSV, StampEventExportRepository.COLUMNS)) {
+            rows = exportRepository.export(STORE_ID, BASE.minusDays(30), BASE.plusDays(5), writer);
+        }
+
+        // then
+        String[] lines = gunzip(out.toByteArray()).split("\r\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[1]).contains("보관됨").contains("길동이");
+        assertThat(lines[2]).contains("최근");
+    }
+
+    /**
+     * 대량 원장 처리량 측정. {@code -Dkkookk.benchmark.rows=1000000}처럼 행 수를 지정할 때만 실행한다.
+     *
+     * <p>행을 목록으로 모으지 않으므로 힙 증가량은 건수와 무관하게 거의 일정해야 한다.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "kkookk.benchmark.rows", matches = "\\d+")
+    @DisplayName("[benchmark] 대량 원장 스트리밍 처리량")
+    void export_Throughput() throws IOException {
+        // given
+        long seedRows = Long.parseLong(System.getProperty("kkookk.benchmark.rows"));
+        jdbcClient
+                .sql(
+                        "INSERT INTO stamp_event (store_id, stamp_card_id, wallet_stamp_card_id,"
+                                + " type, delta, reason, occurred_at, created_at, updated_at)"
+                                + " SELECT ?, 1, ?, 'ISSUED', 1, '스탬프 적립',"
+                                + " DATEADD('SECOND', X, ?), ?, ? FROM SYSTEM_RANGE(1, ?)")
+                .params(STORE_ID, walletStampCardId, BASE, BASE, BASE, seedRows)
+                .update();
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        // when
+        CountingOutputStream out = new CountingOutputStream();
+        long startedAt = System.nanoTime();
+        long rows;
+        try (ExportWriter writer =
+                ExportWriter.open(out, ExportFormat.CSV, StampEventExportRepository.COLUMNS)) {
+            rows = exportRepository.export(STORE_ID, BASE, BASE.plusYears(1), writer);
+        }
+        long elapsedMillis = Math.max((System.nanoTime() - startedAt) / 1_000_000, 1);
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        // then
+        log.info(
+                "[ExportBenchmark] rows={} gzipBytes={} elapsed={}ms rowsPerSec={} heapDelta={}MB",
+                rows,
+                out.count,
+                elapsedMillis,
+                rows * 1000 / elapsedMillis,
+                (heapAfter - heapBefore) / (1024 * 1024));
+        assertThat(rows).isEqualTo(seedRows);
+    }
+
+    private void saveEvent(LocalDateTime occurredAt, String reason) {
+        stampEventRepository.save(
+                StampEvent.builder()
+                        .storeId(STORE_ID)
+                        .stampCardId(1L)
+                        .walletStampCardId(walletStampCardId)
+                        .type(StampEventType.ISSUED)
+                        .delta(1)
+                        .reason(reason)
+                        .occurredAt(occurredAt)
+                        .build());
+    }
+
+    /** 파티션 아카이브 파일을 만들고 ledger_archive에 ARCHIVED로 기록한다. */
+    private void archive(String partitionName, LocalDateTime rangeEnd, List<Object[]> rows)
+            throws IOException {
+        String relativePath = archiveStorage.relativePath(LedgerTable.STAMP_EVENT, partitionName);
+        Path file = archiveStorage.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        try (OutputStream out = Files.newOutputStream(file);
+                ExportWriter writer =
+                        ExportWriter.open(
+                                out,
+                                ExportFormat.NDJSON,
+                                List.of(
+                                        "id",
+                                        "store_id",
+                                        "wallet_stamp_card_id",
+                                        "occurred_at",
+                                        "reason",
+                                        "type",
+                                        "delta"))) {
+            for (Object[] row : rows) {
+                writer.writeRow(row[0], row[1], row[2], row[3], row[4], "ISSUED", 1);
+            }
+        }
+        jdbcClient
+                .sql(
+                        "INSERT INTO ledger_archive (table_name, partition_name, range_end,"
+                                + " status, file_path, row_count, created_at, archived_at)"
+                                + " VALUES (?, ?, ?, 'ARCHIVED', ?, ?, ?, ?)")
+                .params(
+                        LedgerTable.STAMP_EVENT.tableName(),
+                        partitionName,
+                        rangeEnd,
+                        relativePath,
+                        rows.size(),
+                        rangeEnd,
+                        rangeEnd)
+                .update();
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
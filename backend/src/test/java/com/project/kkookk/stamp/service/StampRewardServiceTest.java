@@ -7,6 +7,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.stamp.service.StampRewardService.StampAccumulationResult;
 import com.project.kkookk.stampcard.domain.StampCard;
 import com.project.kkookk.stampcard.domain.StampCardStatus;
@@ -14,6 +16,7 @@ import com.project.kkookk.wallet.domain.WalletReward;
 import com.project.kkookk.wallet.domain.WalletStampCard;
 import com.project.kkookk.wallet.repository.WalletRewardBatchRepository;
 import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import com.project.kkookk.wallet.repository.WalletSummaryRepository;
 import java.lang.reflect.Field;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
@@ -33,6 +36,8 @@ class StampRewardServiceTest {
 
     @Mock private WalletRewardBatchRepository walletRewardBatchRepository;
     @Mock private WalletStampCardRepository walletStampCardRepository;
+    @Mock private WalletSummaryRepository walletSummaryRepository;
+    @Mock private ChangeCounterRepository changeCounterRepository;
 
     @Captor private ArgumentCaptor<List<WalletReward>> rewardsCaptor;
 
@@ -58,6 +63,7 @@ class StampRewardServiceTest {
             assertThat(walletStampCard.getStampCount()).isEqualTo(5); // 3 + 2 = 5
             assertThat(walletStampCard.isActive()).isTrue();
             verify(walletRewardBatchRepository, never()).batchInsert(anyList());
+            verify(changeCounterRepository).increment(ChangeScope.WALLET, 100L);
         }
 
         @Test
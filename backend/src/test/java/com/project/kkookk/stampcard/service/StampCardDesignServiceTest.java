@@ -0,0 +1,107 @@
+package com.project.kkookk.stampcard.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.stampcard.domain.DesignHash;
+import com.project.kkookk.stampcard.domain.StampCard;
+import com.project.kkookk.stampcard.domain.StampCardDesignType;
+import com.project.kkookk.stampcard.repository.StampCardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StampCardDesignServiceTest {
+
+    private static final String DESIGN_JSON = "{\"version\":2,\"back\":{\"stampSlots\":[]}}";
+
+    @Mock private StampCardRepository stampCardRepository;
+
+    private StampCardDesignService stampCardDesignService;
+
+    @BeforeEach
+    void setUp() {
+        stampCardDesignService =
+                new StampCardDesignService(stampCardRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("디자인 해시는 SHA-256 hex이며 스탬프카드 생성 시 계산됨")
+    void designHash_ComputedOnBuild() {
+        // when
+        StampCard stampCard = createStampCard();
+
+        // then
+        assertThat(stampCard.getDesignHash()).isEqualTo(DesignHash.of(DESIGN_JSON));
+        assertThat(DesignHash.isValid(stampCard.getDesignHash())).isTrue();
+        assertThat(DesignHash.of("test"))
+                .isEqualTo("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08");
+    }
+
+    @Test
+    @DisplayName("압축 캐시에서 원문 복원 및 재조회 시 DB 미조회")
+    void findDesignJson_CachedAfterFirstLoad() {
+        // given
+        StampCard stampCard = createStampCard();
+        String hash = stampCard.getDesignHash();
+        given(stampCardRepository.findFirstByDesignHash(hash)).willReturn(Optional.of(stampCard));
+
+        // when
+        String first = stampCardDesignService.findDesignJson(hash);
+        String second =
+                StampCardDesignService.decompress(
+                        stampCardDesignService.getCompressedDesign(hash));
+
+        // then
+        assertThat(first).isEqualTo(DESIGN_JSON);
+        assertThat(second).isEqualTo(DESIGN_JSON);
+        verify(stampCardRepository, times(1)).findFirstByDesignHash(hash);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 해시는 DB 조회 없이 404")
+    void getCompressedDesign_Fail_InvalidHash() {
+        // when & then
+        assertThatThrownBy(() -> stampCardDesignService.getCompressedDesign("../etc/passwd"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.STAMP_CARD_DESIGN_NOT_FOUND);
+        verifyNoInteractions(stampCardRepository);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 디자인 해시는 404")
+    void getCompressedDesign_Fail_NotFound() {
+        // given
+        String hash = DesignHash.of("unknown");
+        given(stampCardRepository.findFirstByDesignHash(hash)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> stampCardDesignService.getCompressedDesign(hash))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.STAMP_CARD_DESIGN_NOT_FOUND);
+    }
+
+    private StampCard createStampCard() {
+        return StampCard.builder()
+                .storeId(1L)
+                .title("아메리카노 10잔")
+                .goalStampCount(10)
+                .designType(StampCardDesignType.CUSTOM)
+                .designJson(DESIGN_JSON)
+                .build();
+    }
+}
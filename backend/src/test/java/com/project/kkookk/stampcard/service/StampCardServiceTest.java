@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
 import com.project.kkookk.stampcard.controller.dto.CreateStampCardRequest;
 import com.project.kkookk.stampcard.controller.dto.StampCardListResponse;
 import com.project.kkookk.stampcard.controller.dto.StampCardResponse;
@@ -20,6 +21,7 @@ import com.project.kkookk.stampcard.service.exception.StampCardNotFoundException
 import com.project.kkookk.stampcard.service.exception.StampCardStatusInvalidException;
 import com.project.kkookk.stampcard.service.exception.StampCardUpdateNotAllowedException;
 import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import com.project.kkookk.wallet.repository.WalletSummaryRepository;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +30,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -42,6 +45,12 @@ class StampCardServiceTest {
 
     @Mock private WalletStampCardRepository walletStampCardRepository;
 
+    @Mock private WalletSummaryRepository walletSummaryRepository;
+
+    @Mock private ChangeCounterRepository changeCounterRepository;
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
     @Test
     @DisplayName("스탬프 카드 생성 성공")
     void createStampCard_Success() {
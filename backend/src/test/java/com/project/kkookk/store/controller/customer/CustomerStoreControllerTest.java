@@ -1,13 +1,18 @@
 package com.project.kkookk.store.controller.customer;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
 import com.project.kkookk.store.controller.customer.dto.StampCardInfo;
@@ -18,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -32,6 +38,8 @@ class CustomerStoreControllerTest {
 
     @MockitoBean private CustomerStoreService customerStoreService;
 
+    @Autowired private ChangeCounterRepository changeCounterRepository;
+
     @Test
     @DisplayName("API 요약 조회 성공: 활성 스탬프카드가 존재할 경우")
     void getStoreSummary_Success() throws Exception {
@@ -105,4 +113,37 @@ class CustomerStoreControllerTest {
                 .andExpect(jsonPath("$.message").value("해당 매장은 현재 이용할 수 없습니다"))
                 .andDo(print());
     }
+
+    @Test
+    @DisplayName("API 요약 조회: 매장 변경 카운터 ETag가 일치하면 서비스 호출 없이 304 반환")
+    void getStoreSummary_NotModified() throws Exception {
+        // given
+        long storeId = 500L;
+        changeCounterRepository.increment(ChangeScope.STORE, storeId);
+        given(customerStoreService.getStoreStampCardSummary(storeId))
+                .willReturn(new StoreStampCardSummaryResponse("테스트 매장", null));
+
+        String eTag =
+                mockMvc.perform(get("/api/customer/stores/{storeId}/summary", storeId))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, "W/\"store-500-1\""))
+                        .andReturn()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+
+        // when & then
+        mockMvc.perform(
+                        get("/api/customer/stores/{storeId}/summary", storeId)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        verify(customerStoreService, times(1)).getStoreStampCardSummary(storeId);
+
+        // 카운터가 증가하면 다시 200
+        changeCounterRepository.increment(ChangeScope.STORE, storeId);
+        mockMvc.perform(
+                        get("/api/customer/stores/{storeId}/summary", storeId)
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"store-500-2\""));
+    }
 }
@@ -78,7 +78,9 @@ class StoreControllerTest {
                 status,
                 LocalDateTime.now(),
                 LocalDateTime.now(),
-                ownerAccountId);
+                ownerAccountId,
+                null,
+                null);
     }
 
     @Test
@@ -86,7 +88,7 @@ class StoreControllerTest {
     void createStore_Success() throws Exception {
         // given
         StoreCreateRequest request =
-                new StoreCreateRequest("새 매장", "주소", "02-1234-5678", null, null, null);
+                new StoreCreateRequest("새 매장", "주소", "02-1234-5678", null, null, null, null, null);
         StoreResponse response = createStoreResponse("새 매장", StoreStatus.DRAFT, OWNER_ID);
         given(storeService.createStore(anyLong(), any(StoreCreateRequest.class)))
                 .willReturn(response);
@@ -106,7 +108,7 @@ class StoreControllerTest {
     void createStore_Fail_InvalidRequest() throws Exception {
         // given
         StoreCreateRequest request =
-                new StoreCreateRequest("", "주소", "02-1234-5678", null, null, null);
+                new StoreCreateRequest("", "주소", "02-1234-5678", null, null, null, null, null);
 
         // when & then
         mockMvc.perform(
@@ -159,7 +161,8 @@ class StoreControllerTest {
     void updateStore_Success() throws Exception {
         // given
         StoreUpdateRequest request =
-                new StoreUpdateRequest("수정된 매장", "새 주소", "02-4567-8901", "카페 설명", null, null);
+                new StoreUpdateRequest(
+                        "수정된 매장", "새 주소", "02-4567-8901", "카페 설명", null, null, null, null);
         StoreResponse response = createStoreResponse("수정된 매장", StoreStatus.DRAFT, OWNER_ID);
         given(storeService.updateStore(anyLong(), anyLong(), any(StoreUpdateRequest.class)))
                 .willReturn(response);
@@ -178,7 +181,7 @@ class StoreControllerTest {
     void updateStore_Fail_InvalidRequest() throws Exception {
         // given
         StoreUpdateRequest request =
-                new StoreUpdateRequest("", "새 주소", "02-4567-8901", null, null, null);
+                new StoreUpdateRequest("", "새 주소", "02-4567-8901", null, null, null, null, null);
 
         // when & then
         mockMvc.perform(
@@ -0,0 +1,119 @@
+package com.project.kkookk.store.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.owner.domain.OwnerAccount;
+import com.project.kkookk.owner.repository.OwnerAccountRepository;
+import com.project.kkookk.stampcard.domain.StampCard;
+import com.project.kkookk.stampcard.domain.StampCardStatus;
+import com.project.kkookk.stampcard.repository.StampCardRepository;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.domain.StoreStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+@DataJpaTest
+@EnableJpaAuditing
+class StoreRepositoryTest {
+
+    @Autowired private StoreRepository storeRepository;
+
+    @Autowired private OwnerAccountRepository ownerAccountRepository;
+
+    @Autowired private StampCardRepository stampCardRepository;
+
+    private OwnerAccount owner;
+    private OwnerAccount otherOwner;
+
+    @BeforeEach
+    void setUp() {
+        owner =
+                ownerAccountRepository.save(
+                        OwnerAccount.builder()
+                                .email("owner@kkookk.com")
+                                .name("김사장")
+                                .phoneNumber("010-1111-2222")
+                                .build());
+        otherOwner =
+                ownerAccountRepository.save(
+                        OwnerAccount.builder().email("other@kkookk.com").name("이사장").build());
+    }
+
+    @Test
+    @DisplayName("Admin 목록 - 점주 정보와 활성 스탬프카드 여부를 함께 조회")
+    void searchForAdmin_JoinsOwnerAndActiveCard() {
+        // given
+        Store withCard = saveStore("카페 A", owner, StoreStatus.LIVE);
+        Store withoutCard = saveStore("카페 B", owner, StoreStatus.LIVE);
+        StampCard activeCard =
+                StampCard.builder()
+                        .storeId(withCard.getId())
+                        .title("카드")
+                        .goalStampCount(10)
+                        .build();
+        activeCard.updateStatus(StampCardStatus.ACTIVE);
+        stampCardRepository.save(activeCard);
+        stampCardRepository.save(
+                StampCard.builder()
+                        .storeId(withoutCard.getId())
+                        .title("초안")
+                        .goalStampCount(10)
+                        .build());
+
+        // when
+        Page<AdminStoreProjection> page =
+                storeRepository.searchForAdmin(
+                        null, null, null, null, PageRequest.of(0, 10, Sort.by("name")));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        AdminStoreProjection first = page.getContent().get(0);
+        assertThat(first.getName()).isEqualTo("카페 A");
+        assertThat(first.getHasActiveStampCard()).isTrue();
+        assertThat(first.getOwnerName()).isEqualTo("김사장");
+        assertThat(first.getOwnerEmail()).isEqualTo("owner@kkookk.com");
+        assertThat(first.getOwnerPhone()).isEqualTo("010-1111-2222");
+        assertThat(page.getContent().get(1).getHasActiveStampCard()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Admin 목록 - 상태/점주 조건과 페이지 크기 적용")
+    void searchForAdmin_FiltersAndPages() {
+        // given
+        saveStore("카페 A", owner, StoreStatus.LIVE);
+        saveStore("카페 B", owner, StoreStatus.LIVE);
+        saveStore("카페 C", owner, StoreStatus.DRAFT);
+        saveStore("카페 D", otherOwner, StoreStatus.LIVE);
+
+        // when
+        Page<AdminStoreProjection> page =
+                storeRepository.searchForAdmin(
+                        StoreStatus.LIVE,
+                        owner.getId(),
+                        null,
+                        null,
+                        PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "name")));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getTotalPages()).isEqualTo(2);
+        assertThat(page.getContent())
+                .extracting(AdminStoreProjection::getName)
+                .containsExactly("카페 B");
+    }
+
+    private Store saveStore(String name, OwnerAccount storeOwner, StoreStatus status) {
+        Store store = new Store(name, "서울시 강남구", null, null, null, null, storeOwner.getId());
+        if (status != StoreStatus.DRAFT) {
+            store.transitionTo(status);
+        }
+        return storeRepository.save(store);
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.kkookk.store.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 카카오 로컬 키워드 검색 API를 흉내 내는 로컬 스텁 서버 (응답 지연/장애/비정상 응답 재현용) */
+class KakaoLocalStubServer implements AutoCloseable {
+
+    static final String BODY =
+            """
+            {"documents":[{"place_name":"꾹꾹카페","address_name":"서울 강남구 역삼동 1",\
+            "road_address_name":"서울 강남구 테헤란로 1","phone":"02-000-0000",\
+            "place_url":"http://place.map.kakao.com/1","id":"1",\
+            "x":"127.0276","y":"37.4979"}]}
+            """;
+
+    private final HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private volatile long latencyMillis;
+    private volatile boolean failing;
+    private volatile String body = BODY;
+
+    KakaoLocalStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/local/search/keyword.json", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    void setBody(String body) {
+        this.body = body;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failing) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,177 @@
+package com.project.kkookk.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.project.kkookk.global.config.KakaoSearchProperties;
+import com.project.kkookk.global.exception.BusinessException;
+import com.project.kkookk.global.exception.ErrorCode;
+import com.project.kkookk.global.http.OutboundHttp;
+import com.project.kkookk.global.http.OutboundHttpProperties;
+import com.project.kkookk.store.controller.owner.dto.PlaceSearchResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestClient;
+
+class KakaoPlaceSearchServiceTest {
+
+    private KakaoLocalStubServer stubServer;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = new KakaoLocalStubServer();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.close();
+    }
+
+    @Test
+    @DisplayName("같은 검색어는 캐시에서 응답하고 카카오는 한 번만 호출")
+    void search_CacheHit() {
+        // given
+        KakaoPlaceSearchService service = service(Duration.ofMinutes(10), 5);
+
+        // when
+        List<PlaceSearchResult> first = service.search("꾹꾹 카페");
+        List<PlaceSearchResult> second = service.search("  꾹꾹   카페 ");
+
+        // then
+        assertThat(stubServer.requestCount()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(first.get(0).placeName()).isEqualTo("꾹꾹카페");
+        assertThat(first.get(0).latitude()).isEqualTo(37.4979);
+        assertThat(first.get(0).longitude()).isEqualTo(127.0276);
+        assertThat(searchCount("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 검색어는 하나의 카카오 호출로 합쳐짐")
+    void search_CoalescesConcurrentRequests() throws Exception {
+        // given
+        stubServer.setLatencyMillis(300);
+        KakaoPlaceSearchService service = service(Duration.ofMinutes(10), 5);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<List<PlaceSearchResult>>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                start.await();
+                                return service.search("꾹꾹카페");
+                            }));
+        }
+        start.countDown();
+        for (Future<List<PlaceSearchResult>> future : futures) {
+            assertThat(future.get()).hasSize(1);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(stubServer.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("카카오 장애 시 만료된 캐시로 응답하고, 연속 실패하면 서킷이 열려 호출하지 않음")
+    void search_StaleFallbackAndCircuitOpen() {
+        // given
+        KakaoPlaceSearchService service = service(Duration.ZERO, 2);
+        service.search("꾹꾹카페");
+        stubServer.setFailing(true);
+
+        // when
+        List<PlaceSearchResult> stale1 = service.search("꾹꾹카페");
+        List<PlaceSearchResult> stale2 = service.search("꾹꾹카페");
+        List<PlaceSearchResult> stale3 = service.search("꾹꾹카페");
+
+        // then
+        assertThat(stale1).hasSize(1);
+        assertThat(stale2).hasSize(1);
+        assertThat(stale3).hasSize(1);
+        // 최초 성공 1 + 실패 2 후 서킷이 열려 세 번째는 나가지 않음
+        assertThat(stubServer.requestCount()).isEqualTo(3);
+        assertThat(searchCount("stale")).isEqualTo(3.0);
+        assertThat(searchCount("rejected_circuit")).isEqualTo(1.0);
+        assertThatThrownBy(() -> service.search("없는 검색어"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.KAKAO_API_ERROR);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 예상 밖의 예외로 끝나도 서킷이 다시 시험 호출을 허용")
+    void search_UnexpectedExceptionReleasesHalfOpenTrial() {
+        // given: 한 번 실패하면 열리고, 바로 HALF_OPEN으로 넘어가는 서킷
+        KakaoPlaceSearchService service = service(Duration.ofMinutes(10), 1, Duration.ZERO);
+        stubServer.setFailing(true);
+        assertThatThrownBy(() -> service.search("장애"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.KAKAO_API_ERROR);
+
+        // when: 시험 호출이 응답 파싱 중 NullPointerException으로 끝남
+        stubServer.setFailing(false);
+        stubServer.setBody("{\"documents\":[null]}");
+        assertThatThrownBy(() -> service.search("비정상"))
+                .isInstanceOf(NullPointerException.class);
+        stubServer.setBody(KakaoLocalStubServer.BODY);
+        List<PlaceSearchResult> recovered = service.search("꾹꾹카페");
+
+        // then: 시험 호출 표시가 남아 있었다면 rejected_circuit으로 거절됐을 것
+        assertThat(recovered).hasSize(1);
+        assertThat(stubServer.requestCount()).isEqualTo(3);
+        assertThat(
+                        meterRegistry
+                                .find("kkookk.kakao.search")
+                                .tag("result", "rejected_circuit")
+                                .counter())
+                .isNull();
+    }
+
+    private KakaoPlaceSearchService service(Duration freshTtl, int failureThreshold) {
+        return service(freshTtl, failureThreshold, Duration.ofMinutes(1));
+    }
+
+    private KakaoPlaceSearchService service(
+            Duration freshTtl, int failureThreshold, Duration openDuration) {
+        KakaoSearchProperties properties =
+                new KakaoSearchProperties(
+                        stubServer.baseUrl(),
+                        Duration.ofSeconds(2),
+                        freshTtl,
+                        Duration.ofHours(1),
+                        100,
+                        4,
+                        Duration.ofSeconds(1),
+                        failureThreshold,
+                        openDuration);
+        OutboundHttp outboundHttp =
+                new OutboundHttp(
+                        new OutboundHttpProperties(
+                                Duration.ofSeconds(1), Duration.ofSeconds(5), 32, Duration.ZERO),
+                        new RestTemplateBuilder(),
+                        RestClient.builder(),
+                        meterRegistry);
+        return new KakaoPlaceSearchService(outboundHttp, "test-key", properties, meterRegistry);
+    }
+
+    private double searchCount(String result) {
+        return meterRegistry.get("kkookk.kakao.search").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.kkookk.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.domain.StoreStatus;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StoreGeoIndexTest {
+
+    // 강남역
+    private static final double ORIGIN_LAT = 37.4979;
+    private static final double ORIGIN_LNG = 127.0276;
+
+    private StoreGeoIndex storeGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        storeGeoIndex = new StoreGeoIndex(null, mock(CacheInvalidationBus.class));
+    }
+
+    @Test
+    @DisplayName("반경 내 LIVE 매장을 가까운 순으로 조회")
+    void findNearby_SortedByDistance() {
+        // given
+        storeGeoIndex.refresh(liveStore(1L, 37.5045, 127.0490)); // 약 2km
+        storeGeoIndex.refresh(liveStore(2L, 37.4985, 127.0280)); // 약 80m
+        storeGeoIndex.refresh(liveStore(3L, 37.5665, 126.9780)); // 시청, 약 8.8km
+
+        // when
+        List<StoreGeoIndex.Hit> hits = storeGeoIndex.findNearby(ORIGIN_LAT, ORIGIN_LNG, 3000, 10);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.entry().storeId()).containsExactly(2L, 1L);
+        assertThat(hits.get(0).distanceMeters()).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("limit 만큼만 반환")
+    void findNearby_Limit() {
+        // given
+        storeGeoIndex.refresh(liveStore(1L, 37.4980, 127.0277));
+        storeGeoIndex.refresh(liveStore(2L, 37.4990, 127.0280));
+
+        // when
+        List<StoreGeoIndex.Hit> hits = storeGeoIndex.findNearby(ORIGIN_LAT, ORIGIN_LNG, 1000, 1);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.entry().storeId()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("LIVE가 아니게 되면 인덱스에서 제거")
+    void refresh_RemovedWhenSuspended() {
+        // given
+        Store store = liveStore(1L, 37.4980, 127.0277);
+        storeGeoIndex.refresh(store);
+
+        // when
+        store.transitionTo(StoreStatus.SUSPENDED);
+        storeGeoIndex.refresh(store);
+
+        // then
+        assertThat(storeGeoIndex.findNearby(ORIGIN_LAT, ORIGIN_LNG, 1000, 10)).isEmpty();
+        assertThat(storeGeoIndex.size()).isZero();
+    }
+
+    private Store liveStore(Long id, double latitude, double longitude) {
+        Store store = new Store("매장" + id, "서울시", null, null, null, null, 1L);
+        ReflectionTestUtils.setField(store, "id", id);
+        store.updateLocation(latitude, longitude);
+        store.transitionTo(StoreStatus.LIVE);
+        return store;
+    }
+}
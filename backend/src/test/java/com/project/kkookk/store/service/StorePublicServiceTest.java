@@ -4,15 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.project.kkookk.store.domain.Store;
 import com.project.kkookk.store.domain.StoreStatus;
+import com.project.kkookk.store.dto.response.NearbyStoreResponse;
 import com.project.kkookk.store.dto.response.StorePublicInfoResponse;
 import com.project.kkookk.store.repository.StoreRepository;
 import com.project.kkookk.store.service.exception.StoreInactiveException;
 import com.project.kkookk.store.service.exception.StoreNotFoundException;
-import com.project.kkookk.wallet.domain.WalletStampCardStatus;
-import com.project.kkookk.wallet.repository.WalletStampCardRepository;
+import com.project.kkookk.wallet.repository.StoreCardCounterRepository;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,7 +32,11 @@ class StorePublicServiceTest {
 
     @Mock private StoreRepository storeRepository;
 
-    @Mock private WalletStampCardRepository walletStampCardRepository;
+    @Mock private StoreCardCounterRepository storeCardCounterRepository;
+
+    @Mock private StoreGeoIndex storeGeoIndex;
+
+    @Mock private StoreSearchIndex storeSearchIndex;
 
     @Test
     @DisplayName("매장 공개 정보 조회 성공")
@@ -42,10 +48,7 @@ class StorePublicServiceTest {
         store.transitionTo(StoreStatus.LIVE);
 
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
-        given(
-                        walletStampCardRepository.countByStoreIdAndStatus(
-                                storeId, WalletStampCardStatus.ACTIVE))
-                .willReturn(150);
+        given(storeCardCounterRepository.findActiveCount(storeId)).willReturn(150L);
 
         // when
         StorePublicInfoResponse response = storePublicService.getStorePublicInfo(storeId);
@@ -57,8 +60,7 @@ class StorePublicServiceTest {
         assertThat(response.activeStampCardCount()).isEqualTo(150);
 
         verify(storeRepository).findById(storeId);
-        verify(walletStampCardRepository)
-                .countByStoreIdAndStatus(storeId, WalletStampCardStatus.ACTIVE);
+        verify(storeCardCounterRepository).findActiveCount(storeId);
     }
 
     @Test
@@ -105,10 +107,7 @@ class StorePublicServiceTest {
         store.transitionTo(StoreStatus.LIVE);
 
         given(storeRepository.findById(storeId)).willReturn(Optional.of(store));
-        given(
-                        walletStampCardRepository.countByStoreIdAndStatus(
-                                storeId, WalletStampCardStatus.ACTIVE))
-                .willReturn(0);
+        given(storeCardCounterRepository.findActiveCount(storeId)).willReturn(0L);
 
         // when
         StorePublicInfoResponse response = storePublicService.getStorePublicInfo(storeId);
@@ -118,7 +117,26 @@ class StorePublicServiceTest {
         assertThat(response.activeStampCardCount()).isEqualTo(0);
 
         verify(storeRepository).findById(storeId);
-        verify(walletStampCardRepository)
-                .countByStoreIdAndStatus(storeId, WalletStampCardStatus.ACTIVE);
+        verify(storeCardCounterRepository).findActiveCount(storeId);
+    }
+
+    @Test
+    @DisplayName("주변 매장 조회 - 공간 인덱스 결과를 거리(m)와 함께 반환")
+    void getNearbyStores_Success() {
+        // given
+        StoreGeoIndex.Entry entry =
+                new StoreGeoIndex.Entry(1L, "꾹꾹 카페", "서울시 강남구", 37.4985, 127.0280);
+        given(storeGeoIndex.findNearby(37.4979, 127.0276, 1000, 20))
+                .willReturn(List.of(new StoreGeoIndex.Hit(entry, 75.6)));
+
+        // when
+        List<NearbyStoreResponse> response =
+                storePublicService.getNearbyStores(37.4979, 127.0276, 1000, 20);
+
+        // then
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).storeId()).isEqualTo(1L);
+        assertThat(response.get(0).distanceMeters()).isEqualTo(76);
+        verifyNoInteractions(storeRepository);
     }
 }
@@ -0,0 +1,77 @@
+package com.project.kkookk.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.store.domain.Store;
+import com.project.kkookk.store.domain.StoreStatus;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StoreSearchIndexTest {
+
+    private StoreSearchIndex storeSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        storeSearchIndex = new StoreSearchIndex(null, mock(CacheInvalidationBus.class));
+        storeSearchIndex.refresh(liveStore(1L, "꾹꾹 카페 강남점", "서울시 강남구 테헤란로 123", "아늑한 카페"));
+        storeSearchIndex.refresh(liveStore(2L, "스타벅스 역삼점", "서울시 강남구 역삼동", "커피 전문점"));
+        storeSearchIndex.refresh(liveStore(3L, "동네 베이커리", "부산시 해운대구", "꾹꾹 눌러 담은 빵"));
+    }
+
+    @Test
+    @DisplayName("매장명 일치가 설명 일치보다 먼저 온다")
+    void search_NameRankedFirst() {
+        // when
+        List<Long> ids = storeIds(storeSearchIndex.search("꾹꾹"));
+
+        // then
+        assertThat(ids).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("입력 중인 음절과 자모 하나 오타를 허용")
+    void search_PartialAndTypo() {
+        // when & then
+        assertThat(storeIds(storeSearchIndex.search("스타벅"))).first().isEqualTo(2L);
+        assertThat(storeIds(storeSearchIndex.search("스타벆스"))).first().isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("초성으로 매장명 검색")
+    void search_Initials() {
+        // when & then
+        assertThat(storeIds(storeSearchIndex.search("ㄲㄲㅋㅍ"))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("LIVE가 아니게 되면 검색에서 제외")
+    void refresh_RemovedWhenSuspended() {
+        // given
+        Store store = liveStore(2L, "스타벅스 역삼점", "서울시 강남구 역삼동", "커피 전문점");
+
+        // when
+        store.transitionTo(StoreStatus.SUSPENDED);
+        storeSearchIndex.refresh(store);
+
+        // then
+        assertThat(storeSearchIndex.search("스타벅스")).isEmpty();
+        assertThat(storeSearchIndex.size()).isEqualTo(2);
+    }
+
+    private List<Long> storeIds(List<StoreSearchIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.document().storeId()).toList();
+    }
+
+    private Store liveStore(Long id, String name, String address, String description) {
+        Store store = new Store(name, address, null, null, null, description, 1L);
+        ReflectionTestUtils.setField(store, "id", id);
+        store.transitionTo(StoreStatus.LIVE);
+        return store;
+    }
+}
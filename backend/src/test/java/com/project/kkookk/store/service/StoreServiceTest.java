@@ -5,7 +5,10 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.global.exception.BusinessException;
 import com.project.kkookk.global.exception.ErrorCode;
 import com.project.kkookk.store.controller.owner.dto.StoreCreateRequest;
@@ -16,6 +19,7 @@ import com.project.kkookk.store.domain.StoreAuditLog;
 import com.project.kkookk.store.domain.StoreStatus;
 import com.project.kkookk.store.repository.StoreAuditLogRepository;
 import com.project.kkookk.store.repository.StoreRepository;
+import com.project.kkookk.wallet.repository.WalletSummaryRepository;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +40,16 @@ class StoreServiceTest {
 
     @Mock private StoreAuditLogRepository storeAuditLogRepository;
 
+    @Mock private WalletSummaryRepository walletSummaryRepository;
+
+    @Mock private ChangeCounterRepository changeCounterRepository;
+
+    @Mock private StoreGeoIndex storeGeoIndex;
+
+    @Mock private StoreSearchIndex storeSearchIndex;
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
     private static final Long OWNER_ID = 1L;
     private static final Long STORE_ID = 1L;
 
@@ -68,7 +83,8 @@ class StoreServiceTest {
     void createStore_Success() {
         // given
         StoreCreateRequest request =
-                new StoreCreateRequest("테스트 매장", "서울시 강남구", "010-1234-5678", null, null, null);
+                new StoreCreateRequest(
+                        "테스트 매장", "서울시 강남구", "010-1234-5678", null, null, null, null, null);
         Store store = createStoreWithId();
         given(storeRepository.save(any(Store.class))).willReturn(store);
         given(storeAuditLogRepository.save(any(StoreAuditLog.class))).willReturn(null);
@@ -154,7 +170,8 @@ class StoreServiceTest {
         // given
         Store store = createStore();
         StoreUpdateRequest request =
-                new StoreUpdateRequest("수정된 매장", "서울시 서초구", "010-8765-4321", "카페 설명", null, null);
+                new StoreUpdateRequest(
+                        "수정된 매장", "서울시 서초구", "010-8765-4321", "카페 설명", null, null, null, null);
         given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                 .willReturn(Optional.of(store));
         given(storeAuditLogRepository.save(any(StoreAuditLog.class))).willReturn(null);
@@ -165,6 +182,9 @@ class StoreServiceTest {
         // then
         assertThat(response.name()).isEqualTo("수정된 매장");
         then(storeRepository).should().findByIdAndOwnerAccountId(STORE_ID, OWNER_ID);
+        // 매장 카운터와 이 매장 카드를 가진 지갑 카운터가 함께 올라가야 ETag가 바뀐다
+        then(changeCounterRepository).should().increment(ChangeScope.STORE, STORE_ID);
+        then(changeCounterRepository).should().incrementWalletsOfStore(STORE_ID);
     }
 
     @Test
@@ -179,7 +199,9 @@ class StoreServiceTest {
                         "010-1111-2222",
                         "새로운 설명",
                         "newIconBase64",
-                        "place-ref-1");
+                        "place-ref-1",
+                        null,
+                        null);
         given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                 .willReturn(Optional.of(store));
         given(storeAuditLogRepository.save(any(StoreAuditLog.class))).willReturn(null);
@@ -191,6 +213,9 @@ class StoreServiceTest {
         assertThat(response.description()).isEqualTo("새로운 설명");
         assertThat(response.iconImageBase64()).isEqualTo("newIconBase64");
         assertThat(response.name()).isEqualTo("라이브 매장");
+        // LIVE 매장은 지갑에 노출되는 정보가 바뀌지 않으므로 매장 카운터만 올린다
+        then(changeCounterRepository).should().increment(ChangeScope.STORE, STORE_ID);
+        then(changeCounterRepository).should(never()).incrementWalletsOfStore(STORE_ID);
     }
 
     @Test
@@ -200,7 +225,14 @@ class StoreServiceTest {
         Store store = createLiveStoreWithId();
         StoreUpdateRequest request =
                 new StoreUpdateRequest(
-                        "변경된 이름", "서울시 서초구", "010-1111-2222", "매장 설명", null, "place-ref-1");
+                        "변경된 이름",
+                        "서울시 서초구",
+                        "010-1111-2222",
+                        "매장 설명",
+                        null,
+                        "place-ref-1",
+                        null,
+                        null);
         given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                 .willReturn(Optional.of(store));
 
@@ -217,7 +249,14 @@ class StoreServiceTest {
         Store store = createLiveStoreWithId();
         StoreUpdateRequest request =
                 new StoreUpdateRequest(
-                        "라이브 매장", "서울시 강남구 변경", "010-1111-2222", "매장 설명", null, "place-ref-1");
+                        "라이브 매장",
+                        "서울시 강남구 변경",
+                        "010-1111-2222",
+                        "매장 설명",
+                        null,
+                        "place-ref-1",
+                        null,
+                        null);
         given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                 .willReturn(Optional.of(store));
 
@@ -234,7 +273,14 @@ class StoreServiceTest {
         Store store = createLiveStoreWithId();
         StoreUpdateRequest request =
                 new StoreUpdateRequest(
-                        "라이브 매장", "서울시 서초구", "010-9999-8888", "매장 설명", null, "place-ref-1");
+                        "라이브 매장",
+                        "서울시 서초구",
+                        "010-9999-8888",
+                        "매장 설명",
+                        null,
+                        "place-ref-1",
+                        null,
+                        null);
         given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                 .willReturn(Optional.of(store));
 
@@ -251,7 +297,14 @@ class StoreServiceTest {
         Store store = createLiveStoreWithId();
         StoreUpdateRequest request =
                 new StoreUpdateRequest(
-                        "라이브 매장", "서울시 서초구", "010-1111-2222", "매장 설명", null, "new-place-ref");
+                        "라이브 매장",
+                        "서울시 서초구",
+                        "010-1111-2222",
+                        "매장 설명",
+                        null,
+                        "new-place-ref",
+                        null,
+                        null);
         given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                 .willReturn(Optional.of(store));
 
@@ -266,7 +319,8 @@ class StoreServiceTest {
     void updateStore_Fail_NotFound() {
         // given
         StoreUpdateRequest request =
-                new StoreUpdateRequest("수정된 매장", "서울시 서초구", "010-8765-4321", null, null, null);
+                new StoreUpdateRequest(
+                        "수정된 매장", "서울시 서초구", "010-8765-4321", null, null, null, null, null);
         given(storeRepository.findByIdAndOwnerAccountId(STORE_ID, OWNER_ID))
                 .willReturn(Optional.empty());
 
@@ -0,0 +1,114 @@
+package com.project.kkookk.store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.global.config.CacheConfig;
+import com.project.kkookk.store.controller.customer.dto.StoreStampCardSummaryResponse;
+import com.project.kkookk.store.domain.StoreSummaryChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(StoreSummaryCacheInvalidator.class)
+class StoreSummaryCacheInvalidatorTest {
+
+    @Autowired private StoreSummaryCacheInvalidator invalidator;
+
+    @Autowired private CacheManager cacheManager;
+
+    @Autowired private ApplicationEventPublisher eventPublisher;
+
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @MockitoBean private CacheInvalidationBus cacheInvalidationBus;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.STORE_SUMMARY_CACHE);
+        cache.clear();
+        cache.put(1L, new StoreStampCardSummaryResponse("매장1", null));
+        cache.put(2L, new StoreStampCardSummaryResponse("매장2", null));
+    }
+
+    @Test
+    @DisplayName("변경된 매장 키만 캐시에서 제거")
+    void onStoreSummaryChanged_EvictsOnlyAffectedKey() {
+        // when
+        invalidator.onStoreSummaryChanged(new StoreSummaryChangedEvent(1L));
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 발행한 변경은 커밋된 뒤에야 캐시에서 제거하고 다른 노드에 전파")
+    void publish_EvictsOnlyAfterCommit() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    eventPublisher.publishEvent(new StoreSummaryChangedEvent(1L));
+
+                    // then: 커밋 전에는 그대로
+                    assertThat(cache.get(1L)).isNotNull();
+                });
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNotNull();
+        verify(cacheInvalidationBus).publish(CacheConfig.STORE_SUMMARY_CACHE, 1L);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 변경은 캐시를 지우지도, 전파하지도 않음")
+    void publish_RolledBackDoesNotEvict() {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    eventPublisher.publishEvent(new StoreSummaryChangedEvent(1L));
+                    status.setRollbackOnly();
+                });
+
+        // then
+        assertThat(cache.get(1L)).isNotNull();
+        verify(cacheInvalidationBus, never()).publish(anyString(), any());
+    }
+
+    @TestConfiguration
+    static class CacheTestConfig {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.STORE_SUMMARY_CACHE);
+        }
+    }
+}
@@ -4,18 +4,25 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.project.kkookk.global.conditional.ChangeCounterRepository;
+import com.project.kkookk.global.conditional.ChangeScope;
 import com.project.kkookk.issuance.controller.config.WithMockCustomer;
+import com.project.kkookk.wallet.domain.StampCardSortType;
 import com.project.kkookk.wallet.dto.response.PageInfo;
 import com.project.kkookk.wallet.dto.response.RedeemEventHistoryResponse;
 import com.project.kkookk.wallet.dto.response.RedeemEventSummary;
 import com.project.kkookk.wallet.dto.response.StampEventHistoryResponse;
 import com.project.kkookk.wallet.dto.response.StampEventSummary;
 import com.project.kkookk.wallet.dto.response.StoreInfo;
+import com.project.kkookk.wallet.dto.response.WalletStampCardListResponse;
 import com.project.kkookk.wallet.service.CustomerWalletService;
 import com.project.kkookk.wallet.service.exception.WalletStampCardNotFoundException;
 import java.time.LocalDateTime;
@@ -26,6 +33,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -38,6 +46,8 @@ class CustomerWalletControllerTest {
 
     @MockitoBean private CustomerWalletService customerWalletService;
 
+    @Autowired private ChangeCounterRepository changeCounterRepository;
+
     @Test
     @DisplayName("GET /api/customer/wallet/stores/{storeId}/stamp-history - 스탬프 히스토리 조회 성공")
     @WithMockCustomer
@@ -214,4 +224,90 @@ class CustomerWalletControllerTest {
                 .andDo(print())
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("GET /api/customer/wallet/my-stamp-cards - 지갑 ETag 일치 시 304, 카운터 증가 후 200")
+    @WithMockCustomer(walletId = 9001L)
+    void getMyStampCards_NotModified() throws Exception {
+        // given
+        long walletId = 9001L;
+        given(
+                        customerWalletService.getMyStampCards(
+                                walletId, StampCardSortType.LAST_STAMPED, false))
+                .willReturn(new WalletStampCardListResponse(walletId, "홍길동", List.of()));
+        changeCounterRepository.increment(ChangeScope.WALLET, walletId);
+
+        // when & then
+        String eTag =
+                mockMvc.perform(get("/api/customer/wallet/my-stamp-cards"))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, "W/\"wallet-9001-1\""))
+                        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+                        .andReturn()
+                        .getResponse()
+                        .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(
+                        get("/api/customer/wallet/my-stamp-cards")
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        verify(customerWalletService, times(1))
+                .getMyStampCards(walletId, StampCardSortType.LAST_STAMPED, false);
+
+        // 지갑 카운터가 증가하면 다시 200
+        changeCounterRepository.increment(ChangeScope.WALLET, walletId);
+        mockMvc.perform(
+                        get("/api/customer/wallet/my-stamp-cards")
+                                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"wallet-9001-2\""));
+    }
+
+    @Test
+    @DisplayName("GET /api/customer/wallet/my-stamp-cards - ETag는 로그인한 지갑 단위로 발급")
+    @WithMockCustomer(walletId = 9002L)
+    void getMyStampCards_ScopedPerWallet() throws Exception {
+        // given
+        long walletId = 9002L;
+        long otherWalletId = 9003L;
+        given(
+                        customerWalletService.getMyStampCards(
+                                walletId, StampCardSortType.LAST_STAMPED, false))
+                .willReturn(new WalletStampCardListResponse(walletId, "홍길동", List.of()));
+        changeCounterRepository.increment(ChangeScope.WALLET, walletId);
+        changeCounterRepository.increment(ChangeScope.WALLET, otherWalletId);
+
+        // when & then: 다른 지갑의 ETag로는 304를 받을 수 없다
+        mockMvc.perform(
+                        get("/api/customer/wallet/my-stamp-cards")
+                                .header(HttpHeaders.IF_NONE_MATCH, "W/\"wallet-9003-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"wallet-9002-1\""));
+
+        // 다른 지갑의 변경은 이 지갑의 ETag를 바꾸지 않는다
+        changeCounterRepository.increment(ChangeScope.WALLET, otherWalletId);
+        mockMvc.perform(
+                        get("/api/customer/wallet/my-stamp-cards")
+                                .header(HttpHeaders.IF_NONE_MATCH, "W/\"wallet-9002-1\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("GET /api/customer/wallet/my-stamp-cards - 카운터가 없는 지갑은 ETag 없이 200")
+    @WithMockCustomer(walletId = 9004L)
+    void getMyStampCards_Untracked() throws Exception {
+        // given
+        long walletId = 9004L;
+        given(
+                        customerWalletService.getMyStampCards(
+                                walletId, StampCardSortType.LAST_STAMPED, false))
+                .willReturn(new WalletStampCardListResponse(walletId, "홍길동", List.of()));
+
+        // when & then
+        mockMvc.perform(
+                        get("/api/customer/wallet/my-stamp-cards")
+                                .header(HttpHeaders.IF_NONE_MATCH, "W/\"wallet-9004-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
 }
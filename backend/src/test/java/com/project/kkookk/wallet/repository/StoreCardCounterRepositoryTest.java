@@ -0,0 +1,62 @@
+package com.project.kkookk.wallet.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.wallet.domain.WalletStampCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+@DataJpaTest
+@EnableJpaAuditing
+@Import(StoreCardCounterRepository.class)
+class StoreCardCounterRepositoryTest {
+
+    private static final Long STORE_ID = 1L;
+
+    @Autowired private WalletStampCardRepository walletStampCardRepository;
+
+    @Autowired private StoreCardCounterRepository storeCardCounterRepository;
+
+    @Test
+    @DisplayName("카드 생성 시 증가분이 누적되고, 행이 없으면 0")
+    void add_Accumulates() {
+        // given
+        assertThat(storeCardCounterRepository.findActiveCount(STORE_ID)).isZero();
+
+        // when
+        storeCardCounterRepository.add(STORE_ID, 1);
+        storeCardCounterRepository.add(STORE_ID, 1);
+
+        // then
+        assertThat(storeCardCounterRepository.findActiveCount(STORE_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보정 시 실제 ACTIVE 카드 수로 맞추고 보정량을 반환")
+    void reconcile_FixesDrift() {
+        // given
+        for (long walletId = 1; walletId <= 3; walletId++) {
+            walletStampCardRepository.saveAndFlush(
+                    WalletStampCard.builder()
+                            .customerWalletId(walletId)
+                            .storeId(STORE_ID)
+                            .stampCardId(1L)
+                            .stampCount(0)
+                            .build());
+        }
+        storeCardCounterRepository.add(STORE_ID, 1);
+
+        // when
+        long drift = storeCardCounterRepository.reconcile(STORE_ID);
+        long again = storeCardCounterRepository.reconcile(STORE_ID);
+
+        // then
+        assertThat(drift).isEqualTo(2);
+        assertThat(again).isZero();
+        assertThat(storeCardCounterRepository.findActiveCount(STORE_ID)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.kkookk.wallet.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.project.kkookk.wallet.domain.CustomerWallet;
+import com.project.kkookk.wallet.domain.CustomerWalletStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+@DataJpaTest
+@EnableJpaAuditing
+@Import(WalletSummaryRepository.class)
+class WalletSummaryRepositoryTest {
+
+    @Autowired private CustomerWalletRepository customerWalletRepository;
+
+    @Autowired private WalletSummaryRepository walletSummaryRepository;
+
+    private Long walletId;
+
+    @BeforeEach
+    void setUp() {
+        CustomerWallet wallet =
+                CustomerWallet.builder().phone("01012345678").name("홍길동").nickname("길동이").build();
+        walletId = customerWalletRepository.saveAndFlush(wallet).getId();
+    }
+
+    @Test
+    @DisplayName("읽기 모델이 없으면 지갑 정보만 조회")
+    void findSnapshot_NotMaterialized() {
+        // when
+        WalletSummaryRepository.Snapshot snapshot =
+                walletSummaryRepository.findSnapshot(walletId).orElseThrow();
+
+        // then
+        assertThat(snapshot.customerName()).isEqualTo("홍길동");
+        assertThat(snapshot.status()).isEqualTo(CustomerWalletStatus.ACTIVE);
+        assertThat(snapshot.version()).isNull();
+        assertThat(snapshot.payload()).isNull();
+        assertThat(snapshot.currentVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("payload 저장 후 무효화하면 버전 증가 및 payload 삭제")
+    void invalidate_BumpsVersion() {
+        // given
+        WalletSummaryRepository.Snapshot empty =
+                walletSummaryRepository.findSnapshot(walletId).orElseThrow();
+        assertThat(walletSummaryRepository.savePayload(empty, "[]")).isTrue();
+
+        // when
+        walletSummaryRepository.invalidate(walletId);
+
+        // then
+        WalletSummaryRepository.Snapshot snapshot =
+                walletSummaryRepository.findSnapshot(walletId).orElseThrow();
+        assertThat(snapshot.version()).isEqualTo(1L);
+        assertThat(snapshot.payload()).isNull();
+    }
+
+    @Test
+    @DisplayName("조회 후 무효화된 경우 오래된 payload는 저장되지 않음")
+    void savePayload_StaleVersion() {
+        // given
+        walletSummaryRepository.invalidate(walletId);
+        WalletSummaryRepository.Snapshot stale =
+                walletSummaryRepository.findSnapshot(walletId).orElseThrow();
+        walletSummaryRepository.invalidate(walletId);
+
+        // when
+        boolean saved = walletSummaryRepository.savePayload(stale, "[]");
+
+        // then
+        assertThat(saved).isFalse();
+        WalletSummaryRepository.Snapshot snapshot =
+                walletSummaryRepository.findSnapshot(walletId).orElseThrow();
+        assertThat(snapshot.version()).isEqualTo(2L);
+        assertThat(snapshot.payload()).isNull();
+    }
+}
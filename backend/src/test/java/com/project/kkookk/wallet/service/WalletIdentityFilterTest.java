@@ -0,0 +1,136 @@
+package com.project.kkookk.wallet.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.project.kkookk.global.cache.CacheInvalidationBus;
+import com.project.kkookk.wallet.domain.CustomerWallet;
+import com.project.kkookk.wallet.repository.CustomerWalletRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@DataJpaTest
+@EnableJpaAuditing
+@Import({WalletIdentityFilter.class, SimpleMeterRegistry.class})
+class WalletIdentityFilterTest {
+
+    @Autowired private CustomerWalletRepository customerWalletRepository;
+
+    @Autowired private WalletIdentityFilter walletIdentityFilter;
+
+    @Autowired private SimpleMeterRegistry meterRegistry;
+
+    @MockitoBean private CacheInvalidationBus cacheInvalidationBus;
+
+    @BeforeEach
+    void setUp() {
+        customerWalletRepository.saveAndFlush(
+                CustomerWallet.builder()
+                        .phone("01012345678")
+                        .name("홍길동")
+                        .nickname("Gildong")
+                        .build());
+        walletIdentityFilter.rebuild();
+    }
+
+    @Test
+    @DisplayName("필터에 없는 닉네임은 DB 조회 없이 사용 가능")
+    void nicknameExists_DefiniteNegative() {
+        // given
+        AtomicInteger dbCalls = new AtomicInteger();
+        Predicate<String> dbExists =
+                nickname -> {
+                    dbCalls.incrementAndGet();
+                    return customerWalletRepository.existsByNickname(nickname);
+                };
+
+        // when
+        boolean exists = walletIdentityFilter.nicknameExists("새닉네임", dbExists);
+
+        // then
+        assertThat(exists).isFalse();
+        assertThat(dbCalls).hasValue(0);
+        assertThat(
+                        meterRegistry
+                                .get("kkookk.wallet.identity.filter")
+                                .tag("field", "nickname")
+                                .tag("result", "negative")
+                                .counter()
+                                .count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("필터 양성인 닉네임은 DB로 확인하고, 대소문자만 다른 값도 양성으로 판정")
+    void nicknameExists_PositiveFallsBackToDb() {
+        // when
+        boolean exists =
+                walletIdentityFilter.nicknameExists(
+                        "Gildong", customerWalletRepository::existsByNickname);
+        boolean caseInsensitive = walletIdentityFilter.nicknameExists("GILDONG", nickname -> true);
+
+        // then
+        assertThat(exists).isTrue();
+        assertThat(caseInsensitive).isTrue();
+        assertThat(
+                        meterRegistry
+                                .get("kkookk.wallet.identity.filter")
+                                .tag("field", "nickname")
+                                .tag("result", "positive")
+                                .counter()
+                                .count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("저장 시 추가된 전화번호는 DB로 확인하고 다른 노드에 지갑 id를 전파")
+    void add_ThenPhoneChecksDbAndPublishes() {
+        // given
+        assertThat(walletIdentityFilter.phoneExists("01099990000", phone -> true)).isFalse();
+        CustomerWallet wallet =
+                customerWalletRepository.saveAndFlush(
+                        CustomerWallet.builder()
+                                .phone("01099990000")
+                                .name("신규")
+                                .nickname("신규")
+                                .build());
+
+        // when
+        walletIdentityFilter.add(wallet);
+
+        // then
+        assertThat(walletIdentityFilter.phoneExists("01099990000", phone -> true)).isTrue();
+        verify(cacheInvalidationBus)
+                .publish(WalletIdentityFilter.INVALIDATION_NAME, wallet.getId());
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 저장된 지갑은 전파받은 id로 DB에서 읽어 추가")
+    void reload_AddsWalletSavedOnOtherNode() {
+        // given
+        CustomerWallet wallet =
+                customerWalletRepository.saveAndFlush(
+                        CustomerWallet.builder()
+                                .phone("01077778888")
+                                .name("다른노드")
+                                .nickname("OtherNode")
+                                .build());
+        assertThat(walletIdentityFilter.nicknameExists("OtherNode", nickname -> true)).isFalse();
+
+        // when
+        walletIdentityFilter.reload(wallet.getId());
+
+        // then
+        assertThat(walletIdentityFilter.nicknameExists("OtherNode", nickname -> true)).isTrue();
+        assertThat(walletIdentityFilter.phoneExists("01077778888", phone -> true)).isTrue();
+    }
+}
@@ -3,14 +3,21 @@ import { API_ENDPOINTS } from '@/lib/api/endpoints';
 import type {
   AdminStoreResponse,
   AdminStoreStatusChangeRequest,
+  PageResponse,
   StoreAuditLogResponse,
   StoreStatus,
 } from '@/types/api';
 
 export async function getAdminStores(
-  status?: StoreStatus
-): Promise<AdminStoreResponse[]> {
-  return getRaw<AdminStoreResponse[]>(API_ENDPOINTS.ADMIN.STORES, status ? { status } : undefined);
+  status?: StoreStatus,
+  page = 0,
+  size = 20
+): Promise<PageResponse<AdminStoreResponse>> {
+  return getRaw<PageResponse<AdminStoreResponse>>(API_ENDPOINTS.ADMIN.STORES, {
+    ...(status ? { status } : {}),
+    page,
+    size,
+  });
 }
 
 export async function getAdminStore(storeId: number): Promise<AdminStoreResponse> {
@@ -8,10 +8,10 @@ import {
 } from '../api/adminApi';
 import type { AdminStoreStatusChangeRequest, StoreStatus } from '@/types/api';
 
-export function useAdminStores(status?: StoreStatus) {
+export function useAdminStores(status?: StoreStatus, page = 0) {
   return useQuery({
-    queryKey: QUERY_KEYS.adminStores(status),
-    queryFn: () => getAdminStores(status),
+    queryKey: [...QUERY_KEYS.adminStores(status), page] as const,
+    queryFn: () => getAdminStores(status, page),
   });
 }
 
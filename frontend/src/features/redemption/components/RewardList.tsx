@@ -8,10 +8,10 @@ import type { WalletRewardItem } from "@/types/api";
 import { ChevronLeft, Gift, Info, Loader2 } from "lucide-react";
 import { useCustomerNavigate } from "@/hooks/useCustomerNavigate";
 import { RewardCard } from "./RewardCard";
-import { useWalletRewards } from "@/features/wallet/hooks/useWallet";
+import { useDesignJsons, useWalletRewards } from "@/features/wallet/hooks/useWallet";
 import { formatShortDate } from "@/lib/utils/format";
 
-function mapReward(item: WalletRewardItem): Reward {
+function mapReward(item: WalletRewardItem, designs: Map<string, string>): Reward {
   const isUsed = item.status === "REDEEMED" || item.status === "EXPIRED";
   return {
     id: String(item.id),
@@ -20,16 +20,18 @@ function mapReward(item: WalletRewardItem): Reward {
     name: item.rewardName,
     expiry: formatShortDate(new Date(item.expiresAt)),
     isUsed,
-    designJson: item.designJson,
+    designJson:
+      item.designJson ?? (item.designHash ? designs.get(item.designHash) : null) ?? null,
   };
 }
 
 export function RewardList() {
   const { customerNavigate } = useCustomerNavigate();
   const { data, isLoading } = useWalletRewards();
+  const designs = useDesignJsons(data?.rewards?.map((item) => item.designHash) ?? []);
 
   const rewards: Reward[] =
-    data?.rewards?.map((item) => mapReward(item)) ?? [];
+    data?.rewards?.map((item) => mapReward(item, designs)) ?? [];
 
   const handleRedeem = (reward: Reward) => {
     customerNavigate(`/redeems/${reward.id}/use`);
@@ -2,7 +2,7 @@
  * Wallet API Service for KKOOKK Customer
  */
 
-import { getRaw } from '@/lib/api/client';
+import { apiClient, getRaw } from '@/lib/api/client';
 import { API_ENDPOINTS } from '@/lib/api/endpoints';
 import type {
   WalletStampCardListResponse,
@@ -21,6 +21,19 @@ export async function getStoreSummary(storeId: number): Promise<StoreSummaryResp
   return getRaw<StoreSummaryResponse>(API_ENDPOINTS.CUSTOMER.STORE_SUMMARY(storeId));
 }
 
+// =============================================================================
+// Stamp Card Design (content-addressed, immutable)
+// =============================================================================
+
+/** 디자인 JSON 원문. 해시가 내용을 가리키므로 브라우저/쿼리 캐시에서 만료 없이 재사용된다. */
+export async function getDesignJson(hash: string): Promise<string> {
+  const response = await apiClient.get<string>(API_ENDPOINTS.PUBLIC.DESIGN(hash), {
+    responseType: 'text',
+    transformResponse: (data) => data,
+  });
+  return response.data;
+}
+
 // =============================================================================
 // Wallet Stamp Cards
 // =============================================================================
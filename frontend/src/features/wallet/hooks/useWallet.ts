@@ -3,8 +3,14 @@
  * TanStack Query hooks for wallet operations
  */
 
-import { useQuery, useInfiniteQuery } from '@tanstack/react-query';
 import {
+  useQuery,
+  useQueries,
+  useInfiniteQuery,
+  type UseQueryResult,
+} from '@tanstack/react-query';
+import {
+  getDesignJson,
   getStoreSummary,
   getWalletStampCards,
   getAllWalletStampCards,
@@ -30,6 +36,39 @@ export function useStoreSummary(storeId: number | undefined) {
   });
 }
 
+// =============================================================================
+// Stamp Card Design Hook
+// =============================================================================
+
+/** combine은 참조가 같아야 결과가 메모이즈되므로 모듈 수준에 둔다 */
+function toDesignMap(results: UseQueryResult<{ hash: string; designJson: string }>[]) {
+  const designs = new Map<string, string>();
+  results.forEach((result) => {
+    if (result.data) {
+      designs.set(result.data.hash, result.data.designJson);
+    }
+  });
+  return designs;
+}
+
+/**
+ * 지갑 응답의 designHash로 디자인 JSON을 조회한다. 같은 해시는 한 번만 요청하고,
+ * 내용이 바뀌면 해시도 바뀌므로 만료 없이 캐시한다.
+ * @returns hash → designJson (아직 불러오지 못한 해시는 없음)
+ */
+export function useDesignJsons(hashes: Array<string | null | undefined>) {
+  const uniqueHashes = [...new Set(hashes.filter((hash): hash is string => !!hash))];
+  return useQueries({
+    queries: uniqueHashes.map((hash) => ({
+      queryKey: QUERY_KEYS.design(hash),
+      queryFn: async () => ({ hash, designJson: await getDesignJson(hash) }),
+      staleTime: Infinity,
+      gcTime: Infinity,
+    })),
+    combine: toDesignMap,
+  });
+}
+
 // =============================================================================
 // Wallet Stamp Cards Hook
 // =============================================================================
@@ -9,7 +9,7 @@ import { useOutletContext, useLocation } from 'react-router-dom';
 import { Loader2, AlertCircle } from 'lucide-react';
 import { WalletHeader } from '../components/WalletHeader';
 import { StampCardCarousel } from '../components/StampCardCarousel';
-import { useWalletStampCards, useStoreSummary } from '../hooks/useWallet';
+import { useDesignJsons, useWalletStampCards, useStoreSummary } from '../hooks/useWallet';
 import { useCustomerNavigate } from '@/hooks/useCustomerNavigate';
 import { parseDesignJson } from '../utils/cardDesign';
 import type { StampCard } from '@/types/domain';
@@ -48,6 +48,7 @@ export function WalletPage() {
 
   // API Hook - JWT identifies the customer, storeId scopes the store
   const { data: walletData, isLoading, error, refetch } = useWalletStampCards(storeIdNum);
+  const designs = useDesignJsons(walletData?.stampCards?.map((c) => c.designHash) ?? []);
 
   // Transform API data to StampCard format, current store card first
   const cards: StampCard[] = useMemo(() => {
@@ -61,7 +62,9 @@ export function WalletPage() {
     });
 
     const mapped = sorted.map((apiCard) => {
-      const style = parseDesignJson(apiCard.designJson);
+      const designJson =
+        apiCard.designJson ?? (apiCard.designHash ? designs.get(apiCard.designHash) : null) ?? null;
+      const style = parseDesignJson(designJson);
       return {
         id: String(apiCard.walletStampCardId),
         storeId: apiCard.store.storeId,
@@ -76,7 +79,7 @@ export function WalletPage() {
         stampColor: style.stampColor,
         backgroundImage: style.backgroundImage,
         stampImage: style.stampImage,
-        designJsonRaw: apiCard.designJson,
+        designJsonRaw: designJson,
       };
     });
 
@@ -110,7 +113,7 @@ export function WalletPage() {
     }
 
     return mapped;
-  }, [walletData?.stampCards, storeSummary, storeIdNum]);
+  }, [walletData?.stampCards, designs, storeSummary, storeIdNum]);
 
   // 적립된 카드의 초기 캐러셀 인덱스 계산
   // 우선순위: stampedCardId (적립 후 복귀) > sessionStorage (탭 이동 후 복귀) > 0
@@ -14,6 +14,7 @@ export const API_ENDPOINTS = {
     OAUTH_TOKEN: '/api/public/oauth/token',
     OAUTH_COMPLETE_CUSTOMER_SIGNUP: '/api/public/oauth/complete-customer-signup',
     OAUTH_COMPLETE_OWNER_SIGNUP: '/api/public/oauth/complete-owner-signup',
+    DESIGN: (hash: string) => `/api/public/designs/${hash}`,
   },
 
   // ==========================================================================
@@ -132,6 +133,7 @@ export const QUERY_KEYS = {
   // Public
   storePublicInfo: (storeId: number) => ['public', 'store', storeId] as const,
   publicStores: () => ['public', 'stores'] as const,
+  design: (hash: string) => ['public', 'design', hash] as const,
 
   // Admin
   adminStores: (status?: string) => ['admin', 'stores', { status }] as const,
@@ -25,7 +25,8 @@ const STATUS_FILTERS: { label: string; value: StoreStatus | undefined }[] = [
 export function AdminStoreListPage() {
   const navigate = useNavigate();
   const [statusFilter, setStatusFilter] = useState<StoreStatus | undefined>(undefined);
-  const { data: stores, isLoading, error } = useAdminStores(statusFilter);
+  const [page, setPage] = useState(0);
+  const { data: stores, isLoading, error } = useAdminStores(statusFilter, page);
   const changeStatus = useChangeStoreStatus();
 
   const handleApprove = (e: React.MouseEvent, storeId: number) => {
@@ -74,7 +75,7 @@ export function AdminStoreListPage() {
     );
   }
 
-  const storeList = stores ?? [];
+  const storeList = stores?.content ?? [];
 
   return (
     <div className="w-full max-w-6xl p-8 mx-auto">
@@ -88,7 +89,10 @@ export function AdminStoreListPage() {
         {STATUS_FILTERS.map((filter) => (
           <button
             key={filter.label}
-            onClick={() => setStatusFilter(filter.value)}
+            onClick={() => {
+              setStatusFilter(filter.value);
+              setPage(0);
+            }}
             className={`px-4 py-2 text-sm font-medium rounded-lg transition-colors ${
               statusFilter === filter.value
                 ? 'bg-slate-800 text-white'
@@ -192,6 +196,29 @@ export function AdminStoreListPage() {
           ))
         )}
       </div>
+
+      {/* 페이지 이동 */}
+      {stores && stores.totalPages > 1 && (
+        <div className="flex items-center justify-center gap-4 mt-6">
+          <button
+            onClick={() => setPage((p) => Math.max(p - 1, 0))}
+            disabled={page === 0}
+            className="px-3 py-1.5 text-sm font-medium bg-white border border-slate-200 rounded-lg text-slate-600 hover:bg-slate-50 disabled:opacity-40"
+          >
+            이전
+          </button>
+          <span className="text-sm text-slate-500">
+            {stores.pageNumber + 1} / {stores.totalPages}
+          </span>
+          <button
+            onClick={() => setPage((p) => p + 1)}
+            disabled={stores.isLast}
+            className="px-3 py-1.5 text-sm font-medium bg-white border border-slate-200 rounded-lg text-slate-600 hover:bg-slate-50 disabled:opacity-40"
+          >
+            다음
+          </button>
+        </div>
+      )}
     </div>
   );
 }
@@ -19,6 +19,8 @@ interface StoreFormData {
   description: string;
   placeRef: string | null;
   iconImageBase64: string | null;
+  latitude: number | null;
+  longitude: number | null;
 }
 
 function formatPhone(value: string): string {
@@ -48,6 +50,8 @@ export function StoreCreatePage() {
     description: '',
     placeRef: null,
     iconImageBase64: null,
+    latitude: null,
+    longitude: null,
   });
 
   const handleChange = (
@@ -68,6 +72,8 @@ export function StoreCreatePage() {
       address: place.roadAddress || place.address,
       phone: place.phone ? formatPhone(place.phone) : '',
       placeRef: place.kakaoPlaceId,
+      latitude: place.latitude,
+      longitude: place.longitude,
     }));
     setManualAddressMode(false);
     setPlaceSearchOpen(false);
@@ -75,7 +81,7 @@ export function StoreCreatePage() {
 
   const handleManualMode = () => {
     setManualAddressMode(true);
-    setFormData((prev) => ({ ...prev, placeRef: null }));
+    setFormData((prev) => ({ ...prev, placeRef: null, latitude: null, longitude: null }));
   };
 
   const handleSubmit = async () => {
@@ -88,6 +94,8 @@ export function StoreCreatePage() {
         placeRef: formData.placeRef || undefined,
         iconImageBase64: formData.iconImageBase64 || undefined,
         description: formData.description || undefined,
+        latitude: formData.latitude ?? undefined,
+        longitude: formData.longitude ?? undefined,
       },
       {
         onSuccess: (newStore) => {
@@ -18,6 +18,8 @@ interface StoreEditFormData {
   description: string;
   iconImageBase64: string | null;
   placeRef: string | null;
+  latitude: number | null;
+  longitude: number | null;
 }
 
 function formatPhone(value: string): string {
@@ -54,6 +56,8 @@ export function StoreEditPage() {
       description: store.description ?? '',
       iconImageBase64: store.iconImageBase64,
       placeRef: store.placeRef,
+      latitude: store.latitude,
+      longitude: store.longitude,
     });
   }
 
@@ -80,6 +84,8 @@ export function StoreEditPage() {
             address: place.roadAddress || place.address || prev.address,
             phone: place.phone ? formatPhone(place.phone) : prev.phone,
             placeRef: place.kakaoPlaceId,
+            latitude: place.latitude,
+            longitude: place.longitude,
           }
         : prev
     );
@@ -96,6 +102,8 @@ export function StoreEditPage() {
       description: formData.description || undefined,
       iconImageBase64: formData.iconImageBase64 || undefined,
       placeRef: formData.placeRef || undefined,
+      latitude: formData.latitude ?? undefined,
+      longitude: formData.longitude ?? undefined,
     };
 
     updateStore.mutate(
@@ -83,7 +83,9 @@ export interface WalletStampCardSummary {
   stampsToNextReward: number;
   expiresAt: string;
   status: string;
+  /** includeDesign=true일 때만 채워진다. 기본은 designHash로 디자인 API를 조회 */
   designJson: string | null;
+  designHash: string | null;
   store: WalletStampCardStore;
   lastStampedAt: string | null;
 }
@@ -123,7 +125,9 @@ export interface WalletRewardItem {
   expiresAt: string;
   redeemedAt: string | null;
   designType: string | null;
+  /** includeDesign=true일 때만 채워진다. 기본은 designHash로 디자인 API를 조회 */
   designJson: string | null;
+  designHash: string | null;
 }
 
 export interface WalletRewardListResponse {
@@ -283,6 +287,8 @@ export interface StoreCreateRequest {
   placeRef?: string;
   iconImageBase64?: string;
   description?: string;
+  latitude?: number;
+  longitude?: number;
 }
 
 export interface StoreUpdateRequest {
@@ -292,6 +298,8 @@ export interface StoreUpdateRequest {
   description?: string;
   iconImageBase64?: string;
   placeRef?: string;
+  latitude?: number;
+  longitude?: number;
 }
 
 export interface StoreResponse {
@@ -306,6 +314,8 @@ export interface StoreResponse {
   createdAt: string;
   updatedAt: string;
   ownerAccountId: number;
+  latitude: number | null;
+  longitude: number | null;
 }
 
 // =============================================================================
@@ -319,6 +329,8 @@ export interface PlaceSearchResult {
   phone: string;
   placeUrl: string;
   kakaoPlaceId: string;
+  latitude: number | null;
+  longitude: number | null;
 }
 
 // =============================================================================